@@ -20,6 +20,7 @@ package org.apache.fineract.accounting.financialactivityaccount.domain;
 
 import java.util.List;
 import org.apache.fineract.accounting.financialactivityaccount.exception.FinancialActivityAccountNotFoundException;
+import org.apache.fineract.accounting.journalentry.service.AccountingReferenceDataCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -32,10 +33,13 @@ import org.springframework.stereotype.Service;
 public class FinancialActivityAccountRepositoryWrapper {
 
     private final FinancialActivityAccountRepository repository;
+    private final AccountingReferenceDataCache accountingReferenceDataCache;
 
     @Autowired
-    public FinancialActivityAccountRepositoryWrapper(final FinancialActivityAccountRepository repository) {
+    public FinancialActivityAccountRepositoryWrapper(final FinancialActivityAccountRepository repository,
+            final AccountingReferenceDataCache accountingReferenceDataCache) {
         this.repository = repository;
+        this.accountingReferenceDataCache = accountingReferenceDataCache;
     }
 
     public FinancialActivityAccount findOneWithNotFoundDetection(final Long id) {
@@ -56,13 +60,16 @@ public class FinancialActivityAccountRepositoryWrapper {
 
     public void save(final FinancialActivityAccount entity) {
         this.repository.save(entity);
+        this.accountingReferenceDataCache.invalidate();
     }
 
     public void saveAndFlush(final FinancialActivityAccount entity) {
         this.repository.saveAndFlush(entity);
+        this.accountingReferenceDataCache.invalidate();
     }
 
     public void delete(final FinancialActivityAccount entity) {
         this.repository.delete(entity);
+        this.accountingReferenceDataCache.invalidate();
     }
 }
@@ -20,7 +20,6 @@ package org.apache.fineract.accounting.glaccount.jobs.updatetrialbalancedetails;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -46,24 +45,17 @@ public class UpdateTrialBalanceDetailsTasklet implements Tasklet {
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
         final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSourceServiceFactory.determineDataSourceService().retrieveDataSource());
-        final StringBuilder tbGapSqlBuilder = new StringBuilder(500);
-        tbGapSqlBuilder.append("select distinct(je.transaction_date) ").append("from acc_gl_journal_entry je ")
-                .append("where je.transaction_date > (select coalesce(MAX(created_date),'2010-01-01') from m_trial_balance)");
-        final List<LocalDate> tbGaps = jdbcTemplate.queryForList(tbGapSqlBuilder.toString(), LocalDate.class);
-        for (LocalDate tbGap : tbGaps) {
-            int days = Math.toIntExact(ChronoUnit.DAYS.between(tbGap, DateUtils.getBusinessLocalDate()));
-            if (days < 1) {
-                continue;
-            }
-            final StringBuilder sqlBuilder = new StringBuilder(600);
-            sqlBuilder.append("Insert Into m_trial_balance(office_id, account_id, Amount, entry_date, created_date,closing_balance) ")
-                    .append("Select je.office_id, je.account_id, SUM(CASE WHEN je.type_enum=1 THEN (-1) * je.amount ELSE je.amount END) ")
-                    .append("as Amount, Date(je.entry_date) as Entry_Date, je.transaction_date as Created_Date,sum(je.amount) as closing_balance ")
-                    .append("from acc_gl_journal_entry je WHERE je.transaction_date = ? ")
-                    .append("group by je.account_id, je.office_id, je.transaction_date, Date(je.entry_date)");
-            final int result = jdbcTemplate.update(sqlBuilder.toString(), tbGap);
-            log.debug("{}: Records affected by updateTrialBalanceDetails: {}", ThreadLocalContextUtil.getTenant().getName(), result);
-        }
+        // the days before the business date not summed up yet, read from the daily GL balances instead of the ledger
+        final LocalDate lastCreatedDate = jdbcTemplate.queryForObject("select max(created_date) from m_trial_balance", LocalDate.class);
+        final StringBuilder sqlBuilder = new StringBuilder(600);
+        sqlBuilder.append("Insert Into m_trial_balance(office_id, account_id, Amount, entry_date, created_date,closing_balance) ")
+                .append("Select db.office_id, db.account_id, SUM(CASE WHEN db.type_enum=1 THEN (-1) * db.amount ELSE db.amount END) ")
+                .append("as Amount, db.entry_date as Entry_Date, db.entry_date as Created_Date,sum(db.amount) as closing_balance ")
+                .append("from acc_gl_daily_balance_view db WHERE db.entry_date > ? and db.entry_date < ? ")
+                .append("group by db.account_id, db.office_id, db.entry_date");
+        final int result = jdbcTemplate.update(sqlBuilder.toString(), lastCreatedDate == null ? LocalDate.of(2010, 1, 1) : lastCreatedDate,
+                DateUtils.getBusinessLocalDate());
+        log.debug("{}: Records affected by updateTrialBalanceDetails: {}", ThreadLocalContextUtil.getTenant().getName(), result);
         String distinctOfficeQuery = "select distinct(office_id) from m_trial_balance where closing_balance is null group by office_id";
         final List<Long> officeIds = jdbcTemplate.queryForList(distinctOfficeQuery, Long.class);
         for (Long officeId : officeIds) {
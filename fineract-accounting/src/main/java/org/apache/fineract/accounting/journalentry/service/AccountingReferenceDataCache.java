@@ -0,0 +1,214 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.fineract.accounting.financialactivityaccount.exception.FinancialActivityAccountNotFoundException;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationChannel;
+import org.apache.fineract.infrastructure.cache.service.TenantCacheInvalidator;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.PortfolioProductType;
+import org.apache.fineract.portfolio.charge.exception.ChargeIsNotActiveException;
+import org.apache.fineract.portfolio.charge.exception.ChargeNotFoundException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per tenant cache of the reference data resolved for every journal entry created on the posting path: the product to
+ * GL account mappings (including the payment type and charge specific ones), the income accounts of the charges and the
+ * financial activity accounts. Only the ids of the GL accounts are kept, the callers turn them into references without
+ * querying.
+ * <p>
+ * The data of a tenant is held by a generation which is replaced as a whole by {@link #invalidate()}, both right away
+ * and once the running transaction completes. Loads always store into the generation they started with, so a load
+ * racing with a change can only end up in a generation which is already discarded. The other nodes are told over the
+ * {@link CacheInvalidationChannel} to drop their generation of the tenant.
+ */
+@Component
+public class AccountingReferenceDataCache {
+
+    public static final String CACHE_NAME = "accountingReferenceData";
+
+    private static final AtomicLong GENERATIONS = new AtomicLong();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TenantCacheInvalidator invalidator;
+    private final Map<String, Generation> generations = new ConcurrentHashMap<>();
+
+    public AccountingReferenceDataCache(final JdbcTemplate jdbcTemplate, final CacheInvalidationChannel invalidationChannel) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.invalidator = new TenantCacheInvalidator(CACHE_NAME, invalidationChannel, generations::remove);
+    }
+
+    /**
+     * Returns the id of the GL account mapped to the product for the given account type, ignoring the payment type and
+     * charge specific mappings, or <code>null</code> when there is none.
+     */
+    public Long getProductGLAccountId(final PortfolioProductType productType, final Long productId, final int financialAccountType) {
+        return getProductMappings(productType, productId).get(new MappingKey(financialAccountType, null, null));
+    }
+
+    /**
+     * Returns the id of the GL account mapped to the product for the given account type and payment type, or
+     * <code>null</code> when there is no payment type specific mapping.
+     */
+    public Long getPaymentTypeGLAccountId(final PortfolioProductType productType, final Long productId, final int financialAccountType,
+            final Long paymentTypeId) {
+        if (paymentTypeId == null) {
+            return null;
+        }
+        return getProductMappings(productType, productId).get(new MappingKey(financialAccountType, paymentTypeId, null));
+    }
+
+    /**
+     * Returns the id of the GL account mapped to the product for the given account type and charge, or <code>null</code>
+     * when there is no charge specific mapping.
+     */
+    public Long getChargeGLAccountId(final PortfolioProductType productType, final Long productId, final int financialAccountType,
+            final Long chargeId) {
+        if (chargeId == null) {
+            return null;
+        }
+        return getProductMappings(productType, productId).get(new MappingKey(financialAccountType, null, chargeId));
+    }
+
+    /**
+     * Returns the id of the income (or liability) account set on the charge itself, or <code>null</code> when it has none.
+     * Deleted and inactive charges are rejected the same way as by the charge repository.
+     */
+    public Long getChargeIncomeAccountId(final Long chargeId) {
+        final Generation generation = currentGeneration();
+        ChargeReference charge = generation.charges.get(chargeId);
+        if (charge == null) {
+            charge = loadCharge(chargeId);
+            generation.charges.putIfAbsent(chargeId, charge);
+        }
+        if (charge.deleted()) {
+            throw new ChargeNotFoundException(chargeId);
+        }
+        if (!charge.active()) {
+            throw new ChargeIsNotActiveException(chargeId, charge.name());
+        }
+        return charge.incomeAccountId();
+    }
+
+    /**
+     * Returns the id of the GL account linked to the financial activity.
+     */
+    public Long getFinancialActivityGLAccountId(final int financialActivityType) {
+        final Generation generation = currentGeneration();
+        Long glAccountId = generation.financialActivityAccounts.get(financialActivityType);
+        if (glAccountId == null) {
+            glAccountId = loadFinancialActivityAccount(financialActivityType);
+            generation.financialActivityAccounts.putIfAbsent(financialActivityType, glAccountId);
+        }
+        return glAccountId;
+    }
+
+    /**
+     * Drops the cached data of the current tenant, meant to be called by the services changing products, charges, GL
+     * mappings or financial activity accounts.
+     */
+    public void invalidate() {
+        invalidator.invalidate();
+    }
+
+    /**
+     * Returns the generation of the data cached for the current tenant, which changes with every invalidation.
+     */
+    public long getVersion() {
+        return currentGeneration().version;
+    }
+
+    private Generation currentGeneration() {
+        return generations.computeIfAbsent(ThreadLocalContextUtil.getTenant().getTenantIdentifier(),
+                key -> new Generation(GENERATIONS.incrementAndGet()));
+    }
+
+    private Map<MappingKey, Long> getProductMappings(final PortfolioProductType productType, final Long productId) {
+        final Generation generation = currentGeneration();
+        final ProductKey productKey = new ProductKey(productType.getValue(), productId);
+        Map<MappingKey, Long> mappings = generation.products.get(productKey);
+        if (mappings == null) {
+            mappings = loadProductMappings(productKey);
+            generation.products.putIfAbsent(productKey, mappings);
+        }
+        return mappings;
+    }
+
+    private Map<MappingKey, Long> loadProductMappings(final ProductKey productKey) {
+        final Map<MappingKey, Long> mappings = new HashMap<>();
+        jdbcTemplate.query(
+                "select financial_account_type, payment_type, charge_id, gl_account_id from acc_product_mapping "
+                        + "where product_id = ? and product_type = ? and gl_account_id is not null",
+                rs -> {
+                    final MappingKey key = new MappingKey(rs.getInt("financial_account_type"), rs.getObject("payment_type", Long.class),
+                            rs.getObject("charge_id", Long.class));
+                    mappings.putIfAbsent(key, rs.getLong("gl_account_id"));
+                }, productKey.productId(), productKey.productType());
+        return Map.copyOf(mappings);
+    }
+
+    private ChargeReference loadCharge(final Long chargeId) {
+        final List<ChargeReference> charges = jdbcTemplate.query(
+                "select name, is_active, is_deleted, income_or_liability_account_id from m_charge where id = ?",
+                (rs, rowNum) -> new ChargeReference(rs.getString("name"), rs.getBoolean("is_active"), rs.getBoolean("is_deleted"),
+                        rs.getObject("income_or_liability_account_id", Long.class)),
+                chargeId);
+        if (charges.isEmpty()) {
+            throw new ChargeNotFoundException(chargeId);
+        }
+        return charges.get(0);
+    }
+
+    private Long loadFinancialActivityAccount(final int financialActivityType) {
+        final List<Long> glAccountIds = jdbcTemplate.queryForList(
+                "select gl_account_id from acc_gl_financial_activity_account where financial_activity_type = ?", Long.class,
+                financialActivityType);
+        if (glAccountIds.isEmpty() || glAccountIds.get(0) == null) {
+            throw new FinancialActivityAccountNotFoundException(financialActivityType);
+        }
+        return glAccountIds.get(0);
+    }
+
+    private static final class Generation {
+
+        private final long version;
+        private final Map<ProductKey, Map<MappingKey, Long>> products = new ConcurrentHashMap<>();
+        private final Map<Long, ChargeReference> charges = new ConcurrentHashMap<>();
+        private final Map<Integer, Long> financialActivityAccounts = new ConcurrentHashMap<>();
+
+        private Generation(final long version) {
+            this.version = version;
+        }
+    }
+
+    private record ProductKey(int productType, Long productId) {
+    }
+
+    private record MappingKey(int financialAccountType, Long paymentTypeId, Long chargeId) {
+    }
+
+    private record ChargeReference(String name, boolean active, boolean deleted, Long incomeAccountId) {
+    }
+}
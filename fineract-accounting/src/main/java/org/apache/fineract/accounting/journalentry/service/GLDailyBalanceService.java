@@ -0,0 +1,40 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+/**
+ * Backfills and verifies the daily GL balances maintained by {@link GLDailyBalanceWriter}.
+ */
+public interface GLDailyBalanceService {
+
+    /**
+     * Adds the next batch of the journal entries posted before the daily balances were maintained to them.
+     *
+     * @return true when there are more journal entries left to backfill
+     */
+    boolean backfill();
+
+    /**
+     * Cross-checks the debit and credit totals of the daily balances against the ones of the ledger for every office, GL
+     * account and currency, and rebuilds the daily balances of the ones which do not match from the ledger.
+     *
+     * @return the number of office, GL account and currency combinations found not matching
+     */
+    int verify();
+}
@@ -0,0 +1,124 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
+import org.apache.fineract.infrastructure.core.service.TransactionBoundBuffer;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maintains the daily GL balances of <code>acc_gl_daily_balance</code>, the debit and credit totals of the journal
+ * entries per office, GL account, currency and entry date.
+ * <p>
+ * The amounts of the journal entries posted during a transaction are summed up per day and added to the stored totals
+ * with a single JDBC batch right before it commits, so the totals change together with the ledger. Since the totals
+ * are only ever added to, back-dated postings and reversals touch a single row and concurrent postings do not have to
+ * wait for each other beyond the row they share.
+ * <p>
+ * That row is shared by every posting of the same office, GL account and day, so the postings to a busy account (a
+ * teller's cash account, a savings control account) are serialized on it from the write until their commit. Writing
+ * right before the commit keeps that lock short, writing the rows in key order keeps it free of deadlocks.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GLDailyBalanceWriter {
+
+    public static final String TABLE_NAME = "acc_gl_daily_balance";
+
+    private static final List<String> KEY_FIELDS = List.of("office_id", "account_id", "currency_code", "balance_date");
+    private static final List<String> AMOUNT_FIELDS = List.of("debit_amount", "credit_amount");
+    private static final Comparator<DailyBalanceChange> KEY_ORDER = Comparator.comparing(DailyBalanceChange::officeId)
+            .thenComparing(DailyBalanceChange::glAccountId).thenComparing(DailyBalanceChange::currencyCode)
+            .thenComparing(DailyBalanceChange::balanceDate);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final TransactionBoundBuffer<Map<DailyBalanceKey, DailyBalanceChange>> pendingChanges = new TransactionBoundBuffer<>(this,
+            TransactionBoundBuffer.DAILY_BALANCES_ORDER, HashMap::new, this::writePending);
+
+    /**
+     * Adds the amount of the newly created journal entry to the daily balance of its day.
+     */
+    public void add(final JournalEntry journalEntry) {
+        add(journalEntry.getOffice().getId(), journalEntry.getGlAccount().getId(), journalEntry.getCurrencyCode(),
+                journalEntry.getTransactionDate(), JournalEntryType.fromInt(journalEntry.getType()), journalEntry.getAmount());
+    }
+
+    /**
+     * Adds the amount of a journal entry which was written without going through the {@link JournalEntry} entity.
+     */
+    public void add(final Long officeId, final Long glAccountId, final String currencyCode, final LocalDate entryDate,
+            final JournalEntryType type, final BigDecimal amount) {
+        final DailyBalanceChange change = new DailyBalanceChange(officeId, glAccountId, currencyCode, entryDate,
+                type.isDebitType() ? amount : BigDecimal.ZERO, type.isCreditType() ? amount : BigDecimal.ZERO);
+        pendingChanges.add(changes -> changes.merge(change.key(), change, DailyBalanceChange::plus));
+    }
+
+    /**
+     * Adds the given changes to the stored daily balances right away, in the order of their keys so concurrent writers
+     * always lock the shared rows in the same order.
+     */
+    public void write(final List<DailyBalanceChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        final List<Object[]> batchArgs = changes.stream().sorted(KEY_ORDER).map(change -> new Object[] { change.officeId(),
+                change.glAccountId(), change.currencyCode(), change.balanceDate(), change.debitAmount(), change.creditAmount() }).toList();
+        jdbcTemplate.batchUpdate(sqlGenerator.buildInsertOrIncrement(TABLE_NAME, KEY_FIELDS, AMOUNT_FIELDS), batchArgs);
+        log.debug("Updated {} daily GL balances", batchArgs.size());
+    }
+
+    private void writePending(final Map<DailyBalanceKey, DailyBalanceChange> pending) {
+        final List<DailyBalanceChange> changes = new ArrayList<>(pending.values());
+        pending.clear();
+        write(changes);
+    }
+
+    /**
+     * Debit and credit amounts to be added to the daily balance of an office, GL account and currency on a day.
+     */
+    public record DailyBalanceChange(Long officeId, Long glAccountId, String currencyCode, LocalDate balanceDate,
+            BigDecimal debitAmount, BigDecimal creditAmount) {
+
+        private DailyBalanceKey key() {
+            return new DailyBalanceKey(officeId, glAccountId, currencyCode, balanceDate);
+        }
+
+        private DailyBalanceChange plus(final DailyBalanceChange other) {
+            return new DailyBalanceChange(officeId, glAccountId, currencyCode, balanceDate, debitAmount.add(other.debitAmount),
+                    creditAmount.add(other.creditAmount));
+        }
+    }
+
+    private record DailyBalanceKey(Long officeId, Long glAccountId, String currencyCode, LocalDate balanceDate) {
+    }
+}
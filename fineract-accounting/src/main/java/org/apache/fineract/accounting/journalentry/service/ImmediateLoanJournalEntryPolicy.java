@@ -0,0 +1,35 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+/**
+ * Tells which loans need their journal entries stored as soon as they are created instead of with the batch written
+ * when the transaction commits.
+ * <p>
+ * The <code>LoanJournalEntryCreatedBusinessEvent</code> of an entry is raised once it is stored. Listeners that read
+ * state which may still change later in the same transaction, like the owner of a loan that is being sold or bought
+ * back in the Loan COB, have to see it as it was when the entry was booked.
+ */
+public interface ImmediateLoanJournalEntryPolicy {
+
+    /**
+     * @return whether the journal entries of the loan have to be stored when they are created
+     */
+    boolean isWrittenImmediately(Long loanId);
+}
@@ -86,6 +86,7 @@ public class BatchApiResource {
      *
      * @param jsonRequestString
      * @param enclosingTransaction
+     * @param parallel
      * @param uriInfo
      * @return serialized JSON
      */
@@ -94,12 +95,15 @@ public class BatchApiResource {
     @Produces({ MediaType.APPLICATION_JSON })
     @Operation(summary = "Batch requests in a single transaction", description = "The Apache Fineract Batch API is also capable of executing all the requests in a single transaction, by setting a Query Parameter, \"enclosingTransaction=true\". So, if one or more of the requests in a batch returns an erroneous response all of the Data base transactions made by other successful requests will be rolled back.\n"
             + "\n"
-            + "If there has been a rollback in a transaction then a single response will be provided, with a '400' status code and a body consisting of the error details of the first failed request.")
+            + "If there has been a rollback in a transaction then a single response will be provided, with a '400' status code and a body consisting of the error details of the first failed request.\n"
+            + "\n"
+            + "Without an enclosing transaction, the requests which do not depend on each other can be processed concurrently by setting the Query Parameter \"parallel=true\". Each request still runs in its own transaction, dependent requests run after the request they reference, and the responses are returned in the order of the request ids.")
     @RequestBody(required = true, content = @Content(array = @ArraySchema(schema = @Schema(implementation = BatchRequest.class, description = "request body"))))
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Success", content = @Content(array = @ArraySchema(schema = @Schema(implementation = BatchResponse.class)))) })
     public String handleBatchRequests(
             @DefaultValue("false") @QueryParam("enclosingTransaction") @Parameter(description = "enclosingTransaction", required = false) final boolean enclosingTransaction,
+            @DefaultValue("false") @QueryParam("parallel") @Parameter(description = "parallel", required = false) final boolean parallel,
             @Parameter(hidden = true) final String jsonRequestString, @Context UriInfo uriInfo) {
 
         // Handles user authentication
@@ -117,6 +121,8 @@ public class BatchApiResource {
         // be rolled back on error
         if (enclosingTransaction) {
             result = service.handleBatchRequestsWithEnclosingTransaction(requestList, uriInfo);
+        } else if (parallel) {
+            result = service.handleBatchRequestsInParallel(requestList, uriInfo);
         } else {
             result = service.handleBatchRequestsWithoutEnclosingTransaction(requestList, uriInfo);
         }
@@ -34,8 +34,11 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -51,14 +54,23 @@ import org.apache.fineract.batch.domain.Header;
 import org.apache.fineract.batch.exception.BatchReferenceInvalidException;
 import org.apache.fineract.batch.exception.ErrorInfo;
 import org.apache.fineract.batch.service.ResolutionHelper.BatchRequestNode;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.BatchRequestContextHolder;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.exception.ErrorHandler;
 import org.apache.fineract.infrastructure.core.filters.BatchCallHandler;
 import org.apache.fineract.infrastructure.core.filters.BatchFilter;
 import org.apache.fineract.infrastructure.core.filters.BatchRequestPreprocessor;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.jetbrains.annotations.NotNull;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionException;
@@ -78,7 +90,7 @@ import org.springframework.transaction.support.TransactionTemplate;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class BatchApiServiceImpl implements BatchApiService {
+public class BatchApiServiceImpl implements BatchApiService, InitializingBean, DisposableBean {
 
     private final CommandStrategyProvider strategyProvider;
     private final ResolutionHelper resolutionHelper;
@@ -92,6 +104,33 @@ public class BatchApiServiceImpl implements BatchApiService {
     @PersistenceContext
     private final EntityManager entityManager;
 
+    private final FineractProperties fineractProperties;
+
+    private ThreadPoolTaskExecutor parallelExecutor;
+
+    @Override
+    public void afterPropertiesSet() {
+        final FineractProperties.FineractBatchApiProperties batchProperties = fineractProperties.getApi() == null ? null
+                : fineractProperties.getApi().getBatch();
+        final int threadCount = batchProperties == null ? 0 : batchProperties.getParallelThreadCount();
+        if (threadCount > 0) {
+            parallelExecutor = new ThreadPoolTaskExecutor();
+            parallelExecutor.setThreadNamePrefix("batch-api-");
+            parallelExecutor.setCorePoolSize(threadCount);
+            parallelExecutor.setMaxPoolSize(threadCount);
+            parallelExecutor.setWaitForTasksToCompleteOnShutdown(true);
+            parallelExecutor.setAwaitTerminationSeconds(30);
+            parallelExecutor.initialize();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (parallelExecutor != null) {
+            parallelExecutor.shutdown();
+        }
+    }
+
     /**
      * Run each request root step in a separated transaction
      *
@@ -101,7 +140,19 @@ public class BatchApiServiceImpl implements BatchApiService {
      */
     @Override
     public List<BatchResponse> handleBatchRequestsWithoutEnclosingTransaction(final List<BatchRequest> requestList, UriInfo uriInfo) {
-        return handleBatchRequests(requestList, uriInfo, false);
+        return handleBatchRequests(requestList, uriInfo, false, false);
+    }
+
+    /**
+     * Run the independent request trees concurrently, each request root step in a separated transaction
+     *
+     * @param requestList
+     * @param uriInfo
+     * @return
+     */
+    @Override
+    public List<BatchResponse> handleBatchRequestsInParallel(final List<BatchRequest> requestList, UriInfo uriInfo) {
+        return handleBatchRequests(requestList, uriInfo, false, true);
     }
 
     /**
@@ -113,15 +164,16 @@ public class BatchApiServiceImpl implements BatchApiService {
      */
     @Override
     public List<BatchResponse> handleBatchRequestsWithEnclosingTransaction(final List<BatchRequest> requestList, final UriInfo uriInfo) {
-        return handleBatchRequests(requestList, uriInfo, true);
+        return handleBatchRequests(requestList, uriInfo, true, false);
     }
 
     private List<BatchResponse> handleBatchRequests(final List<BatchRequest> requestList, final UriInfo uriInfo,
-            boolean enclosingTransaction) {
+            boolean enclosingTransaction, boolean parallel) {
         BatchRequestContextHolder.setIsEnclosingTransaction(enclosingTransaction);
         try {
-            return enclosingTransaction ? callInTransaction(Function.identity()::apply, () -> handleRequestNodes(requestList, uriInfo))
-                    : handleRequestNodes(requestList, uriInfo);
+            return enclosingTransaction
+                    ? callInTransaction(Function.identity()::apply, () -> handleRequestNodes(requestList, uriInfo, false))
+                    : handleRequestNodes(requestList, uriInfo, parallel);
         } finally {
             BatchRequestContextHolder.resetIsEnclosingTransaction();
         }
@@ -166,9 +218,11 @@ public class BatchApiServiceImpl implements BatchApiService {
      *
      * @param requestList
      * @param uriInfo
+     * @param parallel
+     *            whether the request trees may run concurrently
      * @return {@code List<BatchResponse>}
      */
-    private List<BatchResponse> handleRequestNodes(final List<BatchRequest> requestList, final UriInfo uriInfo) {
+    private List<BatchResponse> handleRequestNodes(final List<BatchRequest> requestList, final UriInfo uriInfo, boolean parallel) {
         final List<BatchRequestNode> rootNodes;
         try {
             rootNodes = this.resolutionHelper.buildNodesTree(requestList);
@@ -176,14 +230,72 @@ public class BatchApiServiceImpl implements BatchApiService {
             return List.of(buildOrThrowErrorResponse(e, null));
         }
 
-        final ArrayList<BatchResponse> responseList = new ArrayList<>(requestList.size());
-        for (BatchRequestNode rootNode : rootNodes) {
-            this.callRequestRecursive(rootNode.getRequest(), rootNode, responseList, uriInfo);
+        final List<BatchResponse> responseList;
+        if (parallel && parallelExecutor != null && rootNodes.size() > 1) {
+            responseList = callRequestTreesInParallel(rootNodes, uriInfo);
+        } else {
+            responseList = new ArrayList<>(requestList.size());
+            for (BatchRequestNode rootNode : rootNodes) {
+                this.callRequestRecursive(rootNode.getRequest(), rootNode, responseList, uriInfo);
+            }
         }
         responseList.sort(Comparator.comparing(BatchResponse::getRequestId));
         return responseList;
     }
 
+    /**
+     * Executes the request trees on the parallel executor. The child requests of a tree still run one after the other
+     * on the thread of their root, after the request they depend on. The tenant, security and logging context of the
+     * calling thread is set on the worker threads.
+     *
+     * @param rootNodes
+     *            the roots of the independent request trees
+     * @param uriInfo
+     * @return {@code List<BatchResponse>} the responses of all the requests, in no particular order
+     */
+    private List<BatchResponse> callRequestTreesInParallel(final List<BatchRequestNode> rootNodes, final UriInfo uriInfo) {
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final SecurityContext securityContext = SecurityContextHolder.getContext();
+        final Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        final List<Future<List<BatchResponse>>> futures = new ArrayList<>(rootNodes.size());
+        for (BatchRequestNode rootNode : rootNodes) {
+            futures.add(parallelExecutor.submit(() -> {
+                ThreadLocalContextUtil.init(context);
+                SecurityContextHolder.setContext(securityContext);
+                if (mdcContext != null) {
+                    MDC.setContextMap(mdcContext);
+                }
+                try {
+                    final List<BatchResponse> treeResponses = new ArrayList<>();
+                    callRequestRecursive(rootNode.getRequest(), rootNode, treeResponses, uriInfo);
+                    return treeResponses;
+                } finally {
+                    MDC.clear();
+                    SecurityContextHolder.clearContext();
+                    ThreadLocalContextUtil.reset();
+                }
+            }));
+        }
+
+        final List<BatchResponse> responseList = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            final BatchRequestNode rootNode = rootNodes.get(i);
+            try {
+                responseList.addAll(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                throw new IllegalStateException("Batch request processing was interrupted", e);
+            } catch (ExecutionException e) {
+                log.error("Exception during the batch request processing", e.getCause());
+                final BatchResponse response = buildErrorResponse(e.getCause(), rootNode.getRequest());
+                responseList.add(response);
+                responseList.addAll(parentRequestFailedRecursive(rootNode.getRequest(), rootNode, response, null));
+            }
+        }
+        return responseList;
+    }
+
     /**
      * Executes the request and call child requests recursively.
      *
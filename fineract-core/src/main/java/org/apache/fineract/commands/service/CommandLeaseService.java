@@ -0,0 +1,121 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.commands.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.commands.domain.CommandSource;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Marks the commands being processed in the deferred audit mode, where their audit row is only written once the
+ * command finished. A lease is taken in memory first, which rejects a concurrent duplicate request on this node without
+ * a database round trip, then in the lease table, which rejects it on the other nodes. The lease of a node that died
+ * while processing the command can be taken over once it expired, and so can the lease in memory of a command whose
+ * lease was never given back.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommandLeaseService {
+
+    private static final String INSERT_SQL = "INSERT INTO m_portfolio_command_lease (action_name, entity_name, idempotency_key, "
+            + "lease_until) VALUES (?, ?, ?, ?)";
+    private static final String TAKE_OVER_SQL = "UPDATE m_portfolio_command_lease SET lease_until = ? WHERE action_name = ? "
+            + "AND entity_name = ? AND idempotency_key = ? AND lease_until < ?";
+    private static final String DELETE_SQL = "DELETE FROM m_portfolio_command_lease WHERE action_name = ? AND entity_name = ? "
+            + "AND idempotency_key = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FineractProperties fineractProperties;
+
+    // lease key -> lease until
+    private final Map<String, LocalDateTime> heldLeases = new ConcurrentHashMap<>();
+
+    /**
+     * Takes the lease of the command, the lease row is written right away and not as part of the current transaction.
+     *
+     * @return false when the command is being processed already
+     */
+    public boolean acquire(CommandSource commandSource) {
+        final String leaseKey = getLeaseKey(commandSource);
+        final LocalDateTime now = DateUtils.getAuditLocalDateTime();
+        final LocalDateTime leaseUntil = now.plusSeconds(fineractProperties.getCommand().getLeaseTimeoutInSeconds());
+        // only a handful of commands are processed at a time, the expired leases are dropped on the way
+        heldLeases.values().removeIf(heldUntil -> !heldUntil.isAfter(now));
+        if (heldLeases.putIfAbsent(leaseKey, leaseUntil) != null) {
+            return false;
+        }
+        boolean acquired = false;
+        try {
+            try {
+                jdbcTemplate.update(INSERT_SQL, commandSource.getActionName(), commandSource.getEntityName(),
+                        commandSource.getIdempotencyKey(), leaseUntil);
+                acquired = true;
+            } catch (DuplicateKeyException e) {
+                acquired = jdbcTemplate.update(TAKE_OVER_SQL, leaseUntil, commandSource.getActionName(), commandSource.getEntityName(),
+                        commandSource.getIdempotencyKey(), now) == 1;
+                if (acquired) {
+                    log.warn("Took over the expired lease of command {} {} with idempotency key {}", commandSource.getActionName(),
+                            commandSource.getEntityName(), commandSource.getIdempotencyKey());
+                }
+            }
+            return acquired;
+        } finally {
+            if (!acquired) {
+                heldLeases.remove(leaseKey, leaseUntil);
+            }
+        }
+    }
+
+    /**
+     * Gives back the lease of the command. The lease row is deleted in the current transaction when there is one, so it
+     * is only gone together with the audit row written in the same transaction.
+     */
+    public void release(CommandSource commandSource) {
+        jdbcTemplate.update(DELETE_SQL, commandSource.getActionName(), commandSource.getEntityName(), commandSource.getIdempotencyKey());
+        final String leaseKey = getLeaseKey(commandSource);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(int status) {
+                    heldLeases.remove(leaseKey);
+                }
+            });
+        } else {
+            heldLeases.remove(leaseKey);
+        }
+    }
+
+    private String getLeaseKey(CommandSource commandSource) {
+        return ThreadLocalContextUtil.getTenant().getTenantIdentifier() + ":" + commandSource.getActionName() + ":"
+                + commandSource.getEntityName() + ":" + commandSource.getIdempotencyKey();
+    }
+}
@@ -18,8 +18,11 @@
  */
 package org.apache.fineract.commands.service;
 
+import static org.apache.fineract.commands.domain.CommandProcessingResultType.PROCESSED;
 import static org.apache.fineract.commands.domain.CommandProcessingResultType.UNDER_PROCESSING;
+import static org.apache.http.HttpStatus.SC_OK;
 
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.batch.exception.ErrorInfo;
 import org.apache.fineract.commands.domain.CommandSource;
@@ -51,6 +54,7 @@ public class CommandSourceService {
 
     private final CommandSourceRepository commandSourceRepository;
     private final ErrorHandler errorHandler;
+    private final CommandLeaseService commandLeaseService;
 
     @NotNull
     @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.REPEATABLE_READ)
@@ -88,6 +92,19 @@ public class CommandSourceService {
         return saveResult(commandSource);
     }
 
+    /**
+     * Writes the audit row of a command processed in the deferred audit mode, the row was not written upfront. The lease
+     * of the command, if it took one, is given back in the same transaction.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.REPEATABLE_READ)
+    public CommandSource saveResultAndReleaseLeaseNewTransaction(@NotNull CommandSource commandSource, boolean isLeased) {
+        final CommandSource savedCommandSource = saveResult(commandSource);
+        if (isLeased) {
+            commandLeaseService.release(commandSource);
+        }
+        return savedCommandSource;
+    }
+
     @NotNull
     private CommandSource saveResult(@NotNull CommandSource commandSource) {
         return commandSourceRepository.saveAndFlush(commandSource);
@@ -117,6 +134,26 @@ public class CommandSourceService {
         return commandSourceResult;
     }
 
+    /**
+     * Processes a command in the deferred audit mode: its audit row is written once, with the result, in the business
+     * transaction, and the lease of the command, if it took one, is given back in the same transaction.
+     */
+    @Transactional
+    public CommandProcessingResult processCommandAndSaveResult(NewCommandSourceHandler handler, JsonCommand command,
+            CommandSource commandSource, AppUser user, boolean isApprovedByChecker, boolean isLeased,
+            Function<CommandProcessingResult, String> resultSerializer) {
+        final CommandProcessingResult result = processCommand(handler, command, commandSource, user, isApprovedByChecker, false);
+        commandSource.setResultStatusCode(SC_OK);
+        commandSource.updateForAudit(result);
+        commandSource.setResult(resultSerializer.apply(result));
+        commandSource.setStatus(PROCESSED.getValue());
+        saveResult(commandSource);
+        if (isLeased) {
+            commandLeaseService.release(commandSource);
+        }
+        return result;
+    }
+
     @Transactional
     public CommandProcessingResult processCommand(NewCommandSourceHandler handler, JsonCommand command, CommandSource commandSource,
             AppUser user, boolean isApprovedByChecker, boolean isMakerChecker) {
@@ -36,6 +36,14 @@ public class IdempotencyKeyResolver {
         return Optional.ofNullable(wrapper.getIdempotencyKey()).orElseGet(() -> getAttribute().orElseGet(idempotencyKeyGenerator::create));
     }
 
+    /**
+     * @return false when {@link #resolve(CommandWrapper)} generates a new key, as neither the command nor the request
+     *         came with one
+     */
+    public boolean isProvided(CommandWrapper wrapper) {
+        return wrapper.getIdempotencyKey() != null || getAttribute().isPresent();
+    }
+
     private Optional<String> getAttribute() {
         return Optional.ofNullable(fineractRequestContextHolder.getAttribute(SynchronousCommandProcessingService.IDEMPOTENCY_KEY_ATTRIBUTE))
                 .map(String::valueOf);
@@ -36,11 +36,13 @@ import org.apache.fineract.batch.exception.ErrorInfo;
 import org.apache.fineract.commands.domain.CommandProcessingResultType;
 import org.apache.fineract.commands.domain.CommandSource;
 import org.apache.fineract.commands.domain.CommandWrapper;
+import org.apache.fineract.commands.exception.RollbackTransactionNotApprovedException;
 import org.apache.fineract.commands.exception.UnsupportedCommandException;
 import org.apache.fineract.commands.handler.NewCommandSourceHandler;
 import org.apache.fineract.commands.provider.CommandHandlerProvider;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.domain.BatchRequestContextHolder;
 import org.apache.fineract.infrastructure.core.domain.FineractRequestContextHolder;
@@ -76,6 +78,8 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
     private final CommandHandlerProvider commandHandlerProvider;
     private final IdempotencyKeyResolver idempotencyKeyResolver;
     private final CommandSourceService commandSourceService;
+    private final CommandLeaseService commandLeaseService;
+    private final FineractProperties fineractProperties;
 
     private final FineractRequestContextHolder fineractRequestContextHolder;
     private final Gson gson = GoogleGsonSerializerHelper.createSimpleGson();
@@ -93,6 +97,7 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
 
         CommandSource commandSource = null;
         String idempotencyKey;
+        boolean isIdempotencyKeyGenerated = false;
         if (isRetry) {
             commandSource = commandSourceService.getCommandSource(commandId);
             idempotencyKey = commandSource.getIdempotencyKey();
@@ -100,12 +105,26 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
             commandSource = commandSourceService.getCommandSource(commandId);
             idempotencyKey = commandSource.getIdempotencyKey();
         } else {
+            isIdempotencyKeyGenerated = !idempotencyKeyResolver.isProvided(wrapper);
             idempotencyKey = idempotencyKeyResolver.resolve(wrapper);
         }
-        exceptionWhenTheRequestAlreadyProcessed(wrapper, idempotencyKey, isRetry);
+        boolean isMakerChecker = configurationDomainService.isMakerCheckerEnabledForTask(wrapper.taskPermissionName());
+        // The audit row of a new command is only written once it finished, in the business transaction
+        boolean isDeferredAudit = commandSource == null && !isEnclosingTransaction && !isMakerChecker
+                && fineractProperties.getCommand().isDeferredAuditEnabled();
+        if (!isDeferredAudit) {
+            exceptionWhenTheRequestAlreadyProcessed(wrapper, idempotencyKey, isRetry);
+        }
 
         AppUser user = context.authenticatedUser(wrapper);
-        if (commandSource == null) {
+        // A key generated for this request cannot be sent by any other request, there is nothing to guard against
+        boolean isLeased = isDeferredAudit && !isIdempotencyKeyGenerated;
+        if (isDeferredAudit) {
+            commandSource = commandSourceService.getInitialCommandSource(wrapper, command, user, idempotencyKey);
+            if (isLeased) {
+                acquireLease(wrapper, commandSource);
+            }
+        } else if (commandSource == null) {
             if (isEnclosingTransaction) {
                 commandSource = commandSourceService.getInitialCommandSource(wrapper, command, user, idempotencyKey);
             } else {
@@ -117,7 +136,6 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
             storeCommandIdInContext(commandSource); // Store command id as a request attribute
         }
 
-        boolean isMakerChecker = configurationDomainService.isMakerCheckerEnabledForTask(wrapper.taskPermissionName());
         if (isApprovedByChecker || (isMakerChecker && user.isCheckerSuperUser())) {
             commandSource.markAsChecked(user);
         }
@@ -125,8 +143,13 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
 
         final CommandProcessingResult result;
         try {
-            result = commandSourceService.processCommand(findCommandHandler(wrapper), command, commandSource, user, isApprovedByChecker,
-                    isMakerChecker);
+            if (isDeferredAudit) {
+                result = commandSourceService.processCommandAndSaveResult(findCommandHandler(wrapper), command, commandSource, user,
+                        isApprovedByChecker, isLeased, toApiResultJsonSerializer::serializeResult);
+            } else {
+                result = commandSourceService.processCommand(findCommandHandler(wrapper), command, commandSource, user,
+                        isApprovedByChecker, isMakerChecker);
+            }
         } catch (Throwable t) { // NOSONAR
             RuntimeException mappable = ErrorHandler.getMappable(t);
             ErrorInfo errorInfo = commandSourceService.generateErrorInfo(mappable);
@@ -136,7 +159,19 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
             if (statusCode != SC_OK) {
                 commandSource.setStatus(ERROR.getValue());
             }
-            if (!isEnclosingTransaction) { // TODO: temporary solution
+            if (isDeferredAudit) {
+                // the audit row written by the rolled back business transaction is gone, it is written anew
+                commandSource.setId(null);
+                commandSource = commandSourceService.saveResultAndReleaseLeaseNewTransaction(commandSource, isLeased);
+                storeCommandIdInContext(commandSource);
+                if (mappable instanceof RollbackTransactionNotApprovedException) {
+                    // the command awaiting approval is found by the id of the row just written, the response carries it
+                    mappable = new RollbackTransactionNotApprovedException(commandSource.getId(), commandSource.getResourceId());
+                    errorInfo = commandSourceService.generateErrorInfo(mappable);
+                    commandSource.setResult(errorInfo.getMessage());
+                    commandSource = commandSourceService.saveResultNewTransaction(commandSource);
+                }
+            } else if (!isEnclosingTransaction) { // TODO: temporary solution
                 commandSource = commandSourceService.saveResultNewTransaction(commandSource);
             }
             // must not throw any exception; must persist in new transaction as the current transaction was already
@@ -145,11 +180,13 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
             throw mappable;
         }
 
-        commandSource.setResultStatusCode(SC_OK);
-        commandSource.updateForAudit(result);
-        commandSource.setResult(toApiResultJsonSerializer.serializeResult(result));
-        commandSource.setStatus(PROCESSED.getValue());
-        commandSource = commandSourceService.saveResultSameTransaction(commandSource);
+        if (!isDeferredAudit) {
+            commandSource.setResultStatusCode(SC_OK);
+            commandSource.updateForAudit(result);
+            commandSource.setResult(toApiResultJsonSerializer.serializeResult(result));
+            commandSource.setStatus(PROCESSED.getValue());
+            commandSource = commandSourceService.saveResultSameTransaction(commandSource);
+        }
         storeCommandIdInContext(commandSource); // Store command id as a request attribute
 
         result.setRollbackTransaction(null);
@@ -189,6 +226,20 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
         }
     }
 
+    private void acquireLease(CommandWrapper wrapper, CommandSource commandSource) {
+        String idempotencyKey = commandSource.getIdempotencyKey();
+        if (!commandLeaseService.acquire(commandSource)) {
+            throw new IdempotentCommandProcessUnderProcessingException(wrapper, idempotencyKey);
+        }
+        // Checked while holding the lease, a command finished by another request already has its audit row by now
+        try {
+            exceptionWhenTheRequestAlreadyProcessed(wrapper, idempotencyKey, false);
+        } catch (RuntimeException e) {
+            commandLeaseService.release(commandSource);
+            throw e;
+        }
+    }
+
     private void setIdempotencyKeyStoreFlag(boolean flag) {
         fineractRequestContextHolder.setAttribute(IDEMPOTENCY_KEY_STORE_FLAG, flag);
     }
@@ -0,0 +1,37 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.data;
+
+/**
+ * Invalidation of a cache entry, or of the whole cache when the key is <code>null</code>, made on one node of the
+ * cluster.
+ *
+ * @param tenantIdentifier
+ *            tenant active when the entry was invalidated, <code>null</code> outside of a tenant
+ * @param cacheName
+ *            name of the invalidated cache
+ * @param key
+ *            string form of the invalidated key
+ */
+public record CacheInvalidation(String tenantIdentifier, String cacheName, String key) {
+
+    public boolean isWholeCache() {
+        return key == null;
+    }
+}
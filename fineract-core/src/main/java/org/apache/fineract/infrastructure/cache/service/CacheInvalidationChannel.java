@@ -0,0 +1,41 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidation;
+
+/**
+ * Carries cache invalidations between the nodes of a cluster, so an entry evicted on one node does not keep being served
+ * by the local caches of the others.
+ */
+public interface CacheInvalidationChannel {
+
+    /**
+     * Sends the invalidation to the other nodes. Inside a transaction it is only sent once the transaction has committed,
+     * so the other nodes cannot reload the old value in the meantime.
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * Registers a listener for the invalidations published by the other nodes. Invalidations published by this node are
+     * not passed back.
+     */
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
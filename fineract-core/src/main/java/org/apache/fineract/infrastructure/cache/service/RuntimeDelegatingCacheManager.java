@@ -43,6 +43,9 @@ import org.springframework.stereotype.Component;
  *
  * By default it is {@link NoOpCacheManager} but we can change that by checking some persisted configuration in the
  * database on startup and allow user to switch implementation through UI/API
+ *
+ * The multi node cache keeps the entries in the same local caches as the single node one, but evictions are also sent
+ * over the {@link CacheInvalidationChannel} to the other nodes of the cluster.
  */
 @Component(value = "runtimeDelegatingCacheManager")
 @RequiredArgsConstructor
@@ -53,6 +56,8 @@ public class RuntimeDelegatingCacheManager implements CacheManager, Initializing
     private final CacheManager ehCacheManager;
     @Qualifier("defaultCacheManager")
     private final CacheManager defaultCacheManager;
+    @Qualifier("multiNodeCacheManager")
+    private final CacheManager multiNodeCacheManager;
     private CacheManager currentCacheManager;
 
     @Override
@@ -74,36 +79,39 @@ public class RuntimeDelegatingCacheManager implements CacheManager, Initializing
 
         final boolean noCacheEnabled = currentCacheManager == defaultCacheManager;
         final boolean ehCacheEnabled = currentCacheManager == ehCacheManager;
+        final boolean multiNodeCacheEnabled = currentCacheManager == multiNodeCacheManager;
 
         final EnumOptionData noCacheType = CacheEnumerations.cacheType(CacheType.NO_CACHE);
         final EnumOptionData singleNodeCacheType = CacheEnumerations.cacheType(CacheType.SINGLE_NODE);
+        final EnumOptionData multiNodeCacheType = CacheEnumerations.cacheType(CacheType.MULTI_NODE);
 
         final CacheData noCache = CacheData.instance(noCacheType, noCacheEnabled);
         final CacheData singleNodeCache = CacheData.instance(singleNodeCacheType, ehCacheEnabled);
+        final CacheData multiNodeCache = CacheData.instance(multiNodeCacheType, multiNodeCacheEnabled);
 
-        return Arrays.asList(noCache, singleNodeCache);
+        return Arrays.asList(noCache, singleNodeCache, multiNodeCache);
     }
 
-    public Map<String, Object> switchToCache(final boolean ehcacheEnabled, final CacheType toCacheType) {
+    public Map<String, Object> switchToCache(final CacheType currentCacheType, final CacheType toCacheType) {
 
         final Map<String, Object> changes = new HashMap<>();
 
-        final boolean noCacheEnabled = !ehcacheEnabled;
-
         switch (toCacheType) {
             case INVALID -> {
                 log.warn("Invalid cache type used");
             }
             case NO_CACHE -> {
-                if (!noCacheEnabled) {
+                if (!currentCacheType.isNoCache()) {
                     changes.put(CacheApiConstants.CACHE_TYPE_PARAMETER, toCacheType.getValue());
                 }
                 currentCacheManager = defaultCacheManager;
             }
             case SINGLE_NODE -> {
-                if (!ehcacheEnabled) {
+                if (!currentCacheType.isEhcache()) {
                     changes.put(CacheApiConstants.CACHE_TYPE_PARAMETER, toCacheType.getValue());
-                    clearEhCache();
+                    if (!currentCacheType.isDistributedCache()) {
+                        clearEhCache();
+                    }
                 }
                 currentCacheManager = ehCacheManager;
 
@@ -111,7 +119,18 @@ public class RuntimeDelegatingCacheManager implements CacheManager, Initializing
                     log.error("No caches configured for activated CacheManager {}", currentCacheManager);
                 }
             }
-            case MULTI_NODE -> throw new UnsupportedOperationException("Multi node cache is not supported");
+            case MULTI_NODE -> {
+                if (!currentCacheType.isDistributedCache()) {
+                    changes.put(CacheApiConstants.CACHE_TYPE_PARAMETER, toCacheType.getValue());
+                    // evictions made by the other nodes were not received while in single node mode
+                    clearEhCache();
+                }
+                currentCacheManager = multiNodeCacheManager;
+
+                if (currentCacheManager.getCacheNames().isEmpty()) {
+                    log.error("No caches configured for activated CacheManager {}", currentCacheManager);
+                }
+            }
         }
 
         return changes;
@@ -0,0 +1,77 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidation;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Drops what a local cache holds for the current tenant when the cached data changes, on this node and, over the
+ * {@link CacheInvalidationChannel}, on the other nodes.
+ * <p>
+ * The data of the tenant is dropped right away and once more when the running transaction completes, since whatever
+ * got loaded in the meantime may hold the uncommitted changes.
+ */
+public final class TenantCacheInvalidator {
+
+    private final String cacheName;
+    private final CacheInvalidationChannel invalidationChannel;
+    private final Consumer<String> tenantEvictor;
+
+    /**
+     * @param cacheName
+     *            the name the invalidations of the cache are published under
+     * @param tenantEvictor
+     *            drops the cached data of the tenant with the given identifier
+     */
+    public TenantCacheInvalidator(final String cacheName, final CacheInvalidationChannel invalidationChannel,
+            final Consumer<String> tenantEvictor) {
+        this.cacheName = cacheName;
+        this.invalidationChannel = invalidationChannel;
+        this.tenantEvictor = tenantEvictor;
+        invalidationChannel.subscribe(this::onRemoteInvalidation);
+    }
+
+    /**
+     * Drops the cached data of the current tenant.
+     */
+    public void invalidate() {
+        final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        tenantEvictor.accept(tenantIdentifier);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(int status) {
+                    tenantEvictor.accept(tenantIdentifier);
+                }
+            });
+        }
+        invalidationChannel.publish(new CacheInvalidation(tenantIdentifier, cacheName, null));
+    }
+
+    private void onRemoteInvalidation(final CacheInvalidation invalidation) {
+        if (cacheName.equals(invalidation.cacheName()) && invalidation.tenantIdentifier() != null) {
+            tenantEvictor.accept(invalidation.tenantIdentifier());
+        }
+    }
+}
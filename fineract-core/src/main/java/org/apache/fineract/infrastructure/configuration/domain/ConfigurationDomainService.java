@@ -41,6 +41,8 @@ public interface ConfigurationDomainService {
 
     boolean isEhcacheEnabled();
 
+    CacheType retrieveCacheType();
+
     void updateCache(CacheType cacheType);
 
     Long retrievePenaltyWaitPeriod();
@@ -113,6 +115,8 @@ public interface ConfigurationDomainService {
 
     boolean isRelaxingDaysConfigForPivotDateEnabled();
 
+    boolean isSavingsIncrementalInterestCalculationEnabled();
+
     Long retrieveRelaxingDaysConfigForPivotDate();
 
     boolean isBusinessDateEnabled();
@@ -38,6 +38,10 @@ public class FineractProperties {
 
     private String idempotencyKeyHeaderName;
 
+    private FineractCommandProperties command;
+
+    private FineractBulkImportProperties bulkImport;
+
     private Boolean insecureHttpClient;
 
     private FineractTenantProperties tenant;
@@ -78,6 +82,24 @@ public class FineractProperties {
 
     private FineractSqlValidationProperties sqlValidation;
 
+    private FineractCacheProperties cache;
+
+    @Getter
+    @Setter
+    public static class FineractCommandProperties {
+
+        private boolean deferredAuditEnabled;
+        private int leaseTimeoutInSeconds;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractBulkImportProperties {
+
+        private int threadCount;
+        private int chunkSize;
+    }
+
     @Getter
     @Setter
     public static class FineractTenantProperties {
@@ -165,6 +187,7 @@ public class FineractProperties {
         private Integer threadPoolQueueCapacity;
         private Integer retryLimit;
         private Integer pollInterval;
+        private Boolean readerPrefetchEnabled;
 
     }
 
@@ -288,6 +311,20 @@ public class FineractProperties {
         private boolean enabled;
         private FineractExternalEventsProducerProperties producer;
         private int partitionSize;
+        private FineractExternalEventsRelayProperties relay;
+        private boolean preFramedMessagesEnabled;
+        private List<String> deferredEventTypes;
+        private boolean batchWriteEnabled;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractExternalEventsRelayProperties {
+
+        private boolean enabled;
+        private int workerCount;
+        private int idleWaitInMillis;
+        private int maxBackoffInMillis;
     }
 
     @Getter
@@ -371,6 +408,7 @@ public class FineractProperties {
     @Setter
     public static class FineractExportProperties {
 
+        private int fetchSize;
         private FineractExportS3Properties s3;
     }
 
@@ -388,6 +426,11 @@ public class FineractProperties {
 
         private int stuckRetryThreshold;
         private boolean loanCobEnabled;
+        private int runningBalanceUpdateThreadCount;
+        private int runningBalanceUpdateBatchSize;
+        private int glDailyBalanceBackfillBatchSize;
+        private int searchIndexRebuildBatchSize;
+        private int standingInstructionThreadCount;
     }
 
     @Getter
@@ -410,6 +453,17 @@ public class FineractProperties {
     public static class FineractDatabaseProperties {
 
         private String defaultMasterPassword;
+        private FineractReadReplicaProperties readReplica;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractReadReplicaProperties {
+
+        private boolean enabled;
+        private int maxLagInSeconds;
+        private int lagCheckIntervalInSeconds;
+        private int readYourWritesInSeconds;
     }
 
     @Getter
@@ -424,6 +478,14 @@ public class FineractProperties {
     public static class FineractApiProperties {
 
         private FineractBodyItemSizeLimitProperties bodyItemSizeLimit;
+        private FineractBatchApiProperties batch;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractBatchApiProperties {
+
+        private int parallelThreadCount;
     }
 
     @Getter
@@ -490,6 +552,7 @@ public class FineractProperties {
     public static class FineractSecurityBasicAuth {
 
         private boolean enabled;
+        private int credentialCacheTtlInSeconds;
     }
 
     @Getter
@@ -536,6 +599,22 @@ public class FineractProperties {
 
     }
 
+    @Getter
+    @Setter
+    public static class FineractCacheProperties {
+
+        private FineractCacheInvalidationProperties invalidation;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractCacheInvalidationProperties {
+
+        private boolean enabled;
+        private int pollInterval;
+        private int retentionInMinutes;
+    }
+
     @Getter
     @Setter
     public static class FineractSqlValidationProperties {
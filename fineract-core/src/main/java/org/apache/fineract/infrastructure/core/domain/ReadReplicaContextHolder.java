@@ -0,0 +1,111 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.domain;
+
+import java.util.function.Supplier;
+import org.springframework.core.NamedThreadLocal;
+
+/**
+ * Tells the tenant data source whether the current request only reads, so its work outside of a transaction can be sent
+ * to the read replica of the tenant, and whether the current work has to see the primary database anyway, e.g. because
+ * it loads a cache.
+ */
+public final class ReadReplicaContextHolder {
+
+    private ReadReplicaContextHolder() {}
+
+    private static final ThreadLocal<Boolean> readOnlyRequest = new NamedThreadLocal<>("readOnlyRequest");
+    private static final ThreadLocal<Boolean> primaryRequired = new NamedThreadLocal<>("primaryRequired");
+
+    /**
+     * True if the current request was marked as read only
+     *
+     * @return true if the current request was marked as read only
+     */
+    public static boolean isReadOnlyRequest() {
+        return Boolean.TRUE.equals(readOnlyRequest.get());
+    }
+
+    /**
+     * Mark the current request as read only or not.
+     *
+     * @param readOnly
+     *            true if the request only reads
+     */
+    public static void setReadOnlyRequest(boolean readOnly) {
+        readOnlyRequest.set(readOnly);
+    }
+
+    /**
+     * Reset the read only marker of the current thread.
+     */
+    public static void resetReadOnlyRequest() {
+        readOnlyRequest.remove();
+    }
+
+    /**
+     * True if the current work has to use the primary database, even if it only reads
+     *
+     * @return true if the current work has to use the primary database
+     */
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(primaryRequired.get());
+    }
+
+    /**
+     * Require the primary database for the current work, until {@link #restorePrimaryRequired(boolean)} is called.
+     *
+     * @return whether the primary database was required before, to be passed to {@link #restorePrimaryRequired(boolean)}
+     */
+    public static boolean requirePrimary() {
+        final boolean previous = isPrimaryRequired();
+        primaryRequired.set(Boolean.TRUE);
+        return previous;
+    }
+
+    /**
+     * Restore whether the primary database is required, as it was before {@link #requirePrimary()} was called.
+     *
+     * @param previous
+     *            what {@link #requirePrimary()} returned
+     */
+    public static void restorePrimaryRequired(boolean previous) {
+        if (previous) {
+            primaryRequired.set(Boolean.TRUE);
+        } else {
+            primaryRequired.remove();
+        }
+    }
+
+    /**
+     * Runs the work on the primary database, e.g. to load a cache which would keep what a lagging replica returned.
+     *
+     * @param work
+     *            the work to run
+     * @return the result of the work
+     */
+    public static <T> T runOnPrimary(Supplier<T> work) {
+        final boolean previous = requirePrimary();
+        try {
+            return work.get();
+        } finally {
+            restorePrimaryRequired(previous);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Collects what a writer is asked to write during a transaction and hands it to the writer right before the
+ * transaction commits, so it can be written with a single JDBC batch.
+ * <p>
+ * The pending items are bound to the current transaction under the owning writer, set aside while the transaction is
+ * suspended and dropped when it completes, so a rolled back transaction writes nothing. The buffers of the different
+ * writers are written in the order of their {@link #getOrder() order}, lowest first.
+ *
+ * @param <T>
+ *            the type holding the pending items
+ */
+public final class TransactionBoundBuffer<T> {
+
+    /**
+     * Order of the journal entry buffer, written first since writing the entries raises business events.
+     */
+    public static final int JOURNAL_ENTRIES_ORDER = 100;
+    /**
+     * Order of the daily GL balance buffer.
+     */
+    public static final int DAILY_BALANCES_ORDER = 200;
+    /**
+     * Order of the search index buffer, which flushes the persistence context before reading the indexed columns.
+     */
+    public static final int SEARCH_INDEX_ORDER = 300;
+    /**
+     * Order of the external event buffer, written last of the buffers. The business events raised while writing the
+     * other buffers are not written by it: the BusinessEventNotifierServiceImpl posts them as a batch of its own from its
+     * transaction listener, which runs after every synchronization's <code>beforeCommit</code>.
+     */
+    public static final int EXTERNAL_EVENTS_ORDER = 400;
+
+    private final Object owner;
+    private final int order;
+    private final Supplier<T> bufferFactory;
+    private final Consumer<T> writer;
+
+    /**
+     * @param owner
+     *            the writer the pending items are bound under, one buffer per owner
+     * @param order
+     *            the order the buffer is written in relative to the other buffers of the transaction
+     * @param bufferFactory
+     *            creates an empty buffer for a new transaction
+     * @param writer
+     *            writes and removes the pending items of the buffer, called again for what is added after a flush
+     */
+    public TransactionBoundBuffer(final Object owner, final int order, final Supplier<T> bufferFactory, final Consumer<T> writer) {
+        this.owner = owner;
+        this.order = order;
+        this.bufferFactory = bufferFactory;
+        this.writer = writer;
+    }
+
+    public int getOrder() {
+        return order;
+    }
+
+    /**
+     * @return whether there is a transaction to bind the pending items to
+     */
+    public boolean isActive() {
+        return TransactionSynchronizationManager.isActualTransactionActive() && TransactionSynchronizationManager.isSynchronizationActive();
+    }
+
+    /**
+     * Adds to the buffer of the current transaction, or when there is no active transaction to a new buffer written right
+     * away.
+     */
+    public void add(final Consumer<T> adder) {
+        if (!isActive()) {
+            final T buffer = bufferFactory.get();
+            adder.accept(buffer);
+            writer.accept(buffer);
+            return;
+        }
+        adder.accept(getBuffer());
+    }
+
+    /**
+     * @return the buffer of the current transaction, bound to it on first use, the transaction has to be
+     *         {@link #isActive() active}
+     */
+    public T getBuffer() {
+        T buffer = getBoundBuffer();
+        if (buffer == null) {
+            buffer = bufferFactory.get();
+            TransactionSynchronizationManager.bindResource(owner, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new BufferSynchronization(buffer));
+        }
+        return buffer;
+    }
+
+    /**
+     * @return the buffer of the current transaction, or null when nothing was added in it yet
+     */
+    @SuppressWarnings("unchecked")
+    public T getBoundBuffer() {
+        return (T) TransactionSynchronizationManager.getResource(owner);
+    }
+
+    /**
+     * Writes the items added in the current transaction so far.
+     */
+    public void flush() {
+        final T buffer = getBoundBuffer();
+        if (buffer != null) {
+            writer.accept(buffer);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private final class BufferSynchronization implements TransactionSynchronization {
+
+        private final T buffer;
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(owner);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(owner, buffer);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            writer.accept(buffer);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(owner);
+        }
+    }
+}
@@ -30,6 +30,7 @@ import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenantConnection;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.stereotype.Component;
 
 /**
@@ -61,12 +62,32 @@ public class DataSourcePerTenantServiceFactory {
         this.databasePasswordEncryptor = databasePasswordEncryptor;
     }
 
-    @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT")
     public DataSource createNewDataSourceFor(final FineractPlatformTenantConnection tenantConnection) {
         if (!databasePasswordEncryptor.isMasterPasswordHashValid(tenantConnection.getMasterPasswordHash())) {
             throw new IllegalArgumentException(
                     "Invalid master password on tenant connection %d.".formatted(tenantConnection.getConnectionId()));
         }
+        if (fineractProperties.getMode().isReadOnlyMode()) {
+            return createDataSource(tenantConnection, true);
+        }
+        DataSource dataSource = createDataSource(tenantConnection, false);
+        FineractProperties.FineractReadReplicaProperties readReplica = getReadReplicaProperties();
+        if (readReplica != null && readReplica.isEnabled() && StringUtils.isNotBlank(tenantConnection.getReadOnlySchemaServer())) {
+            // The lazy proxy only asks for the physical connection on the first statement, once the read only flag of the
+            // transaction is known
+            DataSource replicaDataSource = createDataSource(tenantConnection, true);
+            return new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(dataSource, replicaDataSource, readReplica));
+        }
+        return dataSource;
+    }
+
+    private FineractProperties.FineractReadReplicaProperties getReadReplicaProperties() {
+        FineractProperties.FineractDatabaseProperties database = fineractProperties.getDatabase();
+        return database == null ? null : database.getReadReplica();
+    }
+
+    @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT")
+    private DataSource createDataSource(final FineractPlatformTenantConnection tenantConnection, final boolean readOnly) {
         String protocol = toProtocol(tenantDataSource);
         // Default properties for Writing
         String schemaServer = tenantConnection.getSchemaServer();
@@ -76,7 +97,7 @@ public class DataSourcePerTenantServiceFactory {
         String schemaPassword = tenantConnection.getSchemaPassword();
         String schemaConnectionParameters = tenantConnection.getSchemaConnectionParameters();
         // Properties to ReadOnly case
-        if (fineractProperties.getMode().isReadOnlyMode()) {
+        if (readOnly) {
             schemaServer = StringUtils.defaultIfBlank(tenantConnection.getReadOnlySchemaServer(), schemaServer);
             schemaPort = StringUtils.defaultIfBlank(tenantConnection.getReadOnlySchemaServerPort(), schemaPort);
             schemaName = StringUtils.defaultIfBlank(tenantConnection.getReadOnlySchemaName(), schemaName);
@@ -89,9 +110,9 @@ public class DataSourcePerTenantServiceFactory {
         log.debug("{}", jdbcUrl);
 
         HikariConfig config = new HikariConfig();
-        config.setReadOnly(fineractProperties.getMode().isReadOnlyMode());
+        config.setReadOnly(readOnly);
         config.setJdbcUrl(jdbcUrl);
-        config.setPoolName(schemaName + "_pool");
+        config.setPoolName(schemaName + (readOnly && !fineractProperties.getMode().isReadOnlyMode() ? "_read_replica_pool" : "_pool"));
         config.setUsername(schemaUsername);
         config.setPassword(databasePasswordEncryptor.decrypt(schemaPassword));
         config.setMinimumIdle(getMinPoolSize(tenantConnection));
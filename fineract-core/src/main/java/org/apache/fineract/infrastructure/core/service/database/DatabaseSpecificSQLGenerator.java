@@ -261,6 +261,25 @@ public class DatabaseSpecificSQLGenerator {
                 + fields.stream().map(e -> escape(e) + " = " + decoratePlaceHolder(headers, e, "?")).collect(Collectors.joining(", "));
     }
 
+    /**
+     * Builds an insert of a row which, when a row with the same unique key already exists, adds the values given for the
+     * increment columns to the ones of the existing row instead.
+     */
+    public String buildInsertOrIncrement(@NotNull String definition, List<String> keyFields, List<String> incrementFields) {
+        final String insert = "INSERT INTO " + definition + " (" + String.join(", ", keyFields) + ", " + String.join(", ", incrementFields)
+                + ") VALUES (" + "?, ".repeat(keyFields.size() + incrementFields.size() - 1) + "?)";
+        if (databaseTypeResolver.isMySQL()) {
+            return insert + " ON DUPLICATE KEY UPDATE "
+                    + incrementFields.stream().map(e -> format("%s = %s + VALUES(%s)", e, e, e)).collect(Collectors.joining(", "));
+        } else if (databaseTypeResolver.isPostgreSQL()) {
+            return insert + " ON CONFLICT (" + String.join(", ", keyFields) + ") DO UPDATE SET " + incrementFields.stream()
+                    .map(e -> format("%s = %s.%s + EXCLUDED.%s", e, definition, e, e)).collect(Collectors.joining(", "));
+        } else {
+            throw new IllegalStateException(
+                    "Database type is not supported for insert or increment " + databaseTypeResolver.databaseType());
+        }
+    }
+
     private String decoratePlaceHolder(Map<String, ResultsetColumnHeaderData> headers, String field, String placeHolder) {
         DatabaseType dialect = getDialect();
         if (dialect.isPostgres()) {
@@ -276,14 +295,25 @@ public class DatabaseSpecificSQLGenerator {
     }
 
     public Long fetchPK(GeneratedKeyHolder keyHolder) {
+        return fetchPK(keyHolder.getKeys());
+    }
+
+    /**
+     * Returns the generated keys of a batch insert, in the order of the rows of the batch.
+     */
+    public List<Long> fetchPKs(GeneratedKeyHolder keyHolder) {
+        return keyHolder.getKeyList().stream().map(this::fetchPK).toList();
+    }
+
+    private Long fetchPK(Map<String, Object> keys) {
         return switch (getDialect()) {
-            case POSTGRESQL -> (Long) keyHolder.getKeys().get("id");
+            case POSTGRESQL -> (Long) keys.get("id");
             case MYSQL -> {
                 // Mariadb
-                BigInteger generatedKey = (BigInteger) keyHolder.getKeys().get("insert_id");
+                BigInteger generatedKey = (BigInteger) keys.get("insert_id");
                 if (generatedKey == null) {
                     // Mysql
-                    generatedKey = (BigInteger) keyHolder.getKeys().get("GENERATED_KEY");
+                    generatedKey = (BigInteger) keys.get("GENERATED_KEY");
                 }
                 yield generatedKey.longValue();
             }
@@ -0,0 +1,80 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.fineract.infrastructure.core.domain.ReadReplicaContextHolder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs the cached methods on the primary database, so a cache never keeps what a lagging read replica returned until its
+ * next eviction.
+ *
+ * When called from a read only transaction, whose connection may already be one of the replica, the method runs in a
+ * read only transaction of its own. Outside of read only transactions it only marks the work as
+ * {@link ReadReplicaContextHolder#requirePrimary() requiring the primary}.
+ */
+public class PrimaryCacheLoadInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+
+    public PrimaryCacheLoadInterceptor(ObjectProvider<PlatformTransactionManager> transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        final boolean previous = ReadReplicaContextHolder.requirePrimary();
+        try {
+            if (TransactionSynchronizationManager.isActualTransactionActive()
+                    && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                return proceedInNewTransaction(invocation);
+            }
+            return invocation.proceed();
+        } finally {
+            ReadReplicaContextHolder.restorePrimaryRequired(previous);
+        }
+    }
+
+    private Object proceedInNewTransaction(MethodInvocation invocation) throws Throwable {
+        // the transaction manager is looked up lazily, as it depends on beans which are cached themselves
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager.getObject());
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setReadOnly(true);
+        try {
+            return transactionTemplate.execute(status -> {
+                try {
+                    return invocation.proceed();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new UndeclaredThrowableException(e);
+                }
+            });
+        } catch (UndeclaredThrowableException e) {
+            throw e.getUndeclaredThrowable();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.ReadReplicaContextHolder;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Data source of a tenant which hands out connections of the read replica for read only work and connections of the
+ * primary database for everything else.
+ *
+ * The work is read only when it runs in a read only transaction, or outside of a transaction while serving a GET
+ * request. It still goes to the primary database when the replica lags behind more than the tolerated seconds, when it
+ * loads a cache ({@link ReadReplicaContextHolder#isPrimaryRequired()}), or when the same user wrote to the primary a
+ * short while ago, so the user reads its own writes.
+ *
+ * The writes of a user are only known to the node which served them, a read served by another node right after a write
+ * may still go to the replica. Deployments balancing the requests of a user over several nodes have to keep them on the
+ * same node (sticky sessions) to read their own writes.
+ *
+ * It has to be wrapped into a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, so the
+ * connection is only requested once the read only flag of the transaction is known.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final String MYSQL_LAG_SQL = "SHOW REPLICA STATUS";
+    private static final String POSTGRESQL_LAG_SQL = "SELECT CASE WHEN NOT pg_is_in_recovery() "
+            + "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    private final DataSource primaryDataSource;
+    private final DataSource replicaDataSource;
+    private final FineractProperties.FineractReadReplicaProperties properties;
+
+    // last write of every user served by this node
+    private final Map<String, Instant> lastWrites = new ConcurrentHashMap<>();
+    private final AtomicBoolean lagCheckInProgress = new AtomicBoolean();
+    private volatile Instant lagCheckedAt;
+    private volatile boolean replicaUsable;
+
+    public ReadReplicaRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource,
+            FineractProperties.FineractReadReplicaProperties properties) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaDataSource = replicaDataSource;
+        this.properties = properties;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return determineTargetDataSource().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return determineTargetDataSource().getConnection(username, password);
+    }
+
+    public DataSource getPrimaryDataSource() {
+        return primaryDataSource;
+    }
+
+    public DataSource getReplicaDataSource() {
+        return replicaDataSource;
+    }
+
+    DataSource determineTargetDataSource() {
+        final String username = getUsername();
+        if (isReadOnlyWork()) {
+            if (!ReadReplicaContextHolder.isPrimaryRequired() && !hasRecentWrite(username) && isReplicaUsable()) {
+                return replicaDataSource;
+            }
+        } else if (username != null && !ReadReplicaContextHolder.isReadOnlyRequest()) {
+            lastWrites.put(username, Instant.now());
+        }
+        return primaryDataSource;
+    }
+
+    private boolean isReadOnlyWork() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        }
+        return ReadReplicaContextHolder.isReadOnlyRequest();
+    }
+
+    private boolean hasRecentWrite(String username) {
+        if (username == null) {
+            return false;
+        }
+        final Instant lastWrite = lastWrites.get(username);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (lastWrite.plusSeconds(properties.getReadYourWritesInSeconds()).isAfter(Instant.now())) {
+            return true;
+        }
+        lastWrites.remove(username, lastWrite);
+        return false;
+    }
+
+    private boolean isReplicaUsable() {
+        final Instant checkedAt = lagCheckedAt;
+        if ((checkedAt == null || checkedAt.plusSeconds(properties.getLagCheckIntervalInSeconds()).isBefore(Instant.now()))
+                && lagCheckInProgress.compareAndSet(false, true)) {
+            try {
+                final Duration lag = fetchReplicaLag();
+                replicaUsable = lag != null && lag.getSeconds() <= properties.getMaxLagInSeconds();
+                if (!replicaUsable) {
+                    log.warn("Read replica is not used, its replication lag is {}", lag);
+                }
+            } catch (Exception e) {
+                log.warn("Read replica is not used, its replication lag could not be checked", e);
+                replicaUsable = false;
+            } finally {
+                lagCheckedAt = Instant.now();
+                lagCheckInProgress.set(false);
+            }
+        }
+        return replicaUsable;
+    }
+
+    /**
+     * Fetches how far the replica is behind the primary database.
+     *
+     * @return the replication lag, or null when the replica is not replicating
+     */
+    Duration fetchReplicaLag() throws SQLException {
+        try (Connection connection = replicaDataSource.getConnection(); Statement statement = connection.createStatement()) {
+            final String productName = connection.getMetaData().getDatabaseProductName();
+            if (DatabaseType.POSTGRESQL.name().equalsIgnoreCase(productName)) {
+                try (ResultSet resultSet = statement.executeQuery(POSTGRESQL_LAG_SQL)) {
+                    return resultSet.next() ? toDuration(resultSet.getBigDecimal(1)) : null;
+                }
+            }
+            try (ResultSet resultSet = statement.executeQuery(MYSQL_LAG_SQL)) {
+                if (!resultSet.next()) {
+                    // not configured as a replica, it is the primary database itself
+                    return Duration.ZERO;
+                }
+                return toDuration(getSecondsBehindSource(resultSet));
+            }
+        }
+    }
+
+    private Number getSecondsBehindSource(ResultSet resultSet) throws SQLException {
+        try {
+            return (Number) resultSet.getObject("Seconds_Behind_Source");
+        } catch (SQLException e) {
+            return (Number) resultSet.getObject("Seconds_Behind_Master");
+        }
+    }
+
+    private Duration toDuration(Number seconds) {
+        return seconds == null ? null : Duration.ofMillis(Math.round(seconds.doubleValue() * 1000));
+    }
+
+    private String getUsername() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? null : authentication.getName();
+    }
+}
@@ -27,6 +27,12 @@ public interface GenericDataService {
 
     GenericResultsetData fillGenericResultSet(String sql);
 
+    /**
+     * Runs the query with a forward only cursor and hands its rows to the consumer as they are fetched, so the memory used
+     * does not depend on the size of the result.
+     */
+    void streamGenericResultSet(String sql, GenericResultsetConsumer consumer);
+
     List<ResultsetColumnHeaderData> fillResultsetColumnHeaders(String tableName);
 
     List<ResultsetRowData> fillResultsetRowData(String sql, List<ResultsetColumnHeaderData> columnHeaders);
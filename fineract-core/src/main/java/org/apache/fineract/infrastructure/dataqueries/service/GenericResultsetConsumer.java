@@ -0,0 +1,45 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service;
+
+import java.io.IOException;
+import java.util.List;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+
+/**
+ * Receives a generic result set row by row, as it is read from the database, instead of as a whole
+ * {@link org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData}.
+ */
+public interface GenericResultsetConsumer {
+
+    /**
+     * Called once, before the first row, also when the result set is empty.
+     */
+    void columnHeaders(List<ResultsetColumnHeaderData> columnHeaders) throws IOException;
+
+    /**
+     * Called for every row, the values are converted the same way as in the generic result set data.
+     */
+    void row(List<Object> row) throws IOException;
+
+    /**
+     * Called once, after the last row.
+     */
+    default void end() throws IOException {}
+}
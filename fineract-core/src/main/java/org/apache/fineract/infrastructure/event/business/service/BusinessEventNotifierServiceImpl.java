@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -34,7 +35,7 @@ import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.NoExternalEvent;
-import org.apache.fineract.infrastructure.event.external.repository.ExternalEventConfigurationRepository;
+import org.apache.fineract.infrastructure.event.external.service.ExternalEventConfigurationCache;
 import org.apache.fineract.infrastructure.event.external.service.ExternalEventService;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.stereotype.Service;
@@ -49,14 +50,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierService, InitializingBean, TransactionExecutionListener {
 
-    private final Map<Class, List<BusinessEventListener>> preListeners = new HashMap<>();
-    private final Map<Class, List<BusinessEventListener>> postListeners = new HashMap<>();
+    private final BusinessEventListeners preListeners = new BusinessEventListeners();
+    private final BusinessEventListeners postListeners = new BusinessEventListeners();
 
     private final ThreadLocal<Boolean> eventRecordingEnabled = ThreadLocal.withInitial(() -> false);
-    private final ThreadLocal<List<BusinessEvent<?>>> recordedEvents = ThreadLocal.withInitial(ArrayList::new);
+    private final ThreadLocal<List<BusinessEvent<?>>> recordedEvents = new ThreadLocal<>();
 
     private final ExternalEventService externalEventService;
-    private final ExternalEventConfigurationRepository eventConfigurationRepository;
+    private final ExternalEventConfigurationCache eventConfigurationCache;
     private final FineractProperties fineractProperties;
     private final ThreadLocal<Stack<List<BusinessEventWithContext>>> transactionBusinessEvents = ThreadLocal.withInitial(Stack::new);
     private final TransactionHelper transactionHelper;
@@ -73,20 +74,14 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     @Override
     public void notifyPreBusinessEvent(BusinessEvent<?> businessEvent) {
         throwExceptionIfBulkEvent(businessEvent);
-        List<BusinessEventListener> businessEventListeners = findSuitableListeners(preListeners, businessEvent.getClass());
-        for (BusinessEventListener eventListener : businessEventListeners) {
+        for (BusinessEventListener eventListener : preListeners.find(businessEvent.getClass())) {
             eventListener.onBusinessEvent(businessEvent);
         }
     }
 
     @Override
     public <T extends BusinessEvent<?>> void addPreBusinessEventListener(Class<T> eventType, BusinessEventListener<T> listener) {
-        List<BusinessEventListener> businessEventListeners = preListeners.get(eventType);
-        if (businessEventListeners == null) {
-            businessEventListeners = new ArrayList<>();
-            preListeners.put(eventType, businessEventListeners);
-        }
-        businessEventListeners.add(listener);
+        preListeners.add(eventType, listener);
     }
 
     @Override
@@ -94,15 +89,14 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     public void notifyPostBusinessEvent(BusinessEvent<?> businessEvent) {
         throwExceptionIfBulkEvent(businessEvent);
         boolean isExternalEvent = !(businessEvent instanceof NoExternalEvent);
-        List<BusinessEventListener> businessEventListeners = findSuitableListeners(postListeners, businessEvent.getClass());
-        for (BusinessEventListener eventListener : businessEventListeners) {
+        for (BusinessEventListener eventListener : postListeners.find(businessEvent.getClass())) {
             eventListener.onBusinessEvent(businessEvent);
         }
         if (isExternalEvent && isExternalEventPostingEnabled()) {
             // we only want to create external events for operations that were successful, hence the post listener
             if (isExternalEventConfiguredForPosting(businessEvent.getType())) {
                 if (isExternalEventRecordingEnabled()) {
-                    recordedEvents.get().add(businessEvent);
+                    recordEvent(businessEvent);
                 } else {
                     if (transactionHelper.hasTransaction()) {
                         storeTransactionalBusinessEvent(businessEvent);
@@ -114,25 +108,9 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
         }
     }
 
-    private List<BusinessEventListener> findSuitableListeners(Map<Class, List<BusinessEventListener>> listeners, Class<?> eventClazz) {
-        List<BusinessEventListener> result = new ArrayList<>();
-        for (Map.Entry<Class, List<BusinessEventListener>> entry : listeners.entrySet()) {
-            Class<?> registeredClazz = entry.getKey();
-            if (registeredClazz.isAssignableFrom(eventClazz)) {
-                result.addAll(entry.getValue());
-            }
-        }
-        return result;
-    }
-
     @Override
     public <T extends BusinessEvent<?>> void addPostBusinessEventListener(Class<T> eventType, BusinessEventListener<T> listener) {
-        List<BusinessEventListener> businessEventListeners = postListeners.get(eventType);
-        if (businessEventListeners == null) {
-            businessEventListeners = new ArrayList<>();
-            postListeners.put(eventType, businessEventListeners);
-        }
-        businessEventListeners.add(listener);
+        postListeners.add(eventType, listener);
     }
 
     private boolean isExternalEventRecordingEnabled() {
@@ -144,7 +122,7 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     }
 
     private boolean isExternalEventConfiguredForPosting(String eventType) {
-        return eventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(eventType).isEnabled();
+        return eventConfigurationCache.isEnabled(eventType);
     }
 
     private void throwExceptionIfBulkEvent(BusinessEvent<?> businessEvent) {
@@ -164,7 +142,7 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
         try {
             List<BusinessEvent<?>> recordedBusinessEvents = recordedEvents.get();
             if (isExternalEventPostingEnabled()) {
-                if (recordedBusinessEvents.isEmpty()) {
+                if (recordedBusinessEvents == null || recordedBusinessEvents.isEmpty()) {
                     log.debug("Not posting a BulkBusinessEvent since there were no events recorded");
                 } else {
                     if (recordedBusinessEvents.size() == 1) {
@@ -187,8 +165,23 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
         recordedEvents.remove();
     }
 
+    private void recordEvent(BusinessEvent<?> businessEvent) {
+        List<BusinessEvent<?>> events = recordedEvents.get();
+        if (events == null) {
+            events = new ArrayList<>();
+            recordedEvents.set(events);
+        }
+        events.add(businessEvent);
+    }
+
     private void storeTransactionalBusinessEvent(BusinessEvent<?> businessEvent) {
-        List<BusinessEventWithContext> businessEvents = transactionBusinessEvents.get().peek();
+        Stack<List<BusinessEventWithContext>> transactions = transactionBusinessEvents.get();
+        List<BusinessEventWithContext> businessEvents = transactions.peek();
+        if (businessEvents == null) {
+            // most transactions raise no external events, the list is only created for the ones which do
+            businessEvents = new ArrayList<>();
+            transactions.set(transactions.size() - 1, businessEvents);
+        }
         FineractContext fineractContext = ThreadLocalContextUtil.getContext();
         businessEvents.add(new BusinessEventWithContext(businessEvent, fineractContext));
     }
@@ -199,19 +192,21 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
 
     @Override
     public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
-        transactionBusinessEvents.get().push(new ArrayList<>());
+        transactionBusinessEvents.get().push(null);
     }
 
     @Override
     public void beforeCommit(TransactionExecution transaction) {
         List<BusinessEventWithContext> businessEventWithContexts = transactionBusinessEvents.get().peek();
-        if (!businessEventWithContexts.isEmpty()) {
+        if (businessEventWithContexts != null && !businessEventWithContexts.isEmpty()) {
             FineractContext originalContext = ThreadLocalContextUtil.getContext();
             try {
+                externalEventService.startBatch();
                 for (BusinessEventWithContext businessEventWithContext : businessEventWithContexts) {
                     ThreadLocalContextUtil.init(businessEventWithContext.getFineractContext());
                     externalEventService.postEvent(businessEventWithContext.getEvent());
                 }
+                externalEventService.writeBatch();
             } finally {
                 ThreadLocalContextUtil.init(originalContext);
             }
@@ -228,6 +223,36 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
         cleanup();
     }
 
+    /**
+     * The listeners registered per event class, with an index of the listeners matching each raised event class which is
+     * built on the first notification of that class. Registering a listener starts a new index.
+     */
+    private static final class BusinessEventListeners {
+
+        private final Map<Class, List<BusinessEventListener>> listeners = new HashMap<>();
+        private volatile Map<Class<?>, List<BusinessEventListener>> index = new ConcurrentHashMap<>();
+
+        private synchronized void add(Class<?> eventType, BusinessEventListener listener) {
+            listeners.computeIfAbsent(eventType, key -> new ArrayList<>()).add(listener);
+            index = new ConcurrentHashMap<>();
+        }
+
+        private List<BusinessEventListener> find(Class<?> eventClass) {
+            return index.computeIfAbsent(eventClass, this::findSuitableListeners);
+        }
+
+        private synchronized List<BusinessEventListener> findSuitableListeners(Class<?> eventClass) {
+            List<BusinessEventListener> result = new ArrayList<>();
+            for (Map.Entry<Class, List<BusinessEventListener>> entry : listeners.entrySet()) {
+                Class<?> registeredClass = entry.getKey();
+                if (registeredClass.isAssignableFrom(eventClass)) {
+                    result.addAll(entry.getValue());
+                }
+            }
+            return List.copyOf(result);
+        }
+    }
+
     @Getter
     @Setter
     private static final class BusinessEventWithContext {
@@ -39,6 +39,7 @@ import org.apache.fineract.infrastructure.event.external.producer.ExternalEventP
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventView;
+import org.apache.fineract.infrastructure.event.external.service.ExternalEventEnricher;
 import org.apache.fineract.infrastructure.event.external.service.message.MessageFactory;
 import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
 import org.springframework.batch.core.StepContribution;
@@ -60,11 +61,12 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
     private final MessageFactory messageFactory;
     private final ByteBufferConverter byteBufferConverter;
     private final ConfigurationDomainService configurationDomainService;
+    private final ExternalEventEnricher externalEventEnricher;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
         try {
-            if (isDownstreamChannelEnabled()) {
+            if (isDownstreamChannelEnabled() && !isRelayEnabled()) {
                 List<ExternalEventView> events = getQueuedEventsBatch();
                 log.debug("Queued events size: {}", events.size());
                 sendEvents(events);
@@ -80,9 +82,24 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
                 || fineractProperties.getEvents().getExternal().getProducer().getKafka().isEnabled();
     }
 
+    // the events are sent continuously by the relay then
+    private boolean isRelayEnabled() {
+        FineractProperties.FineractExternalEventsRelayProperties relay = fineractProperties.getEvents().getExternal().getRelay();
+        return relay != null && relay.isEnabled();
+    }
+
     private List<ExternalEventView> getQueuedEventsBatch() {
         int readBatchSize = getBatchSize();
         Pageable batchSize = PageRequest.ofSize(readBatchSize);
+        if (externalEventEnricher.isEnabled()) {
+            externalEventEnricher.enrichDeferredEvents();
+            // nothing raised after an event which is still to be enriched is sent, to keep the order of the events
+            return measure(
+                    () -> repository
+                            .findByStatusInOrderById(List.of(ExternalEventStatus.TO_BE_ENRICHED, ExternalEventStatus.TO_BE_SENT), batchSize)
+                            .stream().takeWhile(event -> event.getStatus() == ExternalEventStatus.TO_BE_SENT).toList(),
+                    (events, timeTaken) -> log.debug("Loaded {} events in {}ms", events.size(), timeTaken.toMillis()));
+        }
         return measure(() -> repository.findByStatusOrderById(ExternalEventStatus.TO_BE_SENT, batchSize),
                 (events, timeTaken) -> log.debug("Loaded {} events in {}ms", events.size(), timeTaken.toMillis()));
     }
@@ -134,6 +151,12 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
         try {
             List<byte[]> messages = new ArrayList<>();
             for (ExternalEventView event : events) {
+                if (event.getMessage() != null) {
+                    messages.add(messageFactory.toFramedMessage(event));
+                    log.trace("Pre-framed message to send with id: [{}], type: [{}], idempotency key: [{}]", event.getId(),
+                            event.getType(), event.getIdempotencyKey());
+                    continue;
+                }
                 MessageV1 message = messageFactory.createMessage(event);
                 ByteBuffer toByteBuffer = message.toByteBuffer();
                 byte[] convert = byteBufferConverter.convert(toByteBuffer);
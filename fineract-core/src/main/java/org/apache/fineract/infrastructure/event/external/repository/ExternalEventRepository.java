@@ -18,15 +18,18 @@
  */
 package org.apache.fineract.infrastructure.event.external.repository;
 
+import jakarta.persistence.LockModeType;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventView;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -35,6 +38,15 @@ public interface ExternalEventRepository extends JpaRepository<ExternalEvent, Lo
 
     List<ExternalEventView> findByStatusOrderById(ExternalEventStatus status, Pageable batchSize);
 
+    List<ExternalEventView> findByStatusInOrderById(List<ExternalEventStatus> statuses, Pageable batchSize);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from ExternalEvent e where e.id = :id")
+    Optional<ExternalEvent> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("select e.id from ExternalEvent e where e.status = :status order by e.id")
+    List<Long> findIdsByStatus(@Param("status") ExternalEventStatus status, Pageable batchSize);
+
     @Modifying(flushAutomatically = true)
     @Query("delete from ExternalEvent e where e.status = :status and e.businessDate <= :dateForPurgeCriteria")
     void deleteOlderEventsWithSentStatus(@Param("status") ExternalEventStatus status,
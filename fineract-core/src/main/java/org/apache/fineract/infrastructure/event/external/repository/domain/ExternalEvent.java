@@ -73,6 +73,17 @@ public class ExternalEvent extends AbstractPersistableCustom<Long> {
     @Column(name = "aggregate_root_id", nullable = true)
     private Long aggregateRootId;
 
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "message", nullable = true)
+    @Setter
+    private byte[] message;
+
+    @Column(name = "event_class", nullable = true)
+    private String eventClass;
+
+    @Column(name = "entity_id", nullable = true)
+    private Long entityId;
+
     public ExternalEvent(String type, String category, String schema, byte[] data, String idempotencyKey, Long aggregateRootId) {
         this.type = type;
         this.category = category;
@@ -84,4 +95,30 @@ public class ExternalEvent extends AbstractPersistableCustom<Long> {
         this.status = ExternalEventStatus.TO_BE_SENT;
         this.businessDate = DateUtils.getBusinessLocalDate();
     }
+
+    /**
+     * Creates an event which only records what happened to which entity, its payload is serialized later on by
+     * {@link #enrich(String, byte[])}.
+     */
+    public static ExternalEvent deferred(String type, String category, String idempotencyKey, Long aggregateRootId, String eventClass,
+            Long entityId) {
+        ExternalEvent event = new ExternalEvent(type, category, "", new byte[0], idempotencyKey, aggregateRootId);
+        event.status = ExternalEventStatus.TO_BE_ENRICHED;
+        event.eventClass = eventClass;
+        event.entityId = entityId;
+        return event;
+    }
+
+    public void enrich(String schema, byte[] data) {
+        this.schema = schema;
+        this.data = data;
+        this.status = ExternalEventStatus.TO_BE_SENT;
+    }
+
+    /**
+     * Parks an event whose payload can never be serialized, so it does not hold back the events raised after it.
+     */
+    public void enrichmentFailed() {
+        this.status = ExternalEventStatus.ENRICHMENT_FAILED;
+    }
 }
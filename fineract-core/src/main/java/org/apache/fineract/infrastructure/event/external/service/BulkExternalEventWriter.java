@@ -0,0 +1,118 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.service.TransactionBoundBuffer;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects the external events posted during a transaction and writes them with a single JDBC batch insert, in the
+ * order they were posted, instead of saving them one by one through the persistence context.
+ *
+ * The events still pending are written right before the transaction commits. The written events are not managed by
+ * the persistence context and do not get their generated ids set.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkExternalEventWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final TransactionBoundBuffer<PendingExternalEvents> pendingExternalEvents = new TransactionBoundBuffer<>(this,
+            TransactionBoundBuffer.EXTERNAL_EVENTS_ORDER, PendingExternalEvents::new, this::writePending);
+
+    public boolean isActive() {
+        return pendingExternalEvents.isActive();
+    }
+
+    /**
+     * Queues the event to be written when the current transaction commits.
+     *
+     * @return false when there is no active transaction to attach the event to, the caller has to save it then
+     */
+    public boolean add(final ExternalEvent externalEvent) {
+        if (!isActive()) {
+            return false;
+        }
+        pendingExternalEvents.getBuffer().getEvents().add(externalEvent);
+        return true;
+    }
+
+    /**
+     * Marks the start of a batch of events serialized without flushing the persistence context in between, the batch ends
+     * with the next {@link #flush()}.
+     */
+    public void startBatch() {
+        pendingExternalEvents.getBuffer().setBatchStarted(true);
+    }
+
+    public boolean isBatchStarted() {
+        final PendingExternalEvents pending = pendingExternalEvents.getBoundBuffer();
+        return pending != null && pending.isBatchStarted();
+    }
+
+    /**
+     * Writes the events queued in the current transaction so far.
+     */
+    public void flush() {
+        pendingExternalEvents.flush();
+    }
+
+    private void writePending(final PendingExternalEvents pending) {
+        pending.setBatchStarted(false);
+        if (!pending.getEvents().isEmpty()) {
+            final List<ExternalEvent> externalEvents = List.copyOf(pending.getEvents());
+            pending.getEvents().clear();
+            write(externalEvents);
+        }
+    }
+
+    private void write(final List<ExternalEvent> externalEvents) {
+        final String sql = "INSERT INTO m_external_event (type, category, " + sqlGenerator.escape("schema")
+                + ", data, created_at, status, idempotency_key, business_date, aggregate_root_id, message, event_class, entity_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        final List<Object[]> batchArgs = new ArrayList<>(externalEvents.size());
+        for (ExternalEvent externalEvent : externalEvents) {
+            batchArgs.add(new Object[] { externalEvent.getType(), externalEvent.getCategory(), externalEvent.getSchema(),
+                    externalEvent.getData(), externalEvent.getCreatedAt(), externalEvent.getStatus().name(),
+                    externalEvent.getIdempotencyKey(), externalEvent.getBusinessDate(), externalEvent.getAggregateRootId(),
+                    externalEvent.getMessage(), externalEvent.getEventClass(), externalEvent.getEntityId() });
+        }
+        jdbcTemplate.batchUpdate(sql, batchArgs);
+        log.debug("Written {} external events in one batch", externalEvents.size());
+    }
+
+    @Getter
+    private static final class PendingExternalEvents {
+
+        private final List<ExternalEvent> events = new ArrayList<>();
+        @Setter
+        private boolean batchStarted;
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.external.exception.BusinessEventNotRecreatableException;
+import org.springframework.data.domain.Persistable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Decides which business events are stored without their payload, and raises them again from the stored entity id when
+ * their payload is serialized by the {@link ExternalEventEnricher}.
+ * <p>
+ * Only the event types listed in fineract.events.external.deferred-event-types are deferred, and only if the event is
+ * about a single entity it can be raised again with, through a public constructor taking just that entity.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeferredBusinessEventFactory {
+
+    private final FineractProperties fineractProperties;
+    private final Map<Class<?>, Optional<Constructor<?>>> constructors = new ConcurrentHashMap<>();
+
+    private EntityManager entityManager;
+
+    public boolean isDeferred(BusinessEvent<?> event) {
+        List<String> deferredEventTypes = getDeferredEventTypes();
+        return !deferredEventTypes.isEmpty() && !(event instanceof BulkBusinessEvent) && deferredEventTypes.contains(event.getType())
+                && event.get() instanceof Persistable<?> && getConstructor(event.getClass()).isPresent();
+    }
+
+    public boolean isEnabled() {
+        return !getDeferredEventTypes().isEmpty();
+    }
+
+    /**
+     * @return the id of the entity the event is about, <code>null</code> when it is not stored yet
+     */
+    public Long getEntityId(BusinessEvent<?> event) {
+        return (Long) ((Persistable<?>) event.get()).getId();
+    }
+
+    /**
+     * Raises the event again from the current state of its entity.
+     *
+     * @throws BusinessEventNotRecreatableException
+     *             if the event can never be raised again: its class or its entity is gone
+     */
+    public BusinessEvent<?> recreate(String eventClassName, Long entityId) {
+        Class<?> eventClass;
+        try {
+            eventClass = ClassUtils.forName(eventClassName, getClass().getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new BusinessEventNotRecreatableException("Business event " + eventClassName + " does not exist anymore", e);
+        }
+        Constructor<?> constructor = getConstructor(eventClass).orElseThrow(
+                () -> new BusinessEventNotRecreatableException("Business event " + eventClassName + " cannot be raised again"));
+        Object entity = entityManager.find(constructor.getParameterTypes()[0], entityId);
+        if (entity == null) {
+            throw new BusinessEventNotRecreatableException(
+                    "Entity " + entityId + " of business event " + eventClassName + " does not exist anymore");
+        }
+        try {
+            return (BusinessEvent<?>) constructor.newInstance(entity);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Business event " + eventClassName + " cannot be raised again", e);
+        }
+    }
+
+    private Optional<Constructor<?>> getConstructor(Class<?> eventClass) {
+        return constructors.computeIfAbsent(eventClass, key -> Arrays.stream(key.getConstructors())
+                .filter(constructor -> constructor.getParameterCount() == 1)
+                .filter(constructor -> constructor.getParameterTypes()[0].isAnnotationPresent(Entity.class)).findFirst());
+    }
+
+    private List<String> getDeferredEventTypes() {
+        FineractProperties.FineractEventsProperties events = fineractProperties.getEvents();
+        if (events == null || events.getExternal() == null || events.getExternal().getDeferredEventTypes() == null) {
+            return List.of();
+        }
+        return events.getExternal().getDeferredEventTypes();
+    }
+
+    @PersistenceContext
+    public void setEntityManager(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationChannel;
+import org.apache.fineract.infrastructure.cache.service.TenantCacheInvalidator;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.external.exception.ExternalEventConfigurationNotFoundException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per tenant snapshot of the external event configuration, read with a single query and kept until the configuration
+ * is changed through {@link ExternalEventConfigurationWritePlatformService}.
+ * <p>
+ * The snapshot of a tenant is dropped by {@link #invalidate()} right away and once the running transaction completes,
+ * and the other nodes are told over the {@link CacheInvalidationChannel} to drop theirs.
+ */
+@Component
+public class ExternalEventConfigurationCache {
+
+    public static final String CACHE_NAME = "externalEventConfiguration";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TenantCacheInvalidator invalidator;
+    private final Map<String, Map<String, Boolean>> configurations = new ConcurrentHashMap<>();
+
+    public ExternalEventConfigurationCache(final JdbcTemplate jdbcTemplate, final CacheInvalidationChannel invalidationChannel) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.invalidator = new TenantCacheInvalidator(CACHE_NAME, invalidationChannel, configurations::remove);
+    }
+
+    /**
+     * Tells whether the external event type is enabled for the current tenant.
+     *
+     * @throws ExternalEventConfigurationNotFoundException
+     *             when the event type is not configured
+     */
+    public boolean isEnabled(final String eventType) {
+        final Boolean enabled = configurations.computeIfAbsent(ThreadLocalContextUtil.getTenant().getTenantIdentifier(), key -> load())
+                .get(eventType);
+        if (enabled == null) {
+            throw new ExternalEventConfigurationNotFoundException(eventType);
+        }
+        return enabled;
+    }
+
+    /**
+     * Drops the snapshot of the current tenant, meant to be called when the external event configuration changes.
+     */
+    public void invalidate() {
+        invalidator.invalidate();
+    }
+
+    private Map<String, Boolean> load() {
+        final Map<String, Boolean> configuration = new HashMap<>();
+        jdbcTemplate.query("select type, enabled from m_external_event_configuration",
+                rs -> {
+                    configuration.put(rs.getString("type"), rs.getBoolean("enabled"));
+                });
+        return Map.copyOf(configuration);
+    }
+}
@@ -39,6 +39,7 @@ public class ExternalEventConfigurationWritePlatformServiceImpl implements Exter
 
     private final ExternalEventConfigurationRepository repository;
     private final ExternalEventConfigurationCommandFromApiJsonDeserializer fromApiJsonDeserializer;
+    private final ExternalEventConfigurationCache externalEventConfigurationCache;
 
     @Transactional
     @Override
@@ -59,6 +60,7 @@ public class ExternalEventConfigurationWritePlatformServiceImpl implements Exter
 
         if (!modifiedConfigurations.isEmpty()) {
             this.repository.saveAll(modifiedConfigurations);
+            this.externalEventConfigurationCache.invalidate();
         }
 
         if (!changedConfigurations.isEmpty()) {
@@ -0,0 +1,127 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.external.exception.BusinessEventNotRecreatableException;
+import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Serializes the payload of the external events whose serialization was deferred by the {@link ExternalEventService},
+ * once the business transaction raising them has committed. Every event is enriched in a transaction of its own, in the
+ * order they were raised. The senders do not send anything raised after an event which is still to be enriched, so the
+ * order of the events of an aggregate is kept.
+ * <p>
+ * An event which can never be enriched, e.g. because its entity was deleted meanwhile, is parked with
+ * {@link ExternalEventStatus#ENRICHMENT_FAILED} so it does not hold back the events raised after it for good.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExternalEventEnricher {
+
+    private final ExternalEventRepository repository;
+    private final ExternalEventService externalEventService;
+    private final DeferredBusinessEventFactory deferredBusinessEventFactory;
+    private final ConfigurationDomainService configurationDomainService;
+    private final PlatformTransactionManager transactionManager;
+
+    public boolean isEnabled() {
+        return deferredBusinessEventFactory.isEnabled();
+    }
+
+    /**
+     * Enriches the next batch of deferred events of the current tenant. Events which can never be enriched are parked and
+     * skipped, otherwise it stops at the first event which cannot be enriched, it is retried by the next run.
+     *
+     * @return the number of events enriched
+     */
+    public int enrichDeferredEvents() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        int batchSize = configurationDomainService.retrieveExternalEventBatchSize().intValue();
+        List<Long> eventIds = transactionTemplate
+                .execute(status -> repository.findIdsByStatus(ExternalEventStatus.TO_BE_ENRICHED, PageRequest.ofSize(batchSize)));
+        int enriched = 0;
+        for (Long eventId : eventIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> enrich(eventId));
+                enriched++;
+            } catch (BusinessEventNotRecreatableException e) {
+                log.error("External event {} can never be enriched, it is parked as {}", eventId, ExternalEventStatus.ENRICHMENT_FAILED, e);
+                transactionTemplate.executeWithoutResult(status -> enrichmentFailed(eventId));
+            } catch (RuntimeException e) {
+                log.error("External event {} could not be enriched, the events raised after it are held back", eventId, e);
+                break;
+            }
+        }
+        return enriched;
+    }
+
+    private void enrich(Long eventId) {
+        ExternalEvent externalEvent = repository.findByIdForUpdate(eventId).orElse(null);
+        if (externalEvent == null || externalEvent.getStatus() != ExternalEventStatus.TO_BE_ENRICHED) {
+            // enriched by another node or worker meanwhile
+            return;
+        }
+        HashMap<BusinessDateType, LocalDate> originalBusinessDates = getBusinessDates();
+        try {
+            // the payload is built as of the business date the event was raised on
+            LocalDate businessDate = externalEvent.getBusinessDate();
+            ThreadLocalContextUtil.setBusinessDates(new HashMap<>(
+                    Map.of(BusinessDateType.BUSINESS_DATE, businessDate, BusinessDateType.COB_DATE, businessDate.minusDays(1))));
+            BusinessEvent<?> event = deferredBusinessEventFactory.recreate(externalEvent.getEventClass(), externalEvent.getEntityId());
+            externalEventService.enrich(externalEvent, event);
+        } finally {
+            if (originalBusinessDates != null) {
+                ThreadLocalContextUtil.setBusinessDates(originalBusinessDates);
+            }
+        }
+    }
+
+    private void enrichmentFailed(Long eventId) {
+        repository.findByIdForUpdate(eventId).filter(externalEvent -> externalEvent.getStatus() == ExternalEventStatus.TO_BE_ENRICHED)
+                .ifPresent(ExternalEvent::enrichmentFailed);
+    }
+
+    private HashMap<BusinessDateType, LocalDate> getBusinessDates() {
+        try {
+            return ThreadLocalContextUtil.getBusinessDates();
+        } catch (IllegalArgumentException e) {
+            // not initialised on the threads of the external event relay
+            return null;
+        }
+    }
+}
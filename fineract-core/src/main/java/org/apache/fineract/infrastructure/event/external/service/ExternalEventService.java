@@ -29,13 +29,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.avro.BulkMessageItemV1;
 import org.apache.fineract.avro.BulkMessagePayloadV1;
 import org.apache.fineract.avro.generator.ByteBufferSerializable;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.DataEnricherProcessor;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
 import org.apache.fineract.infrastructure.event.external.service.idempotency.ExternalEventIdempotencyKeyGenerator;
 import org.apache.fineract.infrastructure.event.external.service.message.BulkMessageItemFactory;
+import org.apache.fineract.infrastructure.event.external.service.message.MessageFactory;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializer;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializerFactory;
 import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
@@ -54,6 +57,10 @@ public class ExternalEventService {
     private final ByteBufferConverter byteBufferConverter;
     private final BulkMessageItemFactory bulkMessageItemFactory;
     private final DataEnricherProcessor dataEnricherProcessor;
+    private final MessageFactory messageFactory;
+    private final FineractProperties fineractProperties;
+    private final DeferredBusinessEventFactory deferredBusinessEventFactory;
+    private final BulkExternalEventWriter bulkExternalEventWriter;
 
     private EntityManager entityManager;
 
@@ -63,14 +70,23 @@ public class ExternalEventService {
         }
 
         try {
-            flushChangesBeforeSerialization();
+            boolean batchStarted = isBatchWriteEnabled() && bulkExternalEventWriter.isBatchStarted();
             ExternalEvent externalEvent;
             if (event instanceof BulkBusinessEvent) {
+                flushChangesBeforeSerialization(batchStarted);
                 externalEvent = handleBulkBusinessEvent((BulkBusinessEvent) event);
+            } else if (deferredBusinessEventFactory.isDeferred(event)) {
+                externalEvent = handleDeferredBusinessEvent(event, batchStarted);
             } else {
+                flushChangesBeforeSerialization(batchStarted);
                 externalEvent = handleRegularBusinessEvent(event);
             }
-            repository.save(externalEvent);
+            if (isPreFramedMessagesEnabled() && externalEvent.getStatus() == ExternalEventStatus.TO_BE_SENT) {
+                externalEvent.setMessage(messageFactory.createPreFramedMessage(externalEvent));
+            }
+            if (!isBatchWriteEnabled() || !bulkExternalEventWriter.add(externalEvent)) {
+                repository.save(externalEvent);
+            }
             log.debug("Saved message with idempotency key: [{}] of type [{}] and category [{}]", externalEvent.getIdempotencyKey(),
                     externalEvent.getType(), externalEvent.getCategory());
         } catch (IOException e) {
@@ -79,6 +95,28 @@ public class ExternalEventService {
 
     }
 
+    /**
+     * Starts a batch of events posted one after the other, with no changes to the persisted entities in between, e.g. the
+     * events posted right before the transaction raising them commits. The persistence context is flushed once here
+     * instead of before serializing each of the events, and the events are written with one JDBC batch insert by
+     * {@link #writeBatch()}. Does nothing unless fineract.events.external.batch-write-enabled is set.
+     */
+    public void startBatch() {
+        if (isBatchWriteEnabled() && bulkExternalEventWriter.isActive()) {
+            entityManager.flush();
+            bulkExternalEventWriter.startBatch();
+        }
+    }
+
+    /**
+     * Writes the events posted in the current transaction so far and ends the batch started by {@link #startBatch()}.
+     */
+    public void writeBatch() {
+        if (isBatchWriteEnabled()) {
+            bulkExternalEventWriter.flush();
+        }
+    }
+
     private ExternalEvent handleBulkBusinessEvent(BulkBusinessEvent bulkBusinessEvent) throws IOException {
         List<BulkMessageItemV1> messages = new ArrayList<>();
         List<BusinessEvent<?>> events = bulkBusinessEvent.get();
@@ -96,22 +134,68 @@ public class ExternalEventService {
                 idempotencyKey, bulkBusinessEvent.getAggregateRootId());
     }
 
+    /**
+     * Serializes the payload of an event stored with {@link ExternalEventStatus#TO_BE_ENRICHED} status, from the business
+     * event raised again for it.
+     */
+    public <T> void enrich(ExternalEvent externalEvent, BusinessEvent<T> event) {
+        try {
+            BusinessEventSerializer serializer = serializerFactory.create(event);
+            externalEvent.enrich(serializer.getSupportedSchema().getName(), serialize(serializer, event));
+            if (isPreFramedMessagesEnabled()) {
+                externalEvent.setMessage(messageFactory.createPreFramedMessage(externalEvent));
+            }
+            log.debug("Enriched message with idempotency key: [{}] of type [{}] and category [{}]", externalEvent.getIdempotencyKey(),
+                    externalEvent.getType(), externalEvent.getCategory());
+        } catch (IOException e) {
+            throw new RuntimeException("Error while serializing event " + event.getClass().getSimpleName(), e);
+        }
+    }
+
     private <T> ExternalEvent handleRegularBusinessEvent(BusinessEvent<T> event) throws IOException {
         String eventType = event.getType();
         String eventCategory = event.getCategory();
         String idempotencyKey = idempotencyKeyGenerator.generate(event);
         BusinessEventSerializer serializer = serializerFactory.create(event);
         String schema = serializer.getSupportedSchema().getName();
-        ByteBufferSerializable avroDto = dataEnricherProcessor.enrich(serializer.toAvroDTO(event));
-        ByteBuffer buffer = avroDto.toByteBuffer();
-        byte[] data = byteBufferConverter.convert(buffer);
+        byte[] data = serialize(serializer, event);
         Long aggregateRootId = event.getAggregateRootId();
 
         return new ExternalEvent(eventType, eventCategory, schema, data, idempotencyKey, aggregateRootId);
     }
 
-    private void flushChangesBeforeSerialization() {
-        entityManager.flush();
+    // only what happened to which entity is recorded, the payload is serialized by the ExternalEventEnricher after commit
+    private <T> ExternalEvent handleDeferredBusinessEvent(BusinessEvent<T> event, boolean batchStarted) {
+        Long entityId = deferredBusinessEventFactory.getEntityId(event);
+        if (entityId == null) {
+            flushChangesBeforeSerialization(batchStarted);
+            entityId = deferredBusinessEventFactory.getEntityId(event);
+        }
+        return ExternalEvent.deferred(event.getType(), event.getCategory(), idempotencyKeyGenerator.generate(event),
+                event.getAggregateRootId(), event.getClass().getName(), entityId);
+    }
+
+    private <T> byte[] serialize(BusinessEventSerializer serializer, BusinessEvent<T> event) throws IOException {
+        ByteBufferSerializable avroDto = dataEnricherProcessor.enrich(serializer.toAvroDTO(event));
+        ByteBuffer buffer = avroDto.toByteBuffer();
+        return byteBufferConverter.convert(buffer);
+    }
+
+    private boolean isPreFramedMessagesEnabled() {
+        FineractProperties.FineractEventsProperties events = fineractProperties.getEvents();
+        return events != null && events.getExternal() != null && events.getExternal().isPreFramedMessagesEnabled();
+    }
+
+    private boolean isBatchWriteEnabled() {
+        FineractProperties.FineractEventsProperties events = fineractProperties.getEvents();
+        return events != null && events.getExternal() != null && events.getExternal().isBatchWriteEnabled();
+    }
+
+    private void flushChangesBeforeSerialization(boolean batchStarted) {
+        // within a batch the persistence context was flushed when it started, nothing changed since then
+        if (!batchStarted) {
+            entityManager.flush();
+        }
     }
 
     @PersistenceContext
@@ -20,17 +20,21 @@ package org.apache.fineract.infrastructure.event.external.service.message;
 
 import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.io.BinaryData;
 import org.apache.fineract.avro.MessageV1;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventView;
 import org.apache.fineract.infrastructure.event.external.service.message.domain.MessageBusinessDate;
 import org.apache.fineract.infrastructure.event.external.service.message.domain.MessageCategory;
@@ -52,6 +56,8 @@ public class MessageFactory implements InitializingBean {
 
     public static final DateTimeFormatter CUSTOM_ISO_LOCAL_DATE_TIME_FORMATTER;
     private static final String SOURCE_UUID = UUID.randomUUID().toString();
+    // two marker bytes followed by the 8 byte schema fingerprint
+    private static final int SINGLE_OBJECT_HEADER_LENGTH = 10;
 
     private static final DateTimeFormatter CUSTOM_ISO_LOCAL_TIME_FORMATTER;
 
@@ -95,6 +101,45 @@ public class MessageFactory implements InitializingBean {
         return createMessage(id, source, type, category, createdAt, businessDate, idempotencyKey, dataSchema, data);
     }
 
+    /**
+     * Creates the complete wire format of the message of an event that is not stored yet, so the senders do not have to
+     * encode it again. As the id of the event is not known at this point, the message is encoded with id 0, to be
+     * replaced by {@link #toFramedMessage(ExternalEventView)}.
+     */
+    public byte[] createPreFramedMessage(ExternalEvent event) throws IOException {
+        MessageId id = new MessageId(0);
+        MessageSource source = new MessageSource(SOURCE_UUID);
+        MessageType type = new MessageType(event.getType());
+        MessageCategory category = new MessageCategory(event.getCategory());
+        // the column keeps microseconds only, the message read back from it would be formatted the same way
+        MessageCreatedAt createdAt = new MessageCreatedAt(event.getCreatedAt().truncatedTo(ChronoUnit.MICROS));
+        MessageBusinessDate businessDate = new MessageBusinessDate(event.getBusinessDate());
+        MessageIdempotencyKey idempotencyKey = new MessageIdempotencyKey(event.getIdempotencyKey());
+        MessageDataSchema dataSchema = new MessageDataSchema(event.getSchema());
+        MessageData data = new MessageData(byteBufferConverter.convert(event.getData()));
+        MessageV1 message = createMessage(id, source, type, category, createdAt, businessDate, idempotencyKey, dataSchema, data);
+        return byteBufferConverter.convert(message.toByteBuffer());
+    }
+
+    /**
+     * Completes the pre-framed message of the stored event with its id. The id is the first field of the message, so it
+     * is a matter of replacing the single zero byte following the single object encoding header.
+     */
+    public byte[] toFramedMessage(ExternalEventView event) {
+        byte[] preFramedMessage = event.getMessage();
+        if (preFramedMessage.length <= SINGLE_OBJECT_HEADER_LENGTH || preFramedMessage[SINGLE_OBJECT_HEADER_LENGTH] != 0) {
+            throw new IllegalStateException("Pre-framed message of event " + event.getId() + " is malformed");
+        }
+        byte[] id = new byte[5];
+        int idLength = BinaryData.encodeInt(event.getId().intValue(), id, 0);
+        byte[] message = new byte[preFramedMessage.length - 1 + idLength];
+        System.arraycopy(preFramedMessage, 0, message, 0, SINGLE_OBJECT_HEADER_LENGTH);
+        System.arraycopy(id, 0, message, SINGLE_OBJECT_HEADER_LENGTH, idLength);
+        System.arraycopy(preFramedMessage, SINGLE_OBJECT_HEADER_LENGTH + 1, message, SINGLE_OBJECT_HEADER_LENGTH + idLength,
+                preFramedMessage.length - SINGLE_OBJECT_HEADER_LENGTH - 1);
+        return message;
+    }
+
     private String getTenantId() {
         return ThreadLocalContextUtil.getTenant().getTenantIdentifier();
     }
@@ -58,6 +58,10 @@ public enum JobName {
     PURGE_EXTERNAL_EVENTS("Purge External Events"), //
     PURGE_PROCESSED_COMMANDS("Purge Processed Commands"), //
     ACCRUAL_ACTIVITY_POSTING("Accrual Activity Posting"), //
+    SAVINGS_COB("Savings COB"), //
+    APPLY_SAVINGS_PENDING_CREDITS("Apply Savings Pending Credits"), //
+    UPDATE_GL_DAILY_BALANCES("Update GL Daily Balances"), //
+    REBUILD_SEARCH_INDEX("Rebuild Search Index"), //
     ;
 
     private final String name;
@@ -192,6 +192,9 @@ public class SavingsApiConstants {
     public static final String daysToDormancyParamName = "daysToDormancy";
     public static final String daysToEscheatParamName = "daysToEscheat";
 
+    // Savings high volume (staged credits)
+    public static final String highVolumeParamName = "highVolume";
+
     public static final String datatables = "datatables";
 
     public static final String gsimApplicationId = "applicationId";
@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.domain.LocalDateInterval;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
@@ -31,6 +32,7 @@ import org.apache.fineract.organisation.monetary.domain.Money;
 import org.apache.fineract.portfolio.account.service.AccountTransfersReadPlatformService;
 import org.apache.fineract.portfolio.savings.SavingsPostingInterestPeriodType;
 import org.apache.fineract.portfolio.savings.domain.interest.CompoundInterestHelper;
+import org.apache.fineract.portfolio.savings.domain.interest.CompoundInterestValues;
 import org.apache.fineract.portfolio.savings.domain.interest.PostingPeriod;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -39,10 +41,13 @@ import org.springframework.stereotype.Service;
 public final class SavingsHelper {
 
     private final AccountTransfersReadPlatformService accountTransfersReadPlatformService;
+    private final ConfigurationDomainService configurationDomainService;
 
     @Autowired
-    public SavingsHelper(AccountTransfersReadPlatformService accountTransfersReadPlatformService) {
+    public SavingsHelper(AccountTransfersReadPlatformService accountTransfersReadPlatformService,
+            ConfigurationDomainService configurationDomainService) {
         this.accountTransfersReadPlatformService = accountTransfersReadPlatformService;
+        this.configurationDomainService = configurationDomainService;
     }
 
     private static final CompoundInterestHelper COMPOUND_INTEREST_HELPER = new CompoundInterestHelper();
@@ -172,6 +177,16 @@ public final class SavingsHelper {
                 immediateWithdrawalOfInterest);
     }
 
+    public Money calculateInterestForPostingPeriods(final MonetaryCurrency currency, final List<PostingPeriod> periods,
+            LocalDate accountLockedUntil, Boolean immediateWithdrawalOfInterest, final CompoundInterestValues compoundInterestValues) {
+        return COMPOUND_INTEREST_HELPER.calculateInterestForPostingPeriods(currency, periods, accountLockedUntil,
+                immediateWithdrawalOfInterest, compoundInterestValues);
+    }
+
+    public boolean isIncrementalInterestCalculationEnabled() {
+        return this.configurationDomainService != null && this.configurationDomainService.isSavingsIncrementalInterestCalculationEnabled();
+    }
+
     public Collection<Long> fetchPostInterestTransactionIds(Long accountId) {
         return this.accountTransfersReadPlatformService.fetchPostInterestTransactionIds(accountId);
     }
@@ -41,14 +41,25 @@ public class CompoundInterestHelper {
     public Money calculateInterestForAllPostingPeriods(final MonetaryCurrency currency, final List<PostingPeriod> allPeriods,
             LocalDate lockUntil, Boolean interestTransferEnabled) {
 
-        // sum up the 'rounded' values that are posted each posting period
-        Money interestEarned = Money.zero(currency);
-
         // total interest earned in previous periods but not yet recognised
         BigDecimal compoundedInterest = BigDecimal.ZERO;
         BigDecimal unCompoundedInterest = BigDecimal.ZERO;
         final CompoundInterestValues compoundInterestValues = new CompoundInterestValues(compoundedInterest, unCompoundedInterest);
-        for (final PostingPeriod postingPeriod : allPeriods) {
+        return calculateInterestForPostingPeriods(currency, allPeriods, lockUntil, interestTransferEnabled, compoundInterestValues);
+    }
+
+    /**
+     * Calculates the interest of the given posting periods starting from the compounding state carried over from the
+     * preceding periods. The passed {@link CompoundInterestValues} is updated so that it can be carried over to the
+     * next posting periods.
+     */
+    public Money calculateInterestForPostingPeriods(final MonetaryCurrency currency, final List<PostingPeriod> periods, LocalDate lockUntil,
+            Boolean interestTransferEnabled, final CompoundInterestValues compoundInterestValues) {
+
+        // sum up the 'rounded' values that are posted each posting period
+        Money interestEarned = Money.zero(currency);
+
+        for (final PostingPeriod postingPeriod : periods) {
 
             final BigDecimal interestEarnedThisPeriod = postingPeriod.calculateInterest(compoundInterestValues);
 
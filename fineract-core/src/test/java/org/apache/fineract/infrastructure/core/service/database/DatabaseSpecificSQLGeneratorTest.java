@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.infrastructure.core.service.database;
 
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -61,4 +62,21 @@ public class DatabaseSpecificSQLGeneratorTest {
         String countQuery = databaseSpecificSQLGenerator.countQueryResult(sql);
         Assertions.assertEquals("SELECT COUNT(*) FROM (SELECT 1 FROM test_table WHERE asd=2) AS temp", countQuery);
     }
+
+    @Test
+    public void testBuildInsertOrIncrementOnMySQL() {
+        Mockito.when(databaseTypeResolver.isMySQL()).thenReturn(true);
+        String sql = databaseSpecificSQLGenerator.buildInsertOrIncrement("test_table", List.of("k1", "k2"), List.of("v1", "v2"));
+        Assertions.assertEquals("INSERT INTO test_table (k1, k2, v1, v2) VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE v1 = v1 + VALUES(v1), "
+                + "v2 = v2 + VALUES(v2)", sql);
+    }
+
+    @Test
+    public void testBuildInsertOrIncrementOnPostgreSQL() {
+        Mockito.when(databaseTypeResolver.isPostgreSQL()).thenReturn(true);
+        String sql = databaseSpecificSQLGenerator.buildInsertOrIncrement("test_table", List.of("k1", "k2"), List.of("v1"));
+        Assertions.assertEquals(
+                "INSERT INTO test_table (k1, k2, v1) VALUES (?, ?, ?) ON CONFLICT (k1, k2) DO UPDATE SET v1 = test_table.v1 + EXCLUDED.v1",
+                sql);
+    }
 }
@@ -33,6 +33,7 @@ import org.apache.fineract.accounting.journalentry.domain.JournalEntryRepository
 import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
 import org.apache.fineract.accounting.journalentry.exception.JournalEntryInvalidException;
 import org.apache.fineract.accounting.journalentry.exception.JournalEntryInvalidException.GlJournalEntryInvalidReason;
+import org.apache.fineract.accounting.journalentry.service.GLDailyBalanceWriter;
 import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMapping;
 import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMappingRepository;
 import org.apache.fineract.accounting.producttoaccountmapping.exception.ProductToGLAccountMappingNotFoundException;
@@ -51,6 +52,7 @@ public class InvestorAccountingHelper {
     private final ProductToGLAccountMappingRepository accountMappingRepository;
     private final FinancialActivityAccountRepositoryWrapper financialActivityAccountRepository;
     private final GLClosureRepository closureRepository;
+    private final GLDailyBalanceWriter glDailyBalanceWriter;
 
     /**
      * @param officeId
@@ -97,7 +99,7 @@ public class InvestorAccountingHelper {
         final JournalEntry journalEntry = JournalEntry.createNew(office, null, account, currencyCode, modifiedTransactionId, manualEntry,
                 transactionDate, JournalEntryType.CREDIT, amount, null, PortfolioProductType.LOAN.getValue(), loanId, null, null, null,
                 null, null);
-        return this.glJournalEntryRepository.saveAndFlush(journalEntry);
+        return persistJournalEntry(journalEntry);
     }
 
     private JournalEntry createDebitJournalEntryForInvestor(final Office office, final String currencyCode, final GLAccount account,
@@ -108,7 +110,13 @@ public class InvestorAccountingHelper {
         final JournalEntry journalEntry = JournalEntry.createNew(office, null, account, currencyCode, modifiedTransactionId, manualEntry,
                 transactionDate, JournalEntryType.DEBIT, amount, null, PortfolioProductType.LOAN.getValue(), loanId, null, null, null, null,
                 null);
-        return this.glJournalEntryRepository.saveAndFlush(journalEntry);
+        return persistJournalEntry(journalEntry);
+    }
+
+    private JournalEntry persistJournalEntry(final JournalEntry journalEntry) {
+        final JournalEntry savedJournalEntry = this.glJournalEntryRepository.saveAndFlush(journalEntry);
+        this.glDailyBalanceWriter.add(savedJournalEntry);
+        return savedJournalEntry;
     }
 
     public GLAccount getLinkedGLAccountForLoanProduct(final Long loanProductId, final int accountMappingTypeId) {
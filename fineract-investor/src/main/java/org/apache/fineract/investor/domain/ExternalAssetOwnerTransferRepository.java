@@ -22,6 +22,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.investor.data.ExternalTransferStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -51,6 +52,10 @@ public interface ExternalAssetOwnerTransferRepository
     List<ExternalAssetOwnerTransfer> findEffectiveTransfersOrderByIdDesc(@Param("loanId") Long loanId,
             @Param("effectiveDate") LocalDate effectiveDate);
 
+    @Query("select count(e) > 0 from ExternalAssetOwnerTransfer e where e.loanId = :loanId and e.status in :statuses and e.effectiveDateTo = :effectiveDateTo")
+    boolean existsOpenTransfer(@Param("loanId") Long loanId, @Param("statuses") List<ExternalTransferStatus> statuses,
+            @Param("effectiveDateTo") LocalDate effectiveDateTo);
+
     Optional<ExternalAssetOwnerTransfer> findFirstByExternalIdOrderByIdAsc(ExternalId externalTransferId);
 
     @Query("select max(e.id) from ExternalAssetOwnerTransfer e where e.externalId = :externalTransferId")
@@ -0,0 +1,51 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.investor.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.accounting.journalentry.service.ImmediateLoanJournalEntryPolicy;
+import org.apache.fineract.investor.config.InvestorModuleIsEnabledCondition;
+import org.apache.fineract.investor.data.ExternalTransferStatus;
+import org.apache.fineract.investor.domain.ExternalAssetOwnerTransferRepository;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores the journal entries of loans with an active or pending owner transfer as soon as they are created, so
+ * {@link ExternalAssetOwnerJournalEntryServiceImpl} maps them to the owner the loan had when they were booked and not to
+ * the one it has after the sale or buyback of the Loan COB in the same transaction.
+ */
+@Component
+@RequiredArgsConstructor
+@Conditional(InvestorModuleIsEnabledCondition.class)
+public class ExternalAssetOwnerImmediateJournalEntryPolicy implements ImmediateLoanJournalEntryPolicy {
+
+    private static final LocalDate FUTURE_DATE_9999_12_31 = LocalDate.of(9999, 12, 31);
+    private static final List<ExternalTransferStatus> OPEN_STATUSES = List.of(ExternalTransferStatus.PENDING,
+            ExternalTransferStatus.BUYBACK, ExternalTransferStatus.ACTIVE);
+
+    private final ExternalAssetOwnerTransferRepository externalAssetOwnerTransferRepository;
+
+    @Override
+    public boolean isWrittenImmediately(final Long loanId) {
+        return externalAssetOwnerTransferRepository.existsOpenTransfer(loanId, OPEN_STATUSES, FUTURE_DATE_9999_12_31);
+    }
+}
@@ -22,6 +22,7 @@ import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntryRepository;
 import org.apache.fineract.infrastructure.event.business.domain.journalentry.LoanJournalEntryCreatedBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.investor.config.InvestorModuleIsEnabledCondition;
@@ -42,6 +43,7 @@ public class ExternalAssetOwnerJournalEntryServiceImpl implements ExternalAssetO
     private final ExternalAssetOwnerJournalEntryMappingRepository externalAssetOwnerJournalEntryMappingRepository;
     private final ExternalAssetOwnerTransferLoanMappingRepository externalAssetOwnerTransferLoanMappingRepository;
     private final LoanTransactionRepository loanTransactionRepository;
+    private final JournalEntryRepository journalEntryRepository;
 
     @PostConstruct
     public void addListeners() {
@@ -52,7 +54,8 @@ public class ExternalAssetOwnerJournalEntryServiceImpl implements ExternalAssetO
 
             externalAssetOwnerTransferLoanMappingRepository.findByLoanId(loanId).ifPresent(transferLoanMapping -> {
                 ExternalAssetOwnerJournalEntryMapping mapping = new ExternalAssetOwnerJournalEntryMapping();
-                mapping.setJournalEntry(journalEntry);
+                // loan journal entries are written in bulk outside the persistence context
+                mapping.setJournalEntry(journalEntryRepository.getReferenceById(journalEntry.getId()));
                 mapping.setOwner(transferLoanMapping.getOwnerTransfer().getOwner());
                 externalAssetOwnerJournalEntryMappingRepository.saveAndFlush(mapping);
             });
@@ -0,0 +1,56 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.jobs.updategldailybalances;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.accounting.journalentry.service.GLDailyBalanceService;
+import org.springframework.batch.core.JobParameter;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+/**
+ * Backfills the daily GL balances one batch per transaction. When the job is run with the <code>verify</code>
+ * parameter set to <code>true</code>, the daily balances are cross-checked against the ledger once the backfill is
+ * complete.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class UpdateGLDailyBalancesTasklet implements Tasklet {
+
+    public static final String VERIFY_PARAMETER = "verify";
+
+    private final GLDailyBalanceService glDailyBalanceService;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        if (glDailyBalanceService.backfill()) {
+            return RepeatStatus.CONTINUABLE;
+        }
+        final JobParameter<?> verify = chunkContext.getStepContext().getStepExecution().getJobParameters().getParameters()
+                .get(VERIFY_PARAMETER);
+        if (verify != null && Boolean.parseBoolean(String.valueOf(verify.getValue()))) {
+            final int mismatches = glDailyBalanceService.verify();
+            log.info("Verified daily GL balances against the ledger, {} office, GL account and currency combinations rebuilt", mismatches);
+        }
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -35,8 +35,6 @@ import org.apache.fineract.accounting.common.AccountingConstants.CashAccountsFor
 import org.apache.fineract.accounting.common.AccountingConstants.CashAccountsForSavings;
 import org.apache.fineract.accounting.common.AccountingConstants.CashAccountsForShares;
 import org.apache.fineract.accounting.common.AccountingConstants.FinancialActivity;
-import org.apache.fineract.accounting.financialactivityaccount.domain.FinancialActivityAccount;
-import org.apache.fineract.accounting.financialactivityaccount.domain.FinancialActivityAccountRepositoryWrapper;
 import org.apache.fineract.accounting.glaccount.domain.GLAccount;
 import org.apache.fineract.accounting.glaccount.domain.GLAccountRepository;
 import org.apache.fineract.accounting.journalentry.data.ChargePaymentDTO;
@@ -54,8 +52,6 @@ import org.apache.fineract.accounting.journalentry.domain.JournalEntryRepository
 import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
 import org.apache.fineract.accounting.journalentry.exception.JournalEntryInvalidException;
 import org.apache.fineract.accounting.journalentry.exception.JournalEntryInvalidException.GlJournalEntryInvalidReason;
-import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMapping;
-import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMappingRepository;
 import org.apache.fineract.accounting.producttoaccountmapping.exception.ProductToGLAccountMappingNotFoundException;
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
 import org.apache.fineract.infrastructure.core.exception.PlatformDataIntegrityException;
@@ -67,7 +63,6 @@ import org.apache.fineract.organisation.office.domain.OfficeRepository;
 import org.apache.fineract.portfolio.PortfolioProductType;
 import org.apache.fineract.portfolio.account.PortfolioAccountType;
 import org.apache.fineract.portfolio.account.service.AccountTransfersReadPlatformService;
-import org.apache.fineract.portfolio.charge.domain.ChargeRepositoryWrapper;
 import org.apache.fineract.portfolio.client.domain.ClientTransaction;
 import org.apache.fineract.portfolio.client.domain.ClientTransactionRepository;
 import org.apache.fineract.portfolio.loanaccount.data.LoanChargeData;
@@ -90,8 +85,7 @@ public class AccountingProcessorHelper {
     public static final String SHARE_TRANSACTION_IDENTIFIER = "SH";
 
     private final JournalEntryRepository glJournalEntryRepository;
-    private final ProductToGLAccountMappingRepository accountMappingRepository;
-    private final FinancialActivityAccountRepositoryWrapper financialActivityAccountRepository;
+    private final AccountingReferenceDataCache accountingReferenceDataCache;
     private final GLClosureRepository closureRepository;
     private final GLAccountRepository glAccountRepository;
     private final OfficeRepository officeRepository;
@@ -99,8 +93,9 @@ public class AccountingProcessorHelper {
     private final ClientTransactionRepository clientTransactionRepository;
     private final SavingsAccountTransactionRepository savingsAccountTransactionRepository;
     private final AccountTransfersReadPlatformService accountTransfersReadPlatformService;
-    private final ChargeRepositoryWrapper chargeRepositoryWrapper;
     private final BusinessEventNotifierService businessEventNotifierService;
+    private final BulkJournalEntryWriter bulkJournalEntryWriter;
+    private final GLDailyBalanceWriter glDailyBalanceWriter;
 
     public LoanDTO populateLoanDtoFromMap(final Map<String, Object> accountingBridgeData, final boolean cashBasedAccountingEnabled,
             final boolean upfrontAccrualBasedAccountingEnabled, final boolean periodicAccrualBasedAccountingEnabled) {
@@ -941,7 +936,7 @@ public class AccountingProcessorHelper {
                 transactionDate, JournalEntryType.CREDIT, amount, null, PortfolioProductType.SAVING.getValue(), savingsId, null, null,
                 savingsAccountTransactionId, null, null);
 
-        persistJournalEntry(journalEntry);
+        addJournalEntry(journalEntry);
     }
 
     private void createCreditJournalEntryForLoan(final Office office, final String currencyCode, final GLAccount account, final Long loanId,
@@ -956,7 +951,7 @@ public class AccountingProcessorHelper {
         final JournalEntry journalEntry = JournalEntry.createNew(office, null, account, currencyCode, modifiedTransactionId, manualEntry,
                 transactionDate, JournalEntryType.CREDIT, amount, null, PortfolioProductType.LOAN.getValue(), loanId, null,
                 loanTransactionId, null, null, null);
-        persistJournalEntry(journalEntry);
+        addJournalEntry(journalEntry);
     }
 
     public void createProvisioningDebitJournalEntry(LocalDate transactionDate, Long provisioningEntryId, Office office, String currencyCode,
@@ -991,7 +986,7 @@ public class AccountingProcessorHelper {
         final JournalEntry journalEntry = JournalEntry.createNew(office, null, account, currencyCode, modifiedTransactionId, manualEntry,
                 transactionDate, JournalEntryType.DEBIT, amount, null, PortfolioProductType.LOAN.getValue(), loanId, null,
                 loanTransactionId, null, null, null);
-        persistJournalEntry(journalEntry);
+        addJournalEntry(journalEntry);
     }
 
     private void createDebitJournalEntryForSavings(final Office office, final String currencyCode, final GLAccount account,
@@ -1007,7 +1002,7 @@ public class AccountingProcessorHelper {
                 transactionDate, JournalEntryType.DEBIT, amount, null, PortfolioProductType.SAVING.getValue(), savingsId, null, null,
                 savingsAccountTransactionId, null, null);
 
-        persistJournalEntry(journalEntry);
+        addJournalEntry(journalEntry);
     }
 
     private void createDebitJournalEntryForClientPayments(final Office office, final String currencyCode, final GLAccount account,
@@ -1151,39 +1146,36 @@ public class AccountingProcessorHelper {
     public GLAccount getLinkedGLAccountForLoanProduct(final Long loanProductId, final int accountMappingTypeId, final Long paymentTypeId) {
         GLAccount glAccount;
         if (isOrganizationAccount(accountMappingTypeId)) {
-            FinancialActivityAccount financialActivityAccount = this.financialActivityAccountRepository
-                    .findByFinancialActivityTypeWithNotFoundDetection(accountMappingTypeId);
-            glAccount = financialActivityAccount.getGlAccount();
+            glAccount = getGLAccountById(this.accountingReferenceDataCache.getFinancialActivityGLAccountId(accountMappingTypeId));
         } else {
-            ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(loanProductId,
-                    PortfolioProductType.LOAN.getValue(), accountMappingTypeId);
+            Long glAccountId = this.accountingReferenceDataCache.getProductGLAccountId(PortfolioProductType.LOAN, loanProductId,
+                    accountMappingTypeId);
 
             /****
              * Get more specific mapping for FUND source accounts (based on payment channels). Note that fund source
              * placeholder ID would be same for both cash and accrual accounts
              ***/
             if (accountMappingTypeId == CashAccountsForLoan.FUND_SOURCE.getValue()) {
-                final ProductToGLAccountMapping paymentChannelSpecificAccountMapping = this.accountMappingRepository
-                        .findByProductIdAndProductTypeAndFinancialAccountTypeAndPaymentTypeId(loanProductId,
-                                PortfolioProductType.LOAN.getValue(), accountMappingTypeId, paymentTypeId);
-                if (paymentChannelSpecificAccountMapping != null) {
-                    accountMapping = paymentChannelSpecificAccountMapping;
+                final Long paymentChannelSpecificGLAccountId = this.accountingReferenceDataCache
+                        .getPaymentTypeGLAccountId(PortfolioProductType.LOAN, loanProductId, accountMappingTypeId, paymentTypeId);
+                if (paymentChannelSpecificGLAccountId != null) {
+                    glAccountId = paymentChannelSpecificGLAccountId;
                 }
             }
 
-            if (accountMapping == null) {
+            if (glAccountId == null) {
                 throw new ProductToGLAccountMappingNotFoundException(PortfolioProductType.LOAN, loanProductId,
                         AccrualAccountsForLoan.fromInt(accountMappingTypeId).toString());
 
             }
-            glAccount = accountMapping.getGlAccount();
+            glAccount = getGLAccountById(glAccountId);
         }
         return glAccount;
     }
 
     private GLAccount getLinkedGLAccountForLoanCharges(final Long loanProductId, final int accountMappingTypeId, final Long chargeId) {
-        ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(loanProductId,
-                PortfolioProductType.LOAN.getValue(), accountMappingTypeId);
+        Long glAccountId = this.accountingReferenceDataCache.getProductGLAccountId(PortfolioProductType.LOAN, loanProductId,
+                accountMappingTypeId);
         /*****
          * Get more specific mappings for Charges and penalties (based on the actual charge /penalty coupled with the
          * loan product). Note the income from fees and income from penalties placeholder ID would be the same for both
@@ -1193,21 +1185,20 @@ public class AccountingProcessorHelper {
         // Vishwas TODO: remove this condition as it should always be true
         if (accountMappingTypeId == CashAccountsForLoan.INCOME_FROM_FEES.getValue()
                 || accountMappingTypeId == CashAccountsForLoan.INCOME_FROM_PENALTIES.getValue()) {
-            final ProductToGLAccountMapping chargeSpecificIncomeAccountMapping = this.accountMappingRepository
-                    .findProductIdAndProductTypeAndFinancialAccountTypeAndChargeId(loanProductId, PortfolioProductType.LOAN.getValue(),
-                            accountMappingTypeId, chargeId);
-            if (chargeSpecificIncomeAccountMapping != null) {
-                accountMapping = chargeSpecificIncomeAccountMapping;
+            final Long chargeSpecificIncomeGLAccountId = this.accountingReferenceDataCache
+                    .getChargeGLAccountId(PortfolioProductType.LOAN, loanProductId, accountMappingTypeId, chargeId);
+            if (chargeSpecificIncomeGLAccountId != null) {
+                glAccountId = chargeSpecificIncomeGLAccountId;
             }
         }
-        return accountMapping.getGlAccount();
+        return getMappedGLAccount(glAccountId, PortfolioProductType.LOAN, loanProductId, accountMappingTypeId);
     }
 
     private GLAccount getLinkedGLAccountForSavingsCharges(final Long savingsProductId, final int accountMappingTypeId,
             final Long chargeId) {
 
-        ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(savingsProductId,
-                PortfolioProductType.SAVING.getValue(), accountMappingTypeId);
+        Long glAccountId = this.accountingReferenceDataCache.getProductGLAccountId(PortfolioProductType.SAVING, savingsProductId,
+                accountMappingTypeId);
         /*****
          * Get more specific mappings for Charges and penalties (based on the actual charge /penalty coupled with the
          * loan product). Note the income from fees and income from penalties placeholder ID would be the same for both
@@ -1218,45 +1209,41 @@ public class AccountingProcessorHelper {
 
         if (accountMappingTypeId == CashAccountsForSavings.INCOME_FROM_FEES.getValue()
                 || accountMappingTypeId == CashAccountsForLoan.INCOME_FROM_PENALTIES.getValue()) {
-            GLAccount glAccount = chargeRepositoryWrapper.findOneWithNotFoundDetection(chargeId).getAccount();
-            if (glAccount != null) {
-                return glAccount;
+            final Long chargeGLAccountId = this.accountingReferenceDataCache.getChargeIncomeAccountId(chargeId);
+            if (chargeGLAccountId != null) {
+                return getGLAccountById(chargeGLAccountId);
             }
-            final ProductToGLAccountMapping chargeSpecificIncomeAccountMapping = this.accountMappingRepository
-                    .findProductIdAndProductTypeAndFinancialAccountTypeAndChargeId(savingsProductId, PortfolioProductType.SAVING.getValue(),
-                            accountMappingTypeId, chargeId);
-            if (chargeSpecificIncomeAccountMapping != null) {
+            final Long chargeSpecificIncomeGLAccountId = this.accountingReferenceDataCache
+                    .getChargeGLAccountId(PortfolioProductType.SAVING, savingsProductId, accountMappingTypeId, chargeId);
+            if (chargeSpecificIncomeGLAccountId != null) {
 
-                accountMapping = chargeSpecificIncomeAccountMapping;
+                glAccountId = chargeSpecificIncomeGLAccountId;
             }
         }
 
-        return accountMapping.getGlAccount();
+        return getMappedGLAccount(glAccountId, PortfolioProductType.SAVING, savingsProductId, accountMappingTypeId);
     }
 
     private GLAccount getLinkedGLAccountForSavingsProduct(final Long savingsProductId, final int accountMappingTypeId,
             final Long paymentTypeId) {
         GLAccount glAccount;
         if (isOrganizationAccount(accountMappingTypeId)) {
-            FinancialActivityAccount financialActivityAccount = this.financialActivityAccountRepository
-                    .findByFinancialActivityTypeWithNotFoundDetection(accountMappingTypeId);
-            glAccount = financialActivityAccount.getGlAccount();
+            glAccount = getGLAccountById(this.accountingReferenceDataCache.getFinancialActivityGLAccountId(accountMappingTypeId));
         } else {
-            ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(savingsProductId,
-                    PortfolioProductType.SAVING.getValue(), accountMappingTypeId);
+            Long glAccountId = this.accountingReferenceDataCache.getProductGLAccountId(PortfolioProductType.SAVING, savingsProductId,
+                    accountMappingTypeId);
             /****
              * Get more specific mapping for FUND source accounts (based on payment channels). Note that fund source
              * placeholder ID would be same for both cash and accrual accounts
              ***/
             if (accountMappingTypeId == CashAccountsForSavings.SAVINGS_REFERENCE.getValue()) {
-                final ProductToGLAccountMapping paymentChannelSpecificAccountMapping = this.accountMappingRepository
-                        .findByProductIdAndProductTypeAndFinancialAccountTypeAndPaymentTypeId(savingsProductId,
-                                PortfolioProductType.SAVING.getValue(), accountMappingTypeId, paymentTypeId);
-                if (paymentChannelSpecificAccountMapping != null) {
-                    accountMapping = paymentChannelSpecificAccountMapping;
+                final Long paymentChannelSpecificGLAccountId = this.accountingReferenceDataCache
+                        .getPaymentTypeGLAccountId(PortfolioProductType.SAVING, savingsProductId, accountMappingTypeId, paymentTypeId);
+                if (paymentChannelSpecificGLAccountId != null) {
+                    glAccountId = paymentChannelSpecificGLAccountId;
                 }
             }
-            glAccount = accountMapping.getGlAccount();
+            glAccount = getMappedGLAccount(glAccountId, PortfolioProductType.SAVING, savingsProductId, accountMappingTypeId);
         }
         return glAccount;
     }
@@ -1265,42 +1252,46 @@ public class AccountingProcessorHelper {
             final Long paymentTypeId) {
         GLAccount glAccount;
         if (isOrganizationAccount(accountMappingTypeId)) {
-            FinancialActivityAccount financialActivityAccount = this.financialActivityAccountRepository
-                    .findByFinancialActivityTypeWithNotFoundDetection(accountMappingTypeId);
-            glAccount = financialActivityAccount.getGlAccount();
+            glAccount = getGLAccountById(this.accountingReferenceDataCache.getFinancialActivityGLAccountId(accountMappingTypeId));
         } else {
-            ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(shareProductId,
-                    PortfolioProductType.SHARES.getValue(), accountMappingTypeId);
+            Long glAccountId = this.accountingReferenceDataCache.getProductGLAccountId(PortfolioProductType.SHARES, shareProductId,
+                    accountMappingTypeId);
 
             if (accountMappingTypeId == CashAccountsForShares.SHARES_REFERENCE.getValue()) {
-                final ProductToGLAccountMapping paymentChannelSpecificAccountMapping = this.accountMappingRepository
-                        .findByProductIdAndProductTypeAndFinancialAccountTypeAndPaymentTypeId(shareProductId,
-                                PortfolioProductType.SHARES.getValue(), accountMappingTypeId, paymentTypeId);
-                if (paymentChannelSpecificAccountMapping != null) {
-                    accountMapping = paymentChannelSpecificAccountMapping;
+                final Long paymentChannelSpecificGLAccountId = this.accountingReferenceDataCache
+                        .getPaymentTypeGLAccountId(PortfolioProductType.SHARES, shareProductId, accountMappingTypeId, paymentTypeId);
+                if (paymentChannelSpecificGLAccountId != null) {
+                    glAccountId = paymentChannelSpecificGLAccountId;
                 }
             }
-            glAccount = accountMapping.getGlAccount();
+            glAccount = getMappedGLAccount(glAccountId, PortfolioProductType.SHARES, shareProductId, accountMappingTypeId);
         }
         return glAccount;
     }
 
     private GLAccount getLinkedGLAccountForShareCharges(final Long shareProductId, final int accountMappingTypeId, final Long chargeId) {
-        ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(shareProductId,
-                PortfolioProductType.SHARES.getValue(), accountMappingTypeId);
+        Long glAccountId = this.accountingReferenceDataCache.getProductGLAccountId(PortfolioProductType.SHARES, shareProductId,
+                accountMappingTypeId);
         /*****
          * Get more specific mappings for Charges and penalties (based on the actual charge /penalty coupled with the
          * loan product). Note the income from fees and income from penalties placeholder ID would be the same for both
          * cash and accrual based accounts
          *****/
 
-        final ProductToGLAccountMapping chargeSpecificIncomeAccountMapping = this.accountMappingRepository
-                .findProductIdAndProductTypeAndFinancialAccountTypeAndChargeId(shareProductId, PortfolioProductType.SHARES.getValue(),
-                        accountMappingTypeId, chargeId);
-        if (chargeSpecificIncomeAccountMapping != null) {
-            accountMapping = chargeSpecificIncomeAccountMapping;
+        final Long chargeSpecificIncomeGLAccountId = this.accountingReferenceDataCache.getChargeGLAccountId(PortfolioProductType.SHARES,
+                shareProductId, accountMappingTypeId, chargeId);
+        if (chargeSpecificIncomeGLAccountId != null) {
+            glAccountId = chargeSpecificIncomeGLAccountId;
+        }
+        return getMappedGLAccount(glAccountId, PortfolioProductType.SHARES, shareProductId, accountMappingTypeId);
+    }
+
+    private GLAccount getMappedGLAccount(final Long glAccountId, final PortfolioProductType productType, final Long productId,
+            final int accountMappingTypeId) {
+        if (glAccountId == null) {
+            throw new ProductToGLAccountMappingNotFoundException(productType, productId, String.valueOf(accountMappingTypeId));
         }
-        return accountMapping.getGlAccount();
+        return getGLAccountById(glAccountId);
     }
 
     private boolean isOrganizationAccount(final int accountMappingTypeId) {
@@ -1346,8 +1337,8 @@ public class AccountingProcessorHelper {
     public void createDebitJournalEntryOrReversalForClientChargePayments(final Office office, final String currencyCode,
             final Long clientId, final Long transactionId, final LocalDate transactionDate, final BigDecimal amount,
             final Boolean isReversal) {
-        final GLAccount account = financialActivityAccountRepository
-                .findByFinancialActivityTypeWithNotFoundDetection(FinancialActivity.ASSET_FUND_SOURCE.getValue()).getGlAccount();
+        final GLAccount account = getGLAccountById(
+                this.accountingReferenceDataCache.getFinancialActivityGLAccountId(FinancialActivity.ASSET_FUND_SOURCE.getValue()));
         if (isReversal) {
             createCreditJournalEntryForClientPayments(office, currencyCode, account, clientId, transactionId, transactionDate, amount);
         } else {
@@ -1377,11 +1368,22 @@ public class AccountingProcessorHelper {
         return incomeAccount;
     }
 
+    private void addJournalEntry(JournalEntry journalEntry) {
+        if (this.bulkJournalEntryWriter.add(journalEntry)) {
+            this.glDailyBalanceWriter.add(journalEntry);
+        } else {
+            persistJournalEntry(journalEntry);
+        }
+    }
+
     public JournalEntry persistJournalEntry(JournalEntry journalEntry) {
         boolean isNew = journalEntry.isNew();
         JournalEntry savedJournalEntry = this.glJournalEntryRepository.saveAndFlush(journalEntry);
-        if (isNew && journalEntry.getLoanTransactionId() != null) {
-            businessEventNotifierService.notifyPostBusinessEvent(new LoanJournalEntryCreatedBusinessEvent(savedJournalEntry));
+        if (isNew) {
+            this.glDailyBalanceWriter.add(savedJournalEntry);
+            if (journalEntry.getLoanTransactionId() != null) {
+                businessEventNotifierService.notifyPostBusinessEvent(new LoanJournalEntryCreatedBusinessEvent(savedJournalEntry));
+            }
         }
         return savedJournalEntry;
     }
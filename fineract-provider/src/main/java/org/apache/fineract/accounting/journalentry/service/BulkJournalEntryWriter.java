@@ -0,0 +1,172 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import static org.apache.fineract.infrastructure.core.domain.AuditableFieldsConstants.CREATED_BY_DB_FIELD;
+import static org.apache.fineract.infrastructure.core.domain.AuditableFieldsConstants.CREATED_DATE_DB_FIELD;
+import static org.apache.fineract.infrastructure.core.domain.AuditableFieldsConstants.LAST_MODIFIED_BY_DB_FIELD;
+import static org.apache.fineract.infrastructure.core.domain.AuditableFieldsConstants.LAST_MODIFIED_DATE_DB_FIELD;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.TransactionBoundBuffer;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.business.domain.journalentry.LoanJournalEntryCreatedBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.portfolio.PortfolioProductType;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+/**
+ * Collects the journal entries posted by the loan and savings accounting processors during a transaction and writes
+ * them with a single JDBC batch insert right before it commits, instead of flushing the persistence context for every
+ * debit and credit line.
+ *
+ * The written entries get their generated ids and audit fields set, and the {@link LoanJournalEntryCreatedBusinessEvent}
+ * of the loan entries is raised once they are stored. The entries are not managed by the persistence context.
+ *
+ * The entries of the loans an {@link ImmediateLoanJournalEntryPolicy} asks for are not collected, the caller stores
+ * them right away so the event is raised when they are created.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BulkJournalEntryWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO acc_gl_journal_entry (account_id, office_id, reversal_id, currency_code, "
+            + "transaction_id, loan_transaction_id, savings_transaction_id, client_transaction_id, share_transaction_id, reversed, "
+            + "manual_entry, entry_date, type_enum, amount, description, entity_type_enum, entity_id, ref_num, payment_details_id, "
+            + "submitted_on_date, " + CREATED_BY_DB_FIELD + ", " + CREATED_DATE_DB_FIELD + ", " + LAST_MODIFIED_BY_DB_FIELD + ", "
+            + LAST_MODIFIED_DATE_DB_FIELD + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final AuditorAware<Long> auditorAware;
+    private final BusinessEventNotifierService businessEventNotifierService;
+    private final List<ImmediateLoanJournalEntryPolicy> immediateLoanJournalEntryPolicies;
+    private final TransactionBoundBuffer<PendingJournalEntries> pendingJournalEntries = new TransactionBoundBuffer<>(this,
+            TransactionBoundBuffer.JOURNAL_ENTRIES_ORDER, PendingJournalEntries::new, this::writePending);
+
+    /**
+     * Queues the journal entry to be written when the current transaction commits.
+     *
+     * @return false when there is no active transaction to attach the entry to or the entry belongs to a loan whose
+     *         entries have to be stored right away, the caller has to persist it then
+     */
+    public boolean add(final JournalEntry journalEntry) {
+        if (!pendingJournalEntries.isActive()) {
+            return false;
+        }
+        final PendingJournalEntries pending = pendingJournalEntries.getBuffer();
+        if (isLoanEntry(journalEntry) && pending.immediateLoans.computeIfAbsent(journalEntry.getEntityId(), this::isWrittenImmediately)) {
+            return false;
+        }
+        pending.entries.add(journalEntry);
+        return true;
+    }
+
+    /**
+     * Writes the journal entries queued in the current transaction so far.
+     */
+    public void flush() {
+        pendingJournalEntries.flush();
+    }
+
+    private boolean isLoanEntry(final JournalEntry journalEntry) {
+        return journalEntry.getLoanTransactionId() != null && journalEntry.getEntityId() != null
+                && PortfolioProductType.LOAN.getValue().equals(journalEntry.getEntityType());
+    }
+
+    private boolean isWrittenImmediately(final Long loanId) {
+        return immediateLoanJournalEntryPolicies.stream().anyMatch(policy -> policy.isWrittenImmediately(loanId));
+    }
+
+    private void writePending(final PendingJournalEntries pending) {
+        if (!pending.entries.isEmpty()) {
+            final List<JournalEntry> journalEntries = List.copyOf(pending.entries);
+            pending.entries.clear();
+            write(journalEntries);
+        }
+    }
+
+    private void write(final List<JournalEntry> journalEntries) {
+        final Long userId = auditorAware.getCurrentAuditor().orElse(null);
+        final OffsetDateTime auditDateTime = DateUtils.getAuditOffsetDateTime();
+        final List<Object[]> batchArgs = new ArrayList<>(journalEntries.size());
+        for (JournalEntry journalEntry : journalEntries) {
+            journalEntry.setCreatedBy(userId);
+            journalEntry.setCreatedDate(auditDateTime);
+            journalEntry.setLastModifiedBy(userId);
+            journalEntry.setLastModifiedDate(auditDateTime);
+            batchArgs.add(new Object[] { journalEntry.getGlAccount().getId(), journalEntry.getOffice().getId(),
+                    journalEntry.getReversalJournalEntry() == null ? null : journalEntry.getReversalJournalEntry().getId(),
+                    journalEntry.getCurrencyCode(), journalEntry.getTransactionId(), journalEntry.getLoanTransactionId(),
+                    journalEntry.getSavingsTransactionId(), journalEntry.getClientTransactionId(), journalEntry.getShareTransactionId(),
+                    journalEntry.isReversed(), journalEntry.isManualEntry(), journalEntry.getTransactionDate(), journalEntry.getType(),
+                    journalEntry.getAmount(), journalEntry.getDescription(), journalEntry.getEntityType(), journalEntry.getEntityId(),
+                    journalEntry.getReferenceNumber(),
+                    journalEntry.getPaymentDetail() == null ? null : journalEntry.getPaymentDetail().getId(),
+                    journalEntry.getSubmittedOnDate(), userId, auditDateTime, userId, auditDateTime });
+        }
+
+        final GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        new ArgumentPreparedStatementSetter(batchArgs.get(i)).setValues(ps);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batchArgs.size();
+                    }
+                }, keyHolder);
+        final List<Long> ids = sqlGenerator.fetchPKs(keyHolder);
+        log.debug("Written {} journal entries in one batch", ids.size());
+
+        for (int i = 0; i < journalEntries.size(); i++) {
+            final JournalEntry journalEntry = journalEntries.get(i);
+            journalEntry.setId(ids.get(i));
+            if (journalEntry.getLoanTransactionId() != null) {
+                businessEventNotifierService.notifyPostBusinessEvent(new LoanJournalEntryCreatedBusinessEvent(journalEntry));
+            }
+        }
+    }
+
+    private static final class PendingJournalEntries {
+
+        private final List<JournalEntry> entries = new ArrayList<>();
+        // whether the entries of the loan are stored right away, asked once per loan and transaction
+        private final Map<Long, Boolean> immediateLoans = new HashMap<>();
+    }
+}
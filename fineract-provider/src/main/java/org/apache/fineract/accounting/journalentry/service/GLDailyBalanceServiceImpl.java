@@ -0,0 +1,134 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.accounting.journalentry.service.GLDailyBalanceWriter.DailyBalanceChange;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+/**
+ * The journal entries posted before the daily balances were introduced are the ones with ids up to the
+ * <code>max_journal_entry_id</code> recorded by the migration which created them. They are added to the daily balances
+ * in batches of consecutive ids, and <code>last_journal_entry_id</code> is moved forward in the same transaction, so an
+ * interrupted backfill continues where it stopped. Until it is complete, <code>acc_gl_daily_balance_view</code> covers
+ * the journal entries not added yet straight from the ledger.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GLDailyBalanceServiceImpl implements GLDailyBalanceService {
+
+    private static final int DEFAULT_BATCH_SIZE = 10000;
+
+    private static final String DAILY_TOTALS_SQL = "select office_id, account_id, currency_code, entry_date, "
+            + "sum(case when type_enum = 2 then amount else 0 end) as debit_amount, "
+            + "sum(case when type_enum = 1 then amount else 0 end) as credit_amount from acc_gl_journal_entry ";
+
+    private static final String MISMATCH_SQL = "select office_id, account_id, currency_code, sum(debit_amount) as debit_difference, "
+            + "sum(credit_amount) as credit_difference from (select office_id, account_id, currency_code, "
+            + "case when type_enum = 2 then amount else 0 end as debit_amount, case when type_enum = 1 then amount else 0 end as "
+            + "credit_amount from acc_gl_daily_balance_view union all select office_id, account_id, currency_code, "
+            + "case when type_enum = 2 then -amount else 0 end as debit_amount, case when type_enum = 1 then -amount else 0 end as "
+            + "credit_amount from acc_gl_journal_entry) balances group by office_id, account_id, currency_code "
+            + "having sum(debit_amount) <> 0 or sum(credit_amount) <> 0";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GLDailyBalanceWriter dailyBalanceWriter;
+    private final FineractProperties fineractProperties;
+
+    private final DailyBalanceChangeMapper changeMapper = new DailyBalanceChangeMapper();
+
+    @Override
+    public boolean backfill() {
+        final BackfillState state = lockBackfillState();
+        if (state.isComplete()) {
+            return false;
+        }
+        final long toJournalEntryId = Math.min(state.maxJournalEntryId(), state.lastJournalEntryId() + getBatchSize());
+        final List<DailyBalanceChange> changes = jdbcTemplate.query(
+                DAILY_TOTALS_SQL + "where id > ? and id <= ? group by office_id, account_id, currency_code, entry_date", changeMapper,
+                state.lastJournalEntryId(), toJournalEntryId);
+        dailyBalanceWriter.write(changes);
+        jdbcTemplate.update("update acc_gl_daily_balance_backfill set last_journal_entry_id = ? where id = 1", toJournalEntryId);
+        log.debug("Backfilled daily GL balances up to journal entry {} of {}", toJournalEntryId, state.maxJournalEntryId());
+        return toJournalEntryId < state.maxJournalEntryId();
+    }
+
+    @Override
+    public int verify() {
+        final BackfillState state = lockBackfillState();
+        final List<DailyBalanceMismatch> mismatches = jdbcTemplate.query(MISMATCH_SQL,
+                (rs, rowNum) -> new DailyBalanceMismatch(rs.getLong("office_id"), rs.getLong("account_id"), rs.getString("currency_code")));
+        for (DailyBalanceMismatch mismatch : mismatches) {
+            log.warn("Daily GL balances of office {}, GL account {} and currency {} do not match the ledger, rebuilding them",
+                    mismatch.officeId(), mismatch.glAccountId(), mismatch.currencyCode());
+            rebuild(mismatch, state);
+        }
+        return mismatches.size();
+    }
+
+    private void rebuild(final DailyBalanceMismatch mismatch, final BackfillState state) {
+        jdbcTemplate.update("delete from acc_gl_daily_balance where office_id = ? and account_id = ? and currency_code = ?",
+                mismatch.officeId(), mismatch.glAccountId(), mismatch.currencyCode());
+        // the journal entries still to be backfilled are left to the backfill
+        final List<DailyBalanceChange> changes = jdbcTemplate.query(DAILY_TOTALS_SQL
+                + "where office_id = ? and account_id = ? and currency_code = ? and (id <= ? or id > ?) "
+                + "group by office_id, account_id, currency_code, entry_date", changeMapper, mismatch.officeId(), mismatch.glAccountId(),
+                mismatch.currencyCode(), state.lastJournalEntryId(), state.maxJournalEntryId());
+        dailyBalanceWriter.write(changes);
+    }
+
+    private BackfillState lockBackfillState() {
+        return jdbcTemplate.queryForObject(
+                "select last_journal_entry_id, max_journal_entry_id from acc_gl_daily_balance_backfill where id = 1 for update",
+                (rs, rowNum) -> new BackfillState(rs.getLong("last_journal_entry_id"), rs.getLong("max_journal_entry_id")));
+    }
+
+    private int getBatchSize() {
+        final int batchSize = fineractProperties.getJob() == null ? 0 : fineractProperties.getJob().getGlDailyBalanceBackfillBatchSize();
+        return batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+    }
+
+    private record BackfillState(long lastJournalEntryId, long maxJournalEntryId) {
+
+        private boolean isComplete() {
+            return lastJournalEntryId >= maxJournalEntryId;
+        }
+    }
+
+    private record DailyBalanceMismatch(Long officeId, Long glAccountId, String currencyCode) {
+    }
+
+    private static final class DailyBalanceChangeMapper implements RowMapper<DailyBalanceChange> {
+
+        @Override
+        public DailyBalanceChange mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return new DailyBalanceChange(rs.getLong("office_id"), rs.getLong("account_id"), rs.getString("currency_code"),
+                    JdbcSupport.getLocalDate(rs, "entry_date"), rs.getBigDecimal("debit_amount"), rs.getBigDecimal("credit_amount"));
+        }
+    }
+}
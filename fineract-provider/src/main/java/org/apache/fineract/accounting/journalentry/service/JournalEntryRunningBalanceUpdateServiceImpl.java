@@ -22,31 +22,35 @@ import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.fineract.accounting.common.AccountingEnumerations;
 import org.apache.fineract.accounting.glaccount.domain.GLAccountType;
 import org.apache.fineract.accounting.journalentry.api.JournalEntryJsonInputParams;
-import org.apache.fineract.accounting.journalentry.data.JournalEntryData;
 import org.apache.fineract.accounting.journalentry.data.JournalEntryDataValidator;
 import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResultBuilder;
-import org.apache.fineract.infrastructure.core.data.EnumOptionData;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.organisation.office.domain.OfficeRepositoryWrapper;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -54,6 +58,8 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntryRunningBalanceUpdateService {
 
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
     private final JdbcTemplate jdbcTemplate;
 
     private final OfficeRepositoryWrapper officeRepositoryWrapper;
@@ -63,9 +69,10 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
     private final FromJsonHelper fromApiJsonHelper;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
 
-    private final GLJournalEntryMapper entryMapper = new GLJournalEntryMapper();
+    private final RunningBalanceEntryMapper entryMapper = new RunningBalanceEntryMapper();
 
     private final PlatformSecurityContext platformSecurityContext;
+    private final FineractProperties fineractProperties;
 
     @Override
     public void updateRunningBalance() {
@@ -104,126 +111,127 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
     }
 
     private void updateOrganizationRunningBalance(LocalDate entityDate) {
-        Map<Long, BigDecimal> runningBalanceMap = new HashMap<>(5);
-        Map<Long, Map<Long, BigDecimal>> officesRunningBalance = new HashMap<>();
-
-        final String organizationRunningBalanceQuery = "select je.organization_running_balance as runningBalance,je.account_id as accountId from acc_gl_journal_entry je "
-                + "inner join (select max(id) as id from acc_gl_journal_entry where entry_date < ? group by account_id,entry_date) je2 ON je2.id = je.id "
-                + "inner join (select max(entry_date) as date from acc_gl_journal_entry where entry_date < ? group by account_id) je3 ON je.entry_date = je3.date "
-                + "group by je.id order by je.entry_date DESC " + sqlGenerator.limit(10000, 0);
-
-        List<Map<String, Object>> list = jdbcTemplate.queryForList(organizationRunningBalanceQuery, // NOSONAR
-                entityDate, entityDate);
-
-        for (Map<String, Object> entries : list) {
-            Long accountId = Long.parseLong(entries.get("accountId").toString()); // Drizzle
-                                                                                  // is
-                                                                                  // returning
-                                                                                  // Big
-                                                                                  // Integer
-                                                                                  // where
-                                                                                  // as
-                                                                                  // MySQL
-                                                                                  // returns
-                                                                                  // Long.
-            if (!runningBalanceMap.containsKey(accountId)) {
-                runningBalanceMap.put(accountId, (BigDecimal) entries.get("runningBalance"));
+        final List<RunningBalancePartition> partitions = jdbcTemplate.query(
+                "select account_id, min(entry_date) as entry_date from acc_gl_journal_entry "
+                        + "where is_running_balance_calculated = false and entry_date >= ? group by account_id",
+                (rs, rowNum) -> new RunningBalancePartition(rs.getLong("account_id"), null, JdbcSupport.getLocalDate(rs, "entry_date")),
+                entityDate);
+        final Long userId = platformSecurityContext.authenticatedUser().getId();
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("running-balance-update-");
+        executor.setCorePoolSize(Math.max(1, Math.min(getThreadCount(), partitions.size())));
+        executor.initialize();
+        try {
+            final List<Future<?>> futures = new ArrayList<>(partitions.size());
+            for (RunningBalancePartition partition : partitions) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalContextUtil.init(context);
+                    try {
+                        updateRunningBalance(partition, userId);
+                    } finally {
+                        ThreadLocalContextUtil.reset();
+                    }
+                }));
             }
-        }
-
-        final String offlineRunningBalanceQuery = "select je.office_running_balance as runningBalance,je.account_id as accountId,je.office_id as officeId "
-                + "from acc_gl_journal_entry je "
-                + "inner join (select max(id) as id from acc_gl_journal_entry where entry_date < ? group by office_id,account_id,entry_date) je2 ON je2.id = je.id "
-                + "inner join (select max(entry_date) as date from acc_gl_journal_entry where entry_date < ? group by office_id,account_id) je3 ON je.entry_date = je3.date "
-                + "group by je.id order by je.entry_date DESC " + sqlGenerator.limit(10000, 0);
-
-        List<Map<String, Object>> officesRunningBalanceList = jdbcTemplate.queryForList(offlineRunningBalanceQuery, // NOSONAR
-                entityDate, entityDate);
-        for (Map<String, Object> entries : officesRunningBalanceList) {
-            Long accountId = Long.parseLong(entries.get("accountId").toString());
-            Long officeId = Long.parseLong(entries.get("officeId").toString());
-            Map<Long, BigDecimal> runningBalance;
-            if (officesRunningBalance.containsKey(officeId)) {
-                runningBalance = officesRunningBalance.get(officeId);
-            } else {
-                runningBalance = new HashMap<>();
-                officesRunningBalance.put(officeId, runningBalance);
+            for (Future<?> future : futures) {
+                future.get();
             }
-            if (!runningBalance.containsKey(accountId)) {
-                runningBalance.put(accountId, (BigDecimal) entries.get("runningBalance"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Running balance update was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             }
+            throw new IllegalStateException("Running balance update failed", e.getCause());
+        } finally {
+            executor.shutdown();
         }
-
-        List<JournalEntryData> entryDataList = jdbcTemplate.query(entryMapper.organizationRunningBalanceSchema(), entryMapper, entityDate);
-        if (entryDataList.size() > 0) {
-            // run a batch update of 1000 SQL statements at a time
-            final int batchUpdateSize = 1000;
-            List<Object[]> params = new ArrayList<>();
-            int batchIndex = 0;
-            String sql = "UPDATE acc_gl_journal_entry SET is_running_balance_calculated=?, organization_running_balance=?,"
-                    + "office_running_balance=?, last_modified_by=?, last_modified_on_utc=?  WHERE  id=?";
-            for (int index = 0; index < entryDataList.size(); index++) {
-                JournalEntryData entryData = entryDataList.get(index);
-                Map<Long, BigDecimal> officeRunningBalanceMap;
-                if (officesRunningBalance.containsKey(entryData.getOfficeId())) {
-                    officeRunningBalanceMap = officesRunningBalance.get(entryData.getOfficeId());
-                } else {
-                    officeRunningBalanceMap = new HashMap<>();
-                    officesRunningBalance.put(entryData.getOfficeId(), officeRunningBalanceMap);
-                }
-                BigDecimal officeRunningBalance = calculateRunningBalance(entryData, officeRunningBalanceMap);
-                BigDecimal runningBalance = calculateRunningBalance(entryData, runningBalanceMap);
-
-                params.add(new Object[] { Boolean.TRUE, runningBalance, officeRunningBalance,
-                        platformSecurityContext.authenticatedUser().getId(), DateUtils.getAuditOffsetDateTime(), entryData.getId() });
-                batchIndex++;
-                if (batchIndex == batchUpdateSize || index == entryDataList.size() - 1) {
-                    this.jdbcTemplate.batchUpdate(sql, params);
-                    // reset counter and string array
-                    batchIndex = 0;
-                    params.clear();
-                }
-            }
-        }
-
     }
 
     private void updateRunningBalance(Long officeId, LocalDate entityDate) {
-        Map<Long, BigDecimal> runningBalanceMap = new HashMap<>(5);
+        final List<RunningBalancePartition> partitions = jdbcTemplate.query(
+                "select account_id, min(entry_date) as entry_date from acc_gl_journal_entry "
+                        + "where is_running_balance_calculated = false and office_id = ? and entry_date >= ? group by account_id",
+                (rs, rowNum) -> new RunningBalancePartition(rs.getLong("account_id"), officeId, JdbcSupport.getLocalDate(rs, "entry_date")),
+                officeId, entityDate);
+        final Long userId = platformSecurityContext.authenticatedUser().getId();
+        for (RunningBalancePartition partition : partitions) {
+            updateRunningBalance(partition, userId);
+        }
+    }
 
-        final String offlineRunningBalanceQuery = "select je.office_running_balance as runningBalance,je.account_id as accountId from acc_gl_journal_entry je "
-                + "inner join (select max(id) as id from acc_gl_journal_entry where office_id=?  and entry_date < ? group by account_id,entry_date) je2 ON je2.id = je.id "
-                + "inner join (select max(entry_date) as date from acc_gl_journal_entry where office_id=? and entry_date < ? group by account_id) je3 ON je.entry_date = je3.date "
-                + "group by je.id order by je.entry_date DESC " + sqlGenerator.limit(10000, 0);
+    /**
+     * Recalculates the running balances of the journal entries of one GL account (of one office, when the partition has
+     * one) from the given date on. The entries are read page by page in (entry date, id) order, the page after the last
+     * entry read, and each page is updated with one batch, so only a page and the balances carried forward are held.
+     */
+    private void updateRunningBalance(final RunningBalancePartition partition, final Long userId) {
+        final GLAccountType accountType = GLAccountType.fromInt(jdbcTemplate.queryForObject(
+                "select classification_enum from acc_gl_account where id = ?", Integer.class, partition.accountId()));
+        final boolean organizationWide = partition.officeId() == null;
+        final Map<Long, BigDecimal> officeRunningBalances = new HashMap<>();
+        BigDecimal organizationRunningBalance = organizationWide ? getOpeningBalance(partition.accountId(), null, partition.fromDate())
+                : null;
+        final int batchSize = getBatchSize();
+        final String pageSql = "select id, office_id, type_enum, amount, entry_date from acc_gl_journal_entry where account_id = ? "
+                + (organizationWide ? "" : "and office_id = ? ") + "and (entry_date > ? or (entry_date = ? and id > ?)) "
+                + "order by entry_date, id " + sqlGenerator.limit(batchSize);
+        final String updateSql = organizationWide
+                ? "UPDATE acc_gl_journal_entry SET is_running_balance_calculated=?, organization_running_balance=?, "
+                        + "office_running_balance=?, last_modified_by=?, last_modified_on_utc=? WHERE id=?"
+                : "UPDATE acc_gl_journal_entry SET office_running_balance=?, last_modified_by=?, last_modified_on_utc=? WHERE id=?";
 
-        List<Map<String, Object>> list = jdbcTemplate.queryForList(offlineRunningBalanceQuery, // NOSONAR
-                officeId, entityDate, officeId, entityDate);
-        for (Map<String, Object> entries : list) {
-            Long accountId = (Long) entries.get("accountId");
-            if (!runningBalanceMap.containsKey(accountId)) {
-                runningBalanceMap.put(accountId, (BigDecimal) entries.get("runningBalance"));
+        LocalDate lastEntryDate = partition.fromDate();
+        long lastId = 0L;
+        List<RunningBalanceEntry> page;
+        do {
+            page = organizationWide
+                    ? jdbcTemplate.query(pageSql, entryMapper, partition.accountId(), lastEntryDate, lastEntryDate, lastId)
+                    : jdbcTemplate.query(pageSql, entryMapper, partition.accountId(), partition.officeId(), lastEntryDate, lastEntryDate,
+                            lastId);
+            final List<Object[]> params = new ArrayList<>(page.size());
+            final OffsetDateTime auditDateTime = DateUtils.getAuditOffsetDateTime();
+            for (RunningBalanceEntry entry : page) {
+                final BigDecimal officeRunningBalance = calculateRunningBalance(accountType, entry,
+                        officeRunningBalances.computeIfAbsent(entry.officeId(),
+                                officeId -> getOpeningBalance(partition.accountId(), officeId, partition.fromDate())));
+                officeRunningBalances.put(entry.officeId(), officeRunningBalance);
+                if (organizationWide) {
+                    organizationRunningBalance = calculateRunningBalance(accountType, entry, organizationRunningBalance);
+                    params.add(new Object[] { Boolean.TRUE, organizationRunningBalance, officeRunningBalance, userId, auditDateTime,
+                            entry.id() });
+                } else {
+                    params.add(new Object[] { officeRunningBalance, userId, auditDateTime, entry.id() });
+                }
             }
-        }
-        List<JournalEntryData> entryDataList = jdbcTemplate.query(entryMapper.officeRunningBalanceSchema(), entryMapper, officeId,
-                entityDate);
-        List<Object[]> params = new ArrayList<>();
+            if (!page.isEmpty()) {
+                jdbcTemplate.batchUpdate(updateSql, params);
+                final RunningBalanceEntry last = page.get(page.size() - 1);
+                lastEntryDate = last.entryDate();
+                lastId = last.id();
+            }
+        } while (page.size() == batchSize);
+        log.debug("Updated running balances of GL account {} from {}", partition.accountId(), partition.fromDate());
+    }
 
-        String sql = "UPDATE acc_gl_journal_entry SET office_running_balance=?, last_modified_by=?, last_modified_on_utc=? WHERE id=?";
-        for (JournalEntryData entryData : entryDataList) {
-            BigDecimal runningBalance = calculateRunningBalance(entryData, runningBalanceMap);
-            params.add(new Object[] { runningBalance, platformSecurityContext.authenticatedUser().getId(),
-                    DateUtils.getAuditOffsetDateTime(), entryData.getId() });
-        }
-        this.jdbcTemplate.batchUpdate(sql, params);
+    /**
+     * Returns the running balance of the last journal entry of the GL account (of the office, when given) before the date.
+     */
+    private BigDecimal getOpeningBalance(final Long accountId, final Long officeId, final LocalDate fromDate) {
+        final List<BigDecimal> balances = officeId == null
+                ? jdbcTemplate.queryForList("select organization_running_balance from acc_gl_journal_entry "
+                        + "where account_id = ? and entry_date < ? order by entry_date desc, id desc " + sqlGenerator.limit(1),
+                        BigDecimal.class, accountId, fromDate)
+                : jdbcTemplate.queryForList("select office_running_balance from acc_gl_journal_entry "
+                        + "where account_id = ? and office_id = ? and entry_date < ? order by entry_date desc, id desc "
+                        + sqlGenerator.limit(1), BigDecimal.class, accountId, officeId, fromDate);
+        return balances.isEmpty() || balances.get(0) == null ? BigDecimal.ZERO : balances.get(0);
     }
 
-    private BigDecimal calculateRunningBalance(JournalEntryData entry, Map<Long, BigDecimal> runningBalanceMap) {
-        BigDecimal runningBalance = BigDecimal.ZERO;
-        if (runningBalanceMap.containsKey(entry.getGlAccountId())) {
-            runningBalance = runningBalanceMap.get(entry.getGlAccountId());
-        }
-        GLAccountType accountType = GLAccountType.fromInt(entry.getGlAccountType().getId().intValue());
-        JournalEntryType entryType = JournalEntryType.fromInt(entry.getEntryType().getId().intValue());
+    private BigDecimal calculateRunningBalance(GLAccountType accountType, RunningBalanceEntry entry, BigDecimal runningBalance) {
+        JournalEntryType entryType = JournalEntryType.fromInt(entry.entryType());
         boolean isIncrease = false;
         switch (accountType) {
             case ASSET:
@@ -241,45 +249,32 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
             break;
         }
         if (isIncrease) {
-            runningBalance = runningBalance.add(entry.getAmount());
-        } else {
-            runningBalance = runningBalance.subtract(entry.getAmount());
+            return runningBalance.add(entry.amount());
         }
-        runningBalanceMap.put(entry.getGlAccountId(), runningBalance);
-        return runningBalance;
+        return runningBalance.subtract(entry.amount());
     }
 
-    private static final class GLJournalEntryMapper implements RowMapper<JournalEntryData> {
+    private int getThreadCount() {
+        return fineractProperties.getJob() == null ? 1 : fineractProperties.getJob().getRunningBalanceUpdateThreadCount();
+    }
 
-        public String officeRunningBalanceSchema() {
-            return "select je.id as id,je.account_id as glAccountId,je.type_enum as entryType,je.amount as amount, "
-                    + "glAccount.classification_enum as classification,je.office_id as officeId "
-                    + "from acc_gl_journal_entry je , acc_gl_account glAccount " + "where je.account_id = glAccount.id "
-                    + "and je.office_id=? and je.entry_date >= ? order by je.entry_date,je.id";
-        }
+    private int getBatchSize() {
+        final int batchSize = fineractProperties.getJob() == null ? 0 : fineractProperties.getJob().getRunningBalanceUpdateBatchSize();
+        return batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+    }
 
-        public String organizationRunningBalanceSchema() {
-            return "select je.id as id,je.account_id as glAccountId," + "je.type_enum as entryType,je.amount as amount, "
-                    + "glAccount.classification_enum as classification,je.office_id as officeId  "
-                    + "from acc_gl_journal_entry je , acc_gl_account glAccount " + "where je.account_id = glAccount.id "
-                    + "and je.entry_date >= ? order by je.entry_date,je.id";
-        }
+    private record RunningBalancePartition(Long accountId, Long officeId, LocalDate fromDate) {
+    }
 
-        @Override
-        public JournalEntryData mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
+    private record RunningBalanceEntry(Long id, Long officeId, int entryType, BigDecimal amount, LocalDate entryDate) {
+    }
 
-            final Long id = rs.getLong("id");
-            final Long glAccountId = rs.getLong("glAccountId");
-            final Long officeId = rs.getLong("officeId");
-            final int accountTypeId = JdbcSupport.getInteger(rs, "classification");
-            final EnumOptionData accountType = AccountingEnumerations.gLAccountType(accountTypeId);
-            final BigDecimal amount = rs.getBigDecimal("amount");
-            final int entryTypeId = JdbcSupport.getInteger(rs, "entryType");
-            final EnumOptionData entryType = AccountingEnumerations.journalEntryType(entryTypeId);
+    private static final class RunningBalanceEntryMapper implements RowMapper<RunningBalanceEntry> {
 
-            return new JournalEntryData(id, officeId, null, null, glAccountId, null, accountType, null, entryType, amount, null, null, null,
-                    null, null, null, null, null, null, null, null, null, null, null, null);
+        @Override
+        public RunningBalanceEntry mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
+            return new RunningBalanceEntry(rs.getLong("id"), rs.getLong("office_id"), rs.getInt("type_enum"),
+                    rs.getBigDecimal("amount"), JdbcSupport.getLocalDate(rs, "entry_date"));
         }
     }
-
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.accounting.journalentry.starter;
 
+import java.util.List;
 import org.apache.fineract.accounting.closure.domain.GLClosureRepository;
 import org.apache.fineract.accounting.financialactivityaccount.domain.FinancialActivityAccountRepositoryWrapper;
 import org.apache.fineract.accounting.glaccount.domain.GLAccountRepository;
@@ -28,12 +29,15 @@ import org.apache.fineract.accounting.journalentry.service.AccountingProcessorFo
 import org.apache.fineract.accounting.journalentry.service.AccountingProcessorForSavingsFactory;
 import org.apache.fineract.accounting.journalentry.service.AccountingProcessorForSharesFactory;
 import org.apache.fineract.accounting.journalentry.service.AccountingProcessorHelper;
+import org.apache.fineract.accounting.journalentry.service.AccountingReferenceDataCache;
+import org.apache.fineract.accounting.journalentry.service.BulkJournalEntryWriter;
 import org.apache.fineract.accounting.journalentry.service.CashBasedAccountingProcessorForClientTransactions;
+import org.apache.fineract.accounting.journalentry.service.GLDailyBalanceWriter;
+import org.apache.fineract.accounting.journalentry.service.ImmediateLoanJournalEntryPolicy;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryReadPlatformService;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryReadPlatformServiceImpl;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryWritePlatformService;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryWritePlatformServiceJpaRepositoryImpl;
-import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMappingRepository;
 import org.apache.fineract.accounting.rule.domain.AccountingRuleRepository;
 import org.apache.fineract.infrastructure.core.service.PaginationHelper;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
@@ -45,7 +49,6 @@ import org.apache.fineract.organisation.office.domain.OfficeRepository;
 import org.apache.fineract.organisation.office.domain.OfficeRepositoryWrapper;
 import org.apache.fineract.organisation.office.service.OfficeReadPlatformService;
 import org.apache.fineract.portfolio.account.service.AccountTransfersReadPlatformService;
-import org.apache.fineract.portfolio.charge.domain.ChargeRepositoryWrapper;
 import org.apache.fineract.portfolio.client.domain.ClientTransactionRepository;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionRepository;
 import org.apache.fineract.portfolio.paymentdetail.service.PaymentDetailWritePlatformService;
@@ -53,6 +56,7 @@ import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransactionRep
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 @Configuration
@@ -61,17 +65,26 @@ public class AccountingJournalEntryConfiguration {
     @Bean
     @ConditionalOnMissingBean(AccountingProcessorHelper.class)
     public AccountingProcessorHelper accountingProcessorHelper(JournalEntryRepository glJournalEntryRepository,
-            ProductToGLAccountMappingRepository accountMappingRepository,
-            FinancialActivityAccountRepositoryWrapper financialActivityAccountRepository, GLClosureRepository closureRepository,
+            AccountingReferenceDataCache accountingReferenceDataCache, GLClosureRepository closureRepository,
             GLAccountRepository glAccountRepository, OfficeRepository officeRepository, LoanTransactionRepository loanTransactionRepository,
             ClientTransactionRepository clientTransactionRepository,
             SavingsAccountTransactionRepository savingsAccountTransactionRepository,
-            AccountTransfersReadPlatformService accountTransfersReadPlatformService, ChargeRepositoryWrapper chargeRepositoryWrapper,
-            BusinessEventNotifierService businessEventNotifierService) {
-        return new AccountingProcessorHelper(glJournalEntryRepository, accountMappingRepository, financialActivityAccountRepository,
-                closureRepository, glAccountRepository, officeRepository, loanTransactionRepository, clientTransactionRepository,
-                savingsAccountTransactionRepository, accountTransfersReadPlatformService, chargeRepositoryWrapper,
-                businessEventNotifierService);
+            AccountTransfersReadPlatformService accountTransfersReadPlatformService,
+            BusinessEventNotifierService businessEventNotifierService, BulkJournalEntryWriter bulkJournalEntryWriter,
+            GLDailyBalanceWriter glDailyBalanceWriter) {
+        return new AccountingProcessorHelper(glJournalEntryRepository, accountingReferenceDataCache, closureRepository,
+                glAccountRepository, officeRepository, loanTransactionRepository, clientTransactionRepository,
+                savingsAccountTransactionRepository, accountTransfersReadPlatformService, businessEventNotifierService,
+                bulkJournalEntryWriter, glDailyBalanceWriter);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(BulkJournalEntryWriter.class)
+    public BulkJournalEntryWriter bulkJournalEntryWriter(JdbcTemplate jdbcTemplate, DatabaseSpecificSQLGenerator sqlGenerator,
+            AuditorAware<Long> auditorAware, BusinessEventNotifierService businessEventNotifierService,
+            List<ImmediateLoanJournalEntryPolicy> immediateLoanJournalEntryPolicies) {
+        return new BulkJournalEntryWriter(jdbcTemplate, sqlGenerator, auditorAware, businessEventNotifierService,
+                immediateLoanJournalEntryPolicies);
     }
 
     @Bean
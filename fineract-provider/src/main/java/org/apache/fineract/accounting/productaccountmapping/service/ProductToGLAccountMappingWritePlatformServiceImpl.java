@@ -35,6 +35,7 @@ import org.apache.fineract.accounting.common.AccountingConstants.LoanProductAcco
 import org.apache.fineract.accounting.common.AccountingConstants.SavingProductAccountingParams;
 import org.apache.fineract.accounting.common.AccountingConstants.SharesProductAccountingParams;
 import org.apache.fineract.accounting.common.AccountingRuleType;
+import org.apache.fineract.accounting.journalentry.service.AccountingReferenceDataCache;
 import org.apache.fineract.accounting.producttoaccountmapping.serialization.ProductToGLAccountMappingFromApiJsonDeserializer;
 import org.apache.fineract.accounting.producttoaccountmapping.service.ProductToGLAccountMappingWritePlatformService;
 import org.apache.fineract.accounting.producttoaccountmapping.service.SavingsProductToGLAccountMappingHelper;
@@ -54,6 +55,7 @@ public class ProductToGLAccountMappingWritePlatformServiceImpl implements Produc
     private final LoanProductToGLAccountMappingHelper loanProductToGLAccountMappingHelper;
     private final SavingsProductToGLAccountMappingHelper savingsProductToGLAccountMappingHelper;
     private final ShareProductToGLAccountMappingHelper shareProductToGLAccountMappingHelper;
+    private final AccountingReferenceDataCache accountingReferenceDataCache;
 
     @Override
     @Transactional
@@ -380,6 +382,7 @@ public class ProductToGLAccountMappingWritePlatformServiceImpl implements Produc
             this.loanProductToGLAccountMappingHelper.updatePaymentChannelToFundSourceMappings(command, element, loanProductId, changes);
             this.loanProductToGLAccountMappingHelper.updateChargesToIncomeAccountMappings(command, element, loanProductId, changes);
         }
+        this.accountingReferenceDataCache.invalidate();
         return changes;
     }
 
@@ -412,6 +415,7 @@ public class ProductToGLAccountMappingWritePlatformServiceImpl implements Produc
                     changes);
             this.savingsProductToGLAccountMappingHelper.updateChargesToIncomeAccountMappings(command, element, savingsProductId, changes);
         }
+        this.accountingReferenceDataCache.invalidate();
         return changes;
     }
 
@@ -442,6 +446,7 @@ public class ProductToGLAccountMappingWritePlatformServiceImpl implements Produc
             this.shareProductToGLAccountMappingHelper.updatePaymentChannelToFundSourceMappings(command, element, shareProductId, changes);
             this.shareProductToGLAccountMappingHelper.updateChargesToIncomeAccountMappings(command, element, shareProductId, changes);
         }
+        this.accountingReferenceDataCache.invalidate();
         return changes;
     }
 }
@@ -18,6 +18,11 @@
  */
 package org.apache.fineract.cob.loan;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.LinkedBlockingQueue;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +37,8 @@ import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.annotation.AfterStep;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -42,12 +49,22 @@ public abstract class AbstractLoanItemReader implements ItemReader<Loan> {
     @Setter(AccessLevel.PROTECTED)
     private LinkedBlockingQueue<Long> remainingData;
 
+    /**
+     * When greater than zero, the next loans of the partition are loaded together with their collections in a few set
+     * based queries, at most this many at once. The loaded loans are kept for the chunk transaction of the reading thread
+     * only, the ones not read by the time it completes are handed back to be loaded again by the next chunk.
+     */
+    @Setter
+    private int prefetchSize;
+
     @Override
     public Loan read() throws Exception {
-        final Long loanId = remainingData.poll();
+        final PrefetchedLoans prefetchedLoans = getPrefetchedLoans();
+        final Long loanId = prefetchedLoans != null ? prefetchedLoans.poll() : remainingData.poll();
         if (loanId != null) {
             try {
-                return loanRepository.findById(loanId).orElseThrow(() -> new LoanNotFoundException(loanId));
+                Loan loan = prefetchedLoans != null ? prefetchedLoans.remove(loanId) : null;
+                return loan != null ? loan : loanRepository.findById(loanId).orElseThrow(() -> new LoanNotFoundException(loanId));
             } catch (Exception e) {
                 throw new LoanReadException(loanId, e);
             }
@@ -60,4 +77,48 @@ public abstract class AbstractLoanItemReader implements ItemReader<Loan> {
         return ExitStatus.COMPLETED;
     }
 
+    private PrefetchedLoans getPrefetchedLoans() {
+        if (prefetchSize <= 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        PrefetchedLoans prefetchedLoans = (PrefetchedLoans) TransactionSynchronizationManager.getResource(this);
+        if (prefetchedLoans == null) {
+            prefetchedLoans = new PrefetchedLoans();
+            TransactionSynchronizationManager.bindResource(this, prefetchedLoans);
+            TransactionSynchronizationManager.registerSynchronization(new PrefetchedLoansSynchronization(prefetchedLoans));
+        }
+        return prefetchedLoans;
+    }
+
+    private final class PrefetchedLoans {
+
+        private final Deque<Long> loanIds = new ArrayDeque<>();
+        private final Map<Long, Loan> loans = new HashMap<>();
+
+        private Long poll() {
+            if (loanIds.isEmpty()) {
+                remainingData.drainTo(loanIds, prefetchSize);
+                if (!loanIds.isEmpty()) {
+                    loanRepository.findAllWithCollectionsByLoanIds(List.copyOf(loanIds)).forEach(loan -> loans.put(loan.getId(), loan));
+                }
+            }
+            return loanIds.poll();
+        }
+
+        private Loan remove(Long loanId) {
+            return loans.remove(loanId);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private final class PrefetchedLoansSynchronization implements TransactionSynchronization {
+
+        private final PrefetchedLoans prefetchedLoans;
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AbstractLoanItemReader.this);
+            remainingData.addAll(prefetchedLoans.loanIds);
+        }
+    }
 }
@@ -177,7 +177,13 @@ public class LoanCOBWorkerConfiguration {
     @Bean
     @StepScope
     public LoanItemReader cobWorkerItemReader() {
-        return new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver, loanLockingService);
+        LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService);
+        if (propertyService.getReaderPrefetchEnabled(LoanCOBConstant.JOB_NAME)) {
+            loanItemReader.setPrefetchSize(Math.min(propertyService.getChunkSize(LoanCOBConstant.JOB_NAME),
+                    fineractProperties.getQuery().getInClauseParameterSizeLimit()));
+        }
+        return loanItemReader;
     }
 
     @Bean
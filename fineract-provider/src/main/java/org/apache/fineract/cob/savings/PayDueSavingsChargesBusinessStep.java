@@ -0,0 +1,65 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.savings;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountCharge;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PayDueSavingsChargesBusinessStep implements SavingsCOBBusinessStep {
+
+    private final SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+
+    @Override
+    public SavingsAccount execute(SavingsAccount savingsAccount) {
+        if (!savingsAccount.isActive()) {
+            return savingsAccount;
+        }
+        final LocalDate businessDate = DateUtils.getBusinessLocalDate();
+        final List<SavingsAccountCharge> chargesDue = savingsAccount.charges().stream().filter(charge -> isDue(charge, businessDate))
+                .sorted(Comparator.comparing(SavingsAccountCharge::getDueDate)).toList();
+        for (SavingsAccountCharge charge : chargesDue) {
+            savingsAccountWritePlatformService.applyChargeDue(charge.getId(), savingsAccount.getId());
+        }
+        return savingsAccount;
+    }
+
+    private static boolean isDue(SavingsAccountCharge charge, LocalDate businessDate) {
+        return charge.isActive() && !charge.isWaived() && charge.isNotFullyPaid() && charge.getDueDate() != null
+                && !DateUtils.isAfter(charge.getDueDate(), businessDate);
+    }
+
+    @Override
+    public String getEnumStyledName() {
+        return "PAY_DUE_SAVINGS_CHARGES";
+    }
+
+    @Override
+    public String getHumanReadableName() {
+        return "Pay due savings charges";
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.savings;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.LinkedBlockingQueue;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.cob.data.SavingsCOBParameter;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.domain.SavingsAccountLock;
+import org.apache.fineract.cob.exceptions.SavingsReadException;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepositoryWrapper;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterStep;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemReader;
+
+@RequiredArgsConstructor
+public class SavingsItemReader implements ItemReader<SavingsAccount> {
+
+    private final SavingsAccountRepositoryWrapper savingsAccountRepository;
+    private final RetrieveSavingsIdService retrieveSavingsIdService;
+    private final SavingsLockingService savingsLockingService;
+
+    private LinkedBlockingQueue<Long> remainingData;
+
+    @BeforeStep
+    public void beforeStep(@NotNull StepExecution stepExecution) {
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        SavingsCOBParameter savingsCOBParameter = (SavingsCOBParameter) executionContext.get(SavingsCOBConstant.SAVINGS_COB_PARAMETER);
+        List<Long> savingsIds = List.of();
+        if (!isEmptyPartition(savingsCOBParameter)) {
+            LocalDate cobBusinessDate = ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE);
+            List<Long> behindSavingsIds = retrieveSavingsIdService
+                    .retrieveAllActiveSavingsIdsBehindDateAndMinAndMaxSavingsId(savingsCOBParameter, cobBusinessDate);
+            if (!behindSavingsIds.isEmpty()) {
+                List<Long> lockedSavingsIds = savingsLockingService
+                        .findAllBySavingsAccountIdInAndLockOwner(behindSavingsIds, LockOwner.SAVINGS_COB_CHUNK_PROCESSING).stream()
+                        .map(SavingsAccountLock::getSavingsAccountId).toList();
+                savingsIds = behindSavingsIds.stream().filter(lockedSavingsIds::contains).toList();
+            }
+        }
+        remainingData = new LinkedBlockingQueue<>(savingsIds);
+    }
+
+    @Override
+    public SavingsAccount read() throws Exception {
+        final Long savingsId = remainingData.poll();
+        if (savingsId != null) {
+            try {
+                return savingsAccountRepository.findOneWithNotFoundDetection(savingsId);
+            } catch (Exception e) {
+                throw new SavingsReadException(savingsId, e);
+            }
+        }
+        return null;
+    }
+
+    @AfterStep
+    public ExitStatus afterStep(@NotNull StepExecution stepExecution) {
+        return ExitStatus.COMPLETED;
+    }
+
+    static boolean isEmptyPartition(SavingsCOBParameter savingsCOBParameter) {
+        return Objects.isNull(savingsCOBParameter) || Objects.isNull(savingsCOBParameter.getMinSavingsId())
+                || Objects.isNull(savingsCOBParameter.getMaxSavingsId())
+                || (savingsCOBParameter.getMinSavingsId().equals(0L) && savingsCOBParameter.getMaxSavingsId().equals(0L));
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.savings;
+
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountSubStatusEnum;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransaction;
+import org.apache.fineract.portfolio.savings.domain.SavingsProduct;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the account through the inactive, dormant and escheat sub statuses. The number of days is counted from the last
+ * deposit or withdrawal (or the activation date), the same way the Update Savings Dormant Accounts job does it.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpdateSavingsDormancyBusinessStep implements SavingsCOBBusinessStep {
+
+    private final SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+
+    @Override
+    public SavingsAccount execute(SavingsAccount savingsAccount) {
+        final SavingsProduct product = savingsAccount.savingsProduct();
+        if (!savingsAccount.isActive() || !product.isDormancyTrackingActive()) {
+            return savingsAccount;
+        }
+        final long daysWithoutActivity = DateUtils.getDifferenceInDays(getLastActivityDate(savingsAccount),
+                DateUtils.getBusinessLocalDate());
+
+        if (getSubStatus(savingsAccount).isSubStatusNone() && isReached(daysWithoutActivity, product.getDaysToInactive())) {
+            savingsAccountWritePlatformService.setSubStatusInactive(savingsAccount.getId());
+        }
+        if (getSubStatus(savingsAccount).isSubStatusInactive() && isReached(daysWithoutActivity, product.getDaysToDormancy())) {
+            savingsAccountWritePlatformService.setSubStatusDormant(savingsAccount.getId());
+        }
+        if (getSubStatus(savingsAccount).isSubStatusDormant() && isReached(daysWithoutActivity, product.getDaysToEscheat())) {
+            savingsAccountWritePlatformService.escheat(savingsAccount.getId());
+        }
+        return savingsAccount;
+    }
+
+    private static LocalDate getLastActivityDate(SavingsAccount savingsAccount) {
+        return savingsAccount.getTransactions().stream()
+                .filter(transaction -> (transaction.isDeposit() || transaction.isWithdrawal()) && transaction.isNotReversed()
+                        && !transaction.isReversalTransaction())
+                .map(SavingsAccountTransaction::getTransactionDate).max(LocalDate::compareTo).orElse(savingsAccount.getActivationDate());
+    }
+
+    private static SavingsAccountSubStatusEnum getSubStatus(SavingsAccount savingsAccount) {
+        return SavingsAccountSubStatusEnum.fromInt(savingsAccount.getSubStatus());
+    }
+
+    private static boolean isReached(long daysWithoutActivity, Long threshold) {
+        return threshold != null && daysWithoutActivity >= threshold;
+    }
+
+    @Override
+    public String getEnumStyledName() {
+        return "UPDATE_SAVINGS_DORMANCY";
+    }
+
+    @Override
+    public String getHumanReadableName() {
+        return "Update savings dormancy";
+    }
+}
@@ -31,6 +31,7 @@ import org.apache.fineract.cob.domain.BatchBusinessStep;
 import org.apache.fineract.cob.domain.BatchBusinessStepRepository;
 import org.apache.fineract.cob.exceptions.BusinessStepException;
 import org.apache.fineract.cob.exceptions.BusinessStepNotBelongsToJobException;
+import org.apache.fineract.cob.savings.SavingsCOBConstant;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResultBuilder;
@@ -48,10 +49,12 @@ public class ConfigJobParameterServiceImpl implements ConfigJobParameterService,
     private final ApplicationContext applicationContext;
     private final BusinessStepMapper mapper;
     private JobBusinessStepDetail availableBusinessStepsForLoan;
+    private JobBusinessStepDetail availableBusinessStepsForSavings;
 
     @Override
     public void afterPropertiesSet() throws Exception {
         availableBusinessStepsForLoan = getAvailableBusinessStepsByJobName(BusinessStepCategory.LOAN.name());
+        availableBusinessStepsForSavings = getAvailableBusinessStepsByJobName(BusinessStepCategory.SAVINGS.name());
     }
 
     @Override
@@ -70,7 +73,10 @@ public class ConfigJobParameterServiceImpl implements ConfigJobParameterService,
         if (businessSteps.isEmpty()) {
             throw new BusinessStepException("A job needs to have 1 business step at least.");
         }
-        List<String> availableBusinessStepNames = availableBusinessStepsForLoan.getAvailableBusinessSteps().stream()
+        JobBusinessStepDetail availableBusinessSteps = SavingsCOBConstant.SAVINGS_COB_JOB_NAME.equals(jobName)
+                ? availableBusinessStepsForSavings
+                : availableBusinessStepsForLoan;
+        List<String> availableBusinessStepNames = availableBusinessSteps.getAvailableBusinessSteps().stream()
                 .map(BusinessStepDetail::getStepName).toList();
         List<String> notValidBusinessStepNames = businessSteps.stream().map(BusinessStep::getStepName)
                 .filter(businessStepName -> !availableBusinessStepNames.contains(businessStepName)).toList();
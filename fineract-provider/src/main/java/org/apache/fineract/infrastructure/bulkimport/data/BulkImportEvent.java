@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.infrastructure.bulkimport.data;
 
+import java.io.File;
 import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.domain.FineractEvent;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -32,18 +33,33 @@ public final class BulkImportEvent extends FineractEvent {
 
     private final String dateFormat;
 
+    private final File file;
+
+    private final ImportFormatType format;
+
     private BulkImportEvent(final Object source, final Workbook workbook, final Long importId, final String locale, final String dateFormat,
-            FineractContext context) {
+            FineractContext context, final File file, final ImportFormatType format) {
         super(source, context);
         this.workbook = workbook;
         this.importId = importId;
         this.locale = locale;
         this.dateFormat = dateFormat;
+        this.file = file;
+        this.format = format;
     }
 
     public static BulkImportEvent instance(final Object source, final Workbook workbook, final Long importId, final String locale,
             final String dateFormat, FineractContext context) {
-        return new BulkImportEvent(source, workbook, importId, locale, dateFormat, context);
+        return new BulkImportEvent(source, workbook, importId, locale, dateFormat, context, null, null);
+    }
+
+    /**
+     * Event of an import whose rows are streamed from the file instead of being read from a workbook in memory. The
+     * listener deletes the file once the import is done.
+     */
+    public static BulkImportEvent streamingInstance(final Object source, final File file, final ImportFormatType format,
+            final Long importId, final String locale, final String dateFormat, FineractContext context) {
+        return new BulkImportEvent(source, null, importId, locale, dateFormat, context, file, format);
     }
 
     public Workbook getWorkbook() {
@@ -62,4 +78,11 @@ public final class BulkImportEvent extends FineractEvent {
         return locale;
     }
 
+    public File getFile() {
+        return file;
+    }
+
+    public ImportFormatType getFormat() {
+        return format;
+    }
 }
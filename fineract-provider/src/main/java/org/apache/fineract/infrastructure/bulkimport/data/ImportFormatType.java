@@ -23,7 +23,7 @@ import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRu
 public enum ImportFormatType {
 
     XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"), XLS("application/vnd.ms-excel"), ODS(
-            "application/vnd.oasis.opendocument.spreadsheet");
+            "application/vnd.oasis.opendocument.spreadsheet"), CSV("text/csv");
 
     private final String format;
 
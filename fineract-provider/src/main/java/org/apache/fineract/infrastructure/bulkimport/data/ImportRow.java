@@ -0,0 +1,93 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.data;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * One row of a streamed import file, with the text of its cells. Numeric cells of .xlsx files hold the plain number and
+ * date cells the ISO date, the cells of .csv files hold the text as it is in the file.
+ */
+public final class ImportRow {
+
+    private final int rowIndex;
+    private final List<String> cells;
+
+    public ImportRow(final int rowIndex, final List<String> cells) {
+        this.rowIndex = rowIndex;
+        this.cells = cells;
+    }
+
+    public int getRowIndex() {
+        return rowIndex;
+    }
+
+    public List<String> getCells() {
+        return cells;
+    }
+
+    public String readAsString(final int colIndex) {
+        return colIndex < cells.size() ? StringUtils.trimToNull(cells.get(colIndex)) : null;
+    }
+
+    public BigDecimal readAsBigDecimal(final int colIndex, final Locale locale) {
+        final String value = readAsString(colIndex);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            final DecimalFormat format = (DecimalFormat) NumberFormat.getNumberInstance(locale);
+            format.setParseBigDecimal(true);
+            final ParsePosition position = new ParsePosition(0);
+            final BigDecimal number = (BigDecimal) format.parse(value, position);
+            if (number == null || position.getIndex() != value.length()) {
+                throw new IllegalArgumentException("Invalid number " + value + " in column " + (colIndex + 1));
+            }
+            return number;
+        }
+    }
+
+    public Long readAsLong(final int colIndex, final Locale locale) {
+        final BigDecimal value = readAsBigDecimal(colIndex, locale);
+        return value == null ? null : value.longValueExact();
+    }
+
+    public LocalDate readAsDate(final int colIndex, final String dateFormat, final Locale locale) {
+        final String value = readAsString(colIndex);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            return LocalDate.parse(value, DateTimeFormatter.ofPattern(dateFormat, locale));
+        }
+    }
+}
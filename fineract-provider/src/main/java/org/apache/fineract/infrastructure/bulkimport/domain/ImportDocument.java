@@ -101,6 +101,11 @@ public class ImportDocument extends AbstractPersistableCustom<Long> {
         this.failureCount = errorCount;
     }
 
+    public void update(final LocalDateTime endTime, final Integer totalRecords, final Integer successCount, final Integer errorCount) {
+        this.totalRecords = totalRecords;
+        update(endTime, successCount, errorCount);
+    }
+
     public Document getDocument() {
         return this.document;
     }
@@ -0,0 +1,62 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler;
+
+import java.util.function.Function;
+import org.apache.fineract.commands.domain.CommandWrapper;
+import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportRow;
+
+/**
+ * Import handler whose rows can be read from a streamed .xlsx or .csv file and imported in chunks on several threads.
+ * Rows with the same ordering key are imported one after the other, in the order of the file.
+ */
+public interface StreamingImportHandler {
+
+    /**
+     * @return the type of the entities imported by the handler
+     */
+    GlobalEntityType getEntityType();
+
+    /**
+     * @return the name of the sheet holding the rows to import in .xlsx files
+     */
+    String getSheetName();
+
+    /**
+     * @return the column the outcome of the row is written to in the result file
+     */
+    int getStatusColumn();
+
+    /**
+     * @return false when the row is empty or was already imported
+     */
+    boolean isImportable(ImportRow row);
+
+    /**
+     * @return the key of the rows that have to be imported in order, usually the account the row belongs to
+     */
+    String getOrderingKey(ImportRow row);
+
+    /**
+     * Creates the mapper turning the rows of one import into the commands to execute. It can preload the lookups the rows
+     * refer to, and is used by several threads at once.
+     */
+    Function<ImportRow, CommandWrapper> createCommandMapper(String locale, String dateFormat);
+}
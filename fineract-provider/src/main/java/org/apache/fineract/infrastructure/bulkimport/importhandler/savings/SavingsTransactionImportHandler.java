@@ -18,23 +18,35 @@
  */
 package org.apache.fineract.infrastructure.bulkimport.importhandler.savings;
 
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
 import org.apache.fineract.commands.domain.CommandWrapper;
 import org.apache.fineract.commands.service.CommandWrapperBuilder;
 import org.apache.fineract.commands.service.PortfolioCommandSourceWritePlatformService;
 import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
 import org.apache.fineract.infrastructure.bulkimport.constants.TransactionConstants;
 import org.apache.fineract.infrastructure.bulkimport.data.Count;
+import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportRow;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandler;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandlerUtils;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.StreamingImportHandler;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.helper.DateSerializer;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.helper.SavingsAccountTransactionEnumValueSerialiser;
+import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
 import org.apache.fineract.infrastructure.core.serialization.GoogleGsonSerializerHelper;
+import org.apache.fineract.infrastructure.core.serialization.JsonParserHelper;
+import org.apache.fineract.portfolio.paymenttype.domain.PaymentType;
+import org.apache.fineract.portfolio.paymenttype.domain.PaymentTypeRepository;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionData;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionEnumData;
 import org.apache.poi.ss.usermodel.Cell;
@@ -48,7 +60,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 @Service
-public class SavingsTransactionImportHandler implements ImportHandler {
+public class SavingsTransactionImportHandler implements ImportHandler, StreamingImportHandler {
 
     public static final String TRANSACTION_TYPE = "transactionType";
     public static final String REVERSED = "reversed";
@@ -57,10 +69,13 @@ public class SavingsTransactionImportHandler implements ImportHandler {
     public static final String DEPOSIT = "Deposit";
     private static final Logger LOG = LoggerFactory.getLogger(SavingsTransactionImportHandler.class);
     private final PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService;
+    private final PaymentTypeRepository paymentTypeRepository;
 
     @Autowired
-    public SavingsTransactionImportHandler(final PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService) {
+    public SavingsTransactionImportHandler(final PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService,
+            final PaymentTypeRepository paymentTypeRepository) {
         this.commandsSourceWritePlatformService = commandsSourceWritePlatformService;
+        this.paymentTypeRepository = paymentTypeRepository;
     }
 
     @Override
@@ -120,30 +135,11 @@ public class SavingsTransactionImportHandler implements ImportHandler {
         int successCount = 0;
         int errorCount = 0;
         String errorMessage = "";
-        GsonBuilder gsonBuilder = GoogleGsonSerializerHelper.createGsonBuilder();
-        gsonBuilder.registerTypeAdapter(LocalDate.class, new DateSerializer(dateFormat));
-        gsonBuilder.registerTypeAdapter(SavingsAccountTransactionEnumData.class, new SavingsAccountTransactionEnumValueSerialiser());
+        Gson gson = createGson(dateFormat);
 
         for (SavingsAccountTransactionData transaction : savingsTransactions) {
             try {
-                JsonObject savingsTransactionJsonob = gsonBuilder.create().toJsonTree(transaction).getAsJsonObject();
-                savingsTransactionJsonob.remove(TRANSACTION_TYPE);
-                savingsTransactionJsonob.remove(REVERSED);
-                savingsTransactionJsonob.remove(INTERESTED_POSTED_AS_ON);
-                String payload = savingsTransactionJsonob.toString();
-                CommandWrapper commandRequest = null;
-                if (transaction.getTransactionType().getValue().equals(WITHDRAWAL)) {
-                    commandRequest = new CommandWrapperBuilder() //
-                            .savingsAccountWithdrawal(transaction.getSavingsAccountId()) //
-                            .withJson(payload) //
-                            .build(); //
-
-                } else if (transaction.getTransactionType().getValue().equals(DEPOSIT)) {
-                    commandRequest = new CommandWrapperBuilder() //
-                            .savingsAccountDeposit(transaction.getSavingsAccountId()) //
-                            .withJson(payload) //
-                            .build();
-                }
+                CommandWrapper commandRequest = toCommand(gson, transaction);
                 commandsSourceWritePlatformService.logCommandSource(commandRequest);
                 successCount++;
                 Cell statusCell = savingsTransactionSheet.getRow(transaction.getRowIndex()).createCell(TransactionConstants.STATUS_COL);
@@ -163,4 +159,86 @@ public class SavingsTransactionImportHandler implements ImportHandler {
         return Count.instance(successCount, errorCount);
     }
 
+    @Override
+    public GlobalEntityType getEntityType() {
+        return GlobalEntityType.SAVINGS_TRANSACTIONS;
+    }
+
+    @Override
+    public String getSheetName() {
+        return TemplatePopulateImportConstants.SAVINGS_TRANSACTION_SHEET_NAME;
+    }
+
+    @Override
+    public int getStatusColumn() {
+        return TransactionConstants.STATUS_COL;
+    }
+
+    @Override
+    public boolean isImportable(final ImportRow row) {
+        return row.readAsString(TransactionConstants.AMOUNT_COL) != null
+                && !TemplatePopulateImportConstants.STATUS_CELL_IMPORTED.equals(row.readAsString(TransactionConstants.STATUS_COL));
+    }
+
+    @Override
+    public String getOrderingKey(final ImportRow row) {
+        return row.readAsString(TransactionConstants.SAVINGS_ACCOUNT_NO_COL);
+    }
+
+    @Override
+    public Function<ImportRow, CommandWrapper> createCommandMapper(final String locale, final String dateFormat) {
+        final Map<String, Long> paymentTypeIds = new HashMap<>();
+        for (PaymentType paymentType : paymentTypeRepository.findAll()) {
+            paymentTypeIds.putIfAbsent(paymentType.getName().trim(), paymentType.getId());
+        }
+        final Locale importLocale = JsonParserHelper.localeFromString(locale);
+        final Gson gson = createGson(dateFormat);
+        return row -> {
+            final String paymentType = row.readAsString(TransactionConstants.PAYMENT_TYPE_COL);
+            final Long paymentTypeId = paymentType == null ? null : paymentTypeIds.get(paymentType);
+            if (paymentType != null && paymentTypeId == null) {
+                throw new GeneralPlatformDomainRuleException("error.msg.payment.type.not.found",
+                        "Payment type " + paymentType + " does not exist", paymentType);
+            }
+            final SavingsAccountTransactionData transaction = SavingsAccountTransactionData.importInstance(
+                    row.readAsBigDecimal(TransactionConstants.AMOUNT_COL, importLocale),
+                    row.readAsDate(TransactionConstants.TRANSACTION_DATE_COL, dateFormat, importLocale), paymentTypeId,
+                    row.readAsString(TransactionConstants.ACCOUNT_NO_COL), row.readAsString(TransactionConstants.CHECK_NO_COL),
+                    row.readAsString(TransactionConstants.ROUTING_CODE_COL), row.readAsString(TransactionConstants.RECEIPT_NO_COL),
+                    row.readAsString(TransactionConstants.BANK_NO_COL),
+                    row.readAsLong(TransactionConstants.SAVINGS_ACCOUNT_NO_COL, importLocale),
+                    new SavingsAccountTransactionEnumData(null, null, row.readAsString(TransactionConstants.TRANSACTION_TYPE_COL)),
+                    row.getRowIndex(), locale, dateFormat);
+            return toCommand(gson, transaction);
+        };
+    }
+
+    private Gson createGson(final String dateFormat) {
+        GsonBuilder gsonBuilder = GoogleGsonSerializerHelper.createGsonBuilder();
+        gsonBuilder.registerTypeAdapter(LocalDate.class, new DateSerializer(dateFormat));
+        gsonBuilder.registerTypeAdapter(SavingsAccountTransactionEnumData.class, new SavingsAccountTransactionEnumValueSerialiser());
+        return gsonBuilder.create();
+    }
+
+    private CommandWrapper toCommand(final Gson gson, final SavingsAccountTransactionData transaction) {
+        JsonObject savingsTransactionJsonob = gson.toJsonTree(transaction).getAsJsonObject();
+        savingsTransactionJsonob.remove(TRANSACTION_TYPE);
+        savingsTransactionJsonob.remove(REVERSED);
+        savingsTransactionJsonob.remove(INTERESTED_POSTED_AS_ON);
+        String payload = savingsTransactionJsonob.toString();
+        CommandWrapper commandRequest = null;
+        if (transaction.getTransactionType().getValue().equals(WITHDRAWAL)) {
+            commandRequest = new CommandWrapperBuilder() //
+                    .savingsAccountWithdrawal(transaction.getSavingsAccountId()) //
+                    .withJson(payload) //
+                    .build(); //
+
+        } else if (transaction.getTransactionType().getValue().equals(DEPOSIT)) {
+            commandRequest = new CommandWrapperBuilder() //
+                    .savingsAccountDeposit(transaction.getSavingsAccountId()) //
+                    .withJson(payload) //
+                    .build();
+        }
+        return commandRequest;
+    }
 }
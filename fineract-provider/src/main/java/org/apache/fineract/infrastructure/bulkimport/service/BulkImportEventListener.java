@@ -18,10 +18,17 @@
  */
 package org.apache.fineract.infrastructure.bulkimport.service;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.Set;
 import org.apache.fineract.infrastructure.bulkimport.data.BulkImportEvent;
@@ -30,6 +37,7 @@ import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
 import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocument;
 import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocumentRepository;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandler;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.StreamingImportHandler;
 import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
@@ -53,14 +61,17 @@ public class BulkImportEventListener implements ApplicationListener<BulkImportEv
     private final ApplicationContext applicationContext;
     private final ImportDocumentRepository importRepository;
     private final DocumentWritePlatformService documentService;
+    private final StreamingImportService streamingImportService;
 
     @Autowired
     public BulkImportEventListener(final TenantDetailsService tenantDetailsService, final ApplicationContext context,
-            final ImportDocumentRepository importRepository, final DocumentWritePlatformService documentService) {
+            final ImportDocumentRepository importRepository, final DocumentWritePlatformService documentService,
+            final StreamingImportService streamingImportService) {
         this.tenantDetailsService = tenantDetailsService;
         this.applicationContext = context;
         this.importRepository = importRepository;
         this.documentService = documentService;
+        this.streamingImportService = streamingImportService;
     }
 
     @Override
@@ -133,21 +144,16 @@ public class BulkImportEventListener implements ApplicationListener<BulkImportEv
 
         }
 
+        if (event.getFile() != null) {
+            importStreamed(event, importDocument, entityType, (StreamingImportHandler) importHandler);
+            return;
+        }
+
         final Workbook workbook = event.getWorkbook();
         final Count count = importHandler.process(workbook, event.getLocale(), event.getDateFormat());
         importDocument.update(DateUtils.getLocalDateTimeOfTenant(), count.getSuccessCount(), count.getErrorCount());
         this.importRepository.saveAndFlush(importDocument);
 
-        final Set<String> modifiedParams = new HashSet<>();
-        modifiedParams.add("fileName");
-        modifiedParams.add("size");
-        modifiedParams.add("type");
-        modifiedParams.add("location");
-        Document document = importDocument.getDocument();
-
-        DocumentCommand documentCommand = new DocumentCommand(modifiedParams, document.getId(), entityType.name(), null, document.getName(),
-                document.getFileName(), document.getSize(), URLConnection.guessContentTypeFromName(document.getFileName()), null, null);
-
         final ByteArrayOutputStream bos = new ByteArrayOutputStream();
         try {
             try {
@@ -160,7 +166,56 @@ public class BulkImportEventListener implements ApplicationListener<BulkImportEv
         }
         byte[] bytes = bos.toByteArray();
         ByteArrayInputStream bis = new ByteArrayInputStream(bytes);
-        this.documentService.updateDocument(documentCommand, bis);
+        this.documentService.updateDocument(createDocumentCommand(importDocument, entityType), bis);
+    }
+
+    private void importStreamed(final BulkImportEvent event, final ImportDocument importDocument, final GlobalEntityType entityType,
+            final StreamingImportHandler importHandler) {
+        final File file = event.getFile();
+        Path resultFile = null;
+        try {
+            final Count count = this.streamingImportService.importRows(importDocument.getId(), importHandler, event.getFormat(), file,
+                    event.getLocale(), event.getDateFormat());
+            importDocument.update(DateUtils.getLocalDateTimeOfTenant(), count.getSuccessCount() + count.getErrorCount(),
+                    count.getSuccessCount(), count.getErrorCount());
+            this.importRepository.saveAndFlush(importDocument);
+
+            resultFile = Files.createTempFile("import-result-", null);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(resultFile))) {
+                this.streamingImportService.writeResult(importDocument.getId(), importHandler, event.getFormat(), file, out);
+            }
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(resultFile))) {
+                this.documentService.updateDocument(createDocumentCommand(importDocument, entityType), in);
+            }
+        } catch (IOException | RuntimeException e) {
+            // the file could not be read, the failures of single rows and chunks are in the result file
+            LOG.error("Problem occurred while importing {}", file, e);
+        } finally {
+            deleteQuietly(file.toPath());
+            if (resultFile != null) {
+                deleteQuietly(resultFile);
+            }
+        }
+    }
+
+    private DocumentCommand createDocumentCommand(final ImportDocument importDocument, final GlobalEntityType entityType) {
+        final Set<String> modifiedParams = new HashSet<>();
+        modifiedParams.add("fileName");
+        modifiedParams.add("size");
+        modifiedParams.add("type");
+        modifiedParams.add("location");
+        Document document = importDocument.getDocument();
+
+        return new DocumentCommand(modifiedParams, document.getId(), entityType.name(), null, document.getName(), document.getFileName(),
+                document.getSize(), URLConnection.guessContentTypeFromName(document.getFileName()), null, null);
+    }
+
+    private void deleteQuietly(final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOG.warn("Could not delete {}", path, e);
+        }
     }
 
 }
@@ -20,23 +20,26 @@ package org.apache.fineract.infrastructure.bulkimport.service;
 
 import jakarta.ws.rs.core.Response;
 import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.Collection;
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.infrastructure.bulkimport.data.BulkImportEvent;
 import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
 import org.apache.fineract.infrastructure.bulkimport.data.ImportData;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportFormatType;
 import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocument;
 import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocumentRepository;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandlerUtils;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.StreamingImportHandler;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -88,88 +91,24 @@ public class BulkImportWorkbookServiceImpl implements BulkImportWorkbookService
             final String dateFormat) {
         try {
             if (entity != null && inputStream != null && fileDetail != null && locale != null && dateFormat != null) {
-                final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                IOUtils.copy(inputStream, baos);
-                final byte[] bytes = baos.toByteArray();
-                InputStream clonedInputStream = new ByteArrayInputStream(bytes);
-                final BufferedInputStream bis = new BufferedInputStream(new ByteArrayInputStream(bytes));
-                final Tika tika = new Tika();
-                final TikaInputStream tikaInputStream = TikaInputStream.get(bis);
-                final String fileType = tika.detect(tikaInputStream);
-                if (!fileType.contains("msoffice") && !fileType.contains("application/vnd.ms-excel")) {
-                    // We had a problem where we tried to upload the downloaded
-                    // file from the import options, it was somehow changed the
-                    // extension we use this fix.
-                    throw new GeneralPlatformDomainRuleException("error.msg.invalid.file.extension",
-                            "Uploaded file extension is not recognized.");
-
-                }
-                Workbook workbook = new HSSFWorkbook(clonedInputStream);
-                GlobalEntityType entityType = null;
-                int primaryColumn = 0;
-                if (entity.trim().equalsIgnoreCase(GlobalEntityType.CLIENTS_PERSON.toString())) {
-                    entityType = GlobalEntityType.CLIENTS_PERSON;
-                    primaryColumn = 0;
-                } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.CLIENTS_ENTITY.toString())) {
-                    entityType = GlobalEntityType.CLIENTS_ENTITY;
-                    primaryColumn = 0;
-                } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.CENTERS.toString())) {
-                    entityType = GlobalEntityType.CENTERS;
-                    primaryColumn = 0;
-                } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.GROUPS.toString())) {
-                    entityType = GlobalEntityType.GROUPS;
-                    primaryColumn = 0;
-                } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.LOANS.toString())) {
-                    entityType = GlobalEntityType.LOANS;
-                    primaryColumn = 0;
-                } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.LOAN_TRANSACTIONS.toString())) {
-                    entityType = GlobalEntityType.LOAN_TRANSACTIONS;
-                    primaryColumn = 0;
-                } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.GUARANTORS.toString())) {
-                    entityType = GlobalEntityType.GUARANTORS;
-                    primaryColumn = 0;
-                } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.OFFICES.toString())) {
-                    entityType = GlobalEntityType.OFFICES;
-                    primaryColumn = 0;
-                } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.CHART_OF_ACCOUNTS.toString())) {
-                    entityType = GlobalEntityType.CHART_OF_ACCOUNTS;
-                    primaryColumn = 0;
-                } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.GL_JOURNAL_ENTRIES.toString())) {
-                    entityType = GlobalEntityType.GL_JOURNAL_ENTRIES;
-                    primaryColumn = 0;
-                } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.STAFF.toString())) {
-                    entityType = GlobalEntityType.STAFF;
-                    primaryColumn = 0;
-                } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.SHARE_ACCOUNTS.toString())) {
-                    entityType = GlobalEntityType.SHARE_ACCOUNTS;
-                    primaryColumn = 0;
-                } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.SAVINGS_ACCOUNT.toString())) {
-                    entityType = GlobalEntityType.SAVINGS_ACCOUNT;
-                    primaryColumn = 0;
-                } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.SAVINGS_TRANSACTIONS.toString())) {
-                    entityType = GlobalEntityType.SAVINGS_TRANSACTIONS;
-                    primaryColumn = 0;
-                } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.RECURRING_DEPOSIT_ACCOUNTS.toString())) {
-                    entityType = GlobalEntityType.RECURRING_DEPOSIT_ACCOUNTS;
-                    primaryColumn = 0;
-                } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.RECURRING_DEPOSIT_ACCOUNTS_TRANSACTIONS.toString())) {
-                    entityType = GlobalEntityType.RECURRING_DEPOSIT_ACCOUNTS_TRANSACTIONS;
-                    primaryColumn = 0;
-                } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.FIXED_DEPOSIT_ACCOUNTS.toString())) {
-                    entityType = GlobalEntityType.FIXED_DEPOSIT_ACCOUNTS;
-                    primaryColumn = 0;
-                } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.FIXED_DEPOSIT_TRANSACTIONS.toString())) {
-                    entityType = GlobalEntityType.FIXED_DEPOSIT_TRANSACTIONS;
-                    primaryColumn = 0;
-                } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.USERS.toString())) {
-                    entityType = GlobalEntityType.USERS;
-                    primaryColumn = 0;
-                } else {
-                    workbook.close();
-                    throw new GeneralPlatformDomainRuleException("error.msg.unable.to.find.resource", "Unable to find requested resource");
-
+                // The upload is kept in a temporary file, so files imported with streaming never have to fit in memory
+                final Path uploadFile = Files.createTempFile("import-", null);
+                boolean streamed = false;
+                try {
+                    Files.copy(inputStream, uploadFile, StandardCopyOption.REPLACE_EXISTING);
+                    final ImportFormatType format = detectFormat(uploadFile, fileDetail.getFileName());
+                    if (format == ImportFormatType.XLS) {
+                        return importWorkbook(entity, uploadFile, fileDetail, locale, dateFormat);
+                    }
+                    final GlobalEntityType entityType = findStreamingEntityType(entity);
+                    final Long importDocumentId = publishStreamingEvent(fileDetail, uploadFile, format, entityType, locale, dateFormat);
+                    streamed = true;
+                    return importDocumentId;
+                } finally {
+                    if (!streamed) {
+                        Files.deleteIfExists(uploadFile);
+                    }
                 }
-                return publishEvent(primaryColumn, fileDetail, bis, entityType, workbook, locale, dateFormat);
             }
             throw new GeneralPlatformDomainRuleException("error.msg.null", "One or more of the given parameters not found");
         } catch (IOException e) {
@@ -180,6 +119,132 @@ public class BulkImportWorkbookServiceImpl implements BulkImportWorkbookService
         }
     }
 
+    private ImportFormatType detectFormat(final Path uploadFile, final String fileName) throws IOException {
+        final String fileType;
+        try (TikaInputStream tikaInputStream = TikaInputStream.get(uploadFile)) {
+            fileType = new Tika().detect(tikaInputStream, fileName);
+        }
+        if (fileType.contains("msoffice") || fileType.contains(ImportFormatType.XLS.getFormat())) {
+            return ImportFormatType.XLS;
+        } else if (fileType.equals(ImportFormatType.XLSX.getFormat())) {
+            return ImportFormatType.XLSX;
+        } else if (fileType.equals(ImportFormatType.CSV.getFormat())) {
+            return ImportFormatType.CSV;
+        }
+        // We had a problem where we tried to upload the downloaded
+        // file from the import options, it was somehow changed the
+        // extension we use this fix.
+        throw new GeneralPlatformDomainRuleException("error.msg.invalid.file.extension", "Uploaded file extension is not recognized.");
+    }
+
+    private GlobalEntityType findStreamingEntityType(final String entity) {
+        for (StreamingImportHandler importHandler : applicationContext.getBeansOfType(StreamingImportHandler.class).values()) {
+            if (entity.trim().equalsIgnoreCase(importHandler.getEntityType().toString())) {
+                return importHandler.getEntityType();
+            }
+        }
+        throw new GeneralPlatformDomainRuleException("error.msg.invalid.file.extension",
+                "Only .xls files can be imported for " + entity.trim());
+    }
+
+    private Long importWorkbook(final String entity, final Path uploadFile, final FormDataContentDisposition fileDetail,
+            final String locale, final String dateFormat) throws IOException {
+        final Workbook workbook;
+        try (InputStream workbookInputStream = Files.newInputStream(uploadFile)) {
+            workbook = new HSSFWorkbook(workbookInputStream);
+        }
+        GlobalEntityType entityType = null;
+        int primaryColumn = 0;
+        if (entity.trim().equalsIgnoreCase(GlobalEntityType.CLIENTS_PERSON.toString())) {
+            entityType = GlobalEntityType.CLIENTS_PERSON;
+            primaryColumn = 0;
+        } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.CLIENTS_ENTITY.toString())) {
+            entityType = GlobalEntityType.CLIENTS_ENTITY;
+            primaryColumn = 0;
+        } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.CENTERS.toString())) {
+            entityType = GlobalEntityType.CENTERS;
+            primaryColumn = 0;
+        } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.GROUPS.toString())) {
+            entityType = GlobalEntityType.GROUPS;
+            primaryColumn = 0;
+        } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.LOANS.toString())) {
+            entityType = GlobalEntityType.LOANS;
+            primaryColumn = 0;
+        } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.LOAN_TRANSACTIONS.toString())) {
+            entityType = GlobalEntityType.LOAN_TRANSACTIONS;
+            primaryColumn = 0;
+        } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.GUARANTORS.toString())) {
+            entityType = GlobalEntityType.GUARANTORS;
+            primaryColumn = 0;
+        } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.OFFICES.toString())) {
+            entityType = GlobalEntityType.OFFICES;
+            primaryColumn = 0;
+        } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.CHART_OF_ACCOUNTS.toString())) {
+            entityType = GlobalEntityType.CHART_OF_ACCOUNTS;
+            primaryColumn = 0;
+        } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.GL_JOURNAL_ENTRIES.toString())) {
+            entityType = GlobalEntityType.GL_JOURNAL_ENTRIES;
+            primaryColumn = 0;
+        } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.STAFF.toString())) {
+            entityType = GlobalEntityType.STAFF;
+            primaryColumn = 0;
+        } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.SHARE_ACCOUNTS.toString())) {
+            entityType = GlobalEntityType.SHARE_ACCOUNTS;
+            primaryColumn = 0;
+        } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.SAVINGS_ACCOUNT.toString())) {
+            entityType = GlobalEntityType.SAVINGS_ACCOUNT;
+            primaryColumn = 0;
+        } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.SAVINGS_TRANSACTIONS.toString())) {
+            entityType = GlobalEntityType.SAVINGS_TRANSACTIONS;
+            primaryColumn = 0;
+        } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.RECURRING_DEPOSIT_ACCOUNTS.toString())) {
+            entityType = GlobalEntityType.RECURRING_DEPOSIT_ACCOUNTS;
+            primaryColumn = 0;
+        } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.RECURRING_DEPOSIT_ACCOUNTS_TRANSACTIONS.toString())) {
+            entityType = GlobalEntityType.RECURRING_DEPOSIT_ACCOUNTS_TRANSACTIONS;
+            primaryColumn = 0;
+        } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.FIXED_DEPOSIT_ACCOUNTS.toString())) {
+            entityType = GlobalEntityType.FIXED_DEPOSIT_ACCOUNTS;
+            primaryColumn = 0;
+        } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.FIXED_DEPOSIT_TRANSACTIONS.toString())) {
+            entityType = GlobalEntityType.FIXED_DEPOSIT_TRANSACTIONS;
+            primaryColumn = 0;
+        } else if (entity.trim().equalsIgnoreCase(GlobalEntityType.USERS.toString())) {
+            entityType = GlobalEntityType.USERS;
+            primaryColumn = 0;
+        } else {
+            workbook.close();
+            throw new GeneralPlatformDomainRuleException("error.msg.unable.to.find.resource", "Unable to find requested resource");
+
+        }
+        try (BufferedInputStream bis = new BufferedInputStream(Files.newInputStream(uploadFile))) {
+            return publishEvent(primaryColumn, fileDetail, bis, entityType, workbook, locale, dateFormat);
+        }
+    }
+
+    private Long publishStreamingEvent(final FormDataContentDisposition fileDetail, final Path uploadFile, final ImportFormatType format,
+            final GlobalEntityType entityType, final String locale, final String dateFormat) throws IOException {
+        final String fileName = fileDetail.getFileName();
+
+        final Long documentId;
+        try (BufferedInputStream bis = new BufferedInputStream(Files.newInputStream(uploadFile))) {
+            documentId = this.documentWritePlatformService.createInternalDocument(
+                    DocumentWritePlatformServiceJpaRepositoryImpl.DocumentManagementEntity.IMPORT.name(),
+                    this.securityContext.authenticatedUser().getId(), null, bis, URLConnection.guessContentTypeFromName(fileName), fileName,
+                    null, fileName);
+        }
+        final Document document = this.documentRepository.findById(documentId).orElse(null);
+
+        // the number of rows is only known once the file was read
+        final ImportDocument importDocument = ImportDocument.instance(document, DateUtils.getLocalDateTimeOfTenant(), entityType.getValue(),
+                this.securityContext.authenticatedUser(), 0);
+        this.importDocumentRepository.saveAndFlush(importDocument);
+        BulkImportEvent event = BulkImportEvent.streamingInstance(this, uploadFile.toFile(), format, importDocument.getId(), locale,
+                dateFormat, ThreadLocalContextUtil.getContext());
+        applicationContext.publishEvent(event);
+        return importDocument.getId();
+    }
+
     private Long publishEvent(final Integer primaryColumn, final FormDataContentDisposition fileDetail,
             final InputStream clonedInputStreamWorkbook, final GlobalEntityType entityType, final Workbook workbook, final String locale,
             final String dateFormat) {
@@ -265,10 +330,19 @@ public class BulkImportWorkbookServiceImpl implements BulkImportWorkbookService
         File file = new File(fileLocation);
         final Response.ResponseBuilder response = Response.ok(file);
         response.header("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
-        response.header("Content-Type", "application/vnd.ms-excel");
+        response.header("Content-Type", getContentType(fileName));
         return response.build();
     }
 
+    private String getContentType(final String fileName) {
+        for (ImportFormatType format : ImportFormatType.values()) {
+            if (StringUtils.endsWithIgnoreCase(fileName, "." + format.name())) {
+                return format.getFormat();
+            }
+        }
+        return ImportFormatType.XLS.getFormat();
+    }
+
     private static final class ImportTemplateLocationMapper implements RowMapper<DocumentData> {
 
         public String schema() {
@@ -0,0 +1,60 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportRow;
+
+/**
+ * Reads the records of a UTF-8 .csv file with the columns of the import template, the first record being its header.
+ */
+public class CsvImportRowReader implements ImportRowReader {
+
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private final File file;
+
+    public CsvImportRowReader(final File file) {
+        this.file = file;
+    }
+
+    @Override
+    public void read(final Consumer<ImportRow> consumer) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8);
+                CSVParser parser = CSVFormat.EXCEL.parse(reader)) {
+            for (CSVRecord record : parser) {
+                final List<String> cells = new ArrayList<>(record.toList());
+                if (record.getRecordNumber() == 1 && !cells.isEmpty() && cells.get(0).startsWith(BYTE_ORDER_MARK)) {
+                    cells.set(0, cells.get(0).substring(BYTE_ORDER_MARK.length()));
+                }
+                consumer.accept(new ImportRow((int) record.getRecordNumber() - 1, cells));
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import java.io.Closeable;
+import java.io.OutputStream;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportFormatType;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportRow;
+
+/**
+ * Writes the rows of an import file together with the outcome of their import to a stream, one row at a time. Closing
+ * the writer completes the file, it does not close the stream.
+ */
+public interface ImportResultWriter extends Closeable {
+
+    /**
+     * @param success
+     *            true if the row was imported, false if it failed and null if it was not imported now
+     */
+    void write(ImportRow row, int statusColumn, Boolean success);
+
+    static ImportResultWriter of(final ImportFormatType format, final OutputStream out, final String sheetName) {
+        return switch (format) {
+            case XLSX -> new XlsxImportResultWriter(out, sheetName);
+            case CSV -> new CsvImportResultWriter(out);
+            default -> throw new IllegalArgumentException("Streaming import of " + format + " files is not supported");
+        };
+    }
+}
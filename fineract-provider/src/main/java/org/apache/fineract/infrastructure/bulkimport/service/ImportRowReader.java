@@ -0,0 +1,44 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportFormatType;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportRow;
+
+/**
+ * Reads the rows of an import file one by one, without loading the whole file into memory.
+ */
+public interface ImportRowReader {
+
+    /**
+     * Passes the rows of the file to the consumer in the order of the file. Empty rows of .xlsx files are skipped.
+     */
+    void read(Consumer<ImportRow> consumer) throws IOException;
+
+    static ImportRowReader of(final ImportFormatType format, final File file, final String sheetName) {
+        return switch (format) {
+            case XLSX -> new XlsxImportRowReader(file, sheetName);
+            case CSV -> new CsvImportRowReader(file);
+            default -> throw new IllegalArgumentException("Streaming import of " + format + " files is not supported");
+        };
+    }
+}
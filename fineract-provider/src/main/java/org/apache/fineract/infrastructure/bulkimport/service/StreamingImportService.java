@@ -0,0 +1,270 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.commands.domain.CommandWrapper;
+import org.apache.fineract.commands.service.PortfolioCommandSourceWritePlatformService;
+import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
+import org.apache.fineract.infrastructure.bulkimport.data.Count;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportFormatType;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportRow;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandlerUtils;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.StreamingImportHandler;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Imports the rows of .xlsx and .csv files while they are read, instead of loading the whole workbook into memory.
+ *
+ * The rows are handed to a bounded pool of worker threads in chunks. The rows with the same ordering key, usually the
+ * account they belong to, always go to the same lane, whose chunks are imported one after the other, so the rows of an
+ * account are imported in the order of the file. Only a limited number of chunks is waiting for a worker at any time,
+ * the reading of the file waits for them otherwise. The outcome of every row is stored in m_import_document_row, from
+ * where the result file is written once all the rows are imported.
+ *
+ * Should a chunk fail as a whole, e.g. because its outcome cannot be stored, its rows and the rows of the chunks not
+ * imported yet are recorded as failed, so the import still ends with a result file.
+ */
+@Service
+public class StreamingImportService implements InitializingBean, DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StreamingImportService.class);
+    private static final String INSERT_ROW_SQL = "INSERT INTO m_import_document_row (import_document_id, row_index, success, message) "
+            + "VALUES (?, ?, ?, ?)";
+    private static final String SELECT_ROWS_SQL = "SELECT row_index, success, message FROM m_import_document_row "
+            + "WHERE import_document_id = ?";
+    private static final int HEADER_ROW_INDEX = 0;
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+    private static final String CHUNK_FAILED_MESSAGE = "The import failed before the outcome of the row was stored, "
+            + "check whether it was imported: ";
+    private static final String IMPORT_FAILED_MESSAGE = "The row was not imported, the import failed: ";
+
+    private final PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService;
+    private final JdbcTemplate jdbcTemplate;
+    private final FineractProperties fineractProperties;
+
+    private ThreadPoolTaskExecutor importExecutor;
+    private int threadCount;
+    private int chunkSize;
+
+    @Autowired
+    public StreamingImportService(final PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService,
+            final JdbcTemplate jdbcTemplate, final FineractProperties fineractProperties) {
+        this.commandsSourceWritePlatformService = commandsSourceWritePlatformService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.fineractProperties = fineractProperties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        final FineractProperties.FineractBulkImportProperties bulkImportProperties = fineractProperties.getBulkImport();
+        threadCount = bulkImportProperties == null ? 1 : Math.max(1, bulkImportProperties.getThreadCount());
+        chunkSize = bulkImportProperties == null ? 1 : Math.max(1, bulkImportProperties.getChunkSize());
+        importExecutor = new ThreadPoolTaskExecutor();
+        importExecutor.setThreadNamePrefix("bulk-import-");
+        importExecutor.setCorePoolSize(threadCount);
+        importExecutor.setMaxPoolSize(threadCount);
+        importExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        importExecutor.setAwaitTerminationSeconds(30);
+        importExecutor.initialize();
+    }
+
+    @Override
+    public void destroy() {
+        importExecutor.shutdown();
+    }
+
+    /**
+     * Imports the rows of the file and records the outcome of each of them. The first row of the file is its header.
+     *
+     * @return the number of the imported and of the failed rows, the rows left out by a failed import count as failed
+     */
+    public Count importRows(final Long importDocumentId, final StreamingImportHandler handler, final ImportFormatType format,
+            final File file, final String locale, final String dateFormat) throws IOException {
+        final Function<ImportRow, CommandWrapper> commandMapper = handler.createCommandMapper(locale, dateFormat);
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final SecurityContext securityContext = SecurityContextHolder.getContext();
+        final AtomicInteger successCount = new AtomicInteger();
+        final AtomicInteger errorCount = new AtomicInteger();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Semaphore queuedChunks = new Semaphore(threadCount * 2);
+        final List<List<ImportRow>> pendingChunks = new ArrayList<>(threadCount);
+        final List<CompletableFuture<Void>> lanes = new ArrayList<>(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            pendingChunks.add(new ArrayList<>(chunkSize));
+            lanes.add(CompletableFuture.completedFuture(null));
+        }
+
+        final Function<List<ImportRow>, Runnable> chunkTask = chunk -> () -> {
+            ThreadLocalContextUtil.init(context);
+            SecurityContextHolder.setContext(securityContext);
+            try {
+                if (failure.get() == null) {
+                    importChunk(importDocumentId, chunk, commandMapper, successCount, errorCount);
+                } else {
+                    recordFailed(importDocumentId, chunk, IMPORT_FAILED_MESSAGE, failure.get(), errorCount);
+                }
+            } catch (RuntimeException | Error e) {
+                LOG.error("Problem occurred while importing a chunk of import {}", importDocumentId, e);
+                failure.compareAndSet(null, e);
+                recordFailed(importDocumentId, chunk, CHUNK_FAILED_MESSAGE, e, errorCount);
+            } finally {
+                SecurityContextHolder.clearContext();
+                ThreadLocalContextUtil.reset();
+                queuedChunks.release();
+            }
+        };
+
+        try {
+            ImportRowReader.of(format, file, handler.getSheetName()).read(row -> {
+                if (row.getRowIndex() == HEADER_ROW_INDEX || !handler.isImportable(row)) {
+                    return;
+                }
+                final int lane = Math.floorMod(Objects.hashCode(handler.getOrderingKey(row)), threadCount);
+                final List<ImportRow> chunk = pendingChunks.get(lane);
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    submit(lanes, lane, chunkTask.apply(chunk), queuedChunks);
+                    pendingChunks.set(lane, new ArrayList<>(chunkSize));
+                }
+            });
+            for (int lane = 0; lane < threadCount; lane++) {
+                if (!pendingChunks.get(lane).isEmpty()) {
+                    submit(lanes, lane, chunkTask.apply(pendingChunks.get(lane)), queuedChunks);
+                }
+            }
+        } finally {
+            CompletableFuture.allOf(lanes.toArray(new CompletableFuture[0])).join();
+        }
+        if (failure.get() != null) {
+            LOG.error("Import {} failed, {} rows were imported before", importDocumentId, successCount.get(), failure.get());
+        }
+        return Count.instance(successCount.get(), errorCount.get());
+    }
+
+    /**
+     * Writes the rows of the file to the stream, with the outcome of their import in the status column.
+     */
+    public void writeResult(final Long importDocumentId, final StreamingImportHandler handler, final ImportFormatType format,
+            final File file, final OutputStream out) throws IOException {
+        final BitSet importedRows = new BitSet();
+        final Map<Integer, String> failedRows = new HashMap<>();
+        jdbcTemplate.query(SELECT_ROWS_SQL, rs -> {
+            if (rs.getBoolean("success")) {
+                importedRows.set(rs.getInt("row_index"));
+            } else {
+                failedRows.put(rs.getInt("row_index"), rs.getString("message"));
+            }
+        }, importDocumentId);
+
+        final int statusColumn = handler.getStatusColumn();
+        try (ImportResultWriter writer = ImportResultWriter.of(format, out, handler.getSheetName())) {
+            ImportRowReader.of(format, file, handler.getSheetName()).read(row -> {
+                final List<String> cells = new ArrayList<>(row.getCells());
+                while (cells.size() <= statusColumn) {
+                    cells.add(null);
+                }
+                Boolean success = null;
+                if (row.getRowIndex() == HEADER_ROW_INDEX) {
+                    cells.set(statusColumn, TemplatePopulateImportConstants.STATUS_COL_REPORT_HEADER);
+                } else if (importedRows.get(row.getRowIndex())) {
+                    cells.set(statusColumn, TemplatePopulateImportConstants.STATUS_CELL_IMPORTED);
+                    success = Boolean.TRUE;
+                } else if (failedRows.containsKey(row.getRowIndex())) {
+                    cells.set(statusColumn, failedRows.get(row.getRowIndex()));
+                    success = Boolean.FALSE;
+                }
+                writer.write(new ImportRow(row.getRowIndex(), cells), statusColumn, success);
+            });
+        }
+    }
+
+    private void submit(final List<CompletableFuture<Void>> lanes, final int lane, final Runnable task, final Semaphore queuedChunks) {
+        try {
+            queuedChunks.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import was interrupted", e);
+        }
+        lanes.set(lane, lanes.get(lane).thenRunAsync(task, importExecutor));
+    }
+
+    private void importChunk(final Long importDocumentId, final List<ImportRow> chunk,
+            final Function<ImportRow, CommandWrapper> commandMapper, final AtomicInteger successCount, final AtomicInteger errorCount) {
+        final List<Object[]> rowResults = new ArrayList<>(chunk.size());
+        int imported = 0;
+        for (ImportRow row : chunk) {
+            try {
+                commandsSourceWritePlatformService.logCommandSource(commandMapper.apply(row));
+                imported++;
+                rowResults.add(new Object[] { importDocumentId, row.getRowIndex(), true, null });
+            } catch (RuntimeException ex) {
+                LOG.error("Problem occurred while importing row {} of import {}", row.getRowIndex(), importDocumentId, ex);
+                final String errorMessage = StringUtils.abbreviate(ImportHandlerUtils.getErrorMessage(ex), MAX_MESSAGE_LENGTH);
+                rowResults.add(new Object[] { importDocumentId, row.getRowIndex(), false, errorMessage });
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_ROW_SQL, rowResults);
+        // only counted once stored, a chunk failing before is counted by recordFailed
+        successCount.addAndGet(imported);
+        errorCount.addAndGet(chunk.size() - imported);
+    }
+
+    private void recordFailed(final Long importDocumentId, final List<ImportRow> chunk, final String message, final Throwable cause,
+            final AtomicInteger errorCount) {
+        errorCount.addAndGet(chunk.size());
+        final String errorMessage = StringUtils.abbreviate(message + Objects.toString(cause.getMessage(), cause.getClass().getName()),
+                MAX_MESSAGE_LENGTH);
+        final List<Object[]> rowResults = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            rowResults.add(new Object[] { importDocumentId, row.getRowIndex(), false, errorMessage });
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_ROW_SQL, rowResults);
+        } catch (RuntimeException e) {
+            LOG.error("Could not record the failed rows of import {}", importDocumentId, e);
+        }
+    }
+}
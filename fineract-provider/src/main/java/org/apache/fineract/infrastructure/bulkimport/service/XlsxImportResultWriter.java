@@ -0,0 +1,93 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportRow;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * Writes the result rows into a single sheet .xlsx workbook. Only a window of rows is kept in memory, the others are
+ * flushed to a temporary file until the workbook is written out on close.
+ */
+public class XlsxImportResultWriter implements ImportResultWriter {
+
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+    private final Sheet sheet;
+    private final CellStyle importedStyle;
+    private final CellStyle failedStyle;
+    private boolean statusColumnSized;
+
+    public XlsxImportResultWriter(final OutputStream out, final String sheetName) {
+        this.out = out;
+        this.sheet = workbook.createSheet(sheetName);
+        this.importedStyle = createStatusStyle(IndexedColors.LIGHT_GREEN);
+        this.failedStyle = createStatusStyle(IndexedColors.RED);
+    }
+
+    @Override
+    public void write(final ImportRow row, final int statusColumn, final Boolean success) {
+        if (!statusColumnSized) {
+            sheet.setColumnWidth(statusColumn, TemplatePopulateImportConstants.SMALL_COL_SIZE);
+            statusColumnSized = true;
+        }
+        final Row resultRow = sheet.createRow(row.getRowIndex());
+        final List<String> cells = row.getCells();
+        for (int i = 0; i < cells.size(); i++) {
+            if (cells.get(i) != null) {
+                resultRow.createCell(i).setCellValue(cells.get(i));
+            }
+        }
+        if (success != null) {
+            final Cell statusCell = resultRow.getCell(statusColumn);
+            if (statusCell != null) {
+                statusCell.setCellStyle(success ? importedStyle : failedStyle);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private CellStyle createStatusStyle(final IndexedColors color) {
+        final CellStyle style = workbook.createCellStyle();
+        style.setFillForegroundColor(color.getIndex());
+        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        return style;
+    }
+}
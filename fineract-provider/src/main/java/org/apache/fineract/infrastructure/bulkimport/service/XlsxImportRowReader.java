@@ -0,0 +1,138 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.xml.parsers.ParserConfigurationException;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportRow;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * Reads the rows of a sheet of an .xlsx file with the SAX based event model of POI, so only the row being read is kept
+ * in memory. Numbers are passed as plain numbers and dates as ISO dates, whatever the format of their cell.
+ */
+public class XlsxImportRowReader implements ImportRowReader {
+
+    private final File file;
+    private final String sheetName;
+
+    public XlsxImportRowReader(final File file, final String sheetName) {
+        this.file = file;
+        this.sheetName = sheetName;
+    }
+
+    @Override
+    public void read(final Consumer<ImportRow> consumer) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            final XSSFReader reader = new XSSFReader(pkg);
+            final int sheetIndex = findSheetIndex(reader);
+            final XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            for (int i = 0; sheets.hasNext(); i++) {
+                try (InputStream sheet = sheets.next()) {
+                    if (i == sheetIndex) {
+                        final XMLReader parser = XMLHelper.newXMLReader();
+                        parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), new ReadOnlySharedStringsTable(pkg),
+                                new RowHandler(consumer), new ImportDataFormatter(), false));
+                        parser.parse(new InputSource(sheet));
+                        return;
+                    }
+                }
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Could not read the rows of " + file.getName(), e);
+        }
+    }
+
+    /**
+     * @return the index of the sheet with the expected name, or the first sheet when there is no such sheet
+     */
+    private int findSheetIndex(final XSSFReader reader) throws IOException, OpenXML4JException {
+        final XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        for (int i = 0; sheets.hasNext(); i++) {
+            try (InputStream sheet = sheets.next()) {
+                if (sheets.getSheetName().equals(sheetName)) {
+                    return i;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static final class RowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final Consumer<ImportRow> consumer;
+        private List<String> cells;
+
+        private RowHandler(final Consumer<ImportRow> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startRow(final int rowNum) {
+            cells = new ArrayList<>();
+        }
+
+        @Override
+        public void endRow(final int rowNum) {
+            if (!cells.isEmpty()) {
+                consumer.accept(new ImportRow(rowNum, cells));
+            }
+        }
+
+        @Override
+        public void cell(final String cellReference, final String formattedValue, final XSSFComment comment) {
+            final int column = cellReference == null ? cells.size() : new CellReference(cellReference).getCol();
+            while (cells.size() < column) {
+                cells.add(null);
+            }
+            cells.add(formattedValue);
+        }
+    }
+
+    private static final class ImportDataFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(final double value, final int formatIndex, final String formatString,
+                final boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value, use1904Windowing).toLocalDate().toString();
+            }
+            return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidation;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link CacheInvalidationChannel} which logs the invalidations into the cache_invalidation_log table of the tenant store
+ * database, polled by every node, so no message broker is needed.
+ * <p>
+ * Ids are handed out before the inserting transaction commits, so a row can become visible after rows with higher ids.
+ * Skipped ids are therefore polled again for a while, until they show up or are considered rolled back.
+ */
+@Slf4j
+@Component
+public class DatabaseCacheInvalidationChannel implements CacheInvalidationChannel, InitializingBean, DisposableBean {
+
+    private static final Duration PENDING_ID_TIMEOUT = Duration.ofMinutes(1);
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+    private static final int MAX_PENDING_IDS = 1000;
+
+    private static final String SELECT_COLUMNS = "select id, node_id, tenant_identifier, cache_name, cache_key "
+            + "from cache_invalidation_log ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FineractProperties fineractProperties;
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+    // random, as fineract.node-id is not necessarily unique across the nodes
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // only touched by the polling thread
+    private final Map<Long, Long> pendingIds = new HashMap<>();
+    private Long lastId;
+    private long lastPurge;
+
+    private ThreadPoolTaskScheduler scheduler;
+
+    @Autowired
+    public DatabaseCacheInvalidationChannel(@Qualifier("hikariTenantDataSource") final DataSource dataSource,
+            final FineractProperties fineractProperties) {
+        this(new JdbcTemplate(dataSource), fineractProperties);
+    }
+
+    DatabaseCacheInvalidationChannel(final JdbcTemplate jdbcTemplate, final FineractProperties fineractProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fineractProperties = fineractProperties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!isEnabled()) {
+            return;
+        }
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("cache-invalidation-");
+        scheduler.setDaemon(true);
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::poll,
+                Duration.ofMillis(fineractProperties.getCache().getInvalidation().getPollInterval()));
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @Override
+    public void publish(final CacheInvalidation invalidation) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    insert(invalidation);
+                }
+            });
+        } else {
+            insert(invalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(final Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    private void insert(final CacheInvalidation invalidation) {
+        try {
+            jdbcTemplate.update("insert into cache_invalidation_log (node_id, tenant_identifier, cache_name, cache_key, created_on_utc) "
+                    + "values (?, ?, ?, ?, ?)", nodeId, invalidation.tenantIdentifier(), invalidation.cacheName(), invalidation.key(),
+                    DateUtils.getAuditLocalDateTime());
+        } catch (RuntimeException e) {
+            log.error("Cache invalidation {} could not be published to the other nodes", invalidation, e);
+        }
+    }
+
+    void poll() {
+        try {
+            if (lastId == null) {
+                // invalidations made before this node started are irrelevant, its caches are empty
+                lastId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from cache_invalidation_log", Long.class);
+            }
+            expirePendingIds();
+            final List<Object> params = new ArrayList<>();
+            params.add(lastId);
+            params.addAll(pendingIds.keySet());
+            final String sql = pendingIds.isEmpty() ? SELECT_COLUMNS + "where id > ? order by id"
+                    : SELECT_COLUMNS + "where id > ? or id in (" + String.join(", ", Collections.nCopies(pendingIds.size(), "?"))
+                            + ") order by id";
+            final List<PolledInvalidation> polled = jdbcTemplate.query(sql, this::mapRow, params.toArray()); // NOSONAR
+            for (PolledInvalidation invalidation : polled) {
+                track(invalidation.id());
+                if (!nodeId.equals(invalidation.nodeId())) {
+                    dispatch(invalidation.invalidation());
+                }
+            }
+            purge();
+        } catch (RuntimeException e) {
+            log.warn("Polling the cache invalidations of the other nodes failed", e);
+        }
+    }
+
+    private void track(final long id) {
+        if (pendingIds.remove(id) != null || id <= lastId) {
+            return;
+        }
+        final long now = System.currentTimeMillis();
+        for (long skippedId = Math.max(lastId + 1, id - MAX_PENDING_IDS); skippedId < id; skippedId++) {
+            pendingIds.put(skippedId, now);
+        }
+        lastId = id;
+    }
+
+    private void expirePendingIds() {
+        final long expiry = System.currentTimeMillis() - PENDING_ID_TIMEOUT.toMillis();
+        for (Iterator<Long> iterator = pendingIds.values().iterator(); iterator.hasNext();) {
+            if (iterator.next() < expiry) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void dispatch(final CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> listener : listeners) {
+            try {
+                listener.accept(invalidation);
+            } catch (RuntimeException e) {
+                log.error("Cache invalidation {} could not be applied", invalidation, e);
+            }
+        }
+    }
+
+    private void purge() {
+        final long now = System.currentTimeMillis();
+        if (now - lastPurge < PURGE_INTERVAL.toMillis()) {
+            return;
+        }
+        lastPurge = now;
+        final LocalDateTime threshold = DateUtils.getAuditLocalDateTime()
+                .minusMinutes(fineractProperties.getCache().getInvalidation().getRetentionInMinutes());
+        jdbcTemplate.update("delete from cache_invalidation_log where created_on_utc < ?", threshold);
+    }
+
+    private boolean isEnabled() {
+        final FineractProperties.FineractCacheProperties cache = fineractProperties.getCache();
+        return cache != null && cache.getInvalidation() != null && cache.getInvalidation().isEnabled();
+    }
+
+    private PolledInvalidation mapRow(final ResultSet rs, final int rowNum) throws SQLException {
+        return new PolledInvalidation(rs.getLong("id"), rs.getString("node_id"),
+                new CacheInvalidation(rs.getString("tenant_identifier"), rs.getString("cache_name"), rs.getString("cache_key")));
+    }
+
+    private record PolledInvalidation(long id, String nodeId, CacheInvalidation invalidation) {}
+}
@@ -51,12 +51,14 @@ public class ConfigurationDomainServiceJpa implements ConfigurationDomainService
     private static final String EXTERNAL_EVENT_BATCH_SIZE = "external-event-batch-size";
 
     private static final String REPORT_EXPORT_S3_FOLDER_NAME = "report-export-s3-folder-name";
+    private static final String ENABLE_SAVINGS_INCREMENTAL_INTEREST_CALCULATION = "enable-savings-incremental-interest-calculation";
 
     public static final String CHARGE_ACCRUAL_DATE_CRITERIA = "charge-accrual-date";
     public static final String NEXT_PAYMENT_DUE_DATE = "next-payment-due-date";
 
     private final PermissionRepository permissionRepository;
     private final GlobalConfigurationRepositoryWrapper globalConfigurationRepository;
+    private final GlobalConfigurationSnapshotCache globalConfigurationSnapshotCache;
     private final PlatformCacheRepository cacheTypeRepository;
 
     @Override
@@ -132,6 +134,11 @@ public class ConfigurationDomainServiceJpa implements ConfigurationDomainService
         return this.cacheTypeRepository.findById(1L).map(PlatformCache::isEhcacheEnabled).orElseThrow();
     }
 
+    @Override
+    public CacheType retrieveCacheType() {
+        return this.cacheTypeRepository.findById(1L).map(cache -> CacheType.fromInt(cache.getCacheType())).orElseThrow();
+    }
+
     @Transactional
     @Override
     public void updateCache(final CacheType cacheType) {
@@ -387,9 +394,15 @@ public class ConfigurationDomainServiceJpa implements ConfigurationDomainService
         return property.getValue();
     }
 
+    @Override
+    public boolean isSavingsIncrementalInterestCalculationEnabled() {
+        return getGlobalConfigurationPropertyData(ENABLE_SAVINGS_INCREMENTAL_INTEREST_CALCULATION).isEnabled();
+    }
+
     @NotNull
     private GlobalConfigurationPropertyData getGlobalConfigurationPropertyData(final String propertyName) {
-        return globalConfigurationRepository.findOneByNameWithNotFoundDetection(propertyName).toData();
+        final GlobalConfigurationPropertyData property = globalConfigurationSnapshotCache.get(propertyName);
+        return property != null ? property : globalConfigurationRepository.findOneByNameWithNotFoundDetection(propertyName).toData();
     }
 
     @Override
@@ -35,10 +35,13 @@ import org.springframework.stereotype.Service;
 public class GlobalConfigurationRepositoryWrapper {
 
     private final GlobalConfigurationRepository repository;
+    private final GlobalConfigurationSnapshotCache snapshotCache;
 
     @Autowired
-    public GlobalConfigurationRepositoryWrapper(final GlobalConfigurationRepository repository) {
+    public GlobalConfigurationRepositoryWrapper(final GlobalConfigurationRepository repository,
+            final GlobalConfigurationSnapshotCache snapshotCache) {
         this.repository = repository;
+        this.snapshotCache = snapshotCache;
     }
 
     @Cacheable(value = "configByName", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier().concat(#propertyName)")
@@ -56,18 +59,22 @@ public class GlobalConfigurationRepositoryWrapper {
 
     public void save(final GlobalConfigurationProperty globalConfigurationProperty) {
         this.repository.save(globalConfigurationProperty);
+        this.snapshotCache.reload();
     }
 
     public void saveAndFlush(final GlobalConfigurationProperty globalConfigurationProperty) {
         this.repository.saveAndFlush(globalConfigurationProperty);
+        this.snapshotCache.reload();
     }
 
     public void delete(final GlobalConfigurationProperty globalConfigurationProperty) {
         this.repository.delete(globalConfigurationProperty);
+        this.snapshotCache.reload();
     }
 
     @CacheEvict(value = "configByName", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier().concat(#propertyName)")
     public void removeFromCache(String propertyName) {
+        this.snapshotCache.reload();
         log.debug("Cache entry evicted {}", propertyName);
     }
 }
@@ -0,0 +1,164 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.configuration.domain;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidation;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationChannel;
+import org.apache.fineract.infrastructure.configuration.data.GlobalConfigurationPropertyData;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.domain.ReadReplicaContextHolder;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.tenant.TenantDetailsService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps an immutable snapshot of the global configuration of every tenant, so the configuration lookups done on the
+ * transaction path are served from memory instead of querying c_configuration each time.
+ * <p>
+ * Snapshots are loaded at startup (or on first use of a tenant) and replaced as a whole after every change made through
+ * {@link GlobalConfigurationRepositoryWrapper}. Changes made inside a transaction are only picked up once it commits,
+ * and loading always happens in a transaction of its own on the primary database, so a snapshot never holds uncommitted
+ * values, nor the stale values of a lagging read replica. The other nodes are told over the
+ * {@link CacheInvalidationChannel} to drop their snapshot of the tenant.
+ */
+@Slf4j
+@Component
+public class GlobalConfigurationSnapshotCache implements ApplicationListener<ContextRefreshedEvent> {
+
+    public static final String LOOKUPS_METRIC = "fineract.configuration.snapshot.lookups";
+    public static final String RELOADS_METRIC = "fineract.configuration.snapshot.reloads";
+    public static final String SNAPSHOT_NAME = "globalConfigurationSnapshot";
+
+    private final GlobalConfigurationRepository repository;
+    private final TenantDetailsService tenantDetailsService;
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+    private final CacheInvalidationChannel invalidationChannel;
+    private final Map<String, Map<String, GlobalConfigurationPropertyData>> snapshots = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer reloads;
+
+    public GlobalConfigurationSnapshotCache(final GlobalConfigurationRepository repository, final TenantDetailsService tenantDetailsService,
+            final ObjectProvider<PlatformTransactionManager> transactionManager, final CacheInvalidationChannel invalidationChannel,
+            final MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.tenantDetailsService = tenantDetailsService;
+        this.transactionManager = transactionManager;
+        this.invalidationChannel = invalidationChannel;
+        this.hits = Counter.builder(LOOKUPS_METRIC).tag("result", "hit").description("Configuration lookups served from the snapshot")
+                .register(meterRegistry);
+        this.misses = Counter.builder(LOOKUPS_METRIC).tag("result", "miss")
+                .description("Configuration lookups which had to go to the database").register(meterRegistry);
+        this.reloads = Timer.builder(RELOADS_METRIC).description("Time taken to load the configuration snapshot of a tenant")
+                .register(meterRegistry);
+        invalidationChannel.subscribe(this::onRemoteInvalidation);
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        for (FineractPlatformTenant tenant : tenantDetailsService.findAllTenants()) {
+            try {
+                ThreadLocalContextUtil.setTenant(tenant);
+                reloadNow(tenant.getTenantIdentifier());
+            } catch (RuntimeException e) {
+                log.warn("Global configuration snapshot of tenant {} could not be preloaded, it will be loaded on first use",
+                        tenant.getTenantIdentifier(), e);
+            } finally {
+                ThreadLocalContextUtil.reset();
+            }
+        }
+    }
+
+    /**
+     * Returns the property of the current tenant with the given name, or <code>null</code> when the snapshot does not know
+     * about it.
+     */
+    public GlobalConfigurationPropertyData get(final String propertyName) {
+        final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        Map<String, GlobalConfigurationPropertyData> snapshot = snapshots.get(tenantIdentifier);
+        if (snapshot == null) {
+            snapshot = snapshots.computeIfAbsent(tenantIdentifier, key -> load());
+        }
+        final GlobalConfigurationPropertyData property = snapshot.get(propertyName);
+        if (property == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return property;
+    }
+
+    /**
+     * Replaces the snapshot of the current tenant, once the running transaction (if any) has committed.
+     */
+    public void reload() {
+        final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    reloadNow(tenantIdentifier);
+                }
+            });
+        } else {
+            reloadNow(tenantIdentifier);
+        }
+        invalidationChannel.publish(new CacheInvalidation(tenantIdentifier, SNAPSHOT_NAME, null));
+    }
+
+    private void onRemoteInvalidation(final CacheInvalidation invalidation) {
+        if (SNAPSHOT_NAME.equals(invalidation.cacheName()) && invalidation.tenantIdentifier() != null) {
+            // the polling thread has no tenant to load with, the next lookup of the tenant loads it again
+            snapshots.remove(invalidation.tenantIdentifier());
+        }
+    }
+
+    private void reloadNow(final String tenantIdentifier) {
+        // compute() serializes the loads of a tenant, so an older snapshot can never replace a newer one
+        snapshots.compute(tenantIdentifier, (key, previous) -> load());
+    }
+
+    private Map<String, GlobalConfigurationPropertyData> load() {
+        // the transaction manager is looked up lazily, as it depends on beans which need the configuration themselves
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager.getObject());
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setReadOnly(true);
+        return reloads.record(() -> ReadReplicaContextHolder.runOnPrimary(() -> transactionTemplate.execute(status -> {
+            final Map<String, GlobalConfigurationPropertyData> snapshot = new HashMap<>();
+            repository.findAll().forEach(property -> snapshot.put(property.getName(), property.toData()));
+            return Map.copyOf(snapshot);
+        })));
+    }
+}
@@ -35,12 +35,15 @@ import org.apache.fineract.infrastructure.core.domain.FineractRequestContextHold
 import org.apache.fineract.infrastructure.core.filters.CorrelationHeaderFilter;
 import org.apache.fineract.infrastructure.core.filters.IdempotencyStoreFilter;
 import org.apache.fineract.infrastructure.core.filters.IdempotencyStoreHelper;
+import org.apache.fineract.infrastructure.core.filters.ReadReplicaRoutingFilter;
 import org.apache.fineract.infrastructure.core.filters.RequestResponseFilter;
 import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer;
 import org.apache.fineract.infrastructure.core.service.MDCWrapper;
 import org.apache.fineract.infrastructure.instancemode.filter.FineractInstanceModeApiFilter;
 import org.apache.fineract.infrastructure.jobs.filter.LoanCOBApiFilter;
 import org.apache.fineract.infrastructure.jobs.filter.LoanCOBFilterHelper;
+import org.apache.fineract.infrastructure.jobs.filter.SavingsCOBApiFilter;
+import org.apache.fineract.infrastructure.jobs.filter.SavingsCOBFilterHelper;
 import org.apache.fineract.infrastructure.security.data.PlatformRequestLog;
 import org.apache.fineract.infrastructure.security.filter.InsecureTwoFactorAuthenticationFilter;
 import org.apache.fineract.infrastructure.security.filter.TenantAwareBasicAuthenticationFilter;
@@ -49,6 +52,8 @@ import org.apache.fineract.infrastructure.security.service.BasicAuthTenantDetail
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.infrastructure.security.service.TenantAwareJpaPlatformUserDetailsService;
 import org.apache.fineract.infrastructure.security.service.TwoFactorService;
+import org.apache.fineract.infrastructure.security.service.VerifiedCredentialCache;
+import org.apache.fineract.infrastructure.security.service.VerifiedCredentialCachingAuthenticationProvider;
 import org.apache.fineract.notification.service.UserNotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -115,9 +120,13 @@ public class SecurityConfig {
     @Autowired(required = false)
     private LoanCOBFilterHelper loanCOBFilterHelper;
     @Autowired
+    private SavingsCOBFilterHelper savingsCOBFilterHelper;
+    @Autowired
     private PlatformSecurityContext context;
     @Autowired
     private IdempotencyStoreHelper idempotencyStoreHelper;
+    @Autowired
+    private VerifiedCredentialCache verifiedCredentialCache;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -141,12 +150,14 @@ public class SecurityConfig {
                 .addFilterBefore(tenantAwareBasicAuthenticationFilter(), SecurityContextHolderFilter.class) //
                 .addFilterAfter(requestResponseFilter(), ExceptionTranslationFilter.class) //
                 .addFilterAfter(correlationHeaderFilter(), RequestResponseFilter.class) //
-                .addFilterAfter(fineractInstanceModeApiFilter(), CorrelationHeaderFilter.class); //
+                .addFilterAfter(fineractInstanceModeApiFilter(), CorrelationHeaderFilter.class) //
+                .addFilterAfter(readReplicaRoutingFilter(), CorrelationHeaderFilter.class) //
+                .addFilterAfter(savingsCOBApiFilter(), FineractInstanceModeApiFilter.class); //
         if (!Objects.isNull(loanCOBFilterHelper)) {
-            http.addFilterAfter(loanCOBApiFilter(), FineractInstanceModeApiFilter.class) //
+            http.addFilterAfter(loanCOBApiFilter(), SavingsCOBApiFilter.class) //
                     .addFilterAfter(idempotencyStoreFilter(), LoanCOBApiFilter.class); //
         } else {
-            http.addFilterAfter(idempotencyStoreFilter(), FineractInstanceModeApiFilter.class); //
+            http.addFilterAfter(idempotencyStoreFilter(), SavingsCOBApiFilter.class); //
         }
 
         if (fineractProperties.getSecurity().getTwoFactor().isEnabled()) {
@@ -169,6 +180,10 @@ public class SecurityConfig {
         return new LoanCOBApiFilter(loanCOBFilterHelper);
     }
 
+    public SavingsCOBApiFilter savingsCOBApiFilter() {
+        return new SavingsCOBApiFilter(savingsCOBFilterHelper);
+    }
+
     public TwoFactorAuthenticationFilter twoFactorAuthenticationFilter() {
         TwoFactorService twoFactorService = applicationContext.getBean(TwoFactorService.class);
         return new TwoFactorAuthenticationFilter(twoFactorService);
@@ -182,6 +197,10 @@ public class SecurityConfig {
         return new FineractInstanceModeApiFilter(fineractProperties);
     }
 
+    public ReadReplicaRoutingFilter readReplicaRoutingFilter() {
+        return new ReadReplicaRoutingFilter();
+    }
+
     public IdempotencyStoreFilter idempotencyStoreFilter() {
         return new IdempotencyStoreFilter(fineractRequestContextHolder, idempotencyStoreHelper, fineractProperties);
     }
@@ -207,7 +226,7 @@ public class SecurityConfig {
 
     @Bean(name = "customAuthenticationProvider")
     public DaoAuthenticationProvider authProvider() {
-        DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
+        DaoAuthenticationProvider authProvider = new VerifiedCredentialCachingAuthenticationProvider(verifiedCredentialCache);
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
         return authProvider;
@@ -23,6 +23,7 @@ import java.time.Duration;
 import javax.cache.CacheManager;
 import javax.cache.Caching;
 import javax.cache.spi.CachingProvider;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationChannel;
 import org.ehcache.config.builders.CacheConfigurationBuilder;
 import org.ehcache.config.builders.ExpiryPolicyBuilder;
 import org.ehcache.config.builders.ResourcePoolsBuilder;
@@ -46,6 +47,13 @@ public class CacheConfig {
         return new TransactionBoundCacheManager(cacheManager);
     }
 
+    @Bean
+    public MultiNodeCacheManager multiNodeCacheManager(JCacheCacheManager ehCacheManager, CacheInvalidationChannel invalidationChannel) {
+        MultiNodeCacheManager cacheManager = new MultiNodeCacheManager(ehCacheManager, invalidationChannel);
+        invalidationChannel.subscribe(cacheManager::invalidateLocally);
+        return cacheManager;
+    }
+
     @Bean
     public JCacheCacheManager ehCacheManager() {
         JCacheCacheManager jCacheCacheManager = new JCacheCacheManager();
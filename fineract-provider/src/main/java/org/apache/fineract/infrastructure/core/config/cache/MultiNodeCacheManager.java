@@ -0,0 +1,167 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidation;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationChannel;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Near cache for clusters: entries are kept in the local caches of the delegate, but every eviction is also published
+ * over the {@link CacheInvalidationChannel}, and the evictions published by the other nodes are applied to the local
+ * caches.
+ */
+@RequiredArgsConstructor
+public class MultiNodeCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CacheInvalidationChannel invalidationChannel;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache == null) {
+            final Cache localCache = delegate.getCache(name);
+            if (localCache == null) {
+                return null;
+            }
+            cache = caches.computeIfAbsent(name, key -> new InvalidationPublishingCache(localCache));
+        }
+        return cache;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    /**
+     * Applies an invalidation received from another node to the local caches. Only the string form of the key travels
+     * between the nodes, so the matching entries are looked up by it; caches which cannot be iterated are cleared.
+     */
+    public void invalidateLocally(CacheInvalidation invalidation) {
+        final Cache cache = delegate.getCache(invalidation.cacheName());
+        if (cache == null) {
+            return;
+        }
+        if (!invalidation.isWholeCache() && cache.getNativeCache() instanceof javax.cache.Cache<?, ?> nativeCache) {
+            evictByKeyString(nativeCache, invalidation.key());
+        } else {
+            cache.clear();
+        }
+    }
+
+    private static <K, V> void evictByKeyString(javax.cache.Cache<K, V> nativeCache, String key) {
+        final List<K> keys = new ArrayList<>();
+        for (javax.cache.Cache.Entry<K, V> entry : nativeCache) {
+            if (key.equals(String.valueOf(entry.getKey()))) {
+                keys.add(entry.getKey());
+            }
+        }
+        keys.forEach(nativeCache::remove);
+    }
+
+    private final class InvalidationPublishingCache implements Cache {
+
+        private final Cache localCache;
+
+        private InvalidationPublishingCache(Cache localCache) {
+            this.localCache = localCache;
+        }
+
+        @Override
+        public String getName() {
+            return localCache.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return localCache.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            return localCache.get(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return localCache.get(key, type);
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return localCache.get(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            localCache.put(key, value);
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            return localCache.putIfAbsent(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            localCache.evict(key);
+            publish(String.valueOf(key));
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            final boolean evicted = localCache.evictIfPresent(key);
+            // the entry may still be cached by the other nodes
+            publish(String.valueOf(key));
+            return evicted;
+        }
+
+        @Override
+        public void clear() {
+            localCache.clear();
+            publish(null);
+        }
+
+        @Override
+        public boolean invalidate() {
+            final boolean invalidated = localCache.invalidate();
+            publish(null);
+            return invalidated;
+        }
+
+        private void publish(String key) {
+            final FineractPlatformTenant tenant = ThreadLocalContextUtil.getTenant();
+            invalidationChannel
+                    .publish(new CacheInvalidation(tenant != null ? tenant.getTenantIdentifier() : null, localCache.getName(), key));
+        }
+    }
+}
@@ -18,24 +18,23 @@
  */
 package org.apache.fineract.infrastructure.dataqueries.service;
 
-import static java.lang.String.format;
 import static org.apache.fineract.infrastructure.core.service.database.JdbcJavaType.DATE;
 import static org.apache.fineract.infrastructure.core.service.database.JdbcJavaType.DATETIME;
 import static org.apache.fineract.infrastructure.core.service.database.JdbcJavaType.TIMESTAMP;
-import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.CODELOOKUP;
-import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.DECIMAL;
-import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.INTEGER;
-import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.TIME;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.Timestamp;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.exception.ErrorHandler;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseIndependentQueryService;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseType;
@@ -51,20 +50,25 @@ import org.apache.fineract.infrastructure.dataqueries.exception.DatatableNotFoun
 import org.jetbrains.annotations.NotNull;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 import org.springframework.jdbc.support.rowset.SqlRowSetMetaData;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class GenericDataServiceImpl implements GenericDataService {
 
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+
     private final JdbcTemplate jdbcTemplate;
     private final RoutingDataSource dataSource;
     private final DatabaseIndependentQueryService databaseIndependentQueryService;
     private final DatatableKeywordGenerator datatableKeywordGenerator;
     private final DatabaseTypeResolver databaseTypeResolver;
+    private final FineractProperties fineractProperties;
 
     @Override
     public GenericResultsetData fillGenericResultSet(final String sql) {
@@ -92,6 +96,50 @@ public class GenericDataServiceImpl implements GenericDataService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamGenericResultSet(final String sql, final GenericResultsetConsumer consumer) {
+        try {
+            // PostgreSQL only fetches the rows in batches within a transaction, MariaDB streams them whenever a fetch size is set
+            this.jdbcTemplate.query(connection -> {
+                final PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, // NOSONAR
+                        ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(getFetchSize());
+                return statement;
+            }, (ResultSetExtractor<Void>) rs -> {
+                final ResultSetMetaData rsmd = rs.getMetaData();
+                final List<ResultsetColumnHeaderData> columnHeaders = new ArrayList<>();
+                for (int i = 0; i < rsmd.getColumnCount(); i++) {
+                    columnHeaders.add(ResultsetColumnHeaderData.basic(rsmd.getColumnName(i + 1), rsmd.getColumnTypeName(i + 1),
+                            databaseTypeResolver.databaseType()));
+                }
+                try {
+                    consumer.columnHeaders(columnHeaders);
+                    while (rs.next()) {
+                        final List<Object> columnValues = new ArrayList<>(columnHeaders.size());
+                        for (int i = 0; i < columnHeaders.size(); i++) {
+                            columnValues.add(toColumnValue(rs.getObject(i + 1), columnHeaders.get(i).getColumnType()));
+                        }
+                        consumer.row(columnValues);
+                    }
+                    consumer.end();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.error("Reporting error: {}", e.getMessage());
+            throw ErrorHandler.getMappable(e, "error.msg.report.unknown.data.integrity.issue", e.getClass().getName(), null, e);
+        }
+    }
+
+    private int getFetchSize() {
+        final FineractProperties.FineractReportProperties report = fineractProperties.getReport();
+        final int fetchSize = report == null || report.getExport() == null ? 0 : report.getExport().getFetchSize();
+        return fetchSize > 0 ? fetchSize : DEFAULT_FETCH_SIZE;
+    }
+
     @Override
     public List<ResultsetColumnHeaderData> fillResultsetColumnHeaders(final String tableName) {
         final SqlRowSet columnDefinitions = getTableMetaData(tableName);
@@ -149,23 +197,26 @@ public class GenericDataServiceImpl implements GenericDataService {
             final List<Object> columnValues = new ArrayList<>();
             for (int i = 0; i < rsmd.getColumnCount(); i++) {
                 final String columnName = rsmd.getColumnName(i + 1);
-                final JdbcJavaType colType = columnHeaders.get(i).getColumnType();
-                if (colType == DATE) {
-                    Date tmpDate = (Date) rs.getObject(columnName);
-                    columnValues.add(tmpDate == null ? null : tmpDate.toLocalDate());
-                } else if (colType == DATETIME || colType == TIMESTAMP) {
-                    Object tmpDate = rs.getObject(columnName);
-                    columnValues.add(
-                            tmpDate == null ? null : (tmpDate instanceof Timestamp ? ((Timestamp) tmpDate).toLocalDateTime() : tmpDate));
-                } else {
-                    columnValues.add(rs.getObject(columnName));
-                }
+                columnValues.add(toColumnValue(rs.getObject(columnName), columnHeaders.get(i).getColumnType()));
             }
             resultsetDataRows.add(ResultsetRowData.create(columnValues));
         }
         return resultsetDataRows;
     }
 
+    private static Object toColumnValue(final Object value, final JdbcJavaType colType) {
+        if (value == null) {
+            return null;
+        }
+        if (colType == DATE) {
+            return ((Date) value).toLocalDate();
+        }
+        if ((colType == DATETIME || colType == TIMESTAMP) && value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return value;
+    }
+
     @Override
     public String replace(final String str, final String pattern, final String replace) {
         // JPW - this replace may / may not be any better or quicker than the
@@ -197,68 +248,17 @@ public class GenericDataServiceImpl implements GenericDataService {
 
     @Override
     public String generateJsonFromGenericResultsetData(final GenericResultsetData grs) {
-        final StringBuilder writer = new StringBuilder();
-
-        writer.append("[");
-
-        final List<ResultsetColumnHeaderData> columnHeaders = grs.getColumnHeaders();
-
-        final List<ResultsetRowData> data = grs.getData();
-        List<Object> row;
-        Integer rSize;
-        final String doubleQuote = "\"";
-        final String slashDoubleQuote = "\\\"";
-        ResultsetColumnHeaderData.DisplayType colDisplayType;
-        Object currVal;
-
-        for (int i = 0; i < data.size(); i++) {
-            writer.append("\n{");
-
-            row = data.get(i).getRow();
-            rSize = row.size();
-            for (int j = 0; j < rSize; j++) {
-                ResultsetColumnHeaderData columnHeader = columnHeaders.get(j);
-                writer.append(doubleQuote + columnHeader.getColumnName() + doubleQuote + ": ");
-                colDisplayType = columnHeader.getColumnDisplayType();
-                final JdbcJavaType colType = columnHeader.getColumnType();
-                if (colDisplayType == null) {
-                    colDisplayType = ResultsetColumnHeaderData.calcColumnDisplayType(colType);
-                }
-                currVal = row.get(j);
-                if (currVal != null && colDisplayType != null) {
-                    if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATE) {
-                        final LocalDate localDate = (LocalDate) currVal;
-                        writer.append(format("[%d,%d,%d]", localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth()));
-                    } else if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATETIME) {
-                        final LocalDateTime localDateTime = (LocalDateTime) currVal;
-                        writer.append(format("[%d,%d,%d,%d,%d,%d,%d]", localDateTime.getYear(), localDateTime.getMonthValue(),
-                                localDateTime.getDayOfMonth(), localDateTime.getHour(), localDateTime.getMinute(),
-                                localDateTime.getSecond(), localDateTime.getNano()));
-                    } else if (colDisplayType == TIME) {
-                        final LocalTime localTime = (LocalTime) currVal;
-                        writer.append(format("[%d,%d,%d,%d]", localTime.getHour(), localTime.getMinute(), localTime.getSecond(),
-                                localTime.getNano()));
-                    } else if (colDisplayType == DECIMAL || colDisplayType == INTEGER || colDisplayType == CODELOOKUP) {
-                        writer.append(currVal);
-                    } else {
-                        writer.append(doubleQuote + replace(String.valueOf(currVal), doubleQuote, slashDoubleQuote) + doubleQuote);
-                    }
-                } else {
-                    writer.append("null");
-                }
-                if (j < (rSize - 1)) {
-                    writer.append(",\n");
-                }
-            }
-
-            if (i < (data.size() - 1)) {
-                writer.append("},");
-            } else {
-                writer.append("}");
+        final StringWriter writer = new StringWriter();
+        final GenericResultsetJsonWriter jsonWriter = new GenericResultsetJsonWriter(writer);
+        try {
+            jsonWriter.columnHeaders(grs.getColumnHeaders());
+            for (final ResultsetRowData row : grs.getData()) {
+                jsonWriter.row(row.getRow());
             }
+            jsonWriter.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-
-        writer.append("\n]");
         return writer.toString();
     }
 
@@ -0,0 +1,107 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service;
+
+import static java.lang.String.format;
+import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.CODELOOKUP;
+import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.DECIMAL;
+import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.INTEGER;
+import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.TIME;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.core.service.database.JdbcJavaType;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+
+/**
+ * Writes a generic result set as a JSON array with one object per row, keyed by the column names, as the rows arrive.
+ */
+@RequiredArgsConstructor
+public class GenericResultsetJsonWriter implements GenericResultsetConsumer {
+
+    private static final String DOUBLE_QUOTE = "\"";
+    private static final String SLASH_DOUBLE_QUOTE = "\\\"";
+
+    private final Writer writer;
+
+    private List<ResultsetColumnHeaderData> columnHeaders;
+    private boolean firstRow = true;
+
+    @Override
+    public void columnHeaders(final List<ResultsetColumnHeaderData> columnHeaders) throws IOException {
+        this.columnHeaders = columnHeaders;
+        writer.append("[");
+    }
+
+    @Override
+    public void row(final List<Object> row) throws IOException {
+        writer.append(firstRow ? "\n{" : ",\n{");
+        firstRow = false;
+
+        final int rSize = row.size();
+        for (int j = 0; j < rSize; j++) {
+            final ResultsetColumnHeaderData columnHeader = columnHeaders.get(j);
+            writer.append(DOUBLE_QUOTE + columnHeader.getColumnName() + DOUBLE_QUOTE + ": ");
+            ResultsetColumnHeaderData.DisplayType colDisplayType = columnHeader.getColumnDisplayType();
+            final JdbcJavaType colType = columnHeader.getColumnType();
+            if (colDisplayType == null) {
+                colDisplayType = ResultsetColumnHeaderData.calcColumnDisplayType(colType);
+            }
+            final Object currVal = row.get(j);
+            if (currVal != null && colDisplayType != null) {
+                if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATE) {
+                    final LocalDate localDate = (LocalDate) currVal;
+                    writer.append(format("[%d,%d,%d]", localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth()));
+                } else if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATETIME) {
+                    final LocalDateTime localDateTime = (LocalDateTime) currVal;
+                    writer.append(format("[%d,%d,%d,%d,%d,%d,%d]", localDateTime.getYear(), localDateTime.getMonthValue(),
+                            localDateTime.getDayOfMonth(), localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond(),
+                            localDateTime.getNano()));
+                } else if (colDisplayType == TIME) {
+                    final LocalTime localTime = (LocalTime) currVal;
+                    writer.append(format("[%d,%d,%d,%d]", localTime.getHour(), localTime.getMinute(), localTime.getSecond(),
+                            localTime.getNano()));
+                } else if (colDisplayType == DECIMAL || colDisplayType == INTEGER || colDisplayType == CODELOOKUP) {
+                    writer.append(String.valueOf(currVal));
+                } else {
+                    writer.append(DOUBLE_QUOTE + StringUtils.replace(String.valueOf(currVal), DOUBLE_QUOTE, SLASH_DOUBLE_QUOTE)
+                            + DOUBLE_QUOTE);
+                }
+            } else {
+                writer.append("null");
+            }
+            if (j < (rSize - 1)) {
+                writer.append(",\n");
+            }
+        }
+        writer.append("}");
+    }
+
+    @Override
+    public void end() throws IOException {
+        writer.append("\n]");
+        writer.flush();
+    }
+}
@@ -47,6 +47,13 @@ public interface ReadReportingService {
     GenericResultsetData retrieveGenericResultset(String name, String type, Map<String, String> extractedQueryParams,
             boolean isSelfServiceUserReport);
 
+    /**
+     * Runs the report like {@link #retrieveGenericResultset(String, String, Map, boolean)}, but hands the rows to the
+     * consumer as they are fetched instead of collecting them.
+     */
+    void streamGenericResultset(String name, String type, Map<String, String> extractedQueryParams, boolean isSelfServiceUserReport,
+            GenericResultsetConsumer consumer);
+
     // TODO This is weird, could they not be using the retrieveGenericResultset() above after all?
     // needed for smsCampaign and emailCampaign jobs where securityContext is null
     GenericResultsetData retrieveGenericResultSetForSmsEmailCampaign(String name, String type, Map<String, String> extractedQueryParams);
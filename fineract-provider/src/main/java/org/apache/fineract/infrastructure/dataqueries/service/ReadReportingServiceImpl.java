@@ -27,7 +27,6 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.sql.ResultSet;
@@ -46,13 +45,11 @@ import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.exception.ErrorHandler;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
-import org.apache.fineract.infrastructure.core.service.database.JdbcJavaType;
 import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
 import org.apache.fineract.infrastructure.dataqueries.data.ReportData;
 import org.apache.fineract.infrastructure.dataqueries.data.ReportParameterData;
 import org.apache.fineract.infrastructure.dataqueries.data.ReportParameterJoinData;
 import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
-import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
 import org.apache.fineract.infrastructure.dataqueries.exception.ReportNotFoundException;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.infrastructure.security.service.SqlInjectionPreventerService;
@@ -81,30 +78,14 @@ public class ReadReportingServiceImpl implements ReadReportingService {
     public StreamingOutput retrieveReportCSV(final String name, final String type, final Map<String, String> queryParams,
             final boolean isSelfServiceUserReport) {
         return out -> {
-            try {
-                final GenericResultsetData result = retrieveGenericResultset(name, type, queryParams, isSelfServiceUserReport);
-                generateCsvFileBuffer(result, out);
+            try (CSVPrinter printer = new CSVPrinter(new OutputStreamWriter(out, StandardCharsets.UTF_8), CSVFormat.EXCEL)) {
+                streamGenericResultset(name, type, queryParams, isSelfServiceUserReport, new CsvWriter(printer));
             } catch (final Exception e) {
                 throw ErrorHandler.getMappable(e);
             }
         };
     }
 
-    private void generateCsvFileBuffer(final GenericResultsetData result, OutputStream out) throws IOException {
-        try (CSVPrinter printer = new CSVPrinter(new OutputStreamWriter(out, StandardCharsets.UTF_8), CSVFormat.EXCEL)) {
-            final List<ResultsetColumnHeaderData> columnHeaders = result.getColumnHeaders();
-            final List<ResultsetRowData> data = result.getData();
-            final List<String> header = new ArrayList<>();
-            for (final ResultsetColumnHeaderData columnHeader : columnHeaders) {
-                header.add(columnHeader.getColumnName());
-            }
-            printer.printRecord(header);
-            for (final ResultsetRowData row : data) {
-                printer.printRecord(row.getRow());
-            }
-        }
-    }
-
     @Override
     public GenericResultsetData retrieveGenericResultset(final String name, final String type, final Map<String, String> queryParams,
             final boolean isSelfServiceUserReport) {
@@ -127,6 +108,27 @@ public class ReadReportingServiceImpl implements ReadReportingService {
         return result;
     }
 
+    @Override
+    public void streamGenericResultset(final String name, final String type, final Map<String, String> queryParams,
+            final boolean isSelfServiceUserReport, final GenericResultsetConsumer consumer) {
+
+        final long startTime = System.currentTimeMillis();
+        if (log.isDebugEnabled()) {
+            log.debug("STARTING REPORT: {}   Type: {}", LogParameterEscapeUtil.escapeLogParameter(name),
+                    LogParameterEscapeUtil.escapeLogParameter(type));
+        }
+
+        final String sql = getSQLtoRun(name, type, queryParams, isSelfServiceUserReport);
+
+        this.genericDataService.streamGenericResultSet(sql, consumer);
+
+        final long elapsed = System.currentTimeMillis() - startTime;
+        if (log.isDebugEnabled()) {
+            log.debug("FINISHING Report/Request Name: {} - {}     Elapsed Time: {}", LogParameterEscapeUtil.escapeLogParameter(name),
+                    type.replaceAll("[\n\r\t]", "_"), elapsed);
+        }
+    }
+
     private String getSQLtoRun(final String name, final String type, final Map<String, String> queryParams,
             final boolean isSelfServiceUserReport) {
 
@@ -201,47 +203,14 @@ public class ReadReportingServiceImpl implements ReadReportingService {
         final String genaratePdf = fileLocation + File.separator + reportName + ".pdf";
 
         try {
-            final GenericResultsetData result = retrieveGenericResultset(reportName, type, queryParams, isSelfServiceUserReport);
-
-            final List<ResultsetColumnHeaderData> columnHeaders = result.getColumnHeaders();
-            final List<ResultsetRowData> data = result.getData();
-            List<Object> row;
-
-            log.debug("NO. of Columns: {}", columnHeaders.size());
-            final Integer chSize = columnHeaders.size();
-
             final Document document = new Document(PageSize.B0.rotate());
 
             String validatedFileName = ESAPI.encoder().encodeForOS(new UnixCodec(), reportName);
             PdfWriter.getInstance(document, new FileOutputStream(fileLocation + validatedFileName + ".pdf"));
             document.open();
 
-            final PdfPTable table = new PdfPTable(chSize);
-            table.setWidthPercentage(100);
-
-            for (int i = 0; i < chSize; i++) {
-
-                table.addCell(columnHeaders.get(i).getColumnName());
+            streamGenericResultset(reportName, type, queryParams, isSelfServiceUserReport, new PdfTableWriter(document));
 
-            }
-            table.completeRow();
-
-            Integer rSize;
-            JdbcJavaType currColType;
-            String currVal;
-            log.debug("NO. of Rows: {}", data.size());
-            for (ResultsetRowData element : data) {
-                row = element.getRow();
-                rSize = row.size();
-                for (int j = 0; j < rSize; j++) {
-                    currVal = (String) row.get(j);
-                    if (currVal != null) {
-                        table.addCell(currVal);
-                    }
-                }
-            }
-            table.completeRow();
-            document.add(table);
             document.close();
             return genaratePdf;
         } catch (final Exception e) {
@@ -513,4 +482,74 @@ public class ReadReportingServiceImpl implements ReadReportingService {
          */
         return null;
     }
+
+    @RequiredArgsConstructor
+    private static final class CsvWriter implements GenericResultsetConsumer {
+
+        private final CSVPrinter printer;
+
+        @Override
+        public void columnHeaders(final List<ResultsetColumnHeaderData> columnHeaders) throws IOException {
+            final List<String> header = new ArrayList<>();
+            for (final ResultsetColumnHeaderData columnHeader : columnHeaders) {
+                header.add(columnHeader.getColumnName());
+            }
+            printer.printRecord(header);
+            // let the client see the response start before the first rows are fetched
+            printer.flush();
+        }
+
+        @Override
+        public void row(final List<Object> row) throws IOException {
+            printer.printRecord(row);
+        }
+    }
+
+    /**
+     * Adds the rows to a table which is written to the document every {@link #FLUSH_ROW_COUNT} rows, so only the rows of
+     * the current page are kept in memory.
+     */
+    @RequiredArgsConstructor
+    private static final class PdfTableWriter implements GenericResultsetConsumer {
+
+        private static final int FLUSH_ROW_COUNT = 500;
+
+        private final Document document;
+
+        private PdfPTable table;
+        private int rowCount;
+
+        @Override
+        public void columnHeaders(final List<ResultsetColumnHeaderData> columnHeaders) {
+            log.debug("NO. of Columns: {}", columnHeaders.size());
+            table = new PdfPTable(columnHeaders.size());
+            table.setWidthPercentage(100);
+            table.setComplete(false);
+            for (final ResultsetColumnHeaderData columnHeader : columnHeaders) {
+                table.addCell(columnHeader.getColumnName());
+            }
+            table.completeRow();
+        }
+
+        @Override
+        public void row(final List<Object> row) {
+            for (final Object value : row) {
+                final String currVal = (String) value;
+                if (currVal != null) {
+                    table.addCell(currVal);
+                }
+            }
+            if (++rowCount % FLUSH_ROW_COUNT == 0) {
+                document.add(table);
+            }
+        }
+
+        @Override
+        public void end() {
+            log.debug("NO. of Rows: {}", rowCount);
+            table.completeRow();
+            table.setComplete(true);
+            document.add(table);
+        }
+    }
 }
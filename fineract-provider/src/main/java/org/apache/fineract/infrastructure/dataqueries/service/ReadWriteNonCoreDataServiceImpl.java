@@ -398,6 +398,7 @@ public class ReadWriteNonCoreDataServiceImpl implements ReadWriteNonCoreDataServ
             if (category.equals(DataTableApiConstant.CATEGORY_PPI)) {
                 this.namedParameterJdbcTemplate
                         .update("insert into c_configuration (name, value, enabled ) values( :dataTableName, '0', false)", paramMap);
+                this.configurationDomainService.removeGlobalConfigurationPropertyDataFromCache(dataTableName);
             }
 
         } catch (final JpaSystemException | DataIntegrityViolationException dve) {
@@ -466,6 +467,7 @@ public class ReadWriteNonCoreDataServiceImpl implements ReadWriteNonCoreDataServ
         sqlArray[3] = deleteFromConfigurationSql;
 
         this.jdbcTemplate.batchUpdate(sqlArray); // NOSONAR
+        this.configurationDomainService.removeGlobalConfigurationPropertyDataFromCache(datatable);
     }
 
     private void parseDatatableColumnObjectForCreate(final JsonObject column, StringBuilder sqlBuilder,
@@ -18,17 +18,29 @@
  */
 package org.apache.fineract.infrastructure.dataqueries.service.export;
 
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.infrastructure.core.api.ApiParameterHelper;
-import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer;
-import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
-import org.apache.fineract.infrastructure.dataqueries.data.ReportData;
+import org.apache.fineract.infrastructure.core.exception.ErrorHandler;
+import org.apache.fineract.infrastructure.core.serialization.GoogleGsonSerializerHelper;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
 import org.apache.fineract.infrastructure.dataqueries.service.DatatableExportTargetParameter;
-import org.apache.fineract.infrastructure.dataqueries.service.GenericDataService;
+import org.apache.fineract.infrastructure.dataqueries.service.GenericResultsetConsumer;
+import org.apache.fineract.infrastructure.dataqueries.service.GenericResultsetJsonWriter;
 import org.apache.fineract.infrastructure.dataqueries.service.ReadReportingService;
 import org.springframework.stereotype.Service;
 
@@ -36,31 +48,32 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class JsonDatatableReportExportService implements DatatableReportExportService {
 
+    private static final Gson GSON = GoogleGsonSerializerHelper.createGsonBuilder(false).create();
+    private static final Gson PRETTY_GSON = GoogleGsonSerializerHelper.createGsonBuilder(true).create();
+
     private final ReadReportingService readExtraDataAndReportingService;
-    private final ToApiJsonSerializer<ReportData> toApiJsonSerializer;
-    private final GenericDataService genericDataService;
 
     @Override
     public ResponseHolder export(String reportName, MultivaluedMap<String, String> queryParams, Map<String, String> reportParams,
             boolean isSelfServiceUserReport, String parameterTypeValue) {
-
-        final GenericResultsetData result = this.readExtraDataAndReportingService.retrieveGenericResultset(reportName, parameterTypeValue,
-                reportParams, isSelfServiceUserReport);
         DatatableExportTargetParameter exportMode = DatatableExportTargetParameter.resolverExportTarget(queryParams);
         boolean prettyPrint = exportMode == DatatableExportTargetParameter.PRETTY_JSON;
-        String json;
         final boolean genericResultSetIsPassed = ApiParameterHelper.genericResultSetPassed(queryParams);
         final boolean genericResultSet = ApiParameterHelper.genericResultSet(queryParams);
-        if (genericResultSetIsPassed) {
-            if (genericResultSet) {
-                json = this.toApiJsonSerializer.serializePretty(prettyPrint, result);
-            } else {
-                json = this.genericDataService.generateJsonFromGenericResultsetData(result);
+        final boolean rowsAsObjects = genericResultSetIsPassed && !genericResultSet;
+
+        final StreamingOutput result = out -> {
+            try {
+                final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                final GenericResultsetConsumer consumer = rowsAsObjects ? new GenericResultsetJsonWriter(writer)
+                        : new GenericResultsetGsonWriter(prettyPrint ? PRETTY_GSON : GSON, writer);
+                this.readExtraDataAndReportingService.streamGenericResultset(reportName, parameterTypeValue, reportParams,
+                        isSelfServiceUserReport, consumer);
+            } catch (final Exception e) {
+                throw ErrorHandler.getMappable(e);
             }
-        } else {
-            json = this.toApiJsonSerializer.serializePretty(prettyPrint, result);
-        }
-        return new ResponseHolder(Response.Status.OK).entity(json).contentType(MediaType.APPLICATION_JSON);
+        };
+        return new ResponseHolder(Response.Status.OK).entity(result).contentType(MediaType.APPLICATION_JSON);
 
     }
 
@@ -68,4 +81,42 @@ public class JsonDatatableReportExportService implements DatatableReportExportSe
     public boolean supports(DatatableExportTargetParameter exportType) {
         return exportType == DatatableExportTargetParameter.JSON || exportType == DatatableExportTargetParameter.PRETTY_JSON;
     }
+
+    /**
+     * Writes the same JSON as the serialized {@link org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData},
+     * one row at a time.
+     */
+    private static final class GenericResultsetGsonWriter implements GenericResultsetConsumer {
+
+        private static final Type COLUMN_HEADERS_TYPE = new TypeToken<List<ResultsetColumnHeaderData>>() {}.getType();
+        private static final Type ROW_TYPE = new TypeToken<List<Object>>() {}.getType();
+
+        private final Gson gson;
+        private final JsonWriter jsonWriter;
+
+        private GenericResultsetGsonWriter(final Gson gson, final Writer writer) throws IOException {
+            this.gson = gson;
+            this.jsonWriter = gson.newJsonWriter(writer);
+        }
+
+        @Override
+        public void columnHeaders(final List<ResultsetColumnHeaderData> columnHeaders) throws IOException {
+            jsonWriter.beginObject().name("columnHeaders");
+            gson.toJson(columnHeaders, COLUMN_HEADERS_TYPE, jsonWriter);
+            jsonWriter.name("data").beginArray();
+        }
+
+        @Override
+        public void row(final List<Object> row) throws IOException {
+            jsonWriter.beginObject().name("row");
+            gson.toJson(row, ROW_TYPE, jsonWriter);
+            jsonWriter.endObject();
+        }
+
+        @Override
+        public void end() throws IOException {
+            jsonWriter.endArray().endObject();
+            jsonWriter.flush();
+        }
+    }
 }
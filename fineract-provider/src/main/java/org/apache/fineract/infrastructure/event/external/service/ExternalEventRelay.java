@@ -0,0 +1,364 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.core.service.tenant.TenantDetailsService;
+import org.apache.fineract.infrastructure.event.external.producer.ExternalEventProducer;
+import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventView;
+import org.apache.fineract.infrastructure.event.external.service.message.MessageFactory;
+import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Always-on replacement of the Send Asynchronous Events job: a few worker threads keep draining the queued external
+ * events of every tenant to the message broker, instead of one batch per job run.
+ * <p>
+ * The events are spread over the rows of m_external_event_relay_shard by their aggregate root id. A worker leases a
+ * shard with <code>FOR UPDATE SKIP LOCKED</code>, so the workers of every node claim disjoint sets of events and never
+ * wait for each other, while the events of one aggregate are always sent by a single worker in id order. The lease is
+ * held until the batch is acknowledged by the broker and marked as sent, the next batch is only claimed after that.
+ * <p>
+ * The lag of a tenant is the age of its oldest event still waiting to be enriched or sent, it is measured by the first
+ * worker after each of its rounds, whether the round succeeded or not.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "fineract.events.external.relay.enabled", havingValue = "true")
+public class ExternalEventRelay implements ApplicationListener<ContextRefreshedEvent>, DisposableBean {
+
+    public static final String SENT_METRIC = "fineract.events.external.relay.sent";
+    public static final String LAG_METRIC = "fineract.events.external.relay.lag";
+    public static final String BATCHES_METRIC = "fineract.events.external.relay.batches";
+
+    private static final String SHARDS_SQL = "select shard_id from m_external_event_relay_shard order by shard_id";
+    private static final String LEASE_SQL = "select shard_id from m_external_event_relay_shard where shard_id = ? for update skip locked";
+
+    private final FineractProperties fineractProperties;
+    private final TenantDetailsService tenantDetailsService;
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final ExternalEventRepository repository;
+    private final ExternalEventProducer eventProducer;
+    private final MessageFactory messageFactory;
+    private final ByteBufferConverter byteBufferConverter;
+    private final ConfigurationDomainService configurationDomainService;
+    private final ExternalEventEnricher externalEventEnricher;
+    private final MeterRegistry meterRegistry;
+    private final Timer batches;
+    private final Map<String, Counter> sent = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> lags = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private ThreadPoolTaskExecutor executor;
+
+    public ExternalEventRelay(final FineractProperties fineractProperties, final TenantDetailsService tenantDetailsService,
+            final JdbcTemplate jdbcTemplate, final DatabaseSpecificSQLGenerator sqlGenerator,
+            final PlatformTransactionManager transactionManager, final ExternalEventRepository repository,
+            final ExternalEventProducer eventProducer, final MessageFactory messageFactory, final ByteBufferConverter byteBufferConverter,
+            final ConfigurationDomainService configurationDomainService, final ExternalEventEnricher externalEventEnricher,
+            final MeterRegistry meterRegistry) {
+        this.fineractProperties = fineractProperties;
+        this.tenantDetailsService = tenantDetailsService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.sqlGenerator = sqlGenerator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.repository = repository;
+        this.eventProducer = eventProducer;
+        this.messageFactory = messageFactory;
+        this.byteBufferConverter = byteBufferConverter;
+        this.configurationDomainService = configurationDomainService;
+        this.externalEventEnricher = externalEventEnricher;
+        this.meterRegistry = meterRegistry;
+        this.batches = Timer.builder(BATCHES_METRIC).description("Time taken to send a batch of external events and mark it as sent")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void onApplicationEvent(ContextRefreshedEvent event) {
+        if (running) {
+            return;
+        }
+        if (!isDownstreamChannelEnabled()) {
+            log.warn("External event relay is enabled, but neither the JMS nor the Kafka producer is, the relay is not started");
+            return;
+        }
+        final int workerCount = Math.max(1, getRelayProperties().getWorkerCount());
+        executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("external-event-relay-");
+        executor.setDaemon(true);
+        executor.setCorePoolSize(workerCount);
+        executor.setMaxPoolSize(workerCount);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            final int worker = i;
+            executor.execute(() -> work(worker));
+        }
+        log.info("External event relay started with {} workers", workerCount);
+    }
+
+    @Override
+    public synchronized void destroy() {
+        running = false;
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private void work(final int worker) {
+        int failures = 0;
+        while (running) {
+            long sentCount = 0;
+            boolean failed = false;
+            try {
+                for (FineractPlatformTenant tenant : tenantDetailsService.findAllTenants()) {
+                    try {
+                        sentCount += relay(tenant, worker);
+                    } catch (RuntimeException e) {
+                        failed = true;
+                        log.warn("Relaying the external events of tenant {} failed", tenant.getTenantIdentifier(), e);
+                    }
+                }
+            } catch (RuntimeException e) {
+                failed = true;
+                log.warn("Tenants could not be loaded for the external event relay", e);
+            }
+            failures = failed ? failures + 1 : 0;
+            if (failed) {
+                pause(backoff(failures));
+            } else if (sentCount == 0) {
+                pause(getRelayProperties().getIdleWaitInMillis());
+            }
+        }
+    }
+
+    /**
+     * Relays one batch from every shard of the tenant that is not leased by another worker, starting at a different
+     * shard for each worker.
+     *
+     * @return the number of events sent
+     */
+    long relay(final FineractPlatformTenant tenant, final int worker) {
+        try {
+            ThreadLocalContextUtil.setTenant(tenant);
+            if (worker == 0 && externalEventEnricher.isEnabled()) {
+                externalEventEnricher.enrichDeferredEvents();
+            }
+            final List<Integer> shards = jdbcTemplate.queryForList(SHARDS_SQL, Integer.class);
+            long sentCount = 0;
+            for (int i = 0; i < shards.size(); i++) {
+                sentCount += relayShard(shards.get((worker + i) % shards.size()), shards.size()).size();
+            }
+            if (sentCount > 0) {
+                getSentCounter(tenant.getTenantIdentifier()).increment(sentCount);
+            }
+            return sentCount;
+        } finally {
+            if (worker == 0) {
+                updateLag(tenant.getTenantIdentifier());
+            }
+            ThreadLocalContextUtil.reset();
+        }
+    }
+
+    private void updateLag(final String tenantIdentifier) {
+        try {
+            final OffsetDateTime oldestCreatedAt = jdbcTemplate.query(getOldestPendingSql(),
+                    rs -> rs.next() ? JdbcSupport.getOffsetDateTime(rs, "created_at") : null, // NOSONAR
+                    ExternalEventStatus.TO_BE_ENRICHED.name(), ExternalEventStatus.TO_BE_SENT.name());
+            getLag(tenantIdentifier).set(
+                    oldestCreatedAt == null ? 0 : Math.max(0, Duration.between(oldestCreatedAt.toInstant(), Instant.now()).toMillis()));
+        } catch (RuntimeException e) {
+            log.warn("Lag of the external events of tenant {} could not be measured", tenantIdentifier, e);
+        }
+    }
+
+    private List<ExternalEventView> relayShard(final int shardId, final int shardCount) {
+        return transactionTemplate.execute(status -> {
+            if (jdbcTemplate.queryForList(LEASE_SQL, Integer.class, shardId).isEmpty()) {
+                // leased by another worker
+                return List.of();
+            }
+            final List<ExternalEventView> events = claim(shardId, shardCount);
+            if (!events.isEmpty()) {
+                batches.record(() -> send(events));
+            }
+            return events;
+        });
+    }
+
+    private List<ExternalEventView> claim(final int shardId, final int shardCount) {
+        if (!externalEventEnricher.isEnabled()) {
+            return jdbcTemplate.query(getClaimSql("status = ?"), this::mapRow, // NOSONAR
+                    ExternalEventStatus.TO_BE_SENT.name(), shardCount, shardId);
+        }
+        // nothing raised after an event which is still to be enriched is sent, to keep the order of the events
+        return jdbcTemplate.query(getClaimSql("status in (?, ?)"), this::mapRow, // NOSONAR
+                ExternalEventStatus.TO_BE_ENRICHED.name(), ExternalEventStatus.TO_BE_SENT.name(), shardCount, shardId).stream()
+                .takeWhile(event -> event.getStatus() == ExternalEventStatus.TO_BE_SENT).toList();
+    }
+
+    private void send(final List<ExternalEventView> events) {
+        final Map<Long, List<ExternalEventView>> eventsByAggregate = events.stream()
+                .collect(groupingBy(event -> event.getAggregateRootId() == null ? -1L : event.getAggregateRootId(), LinkedHashMap::new,
+                        toList()));
+        final Map<Long, List<byte[]>> partitions = new LinkedHashMap<>();
+        eventsByAggregate.forEach((aggregateRootId, aggregateEvents) -> partitions.put(aggregateRootId, createMessages(aggregateEvents)));
+        eventProducer.sendEvents(partitions);
+
+        final OffsetDateTime sentAt = DateUtils.getAuditOffsetDateTime();
+        final List<Long> eventIds = events.stream().map(ExternalEventView::getId).toList();
+        Lists.partition(eventIds, fineractProperties.getEvents().getExternal().getPartitionSize())
+                .forEach(partitionedEventIds -> repository.markEventsSent(partitionedEventIds, sentAt));
+    }
+
+    private List<byte[]> createMessages(final List<ExternalEventView> events) {
+        try {
+            final List<byte[]> messages = new ArrayList<>(events.size());
+            for (ExternalEventView event : events) {
+                messages.add(event.getMessage() != null ? messageFactory.toFramedMessage(event)
+                        : byteBufferConverter.convert(messageFactory.createMessage(event).toByteBuffer()));
+            }
+            return messages;
+        } catch (IOException e) {
+            throw new RuntimeException("Error while serializing the message", e);
+        }
+    }
+
+    private String getClaimSql(final String statusCondition) {
+        return "select id, type, category, " + sqlGenerator.escape("schema")
+                + " as event_schema, data, created_at, status, idempotency_key, business_date, aggregate_root_id, message "
+                + "from m_external_event where " + statusCondition + " and mod(coalesce(aggregate_root_id, 0), ?) = ? order by id "
+                + sqlGenerator.limit(configurationDomainService.retrieveExternalEventBatchSize().intValue());
+    }
+
+    private String getOldestPendingSql() {
+        // the ids grow with the creation time, so the lowest pending id is the oldest pending event
+        return "select created_at from m_external_event where status in (?, ?) order by id " + sqlGenerator.limit(1);
+    }
+
+    private ExternalEventView mapRow(final ResultSet rs, final int rowNum) throws SQLException {
+        return new ClaimedEvent(rs.getLong("id"), rs.getString("type"), rs.getString("category"), rs.getString("event_schema"),
+                rs.getBytes("data"), JdbcSupport.getOffsetDateTime(rs, "created_at"), ExternalEventStatus.valueOf(rs.getString("status")),
+                rs.getString("idempotency_key"), JdbcSupport.getLocalDate(rs, "business_date"),
+                JdbcSupport.getLong(rs, "aggregate_root_id"), rs.getBytes("message"));
+    }
+
+    private Counter getSentCounter(final String tenantIdentifier) {
+        return sent.computeIfAbsent(tenantIdentifier, key -> Counter.builder(SENT_METRIC).tag("tenant", key)
+                .description("External events sent by the relay").register(meterRegistry));
+    }
+
+    private AtomicLong getLag(final String tenantIdentifier) {
+        return lags.computeIfAbsent(tenantIdentifier, key -> {
+            final AtomicLong lag = new AtomicLong();
+            TimeGauge.builder(LAG_METRIC, lag, TimeUnit.MILLISECONDS, AtomicLong::get).tag("tenant", key)
+                    .description("Age of the oldest external event waiting to be enriched or sent").register(meterRegistry);
+            return lag;
+        });
+    }
+
+    private long backoff(final int failures) {
+        final long idleWait = Math.max(1, getRelayProperties().getIdleWaitInMillis());
+        return Math.min(getRelayProperties().getMaxBackoffInMillis(), idleWait << Math.min(failures, 16));
+    }
+
+    private void pause(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private boolean isDownstreamChannelEnabled() {
+        return fineractProperties.getEvents().getExternal().getProducer().getJms().isEnabled()
+                || fineractProperties.getEvents().getExternal().getProducer().getKafka().isEnabled();
+    }
+
+    private FineractProperties.FineractExternalEventsRelayProperties getRelayProperties() {
+        return fineractProperties.getEvents().getExternal().getRelay();
+    }
+
+    @Value
+    private static class ClaimedEvent implements ExternalEventView {
+
+        Long id;
+        String type;
+        String category;
+        String schema;
+        byte[] data;
+        OffsetDateTime createdAt;
+        ExternalEventStatus status;
+        String idempotencyKey;
+        LocalDate businessDate;
+        Long aggregateRootId;
+        byte[] message;
+
+        @Override
+        public OffsetDateTime getSentAt() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.jobs.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.data.ApiGlobalErrorResponse;
+import org.apache.fineract.infrastructure.core.http.BodyCachingHttpServletRequestWrapper;
+import org.apache.fineract.infrastructure.jobs.exception.SavingsIdsHardLockedException;
+import org.apache.fineract.useradministration.exception.UnAuthenticatedUserException;
+import org.apache.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Rejects write requests against savings accounts that are locked by the Savings COB chunk processing, the same way
+ * {@link LoanCOBApiFilter} does for loans. Without it a deposit or withdrawal could interleave with the business steps
+ * running on the same account.
+ */
+@RequiredArgsConstructor
+public class SavingsCOBApiFilter extends OncePerRequestFilter {
+
+    private final SavingsCOBFilterHelper helper;
+
+    private static class Reject {
+
+        private final String message;
+        private final Integer statusCode;
+
+        Reject(String message, Integer statusCode) {
+            this.message = message;
+            this.statusCode = statusCode;
+        }
+
+        public static Reject reject(Long savingsId, int status) {
+            return new Reject(ApiGlobalErrorResponse.savingsAccountIsLocked(savingsId).toJson(), status);
+        }
+
+        public static Reject unAuthenticated() {
+            return new Reject(ApiGlobalErrorResponse.unAuthenticated().toJson(), HttpStatus.SC_UNAUTHORIZED);
+        }
+
+        public void toServletResponse(HttpServletResponse response) throws IOException {
+            response.setStatus(statusCode);
+            response.getWriter().write(message);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // only the Batch API needs the body, other requests, like bulk import uploads, are passed on unread
+        if (helper.isBatchApi(request.getPathInfo())) {
+            request = new BodyCachingHttpServletRequestWrapper(request);
+        }
+
+        if (!helper.isOnApiList(request)) {
+            proceed(filterChain, request, response);
+        } else {
+            try {
+                boolean bypassUser = helper.isBypassUser();
+                if (bypassUser) {
+                    proceed(filterChain, request, response);
+                } else {
+                    try {
+                        helper.calculateRelevantSavingsIds(request);
+                        proceed(filterChain, request, response);
+                    } catch (SavingsIdsHardLockedException e) {
+                        Reject.reject(e.getSavingsIdFromRequest(), HttpStatus.SC_CONFLICT).toServletResponse(response);
+                    }
+                }
+            } catch (UnAuthenticatedUserException e) {
+                Reject.unAuthenticated().toServletResponse(response);
+            }
+        }
+    }
+
+    private void proceed(FilterChain filterChain, HttpServletRequest request, HttpServletResponse response)
+            throws IOException, ServletException {
+        filterChain.doFilter(request, response);
+    }
+
+}
@@ -0,0 +1,151 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.jobs.filter;
+
+import static org.apache.fineract.batch.command.CommandStrategyUtils.isRelativeUrlVersioned;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.batch.domain.BatchRequest;
+import org.apache.fineract.cob.savings.SavingsLockingService;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.infrastructure.jobs.exception.SavingsIdsHardLockedException;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepositoryWrapper;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+/**
+ * Finds the savings accounts a write request touches, so that requests against accounts locked by the Savings COB
+ * chunk processing can be rejected before they reach the API resources. Savings COB has no inline variant, so unlike
+ * {@link LoanCOBFilterHelper} there is nothing to catch up here. Only the accounts the current COB run still works on
+ * are reported, the locks of failed items and of earlier runs do not block writes.
+ */
+@RequiredArgsConstructor
+@Component
+public class SavingsCOBFilterHelper {
+
+    private final SavingsLockingService savingsLockingService;
+    private final PlatformSecurityContext context;
+    private final SavingsAccountRepositoryWrapper savingsAccountRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final List<HttpMethod> HTTP_METHODS = List.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.DELETE);
+
+    public static final Pattern SAVINGS_PATH_PATTERN = Pattern
+            .compile("/v[1-9][0-9]*/(?:savings|fixeddeposit|recurringdeposit)accounts/(external-id/)?([^/?]+).*");
+
+    public boolean isOnApiList(HttpServletRequest request) throws IOException {
+        String pathInfo = request.getPathInfo();
+        String method = request.getMethod();
+        if (StringUtils.isBlank(pathInfo)) {
+            return false;
+        }
+        if (isBatchApi(pathInfo)) {
+            return isBatchApiMatching(request);
+        } else {
+            return isApiMatching(method, pathInfo);
+        }
+    }
+
+    public boolean isBypassUser() {
+        return context.authenticatedUser().isBypassUser();
+    }
+
+    public List<Long> calculateRelevantSavingsIds(HttpServletRequest request) throws IOException {
+        String pathInfo = request.getPathInfo();
+        List<Long> savingsIds = new ArrayList<>();
+        if (isBatchApi(pathInfo)) {
+            for (BatchRequest batchRequest : getBatchRequests(request)) {
+                String relativeUrl = batchRequest.getRelativeUrl();
+                // a resourceId reference is only known once the preceding requests ran, so it is skipped
+                if (isApiMatching(batchRequest.getMethod(), relativeUrl) && !relativeUrl.contains("$.resourceId")) {
+                    savingsIds.addAll(getSavingsIdsFromApi(relativeUrl));
+                }
+            }
+        } else {
+            savingsIds.addAll(getSavingsIdsFromApi(pathInfo));
+        }
+        return savingsIds;
+    }
+
+    private boolean isBatchApiMatching(HttpServletRequest request) throws IOException {
+        for (BatchRequest batchRequest : getBatchRequests(request)) {
+            if (isApiMatching(batchRequest.getMethod(), batchRequest.getRelativeUrl())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<BatchRequest> getBatchRequests(HttpServletRequest request) throws IOException {
+        List<BatchRequest> batchRequests = objectMapper.readValue(request.getInputStream(), new TypeReference<>() {});
+        for (BatchRequest batchRequest : batchRequests) {
+            String pathInfo = "/" + batchRequest.getRelativeUrl();
+            if (!isRelativeUrlVersioned(batchRequest.getRelativeUrl())) {
+                pathInfo = "/v1/" + batchRequest.getRelativeUrl();
+            }
+            batchRequest.setRelativeUrl(pathInfo);
+        }
+        return batchRequests;
+    }
+
+    private boolean isApiMatching(String method, String pathInfo) {
+        return HTTP_METHODS.contains(HttpMethod.valueOf(method)) && SAVINGS_PATH_PATTERN.matcher(pathInfo).matches();
+    }
+
+    public boolean isBatchApi(String pathInfo) {
+        return pathInfo != null && pathInfo.startsWith("/v1/batches");
+    }
+
+    private List<Long> getSavingsIdsFromApi(String pathInfo) {
+        Long savingsId = getSavingsId(pathInfo);
+        if (savingsId == null) {
+            return Collections.emptyList();
+        }
+        if (savingsLockingService.isSavingsAccountLocked(savingsId)) {
+            throw new SavingsIdsHardLockedException(savingsId);
+        }
+        return Collections.singletonList(savingsId);
+    }
+
+    private Long getSavingsId(String pathInfo) {
+        Matcher matcher = SAVINGS_PATH_PATTERN.matcher(pathInfo);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String id = matcher.group(2);
+        if (matcher.group(1) != null) {
+            return savingsAccountRepository.findIdByExternalId(new ExternalId(id));
+        } else if (StringUtils.isNumeric(id)) {
+            return Long.valueOf(id);
+        } else {
+            return null;
+        }
+    }
+}
@@ -141,9 +141,9 @@ public class TenantAwareBasicAuthenticationFilter extends BasicAuthenticationFil
                         final String baseUrl = request.getRequestURL().toString().replace(request.getPathInfo(), "/");
                         System.setProperty("baseUrl", baseUrl);
 
-                        final boolean ehcacheEnabled = configurationDomainService.isEhcacheEnabled();
-                        if (ehcacheEnabled) {
-                            cacheWritePlatformService.switchToCache(CacheType.SINGLE_NODE);
+                        final CacheType cacheType = configurationDomainService.retrieveCacheType();
+                        if (cacheType.isEhcache() || cacheType.isDistributedCache()) {
+                            cacheWritePlatformService.switchToCache(cacheType);
                         } else {
                             cacheWritePlatformService.switchToCache(CacheType.NO_CACHE);
                         }
@@ -0,0 +1,138 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationChannel;
+import org.apache.fineract.infrastructure.cache.service.TenantCacheInvalidator;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers the users whose HTTP Basic credentials were verified recently, so that the following requests of an
+ * integration user do not verify the password hash and load the user with its roles and permissions again.
+ *
+ * The credentials are only kept as a keyed hash of the username and password, with a key generated on startup. The
+ * entries expire after {@code fineract.security.basicauth.credential-cache-ttl-in-seconds}. The entries of a tenant are
+ * dropped by {@link #invalidate()} when a user, a role or the permissions of the tenant change, and the other nodes are
+ * told over the {@link CacheInvalidationChannel} to drop theirs.
+ */
+@Component
+public class VerifiedCredentialCache {
+
+    public static final String CACHE_NAME = "verifiedCredentials";
+
+    private static final String HASH_ALGORITHM = "HmacSHA256";
+    private static final int MAX_ENTRIES_PER_TENANT = 10_000;
+
+    private final FineractProperties fineractProperties;
+    private final TenantCacheInvalidator invalidator;
+    private final SecretKeySpec hashKey = createHashKey();
+    private final Map<String, Map<String, VerifiedCredential>> verifiedCredentialsByTenant = new ConcurrentHashMap<>();
+
+    public VerifiedCredentialCache(final FineractProperties fineractProperties, final CacheInvalidationChannel invalidationChannel) {
+        this.fineractProperties = fineractProperties;
+        this.invalidator = new TenantCacheInvalidator(CACHE_NAME, invalidationChannel, verifiedCredentialsByTenant::remove);
+    }
+
+    public boolean isEnabled() {
+        return fineractProperties.getSecurity().getBasicauth().getCredentialCacheTtlInSeconds() > 0;
+    }
+
+    /**
+     * @return the user verified with the same credentials recently, null when there is none
+     */
+    public UserDetails get(String username, String password) {
+        final Map<String, VerifiedCredential> verifiedCredentials = verifiedCredentialsByTenant.get(getTenantIdentifier());
+        if (verifiedCredentials == null) {
+            return null;
+        }
+        final String credentialHash = hash(username, password);
+        final VerifiedCredential verifiedCredential = verifiedCredentials.get(credentialHash);
+        if (verifiedCredential == null) {
+            return null;
+        }
+        if (verifiedCredential.isExpired(Instant.now())) {
+            verifiedCredentials.remove(credentialHash, verifiedCredential);
+            return null;
+        }
+        return verifiedCredential.user();
+    }
+
+    public void put(String username, String password, UserDetails user) {
+        final Map<String, VerifiedCredential> verifiedCredentials = verifiedCredentialsByTenant.computeIfAbsent(getTenantIdentifier(),
+                tenantIdentifier -> new ConcurrentHashMap<>());
+        final Instant now = Instant.now();
+        if (verifiedCredentials.size() >= MAX_ENTRIES_PER_TENANT) {
+            verifiedCredentials.values().removeIf(verifiedCredential -> verifiedCredential.isExpired(now));
+            if (verifiedCredentials.size() >= MAX_ENTRIES_PER_TENANT) {
+                return;
+            }
+        }
+        final Instant expiresAt = now.plusSeconds(fineractProperties.getSecurity().getBasicauth().getCredentialCacheTtlInSeconds());
+        verifiedCredentials.put(hash(username, password), new VerifiedCredential(user, expiresAt));
+    }
+
+    /**
+     * Drops the verified credentials of the current tenant, meant to be called when a user, a role or the permissions
+     * change.
+     */
+    public void invalidate() {
+        invalidator.invalidate();
+    }
+
+    private String hash(String username, String password) {
+        try {
+            final Mac mac = Mac.getInstance(HASH_ALGORITHM);
+            mac.init(hashKey);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(mac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to hash the credentials", e);
+        }
+    }
+
+    private String getTenantIdentifier() {
+        return ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+    }
+
+    private static SecretKeySpec createHashKey() {
+        final byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return new SecretKeySpec(key, HASH_ALGORITHM);
+    }
+
+    private record VerifiedCredential(UserDetails user, Instant expiresAt) {
+
+        private boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * {@link DaoAuthenticationProvider} which skips the password hash verification and the loading of the user for
+ * credentials verified recently, see {@link VerifiedCredentialCache}. The account status checks are still made on every
+ * authentication.
+ */
+@RequiredArgsConstructor
+public class VerifiedCredentialCachingAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private final VerifiedCredentialCache verifiedCredentialCache;
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (!verifiedCredentialCache.isEnabled() || authentication.getName() == null
+                || !(authentication.getCredentials() instanceof String password)) {
+            return super.authenticate(authentication);
+        }
+        final String username = authentication.getName();
+        final UserDetails user = verifiedCredentialCache.get(username, password);
+        if (user != null) {
+            getPreAuthenticationChecks().check(user);
+            getPostAuthenticationChecks().check(user);
+            return createSuccessAuthentication(user, authentication, user);
+        }
+        final Authentication result = super.authenticate(authentication);
+        if (result.getPrincipal() instanceof UserDetails verifiedUser) {
+            verifiedCredentialCache.put(username, password, verifiedUser);
+        }
+        return result;
+    }
+}
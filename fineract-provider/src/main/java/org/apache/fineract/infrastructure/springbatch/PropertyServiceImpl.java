@@ -65,13 +65,22 @@ public class PropertyServiceImpl implements PropertyService {
         return getProperty(jobName, FineractProperties.PartitionedJobProperty::getPollInterval);
     }
 
+    @Override
+    public Boolean getReaderPrefetchEnabled(String jobName) {
+        return getProperty(jobName, FineractProperties.PartitionedJobProperty::getReaderPrefetchEnabled, false);
+    }
+
     private Integer getProperty(String jobName, Function<? super FineractProperties.PartitionedJobProperty, Integer> function) {
+        return getProperty(jobName, function, 1);
+    }
+
+    private <T> T getProperty(String jobName, Function<? super FineractProperties.PartitionedJobProperty, T> function, T defaultValue) {
         List<FineractProperties.PartitionedJobProperty> jobProperties = fineractProperties.getPartitionedJob()
                 .getPartitionedJobProperties();
         return jobProperties.stream() //
                 .filter(jobProperty -> jobName.equals(jobProperty.getJobName())) //
                 .findFirst() //
                 .map(function) //
-                .orElse(1);
+                .orElse(defaultValue);
     }
 }
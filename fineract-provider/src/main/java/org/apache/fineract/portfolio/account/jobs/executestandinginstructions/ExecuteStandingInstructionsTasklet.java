@@ -18,25 +18,39 @@
  */
 package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
 
+import com.google.common.collect.Lists;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.exception.AbstractPlatformServiceUnavailableException;
 import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
+import org.apache.fineract.portfolio.account.PortfolioAccountType;
 import org.apache.fineract.portfolio.account.data.AccountTransferDTO;
 import org.apache.fineract.portfolio.account.data.StandingInstructionData;
 import org.apache.fineract.portfolio.account.data.StandingInstructionDuesData;
 import org.apache.fineract.portfolio.account.domain.AccountTransferRecurrenceType;
 import org.apache.fineract.portfolio.account.domain.StandingInstructionStatus;
-import org.apache.fineract.portfolio.account.domain.StandingInstructionType;
 import org.apache.fineract.portfolio.account.service.AccountTransfersWritePlatformService;
 import org.apache.fineract.portfolio.account.service.StandingInstructionReadPlatformService;
 import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
@@ -49,90 +63,242 @@ import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Executes the active standing instructions due on the business date.
+ *
+ * The dues of the loans the instructions pay are read up front with a few set based queries, and read again for a loan
+ * already paid by an earlier instruction of the same run. The instructions sharing an
+ * account, as debit or as credit account, form a partition whose instructions are executed one after the other in the
+ * order of their priority, while the partitions are executed in parallel. The transfer of an instruction is committed
+ * together with its last run date, the history of the executions is written with one batch insert at the end.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class ExecuteStandingInstructionsTasklet implements Tasklet {
 
+    private static final String UPDATE_LAST_RUN_DATE_SQL = "UPDATE m_account_transfer_standing_instructions SET last_run_date = ? "
+            + "where id = ?";
+    private static final int MAX_ERROR_LOG_LENGTH = 500;
+
     private final StandingInstructionReadPlatformService standingInstructionReadPlatformService;
     private final JdbcTemplate jdbcTemplate;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
     private final AccountTransfersWritePlatformService accountTransfersWritePlatformService;
+    private final TransactionTemplate transactionTemplate;
+    private final FineractProperties fineractProperties;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
         Collection<StandingInstructionData> instructionData = standingInstructionReadPlatformService
                 .retrieveAll(StandingInstructionStatus.ACTIVE.getValue());
-        List<Throwable> errors = new ArrayList<>();
+        LocalDate transactionDate = DateUtils.getBusinessLocalDate();
+        List<StandingInstructionTransfer> transfers = retrieveDueTransfers(instructionData, transactionDate);
+
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        List<Object[]> history = Collections.synchronizedList(new ArrayList<>(transfers.size()));
+        executeTransfers(partitionByAccount(transfers), transactionDate, errors, history);
+        if (!history.isEmpty()) {
+            final String insertHistorySql = "INSERT INTO m_account_transfer_standing_instructions_history (standing_instruction_id, "
+                    + sqlGenerator.escape("status") + ", amount, execution_time, error_log) VALUES (?, ?, ?, ?, ?)";
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(insertHistorySql, history));
+        }
+        if (!errors.isEmpty()) {
+            throw new JobExecutionException(errors);
+        }
+        return RepeatStatus.FINISHED;
+    }
+
+    private List<StandingInstructionTransfer> retrieveDueTransfers(final Collection<StandingInstructionData> instructionData,
+            final LocalDate transactionDate) {
+        final Map<StandingInstructionData, Boolean> dueOnSchedule = new LinkedHashMap<>();
+        final Set<Long> loanIds = new LinkedHashSet<>();
         for (StandingInstructionData data : instructionData) {
-            boolean isDueForTransfer = false;
-            AccountTransferRecurrenceType recurrenceType = data.recurrenceType();
-            StandingInstructionType instructionType = data.instructionType();
-            LocalDate transactionDate = DateUtils.getBusinessLocalDate();
-            if (recurrenceType.isPeriodicRecurrence()) {
-                final ScheduledDateGenerator scheduledDateGenerator = new DefaultScheduledDateGenerator();
-                PeriodFrequencyType frequencyType = data.recurrenceFrequency();
-                LocalDate startDate = data.validFrom();
-                if (frequencyType.isMonthly()) {
-                    startDate = startDate.withDayOfMonth(data.recurrenceOnDay());
-                    if (DateUtils.isBefore(startDate, data.validFrom())) {
-                        startDate = startDate.plusMonths(1);
-                    }
-                } else if (frequencyType.isYearly()) {
-                    startDate = startDate.withDayOfMonth(data.recurrenceOnDay()).withMonth(data.recurrenceOnMonth());
-                    if (DateUtils.isBefore(startDate, data.validFrom())) {
-                        startDate = startDate.plusYears(1);
-                    }
-                }
-                isDueForTransfer = scheduledDateGenerator.isDateFallsInSchedule(frequencyType, data.recurrenceInterval(), startDate,
-                        transactionDate);
+            final boolean isDueOnSchedule = data.recurrenceType().isPeriodicRecurrence() && isDueOnSchedule(data, transactionDate);
+            dueOnSchedule.put(data, isDueOnSchedule);
+            if (isPayingLoanDues(data, isDueOnSchedule)) {
+                loanIds.add(data.toAccount().getId());
+            }
+        }
+        final Map<Long, StandingInstructionDuesData> loanDues = new HashMap<>();
+        for (List<Long> loanIdPartition : Lists.partition(new ArrayList<>(loanIds), getInClauseParameterSizeLimit())) {
+            loanDues.putAll(standingInstructionReadPlatformService.retrieveLoanDuesData(loanIdPartition));
+        }
+
+        final List<StandingInstructionTransfer> transfers = new ArrayList<>();
+        dueOnSchedule.forEach((data, isDueOnSchedule) -> {
+            final StandingInstructionDuesData loanDuesData = isPayingLoanDues(data, isDueOnSchedule)
+                    ? loanDues.get(data.toAccount().getId())
+                    : null;
+            final BigDecimal transactionAmount = getTransferAmount(data, isDueOnSchedule, loanDuesData);
+            if (transactionAmount != null) {
+                transfers.add(new StandingInstructionTransfer(data, isDueOnSchedule, transactionAmount));
+            }
+        });
+        return transfers;
+    }
+
+    /**
+     * Returns the amount to transfer, or null when the instruction is not due.
+     */
+    private BigDecimal getTransferAmount(final StandingInstructionData data, final boolean isDueOnSchedule,
+            final StandingInstructionDuesData loanDuesData) {
+        boolean isDueForTransfer = isDueOnSchedule;
+        BigDecimal transactionAmount = data.amount();
+        if (loanDuesData != null) {
+            if (data.instructionType().isDuesAmoutTransfer()) {
+                transactionAmount = loanDuesData.totalDueAmount();
+            }
+            if (data.recurrenceType().isDuesRecurrence()) {
+                isDueForTransfer = isDueForTransfer(loanDuesData);
+            }
+        }
+        if (isDueForTransfer && transactionAmount != null && transactionAmount.compareTo(BigDecimal.ZERO) > 0) {
+            return transactionAmount;
+        }
+        return null;
+    }
 
+    private boolean isDueOnSchedule(final StandingInstructionData data, final LocalDate transactionDate) {
+        final ScheduledDateGenerator scheduledDateGenerator = new DefaultScheduledDateGenerator();
+        PeriodFrequencyType frequencyType = data.recurrenceFrequency();
+        LocalDate startDate = data.validFrom();
+        if (frequencyType.isMonthly()) {
+            startDate = startDate.withDayOfMonth(data.recurrenceOnDay());
+            if (DateUtils.isBefore(startDate, data.validFrom())) {
+                startDate = startDate.plusMonths(1);
             }
-            BigDecimal transactionAmount = data.amount();
-            if (data.toAccountType().isLoanAccount()
-                    && (recurrenceType.isDuesRecurrence() || (isDueForTransfer && instructionType.isDuesAmoutTransfer()))) {
-                StandingInstructionDuesData standingInstructionDuesData = standingInstructionReadPlatformService
-                        .retriveLoanDuesData(data.toAccount().getId());
-                if (data.instructionType().isDuesAmoutTransfer()) {
-                    transactionAmount = standingInstructionDuesData.totalDueAmount();
-                }
-                if (recurrenceType.isDuesRecurrence()) {
-                    isDueForTransfer = isDueForTransfer(standingInstructionDuesData);
-                }
+        } else if (frequencyType.isYearly()) {
+            startDate = startDate.withDayOfMonth(data.recurrenceOnDay()).withMonth(data.recurrenceOnMonth());
+            if (DateUtils.isBefore(startDate, data.validFrom())) {
+                startDate = startDate.plusYears(1);
             }
+        }
+        return scheduledDateGenerator.isDateFallsInSchedule(frequencyType, data.recurrenceInterval(), startDate, transactionDate);
+    }
 
-            if (isDueForTransfer && transactionAmount != null && transactionAmount.compareTo(BigDecimal.ZERO) > 0) {
-                final SavingsAccount fromSavingsAccount = null;
-                final boolean isRegularTransaction = true;
-                final boolean isExceptionForBalanceCheck = false;
-                AccountTransferDTO accountTransferDTO = new AccountTransferDTO(transactionDate, transactionAmount, data.fromAccountType(),
-                        data.toAccountType(), data.fromAccount().getId(), data.toAccount().getId(),
-                        data.name() + " Standing instruction trasfer ", null, null, null, null, data.toTransferType(), null, null,
-                        data.transferType().getValue(), null, null, ExternalId.empty(), null, null, fromSavingsAccount,
-                        isRegularTransaction, isExceptionForBalanceCheck);
-                final boolean transferCompleted = transferAmount(errors, accountTransferDTO, data.getId());
-
-                if (transferCompleted) {
-                    final String updateQuery = "UPDATE m_account_transfer_standing_instructions SET last_run_date = ? where id = ?";
-                    jdbcTemplate.update(updateQuery, transactionDate, data.getId());
-                }
+    private boolean isPayingLoanDues(final StandingInstructionData data, final boolean isDueOnSchedule) {
+        final AccountTransferRecurrenceType recurrenceType = data.recurrenceType();
+        return data.toAccountType().isLoanAccount()
+                && (recurrenceType.isDuesRecurrence() || (isDueOnSchedule && data.instructionType().isDuesAmoutTransfer()));
+    }
 
+    /**
+     * Splits the transfers into partitions of transfers connected through their accounts, keeping their order, so no
+     * account is updated by two partitions.
+     */
+    private List<List<StandingInstructionTransfer>> partitionByAccount(final List<StandingInstructionTransfer> transfers) {
+        final Map<AccountKey, AccountKey> parents = new HashMap<>();
+        for (StandingInstructionTransfer transfer : transfers) {
+            final AccountKey fromRoot = findRoot(parents, AccountKey.from(transfer.data()));
+            final AccountKey toRoot = findRoot(parents, AccountKey.to(transfer.data()));
+            if (!fromRoot.equals(toRoot)) {
+                parents.put(toRoot, fromRoot);
             }
         }
-        if (!errors.isEmpty()) {
-            throw new JobExecutionException(errors);
+        final Map<AccountKey, List<StandingInstructionTransfer>> partitions = new LinkedHashMap<>();
+        for (StandingInstructionTransfer transfer : transfers) {
+            partitions.computeIfAbsent(findRoot(parents, AccountKey.from(transfer.data())), root -> new ArrayList<>()).add(transfer);
         }
-        return RepeatStatus.FINISHED;
+        return new ArrayList<>(partitions.values());
     }
 
-    private boolean transferAmount(final List<Throwable> errors, final AccountTransferDTO accountTransferDTO, final Long instructionId) {
-        boolean transferCompleted = true;
+    private static AccountKey findRoot(final Map<AccountKey, AccountKey> parents, final AccountKey account) {
+        AccountKey root = account;
+        while (parents.containsKey(root)) {
+            root = parents.get(root);
+        }
+        AccountKey next = account;
+        while (!next.equals(root)) {
+            next = parents.put(next, root);
+        }
+        return root;
+    }
+
+    private void executeTransfers(final List<List<StandingInstructionTransfer>> partitions, final LocalDate transactionDate,
+            final List<Throwable> errors, final List<Object[]> history) {
+        if (partitions.isEmpty()) {
+            return;
+        }
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final SecurityContext securityContext = SecurityContextHolder.getContext();
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("standing-instruction-");
+        executor.setCorePoolSize(Math.max(1, Math.min(getThreadCount(), partitions.size())));
+        executor.initialize();
+        try {
+            final List<Future<?>> futures = new ArrayList<>(partitions.size());
+            for (List<StandingInstructionTransfer> partition : partitions) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalContextUtil.init(context);
+                    SecurityContextHolder.setContext(securityContext);
+                    try {
+                        final Set<Long> paidLoanIds = new HashSet<>();
+                        for (StandingInstructionTransfer transfer : partition) {
+                            executeTransfer(transfer, transactionDate, paidLoanIds, errors, history);
+                        }
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                        ThreadLocalContextUtil.reset();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Standing instruction execution was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Standing instruction execution failed", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Executes the transfer of the instruction. The dues read up front are stale for a loan paid by an earlier
+     * instruction of the partition, those are read again before paying the loan.
+     */
+    private void executeTransfer(final StandingInstructionTransfer transfer, final LocalDate transactionDate, final Set<Long> paidLoanIds,
+            final List<Throwable> errors, final List<Object[]> history) {
+        final StandingInstructionData data = transfer.data();
+        BigDecimal transactionAmount = transfer.amount();
+        if (isPayingLoanDues(data, transfer.dueOnSchedule()) && paidLoanIds.contains(data.toAccount().getId())) {
+            transactionAmount = getTransferAmount(data, transfer.dueOnSchedule(),
+                    standingInstructionReadPlatformService.retriveLoanDuesData(data.toAccount().getId()));
+            if (transactionAmount == null) {
+                return;
+            }
+        }
+        final SavingsAccount fromSavingsAccount = null;
+        final boolean isRegularTransaction = true;
+        final boolean isExceptionForBalanceCheck = false;
+        AccountTransferDTO accountTransferDTO = new AccountTransferDTO(transactionDate, transactionAmount, data.fromAccountType(),
+                data.toAccountType(), data.fromAccount().getId(), data.toAccount().getId(), data.name() + " Standing instruction trasfer ",
+                null, null, null, null, data.toTransferType(), null, null, data.transferType().getValue(), null, null, ExternalId.empty(),
+                null, null, fromSavingsAccount, isRegularTransaction, isExceptionForBalanceCheck);
+        final boolean transferCompleted = transferAmount(errors, history, accountTransferDTO, data.getId());
+        if (transferCompleted && data.toAccountType().isLoanAccount()) {
+            paidLoanIds.add(data.toAccount().getId());
+        }
+    }
+
+    private boolean transferAmount(final List<Throwable> errors, final List<Object[]> history, final AccountTransferDTO accountTransferDTO,
+            final Long instructionId) {
         StringBuilder errorLog = new StringBuilder();
-        StringBuilder updateQuery = new StringBuilder(
-                "INSERT INTO m_account_transfer_standing_instructions_history (standing_instruction_id, " + sqlGenerator.escape("status")
-                        + ", amount,execution_time, error_log) VALUES (");
         try {
-            accountTransfersWritePlatformService.transferFunds(accountTransferDTO);
+            transactionTemplate.executeWithoutResult(status -> {
+                accountTransfersWritePlatformService.transferFunds(accountTransferDTO);
+                jdbcTemplate.update(UPDATE_LAST_RUN_DATE_SQL, accountTransferDTO.getTransactionDate(), instructionId);
+            });
         } catch (final PlatformApiDataValidationException e) {
             errors.add(new Exception("Validation exception while transfering funds for standing Instruction id" + instructionId + " from "
                     + accountTransferDTO.getFromAccountId() + " to " + accountTransferDTO.getToAccountId(), e));
@@ -151,17 +317,9 @@ public class ExecuteStandingInstructionsTasklet implements Tasklet {
             errorLog.append("Exception while trasfering funds ").append(e.getMessage());
 
         }
-        updateQuery.append(instructionId).append(",");
-        if (errorLog.length() > 0) {
-            transferCompleted = false;
-            updateQuery.append("'failed'").append(",");
-        } else {
-            updateQuery.append("'success'").append(",");
-        }
-        updateQuery.append(accountTransferDTO.getTransactionAmount().doubleValue());
-        updateQuery.append(", now(),");
-        updateQuery.append("'").append(errorLog).append("')");
-        jdbcTemplate.update(updateQuery.toString());
+        final boolean transferCompleted = errorLog.length() == 0;
+        history.add(new Object[] { instructionId, transferCompleted ? "success" : "failed", accountTransferDTO.getTransactionAmount(),
+                DateUtils.getLocalDateTimeOfSystem(), StringUtils.abbreviate(errorLog.toString(), MAX_ERROR_LOG_LENGTH) });
         return transferCompleted;
     }
 
@@ -169,4 +327,26 @@ public class ExecuteStandingInstructionsTasklet implements Tasklet {
         return standingInstructionDuesData.dueDate() != null
                 && !standingInstructionDuesData.dueDate().isAfter(LocalDate.now(DateUtils.getDateTimeZoneOfTenant()));
     }
+
+    private int getThreadCount() {
+        return fineractProperties.getJob() == null ? 1 : fineractProperties.getJob().getStandingInstructionThreadCount();
+    }
+
+    private int getInClauseParameterSizeLimit() {
+        return fineractProperties.getQuery().getInClauseParameterSizeLimit();
+    }
+
+    private record StandingInstructionTransfer(StandingInstructionData data, boolean dueOnSchedule, BigDecimal amount) {
+    }
+
+    private record AccountKey(PortfolioAccountType accountType, Long accountId) {
+
+        private static AccountKey from(StandingInstructionData data) {
+            return new AccountKey(data.fromAccountType(), data.fromAccount().getId());
+        }
+
+        private static AccountKey to(StandingInstructionData data) {
+            return new AccountKey(data.toAccountType(), data.toAccount().getId());
+        }
+    }
 }
@@ -19,6 +19,8 @@
 package org.apache.fineract.portfolio.account.service;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import org.apache.fineract.infrastructure.core.service.Page;
 import org.apache.fineract.portfolio.account.data.StandingInstructionDTO;
 import org.apache.fineract.portfolio.account.data.StandingInstructionData;
@@ -37,4 +39,9 @@ public interface StandingInstructionReadPlatformService {
 
     StandingInstructionDuesData retriveLoanDuesData(Long loanId);
 
+    /**
+     * Retrieves the dues of the loans with one query, the loans without dues get dues without due date and amount.
+     */
+    Map<Long, StandingInstructionDuesData> retrieveLoanDuesData(List<Long> loanIds);
+
 }
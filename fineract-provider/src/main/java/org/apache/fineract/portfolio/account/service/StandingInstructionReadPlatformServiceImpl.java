@@ -33,7 +33,10 @@ import java.time.MonthDay;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -62,6 +65,7 @@ import org.apache.fineract.portfolio.common.service.CommonEnumerations;
 import org.apache.fineract.portfolio.common.service.DropdownReadPlatformService;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.util.CollectionUtils;
 
@@ -361,6 +365,24 @@ public class StandingInstructionReadPlatformServiceImpl implements StandingInstr
         return this.jdbcTemplate.queryForObject(sql, rm, new Object[] { loanId }); // NOSONAR
     }
 
+    @Override
+    public Map<Long, StandingInstructionDuesData> retrieveLoanDuesData(final List<Long> loanIds) {
+        final Map<Long, StandingInstructionDuesData> loanDues = new HashMap<>();
+        if (loanIds.isEmpty()) {
+            return loanDues;
+        }
+        final StandingInstructionLoanDuesMapper rm = new StandingInstructionLoanDuesMapper();
+        final String sql = "select ml.id as loanId, " + rm.schema() + " where ml.id in ("
+                + String.join(", ", Collections.nCopies(loanIds.size(), "?")) + ") and ls.duedate <= " + sqlGenerator.currentBusinessDate()
+                + " and ls.completed_derived <> 1 group by ml.id";
+        this.jdbcTemplate.query(sql, (RowCallbackHandler) rs -> loanDues.put(rs.getLong("loanId"), rm.mapRow(rs, rs.getRow())),
+                loanIds.toArray());
+        for (Long loanId : loanIds) {
+            loanDues.putIfAbsent(loanId, new StandingInstructionDuesData(null, BigDecimal.ZERO));
+        }
+        return loanDues;
+    }
+
     private static final class StandingInstructionMapper implements RowMapper<StandingInstructionData> {
 
         private final String schemaSql;
@@ -26,6 +26,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.fineract.accounting.glaccount.domain.GLAccount;
 import org.apache.fineract.accounting.glaccount.domain.GLAccountRepositoryWrapper;
+import org.apache.fineract.accounting.journalentry.service.AccountingReferenceDataCache;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResultBuilder;
@@ -67,6 +68,7 @@ public class ChargeWritePlatformServiceJpaRepositoryImpl implements ChargeWriteP
     private final GLAccountRepositoryWrapper glAccountRepository;
     private final TaxGroupRepositoryWrapper taxGroupRepository;
     private final PaymentTypeRepositoryWrapper paymentTyperepositoryWrapper;
+    private final AccountingReferenceDataCache accountingReferenceDataCache;
 
     @Transactional
     @Override
@@ -194,6 +196,7 @@ public class ChargeWritePlatformServiceJpaRepositoryImpl implements ChargeWriteP
 
             if (!changes.isEmpty()) {
                 this.chargeRepository.save(chargeForUpdate);
+                this.accountingReferenceDataCache.invalidate();
             }
 
             return new CommandProcessingResultBuilder().withCommandId(command.commandId()).withEntityId(chargeId).with(changes).build();
@@ -230,6 +233,7 @@ public class ChargeWritePlatformServiceJpaRepositoryImpl implements ChargeWriteP
         chargeForDelete.delete();
 
         this.chargeRepository.save(chargeForDelete);
+        this.accountingReferenceDataCache.invalidate();
 
         return new CommandProcessingResultBuilder().withEntityId(chargeForDelete.getId()).build();
     }
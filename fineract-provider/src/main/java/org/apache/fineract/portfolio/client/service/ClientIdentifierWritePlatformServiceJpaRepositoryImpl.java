@@ -37,6 +37,8 @@ import org.apache.fineract.portfolio.client.domain.ClientRepositoryWrapper;
 import org.apache.fineract.portfolio.client.exception.ClientIdentifierNotFoundException;
 import org.apache.fineract.portfolio.client.exception.DuplicateClientIdentifierException;
 import org.apache.fineract.portfolio.client.serialization.ClientIdentifierCommandFromApiJsonDeserializer;
+import org.apache.fineract.portfolio.search.service.SearchIndexEntityType;
+import org.apache.fineract.portfolio.search.service.SearchIndexWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -55,17 +57,20 @@ public class ClientIdentifierWritePlatformServiceJpaRepositoryImpl implements Cl
     private final ClientIdentifierRepository clientIdentifierRepository;
     private final CodeValueRepositoryWrapper codeValueRepository;
     private final ClientIdentifierCommandFromApiJsonDeserializer clientIdentifierCommandFromApiJsonDeserializer;
+    private final SearchIndexWriter searchIndexWriter;
 
     @Autowired
     public ClientIdentifierWritePlatformServiceJpaRepositoryImpl(final PlatformSecurityContext context,
             final ClientRepositoryWrapper clientRepository, final ClientIdentifierRepository clientIdentifierRepository,
             final CodeValueRepositoryWrapper codeValueRepository,
-            final ClientIdentifierCommandFromApiJsonDeserializer clientIdentifierCommandFromApiJsonDeserializer) {
+            final ClientIdentifierCommandFromApiJsonDeserializer clientIdentifierCommandFromApiJsonDeserializer,
+            final SearchIndexWriter searchIndexWriter) {
         this.context = context;
         this.clientRepository = clientRepository;
         this.clientIdentifierRepository = clientIdentifierRepository;
         this.codeValueRepository = codeValueRepository;
         this.clientIdentifierCommandFromApiJsonDeserializer = clientIdentifierCommandFromApiJsonDeserializer;
+        this.searchIndexWriter = searchIndexWriter;
     }
 
     @Transactional
@@ -91,6 +96,7 @@ public class ClientIdentifierWritePlatformServiceJpaRepositoryImpl implements Cl
             final ClientIdentifier clientIdentifier = ClientIdentifier.fromJson(client, documentType, command);
 
             this.clientIdentifierRepository.saveAndFlush(clientIdentifier);
+            this.searchIndexWriter.index(SearchIndexEntityType.CLIENT_IDENTIFIER, clientIdentifier.getId());
 
             return new CommandProcessingResultBuilder() //
                     .withCommandId(command.commandId()) //
@@ -153,6 +159,7 @@ public class ClientIdentifierWritePlatformServiceJpaRepositoryImpl implements Cl
 
             if (!changes.isEmpty()) {
                 this.clientIdentifierRepository.saveAndFlush(clientIdentifierForUpdate);
+                this.searchIndexWriter.index(SearchIndexEntityType.CLIENT_IDENTIFIER, identifierId);
             }
 
             return new CommandProcessingResultBuilder() //
@@ -181,6 +188,7 @@ public class ClientIdentifierWritePlatformServiceJpaRepositoryImpl implements Cl
         final ClientIdentifier clientIdentifier = this.clientIdentifierRepository.findById(identifierId)
                 .orElseThrow(() -> new ClientIdentifierNotFoundException(identifierId));
         this.clientIdentifierRepository.delete(clientIdentifier);
+        this.searchIndexWriter.index(SearchIndexEntityType.CLIENT_IDENTIFIER, identifierId);
 
         return new CommandProcessingResultBuilder() //
                 .withCommandId(commandId) //
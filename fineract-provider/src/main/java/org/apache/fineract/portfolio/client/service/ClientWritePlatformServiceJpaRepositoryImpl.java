@@ -90,6 +90,8 @@ import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepositoryWrap
 import org.apache.fineract.portfolio.savings.domain.SavingsProductRepository;
 import org.apache.fineract.portfolio.savings.exception.SavingsProductNotFoundException;
 import org.apache.fineract.portfolio.savings.service.SavingsApplicationProcessWritePlatformService;
+import org.apache.fineract.portfolio.search.service.SearchIndexEntityType;
+import org.apache.fineract.portfolio.search.service.SearchIndexWriter;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.orm.jpa.JpaSystemException;
@@ -124,6 +126,7 @@ public class ClientWritePlatformServiceJpaRepositoryImpl implements ClientWriteP
     private final BusinessEventNotifierService businessEventNotifierService;
     private final EntityDatatableChecksWritePlatformService entityDatatableChecksWritePlatformService;
     private final ExternalIdFactory externalIdFactory;
+    private final SearchIndexWriter searchIndexWriter;
 
     @Transactional
     @Override
@@ -144,6 +147,7 @@ public class ClientWritePlatformServiceJpaRepositoryImpl implements ClientWriteP
 
             this.clientRepository.delete(client);
             this.clientRepository.flush();
+            this.searchIndexWriter.index(SearchIndexEntityType.CLIENT, clientId);
             return new CommandProcessingResultBuilder() //
                     .withOfficeId(client.officeId()) //
                     .withEntityExternalId(client.getExternalId()) //
@@ -303,6 +307,7 @@ public class ClientWritePlatformServiceJpaRepositoryImpl implements ClientWriteP
                 newClient.updateAccountNo(accountNumberGenerator.generate(newClient, accountNumberFormat));
                 this.clientRepository.saveAndFlush(newClient);
             }
+            this.searchIndexWriter.index(SearchIndexEntityType.CLIENT, newClient.getId());
 
             final Locale locale = command.extractLocale();
             final DateTimeFormatter fmt = DateTimeFormatter.ofPattern(command.dateFormat()).withLocale(locale);
@@ -615,6 +620,7 @@ public class ClientWritePlatformServiceJpaRepositoryImpl implements ClientWriteP
 
             if (!changes.isEmpty()) {
                 this.clientRepository.saveAndFlush(clientForUpdate);
+                this.searchIndexWriter.index(SearchIndexEntityType.CLIENT, clientId);
             }
 
             if (changes.containsKey(ClientApiConstants.legalFormIdParamName)) {
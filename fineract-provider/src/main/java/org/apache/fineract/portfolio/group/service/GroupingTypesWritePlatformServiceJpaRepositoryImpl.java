@@ -86,6 +86,8 @@ import org.apache.fineract.portfolio.note.domain.Note;
 import org.apache.fineract.portfolio.note.domain.NoteRepository;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepositoryWrapper;
+import org.apache.fineract.portfolio.search.service.SearchIndexEntityType;
+import org.apache.fineract.portfolio.search.service.SearchIndexWriter;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.orm.jpa.JpaSystemException;
@@ -115,6 +117,7 @@ public class GroupingTypesWritePlatformServiceJpaRepositoryImpl implements Group
     private final AccountNumberGenerator accountNumberGenerator;
     private final EntityDatatableChecksWritePlatformService entityDatatableChecksWritePlatformService;
     private final BusinessEventNotifierService businessEventNotifierService;
+    private final SearchIndexWriter searchIndexWriter;
 
     private CommandProcessingResult createGroupingType(final JsonCommand command, final GroupTypes groupingType, final Long centerId) {
         try {
@@ -197,6 +200,7 @@ public class GroupingTypesWritePlatformServiceJpaRepositoryImpl implements Group
 
             this.groupRepository.saveAndFlush(newGroup);
             newGroup.captureStaffHistoryDuringCenterCreation(staff, activationDate);
+            this.searchIndexWriter.index(SearchIndexEntityType.GROUP, newGroup.getId());
 
             if (newGroup.isGroup()) {
                 if (command.parameterExists(GroupingTypesApiConstants.datatables)) {
@@ -434,6 +438,7 @@ public class GroupingTypesWritePlatformServiceJpaRepositoryImpl implements Group
              */
 
             this.groupRepository.saveAndFlush(groupForUpdate);
+            this.searchIndexWriter.index(SearchIndexEntityType.GROUP, groupId);
 
             return new CommandProcessingResultBuilder() //
                     .withCommandId(command.commandId()) //
@@ -560,6 +565,7 @@ public class GroupingTypesWritePlatformServiceJpaRepositoryImpl implements Group
 
             this.groupRepository.delete(groupForDelete);
             this.groupRepository.flush();
+            this.searchIndexWriter.index(SearchIndexEntityType.GROUP, groupId);
             return new CommandProcessingResultBuilder() //
                     .withOfficeId(groupForDelete.getId()) //
                     .withGroupId(groupForDelete.officeId()) //
@@ -19,6 +19,8 @@
 package org.apache.fineract.portfolio.loanaccount.service;
 
 import static org.apache.fineract.portfolio.loanproduct.domain.RecalculationFrequencyType.SAME_AS_REPAYMENT_PERIOD;
+import org.apache.fineract.portfolio.search.service.SearchIndexEntityType;
+import org.apache.fineract.portfolio.search.service.SearchIndexWriter;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -124,6 +126,7 @@ public class LoanApplicationWritePlatformServiceJpaRepositoryImpl implements Loa
     private final GSIMReadPlatformService gsimReadPlatformService;
     private final LoanLifecycleStateMachine defaultLoanLifecycleStateMachine;
     private final LoanAccrualsProcessingService loanAccrualsProcessingService;
+    private final SearchIndexWriter searchIndexWriter;
 
     @Transactional
     @Override
@@ -140,6 +143,7 @@ public class LoanApplicationWritePlatformServiceJpaRepositoryImpl implements Loa
             this.loanRepositoryWrapper.saveAndFlush(loan);
             // Account number regeneration (need loan id...)
             this.loanAssembler.accountNumberGeneration(command, loan);
+            this.searchIndexWriter.index(SearchIndexEntityType.LOAN, loan.getId());
             // Save interest recalculation calendar
             if (loan.getLoanProduct().isInterestRecalculationEnabled()) {
                 createAndPersistCalendarInstanceForInterestRecalculation(loan);
@@ -278,6 +282,7 @@ public class LoanApplicationWritePlatformServiceJpaRepositoryImpl implements Loa
             // http://stackoverflow.com/questions/17151757/hibernate-cascade-update-gives-null-pointer/17334374#17334374
             // TODO: check whether this is needed!
             this.loanRepositoryWrapper.saveAndFlush(loan);
+            this.searchIndexWriter.index(SearchIndexEntityType.LOAN, loanId);
             // Save interest recalculation calendar
             if (loan.getLoanProductRelatedDetail().isInterestRecalculationEnabled()
                     && changes.containsKey(LoanProductConstants.IS_INTEREST_RECALCULATION_ENABLED_PARAMETER_NAME)) {
@@ -490,6 +495,7 @@ public class LoanApplicationWritePlatformServiceJpaRepositoryImpl implements Loa
         }
 
         this.loanRepositoryWrapper.delete(loanId);
+        this.searchIndexWriter.index(SearchIndexEntityType.LOAN, loanId);
 
         return new CommandProcessingResultBuilder() //
                 .withEntityId(loanId) //
@@ -221,8 +221,12 @@ final class SavingsAccountTransactionsApiResourceSwagger {
         public Long clientId;
         @Schema(example = "1")
         public Long savingsId;
-        @Schema(example = "1")
+        @Schema(example = "1", description = "Id of the savings transaction, or for a deposit into an account of a high volume "
+                + "product the id of the pending credit it was staged as")
         public Long resourceId;
+        @Schema(example = "1", description = "Id of the pending credit a deposit into an account of a high volume product was staged "
+                + "as, not set for other transactions")
+        public Long subResourceId;
     }
 
     @Schema(description = "PostSavingsAccountBulkReversalTransactionsRequest")
@@ -72,6 +72,9 @@ final class SavingsProductsApiResourceSwagger {
         public Set<PostSavingsCharges> charges;
         @Schema(example = "accountMappingForPayment")
         public String accountMappingForPayment;
+        @Schema(example = "false", description = "Deposits into accounts of the product are staged as pending credits and applied "
+                + "to the account later, the deposit response returns the id of the pending credit as resourceId and subResourceId")
+        public Boolean highVolume;
     }
 
     @Schema(description = "PostSavingsProductsResponse")
@@ -219,6 +222,8 @@ final class SavingsProductsApiResourceSwagger {
         @Schema(example = "false")
         public Boolean withdrawalFeeForTransfers;
         public GetSavingsProductsAccountingRule accountingRule;
+        @Schema(example = "false")
+        public Boolean highVolume;
     }
 
     @Schema(description = "GetSavingsProductsProductIdResponse")
@@ -61,6 +61,7 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
     private final ConfigurationDomainService configurationDomainService;
     private final DepositAccountOnHoldTransactionRepository depositAccountOnHoldTransactionRepository;
     private final BusinessEventNotifierService businessEventNotifierService;
+    private final SavingsAccountPendingCreditRepository savingsAccountPendingCreditRepository;
 
     @Autowired
     public SavingsAccountDomainServiceJpa(final SavingsAccountRepositoryWrapper savingsAccountRepository,
@@ -69,7 +70,8 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
             final JournalEntryWritePlatformService journalEntryWritePlatformService,
             final ConfigurationDomainService configurationDomainService, final PlatformSecurityContext context,
             final DepositAccountOnHoldTransactionRepository depositAccountOnHoldTransactionRepository,
-            final BusinessEventNotifierService businessEventNotifierService) {
+            final BusinessEventNotifierService businessEventNotifierService,
+            final SavingsAccountPendingCreditRepository savingsAccountPendingCreditRepository) {
         this.savingsAccountRepository = savingsAccountRepository;
         this.savingsAccountTransactionRepository = savingsAccountTransactionRepository;
         this.applicationCurrencyRepositoryWrapper = applicationCurrencyRepositoryWrapper;
@@ -78,6 +80,7 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
         this.context = context;
         this.depositAccountOnHoldTransactionRepository = depositAccountOnHoldTransactionRepository;
         this.businessEventNotifierService = businessEventNotifierService;
+        this.savingsAccountPendingCreditRepository = savingsAccountPendingCreditRepository;
     }
 
     @Transactional
@@ -103,6 +106,8 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
             log.info("DepositAccountTransactionNotAllowedException");
             throw new DepositAccountTransactionNotAllowedException(account.getId(), "withdraw", account.depositAccountType());
         }
+        // the available balance of the debit has to include the credits accepted so far
+        handlePendingCredits(account, backdatedTxnsAllowedTill);
         log.info("existingTransactionIds");
         final Set<Long> existingTransactionIds = new HashSet<>();
         log.info("postInterestOnDate");
@@ -254,6 +259,88 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
         return deposit;
     }
 
+    @Transactional
+    @Override
+    public SavingsAccountPendingCredit handlePendingCredit(final SavingsAccount account, final DateTimeFormatter fmt,
+            final LocalDate transactionDate, final BigDecimal transactionAmount, final PaymentDetail paymentDetail,
+            final boolean backdatedTxnsAllowedTill) {
+        context.authenticatedUser();
+        account.validateForAccountBlock();
+        account.validateForCreditBlock();
+        if (!account.allowDeposit()) {
+            throw new DepositAccountTransactionNotAllowedException(account.getId(), "deposit", account.depositAccountType());
+        }
+        final Long relaxingDaysConfigForPivotDate = this.configurationDomainService.retrieveRelaxingDaysConfigForPivotDate();
+        final SavingsAccountTransactionDTO transactionDTO = new SavingsAccountTransactionDTO(fmt, transactionDate, transactionAmount,
+                paymentDetail, null, null);
+        account.validateDeposit(transactionDTO, backdatedTxnsAllowedTill, relaxingDaysConfigForPivotDate);
+
+        return this.savingsAccountPendingCreditRepository
+                .saveAndFlush(SavingsAccountPendingCredit.stage(account, transactionDate, transactionAmount, paymentDetail));
+    }
+
+    @Transactional
+    @Override
+    public List<SavingsAccountTransaction> handlePendingCredits(final SavingsAccount account, final boolean backdatedTxnsAllowedTill) {
+        if (!account.isHighVolume()) {
+            return List.of();
+        }
+        final List<SavingsAccountPendingCredit> pendingCredits = this.savingsAccountPendingCreditRepository
+                .findBySavingsAccountId(account.getId());
+        if (pendingCredits.isEmpty()) {
+            return List.of();
+        }
+        final boolean isSavingsInterestPostingAtCurrentPeriodEnd = this.configurationDomainService
+                .isSavingsInterestPostingAtCurrentPeriodEnd();
+        final Integer financialYearBeginningMonth = this.configurationDomainService.retrieveFinancialYearBeginningMonth();
+        final boolean postReversals = this.configurationDomainService.isReversalTransactionAllowed();
+
+        final Set<Long> existingTransactionIds = new HashSet<>();
+        final Set<Long> existingReversedTransactionIds = new HashSet<>();
+        if (backdatedTxnsAllowedTill) {
+            updateTransactionDetailsWithPivotConfig(account, existingTransactionIds, existingReversedTransactionIds);
+        } else {
+            updateExistingTransactionsDetails(account, existingTransactionIds, existingReversedTransactionIds);
+        }
+
+        // all the credits are applied at once, so the interest is recalculated and the account saved only once
+        final List<SavingsAccountTransaction> deposits = new ArrayList<>(pendingCredits.size());
+        LocalDate earliestTransactionDate = null;
+        for (final SavingsAccountPendingCredit pendingCredit : pendingCredits) {
+            final SavingsAccountTransactionDTO transactionDTO = new SavingsAccountTransactionDTO(DateUtils.DEFAULT_DATE_FORMATTER,
+                    pendingCredit.getTransactionDate(), pendingCredit.getAmount(), pendingCredit.getPaymentDetail(), null, null);
+            // the credit was validated when it was staged, validating it again could leave it stuck and block the account
+            deposits.add(account.depositStagedCredit(transactionDTO, backdatedTxnsAllowedTill, UUID.randomUUID().toString()));
+            if (earliestTransactionDate == null || DateUtils.isBefore(pendingCredit.getTransactionDate(), earliestTransactionDate)) {
+                earliestTransactionDate = pendingCredit.getTransactionDate();
+            }
+        }
+
+        final boolean isInterestTransfer = false;
+        final LocalDate postInterestOnDate = null;
+        final MathContext mc = MathContext.DECIMAL64;
+        final LocalDate today = DateUtils.getBusinessLocalDate();
+        if (account.isBeforeLastPostingPeriod(earliestTransactionDate, backdatedTxnsAllowedTill)) {
+            account.postInterest(mc, today, isInterestTransfer, isSavingsInterestPostingAtCurrentPeriodEnd, financialYearBeginningMonth,
+                    postInterestOnDate, backdatedTxnsAllowedTill, postReversals);
+        } else {
+            account.calculateInterestUsing(mc, today, isInterestTransfer, isSavingsInterestPostingAtCurrentPeriodEnd,
+                    financialYearBeginningMonth, postInterestOnDate, backdatedTxnsAllowedTill, postReversals);
+        }
+
+        this.savingsAccountTransactionRepository.saveAll(deposits);
+        if (backdatedTxnsAllowedTill) {
+            saveUpdatedTransactionsOfSavingsAccount(account.getSavingsAccountTransactionsWithPivotConfig());
+        }
+        this.savingsAccountRepository.saveAndFlush(account);
+        this.savingsAccountPendingCreditRepository.deleteAllInBatch(pendingCredits);
+
+        final boolean isAccountTransfer = false;
+        postJournalEntries(account, existingTransactionIds, existingReversedTransactionIds, isAccountTransfer, backdatedTxnsAllowedTill);
+        deposits.forEach(deposit -> businessEventNotifierService.notifyPostBusinessEvent(new SavingsDepositBusinessEvent(deposit)));
+        return deposits;
+    }
+
     @Transactional
     @Override
     public SavingsAccountTransaction handleHold(final SavingsAccount account, BigDecimal amount, LocalDate transactionDate,
@@ -328,6 +415,8 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
         final Integer financialYearBeginningMonth = this.configurationDomainService.retrieveFinancialYearBeginningMonth();
         final Long relaxingDaysConfigForPivotDate = this.configurationDomainService.retrieveRelaxingDaysConfigForPivotDate();
         final boolean postReversals = true;
+        // reversing a credit is a debit, the balance check has to include the credits accepted so far
+        handlePendingCredits(account, backdatedTxnsAllowedTill);
         final Set<Long> existingTransactionIds = new HashSet<>();
         final Set<Long> existingReversedTransactionIds = new HashSet<>();
 
@@ -16,15 +16,11 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+package org.apache.fineract.portfolio.savings.jobs.applysavingspendingcredits;
 
-import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
-import org.apache.fineract.portfolio.savings.domain.SavingsAccountAssembler;
-import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepositoryWrapper;
-import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountPendingCreditRepository;
 import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
-import org.apache.fineract.portfolio.savings.service.SavingsSchedularInterestPosterTask;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
@@ -34,43 +30,34 @@ import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
-import org.springframework.transaction.support.TransactionTemplate;
 
 @Configuration
-public class PostInterestForSavingConfig {
+public class ApplySavingsPendingCreditsConfig {
 
     @Autowired
     private JobRepository jobRepository;
     @Autowired
     private PlatformTransactionManager transactionManager;
     @Autowired
-    private SavingsAccountReadPlatformService savingAccountReadPlatformService;
-    @Autowired
-    private ConfigurationDomainService configurationDomainService;
-    @Autowired
-    private SavingsSchedularInterestPosterTask savingsSchedularInterestPosterTask;
+    private SavingsAccountPendingCreditRepository savingsAccountPendingCreditRepository;
     @Autowired
     private SavingsAccountWritePlatformService savingsAccountWritePlatformService;
-    @Autowired
-    private SavingsAccountRepositoryWrapper savingsAccountRepository;
-    @Autowired
-    private SavingsAccountAssembler savingAccountAssembler;
-    @Autowired
-    private JdbcTemplate jdbcTemplate;
-    @Autowired
-    private TransactionTemplate transactionTemplate;
 
     @Bean
-    protected Step postInterestForSavingStep(PostInterestForSavingTasklet postInterestForSavingTasklet) {
-        return new StepBuilder(JobName.POST_INTEREST_FOR_SAVINGS.name(), jobRepository)
-                .tasklet(postInterestForSavingTasklet, transactionManager).build();
+    protected Step applySavingsPendingCreditsStep() {
+        return new StepBuilder(JobName.APPLY_SAVINGS_PENDING_CREDITS.name(), jobRepository)
+                .tasklet(applySavingsPendingCreditsTasklet(), transactionManager).build();
+    }
+
+    @Bean
+    public Job applySavingsPendingCreditsJob() {
+        return new JobBuilder(JobName.APPLY_SAVINGS_PENDING_CREDITS.name(), jobRepository).start(applySavingsPendingCreditsStep())
+                .incrementer(new RunIdIncrementer()).build();
     }
 
     @Bean
-    public Job postInterestForSavingJob(PostInterestForSavingTasklet postInterestForSavingTasklet) {
-        return new JobBuilder(JobName.POST_INTEREST_FOR_SAVINGS.name(), jobRepository)
-                .start(postInterestForSavingStep(postInterestForSavingTasklet)).incrementer(new RunIdIncrementer()).build();
+    public ApplySavingsPendingCreditsTasklet applySavingsPendingCreditsTasklet() {
+        return new ApplySavingsPendingCreditsTasklet(savingsAccountPendingCreditRepository, savingsAccountWritePlatformService);
     }
 }
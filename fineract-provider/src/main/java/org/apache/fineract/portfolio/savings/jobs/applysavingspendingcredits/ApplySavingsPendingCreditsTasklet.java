@@ -0,0 +1,63 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.applysavingspendingcredits;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountPendingCreditRepository;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+/**
+ * Folds the credits staged for accounts of high volume savings products into the accounts, one account per transaction.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ApplySavingsPendingCreditsTasklet implements Tasklet {
+
+    private final SavingsAccountPendingCreditRepository savingsAccountPendingCreditRepository;
+    private final SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        final List<Long> savingsIds = savingsAccountPendingCreditRepository.findSavingsAccountIdsWithPendingCredits();
+        List<Throwable> exceptions = new ArrayList<>();
+        for (final Long savingsId : savingsIds) {
+            try {
+                savingsAccountWritePlatformService.applyPendingCredits(savingsId);
+            } catch (final Exception e) {
+                exceptions.add(e);
+                log.error("Applying pending credits failed for savings account {}", savingsId, e);
+            }
+        }
+        log.debug("{}: Savings accounts with pending credits applied: {}", ThreadLocalContextUtil.getTenant().getName(),
+                savingsIds.size() - exceptions.size());
+        if (!exceptions.isEmpty()) {
+            throw new JobExecutionException(exceptions);
+        }
+        return RepeatStatus.FINISHED;
+    }
+}
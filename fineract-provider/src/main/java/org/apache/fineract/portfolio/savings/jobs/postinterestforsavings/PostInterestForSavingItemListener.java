@@ -0,0 +1,47 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.serialization.ThrowableSerialization;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.annotation.OnSkipInRead;
+import org.springframework.batch.core.annotation.OnSkipInWrite;
+import org.springframework.batch.core.annotation.OnWriteError;
+import org.springframework.batch.item.Chunk;
+
+@Slf4j
+public class PostInterestForSavingItemListener {
+
+    @OnWriteError
+    public void onWriteError(Exception e, @NotNull Chunk<? extends Long> items) {
+        log.warn("Error was triggered during interest posting of Savings accounts (ids={}) due to: {}", items.getItems(),
+                ThrowableSerialization.serialize(e));
+    }
+
+    @OnSkipInRead
+    public void onSkipInRead(@NotNull Throwable e) {
+        log.warn("Skipping was triggered during read!");
+    }
+
+    @OnSkipInWrite
+    public void onSkipInWrite(@NotNull Long savingsId, @NotNull Throwable e) {
+        log.error("Interest posting of Savings account (id={}) is skipped due to: {}", savingsId, ThrowableSerialization.serialize(e));
+    }
+}
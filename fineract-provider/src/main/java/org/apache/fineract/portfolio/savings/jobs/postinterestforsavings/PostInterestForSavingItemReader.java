@@ -0,0 +1,91 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.savings.data.SavingsInterestPostingParameter;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+
+/**
+ * Reads the ids of the savings accounts of a partition page by page. The last read id is saved in the step execution
+ * context with every chunk, so a restarted partition continues after the last committed chunk.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PostInterestForSavingItemReader implements ItemStreamReader<Long> {
+
+    public static final String LAST_READ_SAVINGS_ID = "lastReadSavingsId";
+
+    private final SavingsAccountReadPlatformService savingsAccountReadPlatformService;
+    private final ConfigurationDomainService configurationDomainService;
+    private final PropertyService propertyService;
+
+    private Long maxSavingsId;
+    private Long lastReadSavingsId;
+    private boolean backdatedTxnsAllowedTill;
+    private int pageSize;
+    private Iterator<Long> page = Collections.emptyIterator();
+
+    @Override
+    public void open(@NotNull ExecutionContext executionContext) {
+        SavingsInterestPostingParameter parameter = (SavingsInterestPostingParameter) executionContext
+                .get(PostInterestForSavingConstant.SAVINGS_INTEREST_POSTING_PARAMETER);
+        if (Objects.isNull(parameter) || Objects.isNull(parameter.getMinSavingsId()) || Objects.isNull(parameter.getMaxSavingsId())) {
+            maxSavingsId = 0L;
+            lastReadSavingsId = 0L;
+        } else {
+            maxSavingsId = parameter.getMaxSavingsId();
+            lastReadSavingsId = executionContext.containsKey(LAST_READ_SAVINGS_ID) ? executionContext.getLong(LAST_READ_SAVINGS_ID)
+                    : parameter.getMinSavingsId() - 1;
+        }
+        backdatedTxnsAllowedTill = configurationDomainService.retrievePivotDateConfig();
+        pageSize = propertyService.getChunkSize(PostInterestForSavingConstant.JOB_NAME);
+        page = Collections.emptyIterator();
+        log.debug("Reading savings accounts for interest posting after id {} till id {}", lastReadSavingsId, maxSavingsId);
+    }
+
+    @Override
+    public Long read() {
+        if (!page.hasNext()) {
+            List<Long> savingsIds = savingsAccountReadPlatformService.retrieveSavingsIdsForInterestPosting(backdatedTxnsAllowedTill,
+                    lastReadSavingsId, maxSavingsId, pageSize);
+            if (savingsIds.isEmpty()) {
+                return null;
+            }
+            page = savingsIds.iterator();
+        }
+        lastReadSavingsId = page.next();
+        return lastReadSavingsId;
+    }
+
+    @Override
+    public void update(@NotNull ExecutionContext executionContext) {
+        executionContext.putLong(LAST_READ_SAVINGS_ID, lastReadSavingsId);
+    }
+}
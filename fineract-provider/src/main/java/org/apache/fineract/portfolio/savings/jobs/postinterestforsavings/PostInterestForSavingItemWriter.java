@@ -0,0 +1,69 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountPendingCreditRepository;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+import org.apache.fineract.portfolio.savings.service.SavingsSchedularInterestPoster;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Loads the savings accounts of the chunk and posts their interest within the chunk transaction.
+ *
+ * The accounts are loaded again on every attempt, so a retried chunk or an account written alone during the skip scan
+ * never works on the state of a rolled back attempt. The credits staged for high volume accounts are folded in first, so
+ * the interest is earned on them as well.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PostInterestForSavingItemWriter implements ItemWriter<Long> {
+
+    private final SavingsAccountReadPlatformService savingsAccountReadPlatformService;
+    private final ConfigurationDomainService configurationDomainService;
+    private final ApplicationContext applicationContext;
+    private final SavingsAccountPendingCreditRepository savingsAccountPendingCreditRepository;
+    private final SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+
+    @Override
+    public void write(@NotNull Chunk<? extends Long> chunk) throws Exception {
+        final List<Long> savingsIds = new ArrayList<>(chunk.getItems());
+        for (Long savingsId : savingsAccountPendingCreditRepository.findSavingsAccountIdsWithPendingCredits(savingsIds)) {
+            savingsAccountWritePlatformService.applyPendingCredits(savingsId);
+        }
+        final boolean backdatedTxnsAllowedTill = configurationDomainService.retrievePivotDateConfig();
+        final List<SavingsAccountData> savingsAccounts = savingsAccountReadPlatformService
+                .retrieveAllSavingsDataForInterestPosting(backdatedTxnsAllowedTill, savingsIds);
+        log.debug("Posting interest for {} savings accounts", savingsAccounts.size());
+
+        final SavingsSchedularInterestPoster interestPoster = applicationContext.getBean(SavingsSchedularInterestPoster.class);
+        interestPoster.setSavingAccounts(savingsAccounts);
+        interestPoster.setBackdatedTxnsAllowedTill(backdatedTxnsAllowedTill);
+        interestPoster.postInterest();
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.savings.data.SavingsInterestPostingParameter;
+import org.apache.fineract.portfolio.savings.data.SavingsInterestPostingPartition;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.util.StopWatch;
+
+@Slf4j
+@RequiredArgsConstructor
+public class PostInterestForSavingPartitioner implements Partitioner {
+
+    public static final String PARTITION_PREFIX = "partition_";
+
+    private final PropertyService propertyService;
+    private final SavingsAccountReadPlatformService savingsAccountReadPlatformService;
+    private final ConfigurationDomainService configurationDomainService;
+
+    @NotNull
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int partitionSize = propertyService.getPartitionSize(PostInterestForSavingConstant.JOB_NAME);
+        boolean backdatedTxnsAllowedTill = configurationDomainService.retrievePivotDateConfig();
+        StopWatch sw = new StopWatch();
+        sw.start();
+        List<SavingsInterestPostingPartition> partitions = new ArrayList<>(
+                savingsAccountReadPlatformService.retrieveInterestPostingPartitions(backdatedTxnsAllowedTill, partitionSize));
+        sw.stop();
+        // if there is no savings account to post interest for, we still would like to create at least one partition
+        if (partitions.isEmpty()) {
+            partitions.add(new SavingsInterestPostingPartition(0L, 0L, 1L, 0L));
+        }
+        log.info(
+                "PostInterestForSavingPartitioner found {} savings accounts to post interest for. {} partitions were created using partition size {}. RetrieveInterestPostingPartitions was executed in {} ms.",
+                getAccountCount(partitions), partitions.size(), partitionSize, sw.getTotalTimeMillis());
+        return partitions.stream().collect(Collectors.toMap(p -> PARTITION_PREFIX + p.getPageNo(), this::createNewPartition));
+    }
+
+    private long getAccountCount(List<SavingsInterestPostingPartition> partitions) {
+        return partitions.stream().map(SavingsInterestPostingPartition::getCount).reduce(0L, Long::sum);
+    }
+
+    private ExecutionContext createNewPartition(SavingsInterestPostingPartition partition) {
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.put(PostInterestForSavingConstant.SAVINGS_INTEREST_POSTING_PARAMETER,
+                new SavingsInterestPostingParameter(partition.getMinId(), partition.getMaxId()));
+        executionContext.put("partition", PARTITION_PREFIX + partition.getPageNo());
+        return executionContext;
+    }
+}
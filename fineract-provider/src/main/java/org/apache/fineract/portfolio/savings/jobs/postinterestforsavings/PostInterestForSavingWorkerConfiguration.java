@@ -0,0 +1,135 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import static org.apache.fineract.portfolio.savings.jobs.postinterestforsavings.PostInterestForSavingConstant.JOB_NAME;
+
+import org.apache.fineract.cob.conditions.BatchWorkerCondition;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountPendingCreditRepository;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+import org.apache.fineract.useradministration.domain.AppUserRepositoryWrapper;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.integration.partition.RemotePartitioningWorkerStepBuilderFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Every partition is processed by a single thread so the reader can save its position for restarts; the partitions
+ * themselves are spread over the threads and nodes of the batch workers.
+ */
+@Configuration
+@Conditional(BatchWorkerCondition.class)
+public class PostInterestForSavingWorkerConfiguration {
+
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private RemotePartitioningWorkerStepBuilderFactory stepBuilderFactory;
+    @Autowired
+    private PropertyService propertyService;
+    @Autowired
+    private QueueChannel inboundRequests;
+    @Autowired
+    private AppUserRepositoryWrapper userRepository;
+    @Autowired
+    private SavingsAccountReadPlatformService savingsAccountReadPlatformService;
+    @Autowired
+    private ConfigurationDomainService configurationDomainService;
+    @Autowired
+    private ApplicationContext applicationContext;
+    @Autowired
+    private SavingsAccountPendingCreditRepository savingsAccountPendingCreditRepository;
+    @Autowired
+    private SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+
+    @Bean(name = PostInterestForSavingConstant.POST_INTEREST_FOR_SAVING_WORKER_STEP)
+    public Step postInterestForSavingWorkerStep() {
+        return stepBuilderFactory.get("Post interest for savings worker - Step").inputChannel(inboundRequests)
+                .flow(postInterestForSavingFlow()).build();
+    }
+
+    @Bean
+    public Flow postInterestForSavingFlow() {
+        return new FlowBuilder<Flow>("postInterestForSavingFlow").start(postInterestForSavingInitialisationStep(null))
+                .next(postInterestForSavingChunkStep(null)).build();
+    }
+
+    @Bean
+    @StepScope
+    public Step postInterestForSavingInitialisationStep(@Value("#{stepExecutionContext['partition']}") String partitionName) {
+        return new StepBuilder("Post interest for savings initialisation - Step:" + partitionName, jobRepository)
+                .tasklet(postInterestForSavingInitialisationTasklet(), transactionManager).build();
+    }
+
+    @Bean
+    @StepScope
+    public Step postInterestForSavingChunkStep(@Value("#{stepExecutionContext['partition']}") String partitionName) {
+        return new StepBuilder("Post interest for savings - Step:" + partitionName, jobRepository)
+                .<Long, Long>chunk(propertyService.getChunkSize(JOB_NAME), transactionManager) //
+                .reader(postInterestForSavingItemReader()) //
+                .writer(postInterestForSavingItemWriter()) //
+                .faultTolerant() //
+                .retry(Exception.class) //
+                .retryLimit(propertyService.getRetryLimit(JOB_NAME)) //
+                .skip(Exception.class) //
+                .skipLimit(propertyService.getChunkSize(JOB_NAME) + 1) //
+                .listener(postInterestForSavingItemListener()) //
+                .transactionManager(transactionManager) //
+                .build();
+    }
+
+    @Bean
+    public PostInterestForSavingInitialisationTasklet postInterestForSavingInitialisationTasklet() {
+        return new PostInterestForSavingInitialisationTasklet(userRepository);
+    }
+
+    @Bean
+    public PostInterestForSavingItemListener postInterestForSavingItemListener() {
+        return new PostInterestForSavingItemListener();
+    }
+
+    @Bean
+    @StepScope
+    public PostInterestForSavingItemReader postInterestForSavingItemReader() {
+        return new PostInterestForSavingItemReader(savingsAccountReadPlatformService, configurationDomainService, propertyService);
+    }
+
+    @Bean
+    @StepScope
+    public PostInterestForSavingItemWriter postInterestForSavingItemWriter() {
+        return new PostInterestForSavingItemWriter(savingsAccountReadPlatformService, configurationDomainService, applicationContext,
+                savingsAccountPendingCreditRepository, savingsAccountWritePlatformService);
+    }
+}
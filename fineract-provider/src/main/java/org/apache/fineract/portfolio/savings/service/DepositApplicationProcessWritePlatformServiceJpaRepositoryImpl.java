@@ -93,6 +93,8 @@ import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepositoryWrap
 import org.apache.fineract.portfolio.savings.domain.SavingsProduct;
 import org.apache.fineract.portfolio.savings.domain.SavingsProductRepository;
 import org.apache.fineract.portfolio.savings.exception.SavingsProductNotFoundException;
+import org.apache.fineract.portfolio.search.service.SearchIndexEntityType;
+import org.apache.fineract.portfolio.search.service.SearchIndexWriter;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.dao.DataAccessException;
 import org.springframework.transaction.annotation.Transactional;
@@ -121,6 +123,7 @@ public class DepositApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
     private final ConfigurationDomainService configurationDomainService;
     private final AccountNumberFormatRepositoryWrapper accountNumberFormatRepository;
     private final BusinessEventNotifierService businessEventNotifierService;
+    private final SearchIndexWriter searchIndexWriter;
 
     /*
      * Guaranteed to throw an exception no matter what the data integrity issue is.
@@ -192,6 +195,7 @@ public class DepositApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
             }
 
             final Long savingsId = account.getId();
+            this.searchIndexWriter.index(SearchIndexEntityType.SAVING, savingsId);
             businessEventNotifierService.notifyPostBusinessEvent(new FixedDepositAccountCreateBusinessEvent(account));
 
             return new CommandProcessingResultBuilder() //
@@ -235,6 +239,7 @@ public class DepositApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
             }
 
             final Long savingsId = account.getId();
+            this.searchIndexWriter.index(SearchIndexEntityType.SAVING, savingsId);
             final CalendarInstance calendarInstance = getCalendarInstance(command, account);
             this.calendarInstanceRepository.save(calendarInstance);
 
@@ -355,6 +360,7 @@ public class DepositApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
                 account.updateMaturityDateAndAmountBeforeAccountActivation(mc, isPreMatureClosure,
                         isSavingsInterestPostingAtCurrentPeriodEnd, financialYearBeginningMonth);
                 this.savingAccountRepository.save(account);
+                this.searchIndexWriter.index(SearchIndexEntityType.SAVING, accountId);
             }
 
             boolean isLinkedAccRequired = command.booleanPrimitiveValueOfParameterNamed(transferInterestToSavingsParamName);
@@ -453,6 +459,7 @@ public class DepositApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
                         financialYearBeginningMonth);
                 account.validateApplicableInterestRate();
                 this.savingAccountRepository.save(account);
+                this.searchIndexWriter.index(SearchIndexEntityType.SAVING, accountId);
 
             }
 
@@ -578,6 +585,7 @@ public class DepositApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
         this.noteRepository.deleteAllInBatch(relatedNotes);
 
         this.savingAccountRepository.delete(account);
+        this.searchIndexWriter.index(SearchIndexEntityType.SAVING, savingsId);
 
         return new CommandProcessingResultBuilder() //
                 .withEntityId(savingsId) //
@@ -31,7 +31,10 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.accounting.common.AccountingRuleType;
 import org.apache.fineract.accounting.glaccount.data.GLAccountData;
@@ -52,6 +55,7 @@ import org.apache.fineract.infrastructure.security.utils.ColumnValidator;
 import org.apache.fineract.organisation.monetary.data.CurrencyData;
 import org.apache.fineract.organisation.staff.data.StaffData;
 import org.apache.fineract.organisation.staff.service.StaffReadPlatformService;
+import org.apache.fineract.portfolio.PortfolioProductType;
 import org.apache.fineract.portfolio.account.data.AccountTransferData;
 import org.apache.fineract.portfolio.charge.data.ChargeData;
 import org.apache.fineract.portfolio.charge.service.ChargeReadPlatformService;
@@ -76,6 +80,7 @@ import org.apache.fineract.portfolio.savings.data.SavingsAccountSubStatusEnumDat
 import org.apache.fineract.portfolio.savings.data.SavingsAccountSummaryData;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionData;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionEnumData;
+import org.apache.fineract.portfolio.savings.data.SavingsInterestPostingPartition;
 import org.apache.fineract.portfolio.savings.data.SavingsProductData;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountAssembler;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountChargesPaidByData;
@@ -90,7 +95,7 @@ import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.util.CollectionUtils;
 
@@ -266,29 +271,130 @@ public class SavingsAccountReadPlatformServiceImpl implements SavingsAccountRead
     }
 
     @Override
-    public List<SavingsAccountData> retrieveAllSavingsDataForInterestPosting(final boolean backdatedTxnsAllowedTill, final int pageSize,
-            final Integer status, final Long maxSavingsId) {
-        LocalDate yesterday = DateUtils.getBusinessLocalDate().minusDays(1);
-        String sql = "select " + this.savingAccountMapperForInterestPosting.schema()
-                + "join (select a.id from m_savings_account a where a.id > ? and a.status_enum = ? limit ?) b on b.id = sa.id ";
-        if (backdatedTxnsAllowedTill) {
-            sql = sql
-                    + "where (CASE WHEN sa.interest_posted_till_date is not null THEN tr.transaction_date >= sa.interest_posted_till_date ELSE tr.transaction_date >= sa.activatedon_date END) ";
+    public List<SavingsInterestPostingPartition> retrieveInterestPostingPartitions(final boolean backdatedTxnsAllowedTill,
+            final int partitionSize) {
+        final String sql = "select min(id) as min, max(id) as max, page, count(id) as count from "
+                + "(select floor(((row_number() over(order by id))-1) / ?) as page, t.* from "
+                + "(select sa.id from m_savings_account sa where " + interestPostingAccountsCondition(backdatedTxnsAllowedTill)
+                + "order by sa.id) t) t2 group by page order by page";
+        return this.jdbcTemplate.query(sql, (rs, rowNum) -> new SavingsInterestPostingPartition(rs.getLong("min"), rs.getLong("max"),
+                rs.getLong("page"), rs.getLong("count")), partitionSize, SavingsAccountStatusType.ACTIVE.getValue(),
+                DateUtils.getBusinessLocalDate().minusDays(1));
+    }
+
+    @Override
+    public List<Long> retrieveSavingsIdsForInterestPosting(final boolean backdatedTxnsAllowedTill, final Long minSavingsIdExclusive,
+            final Long maxSavingsId, final int pageSize) {
+        // keyset paging on the account id
+        final String sql = "select sa.id from m_savings_account sa where sa.id > ? and sa.id <= ? and "
+                + interestPostingAccountsCondition(backdatedTxnsAllowedTill) + "order by sa.id limit ?";
+        return this.jdbcTemplate.queryForList(sql, Long.class, minSavingsIdExclusive, maxSavingsId,
+                SavingsAccountStatusType.ACTIVE.getValue(), DateUtils.getBusinessLocalDate().minusDays(1), pageSize);
+    }
+
+    @Override
+    public List<SavingsAccountData> retrieveAllSavingsDataForInterestPosting(final boolean backdatedTxnsAllowedTill,
+            final List<Long> savingsIds) {
+        if (savingsIds.isEmpty()) {
+            return new ArrayList<>();
         }
+        final String inSql = String.join(",", Collections.nCopies(savingsIds.size(), "?"));
+        final String sql = "select " + this.savingAccountMapperForInterestPosting.schema() + "where sa.id in (%s) order by sa.id";
 
-        sql = sql + " and (sa.interest_posted_till_date is null or sa.interest_posted_till_date <= ? ) ";
-        // #audit backward compatibility
-        sql = sql + " order by sa.id, tr.transaction_date, tr." + CREATED_DATE_DB_FIELD + ", tr.created_date, tr.id";
+        final List<SavingsAccountData> savingsAccountDataList = this.jdbcTemplate.query(String.format(sql, inSql), // NOSONAR
+                this.savingAccountMapperForInterestPosting, savingsIds.toArray());
+        if (savingsAccountDataList.isEmpty()) {
+            return savingsAccountDataList;
+        }
 
-        List<SavingsAccountData> savingsAccountDataList = this.jdbcTemplate.query(sql, this.savingAccountMapperForInterestPosting, // NOSONAR
-                new Object[] { maxSavingsId, status, pageSize, yesterday });
+        retrieveProductMappingsForInterestPosting(savingsAccountDataList);
+        retrieveTransactionsForInterestPosting(savingsAccountDataList, backdatedTxnsAllowedTill);
         for (SavingsAccountData savingsAccountData : savingsAccountDataList) {
             this.savingAccountAssembler.assembleSavings(savingsAccountData);
         }
         return savingsAccountDataList;
     }
 
-    private static final class SavingAccountMapperForInterestPosting implements ResultSetExtractor<List<SavingsAccountData>> {
+    /**
+     * Active accounts with interest not yet posted till yesterday and with transactions to process; takes the account
+     * status and yesterday as parameters.
+     */
+    private static String interestPostingAccountsCondition(final boolean backdatedTxnsAllowedTill) {
+        return "sa.status_enum = ? and (sa.interest_posted_till_date is null or sa.interest_posted_till_date <= ?) "
+                + "and exists (select 1 from m_savings_account_transaction tr where tr.savings_account_id = sa.id "
+                + interestPostingTransactionsCondition(backdatedTxnsAllowedTill) + ") ";
+    }
+
+    private static String interestPostingTransactionsCondition(final boolean backdatedTxnsAllowedTill) {
+        if (!backdatedTxnsAllowedTill) {
+            return "";
+        }
+        return "and (CASE WHEN sa.interest_posted_till_date is not null THEN tr.transaction_date >= sa.interest_posted_till_date "
+                + "ELSE tr.transaction_date >= sa.activatedon_date END) ";
+    }
+
+    /**
+     * Loads the accounting rule and the GL account mappings once for each product of the page.
+     */
+    private void retrieveProductMappingsForInterestPosting(final List<SavingsAccountData> savingsAccountDataList) {
+        final Map<Long, List<SavingsAccountData>> savingsAccountsByProduct = new HashMap<>();
+        for (SavingsAccountData savingsAccountData : savingsAccountDataList) {
+            savingsAccountsByProduct.computeIfAbsent(savingsAccountData.getSavingsProductId(), productId -> new ArrayList<>())
+                    .add(savingsAccountData);
+        }
+        final String inSql = String.join(",", Collections.nCopies(savingsAccountsByProduct.size(), "?"));
+        final String sql = "select sp.id as productId, sp.accounting_type as accountingType, "
+                + "apm.gl_account_id as glAccountIdForInterestOnSavings, apm1.gl_account_id as glAccountIdForSavingsControl "
+                + "from m_savings_product sp "
+                + "left join acc_product_mapping apm on apm.product_id = sp.id and apm.product_type = ? "
+                + "and apm.financial_account_type = 3 "
+                + "left join acc_product_mapping apm1 on apm1.product_id = sp.id and apm1.product_type = ? "
+                + "and apm1.financial_account_type = 2 "
+                + "where sp.id in (%s)";
+        final List<Object> params = new ArrayList<>(savingsAccountsByProduct.size() + 2);
+        params.add(PortfolioProductType.SAVING.getValue());
+        params.add(PortfolioProductType.SAVING.getValue());
+        params.addAll(savingsAccountsByProduct.keySet());
+
+        this.jdbcTemplate.query(String.format(sql, inSql), (RowCallbackHandler) rs -> {
+            final Long productId = rs.getLong("productId");
+            final Integer accountType = rs.getInt("accountingType");
+            final AccountingRuleType accountingRuleType = AccountingRuleType.fromInt(accountType);
+            final EnumOptionData enumOptionDataForAccounting = new EnumOptionData(accountType.longValue(), accountingRuleType.getCode(),
+                    accountingRuleType.getValue().toString());
+            final SavingsProductData savingsProductData = SavingsProductData.createForInterestPosting(productId,
+                    enumOptionDataForAccounting);
+            final Long glAccountIdForInterestOnSavings = rs.getLong("glAccountIdForInterestOnSavings");
+            final Long glAccountIdForSavingsControl = rs.getLong("glAccountIdForSavingsControl");
+
+            for (SavingsAccountData savingsAccountData : savingsAccountsByProduct.get(productId)) {
+                savingsAccountData.setSavingsProduct(savingsProductData);
+                savingsAccountData.setGlAccountIdForInterestOnSavings(glAccountIdForInterestOnSavings);
+                savingsAccountData.setGlAccountIdForSavingsControl(glAccountIdForSavingsControl);
+            }
+        }, params.toArray());
+    }
+
+    /**
+     * Streams the transactions of the page, ordered by account, directly into the accounts they belong to.
+     */
+    private void retrieveTransactionsForInterestPosting(final List<SavingsAccountData> savingsAccountDataList,
+            final boolean backdatedTxnsAllowedTill) {
+        final Map<Long, SavingsAccountData> savingsAccountsById = new HashMap<>();
+        for (SavingsAccountData savingsAccountData : savingsAccountDataList) {
+            savingsAccountsById.put(savingsAccountData.getId(), savingsAccountData);
+        }
+        final String inSql = String.join(",", Collections.nCopies(savingsAccountsById.size(), "?"));
+        // #audit backward compatibility
+        final String sql = "select " + SavingsTransactionHandlerForInterestPosting.SCHEMA + "where tr.savings_account_id in (%s) "
+                + interestPostingTransactionsCondition(backdatedTxnsAllowedTill) + "order by tr.savings_account_id, tr.transaction_date, "
+                + "tr." + CREATED_DATE_DB_FIELD + ", tr.created_date, tr.id";
+
+        this.jdbcTemplate.query(String.format(sql, inSql), new SavingsTransactionHandlerForInterestPosting(savingsAccountsById),
+                savingsAccountsById.keySet().toArray());
+    }
+
+    private static final class SavingAccountMapperForInterestPosting implements RowMapper<SavingsAccountData> {
 
         private final String schemaSql;
 
@@ -342,7 +448,7 @@ public class SavingsAccountReadPlatformServiceImpl implements SavingsAccountRead
             sqlBuilder.append("sa.last_interest_calculation_date as lastInterestCalculationDate, ");
             sqlBuilder.append("sa.total_savings_amount_on_hold as onHoldAmount, ");
             sqlBuilder.append("sa.interest_posted_till_date as interestPostedTillDate, ");
-            sqlBuilder.append("tg.id as taxGroupId, ");
+            sqlBuilder.append("sa.tax_group_id as taxGroupId, ");
             sqlBuilder.append("(select COALESCE(max(sat.transaction_date),sa.activatedon_date) ");
             sqlBuilder.append("from m_savings_account_transaction as sat ");
             sqlBuilder.append("where sat.is_reversed = false and sat.is_reversal = false ");
@@ -352,39 +458,11 @@ public class SavingsAccountReadPlatformServiceImpl implements SavingsAccountRead
             sqlBuilder.append("sp.is_dormancy_tracking_active as isDormancyTrackingActive, ");
             sqlBuilder.append("sp.days_to_inactive as daysToInactive, ");
             sqlBuilder.append("sp.days_to_dormancy as daysToDormancy, ");
-            sqlBuilder.append("sp.days_to_escheat as daysToEscheat, ");
-            sqlBuilder.append("sp.accounting_type as accountingType, ");
-            sqlBuilder.append("tr.id as transactionId, tr.transaction_type_enum as transactionType, ");
-            sqlBuilder.append("tr.transaction_date as transactionDate, tr.amount as transactionAmount,");
-            sqlBuilder.append("tr.submitted_on_date as transSubmittedOnDate,tr.cumulative_balance_derived as cumulativeBalance,");
-            sqlBuilder.append("tr.running_balance_derived as runningBalance, tr.is_reversed as reversed,");
-            sqlBuilder.append("tr.balance_end_date_derived as balanceEndDate, tr.overdraft_amount_derived as overdraftAmount,");
-            sqlBuilder.append("tr.is_manual as manualTransaction,tr.office_id as officeId, ");
-            sqlBuilder.append("pd.payment_type_id as paymentType,pd.account_number as accountNumber,pd.check_number as checkNumber, ");
-            sqlBuilder.append("pd.receipt_number as receiptNumber, pd.bank_number as bankNumber,pd.routing_code as routingCode, ");
-            sqlBuilder.append("pt.value as paymentTypeName, ");
-            sqlBuilder.append("msacpb.amount as paidByAmount, msacpb.id as chargesPaidById, ");
-            sqlBuilder.append(
-                    "msac.id as chargeId, msac.amount as chargeAmount, msac.charge_time_enum as chargeTimeType, msac.is_penalty as isPenaltyCharge, ");
-            sqlBuilder.append("txd.id as taxDetailsId, txd.amount as taxAmount, ");
-            sqlBuilder.append("apm.gl_account_id as glAccountIdForInterestOnSavings, apm1.gl_account_id as glAccountIdForSavingsControl, ");
-            sqlBuilder.append(
-                    "mtc.id as taxComponentId, mtc.debit_account_id as debitAccountId, mtc.credit_account_id as creditAccountId, mtc.percentage as taxPercentage ");
+            sqlBuilder.append("sp.days_to_escheat as daysToEscheat ");
             sqlBuilder.append("from m_savings_account sa ");
             sqlBuilder.append("join m_savings_product sp ON sa.product_id = sp.id ");
-            sqlBuilder.append("join m_currency curr on curr.code = sa.currency_code ");
-            sqlBuilder.append("join m_savings_account_transaction tr on sa.id = tr.savings_account_id ");
-            sqlBuilder.append("left join m_payment_detail pd on pd.id = tr.payment_detail_id ");
-            sqlBuilder.append("left join m_payment_type pt on pt.id = pd.payment_type_id ");
-            sqlBuilder.append("left join m_savings_account_charge_paid_by msacpb on msacpb.savings_account_transaction_id = tr.id ");
-            sqlBuilder.append("left join m_savings_account_charge msac on msac.id = msacpb.savings_account_charge_id ");
             sqlBuilder.append("left join m_client c ON c.id = sa.client_id ");
             sqlBuilder.append("left join m_group g ON g.id = sa.group_id ");
-            sqlBuilder.append("left join m_tax_group tg on tg.id = sa.tax_group_id ");
-            sqlBuilder.append("left join m_savings_account_transaction_tax_details txd on txd.savings_transaction_id = tr.id ");
-            sqlBuilder.append("left join m_tax_component mtc on mtc.id = txd.tax_component_id ");
-            sqlBuilder.append("left join acc_product_mapping apm on apm.product_id = sp.id and apm.financial_account_type=3 ");
-            sqlBuilder.append("left join acc_product_mapping apm1 on apm1.product_id = sp.id and apm1.financial_account_type=2 ");
 
             this.schemaSql = sqlBuilder.toString();
         }
@@ -394,295 +472,297 @@ public class SavingsAccountReadPlatformServiceImpl implements SavingsAccountRead
         }
 
         @Override
-        public List<SavingsAccountData> extractData(final ResultSet rs) throws SQLException {
-
-            List<SavingsAccountData> savingsAccountDataList = new ArrayList<>();
-            HashMap<String, Long> savingsMap = new HashMap<>();
-            String currencyCode = null;
-            Integer currencyDigits = null;
-            Integer inMultiplesOf = null;
-            CurrencyData currency = null;
-            HashMap<String, Long> transMap = new HashMap<>();
-            HashMap<String, Long> taxDetails = new HashMap<>();
-            HashMap<String, Long> chargeDetails = new HashMap<>();
-            SavingsAccountTransactionData savingsAccountTransactionData = null;
-            SavingsAccountData savingsAccountData = null;
-            int count = 0;
-
-            while (rs.next()) {
-                final Long id = rs.getLong("id");
-                final Long transactionId = rs.getLong("transactionId");
-                final Long taxDetailId = JdbcSupport.getLongDefaultToNullIfZero(rs, "taxDetailsId");
-                final Long taxComponentId = JdbcSupport.getLongDefaultToNullIfZero(rs, "taxComponentId");
-                final String accountNo = rs.getString("accountNo");
-                final Long chargeId = rs.getLong("chargeId");
+        public SavingsAccountData mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
+            final Long id = rs.getLong("id");
+            final String accountNo = rs.getString("accountNo");
+            final String externalId = rs.getString("externalId");
+            final Integer depositTypeId = rs.getInt("depositType");
+            final EnumOptionData depositType = SavingsEnumerations.depositType(depositTypeId);
+            final Long groupId = JdbcSupport.getLong(rs, "groupId");
+            final Long groupOfficeId = JdbcSupport.getLong(rs, "groupOfficeId");
+            final GroupGeneralData groupGeneralData = new GroupGeneralData(groupId, groupOfficeId);
 
-                if (!savingsMap.containsValue(id)) {
-                    if (count > 0) {
-                        savingsAccountDataList.add(savingsAccountData);
-                    }
-                    count++;
-                    savingsMap.put("id", id);
-
-                    final String externalId = rs.getString("externalId");
-                    final Integer depositTypeId = rs.getInt("depositType");
-                    final EnumOptionData depositType = SavingsEnumerations.depositType(depositTypeId);
-                    final Long groupId = JdbcSupport.getLong(rs, "groupId");
-                    final Long groupOfficeId = JdbcSupport.getLong(rs, "groupOfficeId");
-                    final GroupGeneralData groupGeneralData = new GroupGeneralData(groupId, groupOfficeId);
-
-                    final Long clientId = JdbcSupport.getLong(rs, "clientId");
-                    final Long clientOfficeId = JdbcSupport.getLong(rs, "clientOfficeId");
-                    final ClientData clientData = ClientData.createClientForInterestPosting(clientId, clientOfficeId);
-
-                    final Long glAccountIdForInterestOnSavings = rs.getLong("glAccountIdForInterestOnSavings");
-                    final Long glAccountIdForSavingsControl = rs.getLong("glAccountIdForSavingsControl");
-
-                    final Long productId = rs.getLong("productId");
-                    final Integer accountType = rs.getInt("accountingType");
-                    final AccountingRuleType accountingRuleType = AccountingRuleType.fromInt(accountType);
-                    final EnumOptionData enumOptionDataForAccounting = new EnumOptionData(accountType.longValue(),
-                            accountingRuleType.getCode(), accountingRuleType.getValue().toString());
-                    final SavingsProductData savingsProductData = SavingsProductData.createForInterestPosting(productId,
-                            enumOptionDataForAccounting);
-
-                    final Integer statusEnum = JdbcSupport.getInteger(rs, "statusEnum");
-                    final SavingsAccountStatusEnumData status = SavingsEnumerations.status(statusEnum);
-                    final Integer subStatusEnum = JdbcSupport.getInteger(rs, "subStatusEnum");
-                    final SavingsAccountSubStatusEnumData subStatus = SavingsEnumerations.subStatus(subStatusEnum);
-                    final LocalDate lastActiveTransactionDate = JdbcSupport.getLocalDate(rs, "lastActiveTransactionDate");
-                    final boolean isDormancyTrackingActive = rs.getBoolean("isDormancyTrackingActive");
-                    final Integer numDaysToInactive = JdbcSupport.getInteger(rs, "daysToInactive");
-                    final Integer numDaysToDormancy = JdbcSupport.getInteger(rs, "daysToDormancy");
-                    final Integer numDaysToEscheat = JdbcSupport.getInteger(rs, "daysToEscheat");
-                    Integer daysToInactive = null;
-                    Integer daysToDormancy = null;
-                    Integer daysToEscheat = null;
-
-                    LocalDate currentDate = DateUtils.getBusinessLocalDate();
-                    if (isDormancyTrackingActive && statusEnum.equals(SavingsAccountStatusType.ACTIVE.getValue())) {
-                        if (subStatusEnum < SavingsAccountSubStatusEnum.ESCHEAT.getValue()) {
-                            daysToEscheat = Math
-                                    .toIntExact(ChronoUnit.DAYS.between(currentDate, lastActiveTransactionDate.plusDays(numDaysToEscheat)));
-                        }
-                        if (subStatusEnum < SavingsAccountSubStatusEnum.DORMANT.getValue()) {
-                            daysToDormancy = Math.toIntExact(
-                                    ChronoUnit.DAYS.between(currentDate, lastActiveTransactionDate.plusDays(numDaysToDormancy)));
-                        }
-                        if (subStatusEnum < SavingsAccountSubStatusEnum.INACTIVE.getValue()) {
-                            daysToInactive = Math.toIntExact(
-                                    ChronoUnit.DAYS.between(currentDate, lastActiveTransactionDate.plusDays(numDaysToInactive)));
-                        }
-                    }
-                    final LocalDate approvedOnDate = JdbcSupport.getLocalDate(rs, "approvedOnDate");
-                    final LocalDate withdrawnOnDate = JdbcSupport.getLocalDate(rs, "withdrawnOnDate");
-                    final LocalDate submittedOnDate = JdbcSupport.getLocalDate(rs, "submittedOnDate");
-                    final LocalDate activatedOnDate = JdbcSupport.getLocalDate(rs, "activatedOnDate");
-                    final LocalDate closedOnDate = JdbcSupport.getLocalDate(rs, "closedOnDate");
-                    final SavingsAccountApplicationTimelineData timeline = new SavingsAccountApplicationTimelineData(submittedOnDate, null,
-                            null, null, null, null, null, null, withdrawnOnDate, null, null, null, approvedOnDate, null, null, null,
-                            activatedOnDate, null, null, null, closedOnDate, null, null, null);
-
-                    currencyCode = rs.getString("currencyCode");
-                    currencyDigits = JdbcSupport.getInteger(rs, "currencyDigits");
-                    inMultiplesOf = JdbcSupport.getInteger(rs, "inMultiplesOf");
-                    currency = new CurrencyData(currencyCode, currencyDigits, inMultiplesOf);
-
-                    final BigDecimal totalDeposits = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "totalDeposits");
-                    final BigDecimal totalWithdrawals = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "totalWithdrawals");
-                    final BigDecimal totalWithdrawalFees = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "totalWithdrawalFees");
-                    final BigDecimal totalAnnualFees = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "totalAnnualFees");
-
-                    final BigDecimal totalInterestEarned = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "totalInterestEarned");
-                    final BigDecimal totalInterestPosted = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "totalInterestPosted");
-                    final BigDecimal accountBalance = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "accountBalance");
-                    final BigDecimal totalFeeCharge = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "totalFeeCharge");
-                    final BigDecimal totalPenaltyCharge = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "totalPenaltyCharge");
-                    final BigDecimal totalOverdraftInterestDerived = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs,
-                            "totalOverdraftInterestDerived");
-                    final BigDecimal totalWithholdTax = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "totalWithholdTax");
-                    final LocalDate interestPostedTillDate = JdbcSupport.getLocalDate(rs, "interestPostedTillDate");
-
-                    final BigDecimal minBalanceForInterestCalculation = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs,
-                            "minBalanceForInterestCalculation");
-                    final BigDecimal onHoldFunds = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "onHoldFunds");
-
-                    final BigDecimal onHoldAmount = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "onHoldAmount");
-
-                    BigDecimal availableBalance = accountBalance;
-                    if (availableBalance != null && onHoldFunds != null) {
-
-                        availableBalance = availableBalance.subtract(onHoldFunds);
-                    }
+            final Long clientId = JdbcSupport.getLong(rs, "clientId");
+            final Long clientOfficeId = JdbcSupport.getLong(rs, "clientOfficeId");
+            final ClientData clientData = ClientData.createClientForInterestPosting(clientId, clientOfficeId);
 
-                    if (availableBalance != null && onHoldAmount != null) {
+            final Long productId = rs.getLong("productId");
 
-                        availableBalance = availableBalance.subtract(onHoldAmount);
-                    }
+            final Integer statusEnum = JdbcSupport.getInteger(rs, "statusEnum");
+            final SavingsAccountStatusEnumData status = SavingsEnumerations.status(statusEnum);
+            final Integer subStatusEnum = JdbcSupport.getInteger(rs, "subStatusEnum");
+            final SavingsAccountSubStatusEnumData subStatus = SavingsEnumerations.subStatus(subStatusEnum);
+            final LocalDate lastActiveTransactionDate = JdbcSupport.getLocalDate(rs, "lastActiveTransactionDate");
+            final boolean isDormancyTrackingActive = rs.getBoolean("isDormancyTrackingActive");
+            final Integer numDaysToInactive = JdbcSupport.getInteger(rs, "daysToInactive");
+            final Integer numDaysToDormancy = JdbcSupport.getInteger(rs, "daysToDormancy");
+            final Integer numDaysToEscheat = JdbcSupport.getInteger(rs, "daysToEscheat");
+            Integer daysToInactive = null;
+            Integer daysToDormancy = null;
+            Integer daysToEscheat = null;
 
-                    BigDecimal interestNotPosted = BigDecimal.ZERO;
-                    LocalDate lastInterestCalculationDate = null;
-                    if (totalInterestEarned != null) {
-                        interestNotPosted = totalInterestEarned.subtract(totalInterestPosted).add(totalOverdraftInterestDerived);
-                        lastInterestCalculationDate = JdbcSupport.getLocalDate(rs, "lastInterestCalculationDate");
-                    }
+            LocalDate currentDate = DateUtils.getBusinessLocalDate();
+            if (isDormancyTrackingActive && statusEnum.equals(SavingsAccountStatusType.ACTIVE.getValue())) {
+                if (subStatusEnum < SavingsAccountSubStatusEnum.ESCHEAT.getValue()) {
+                    daysToEscheat = Math
+                            .toIntExact(ChronoUnit.DAYS.between(currentDate, lastActiveTransactionDate.plusDays(numDaysToEscheat)));
+                }
+                if (subStatusEnum < SavingsAccountSubStatusEnum.DORMANT.getValue()) {
+                    daysToDormancy = Math.toIntExact(
+                            ChronoUnit.DAYS.between(currentDate, lastActiveTransactionDate.plusDays(numDaysToDormancy)));
+                }
+                if (subStatusEnum < SavingsAccountSubStatusEnum.INACTIVE.getValue()) {
+                    daysToInactive = Math.toIntExact(
+                            ChronoUnit.DAYS.between(currentDate, lastActiveTransactionDate.plusDays(numDaysToInactive)));
+                }
+            }
+            final LocalDate approvedOnDate = JdbcSupport.getLocalDate(rs, "approvedOnDate");
+            final LocalDate withdrawnOnDate = JdbcSupport.getLocalDate(rs, "withdrawnOnDate");
+            final LocalDate submittedOnDate = JdbcSupport.getLocalDate(rs, "submittedOnDate");
+            final LocalDate activatedOnDate = JdbcSupport.getLocalDate(rs, "activatedOnDate");
+            final LocalDate closedOnDate = JdbcSupport.getLocalDate(rs, "closedOnDate");
+            final SavingsAccountApplicationTimelineData timeline = new SavingsAccountApplicationTimelineData(submittedOnDate, null,
+                    null, null, null, null, null, null, withdrawnOnDate, null, null, null, approvedOnDate, null, null, null,
+                    activatedOnDate, null, null, null, closedOnDate, null, null, null);
 
-                    final SavingsAccountSummaryData summary = new SavingsAccountSummaryData(currency, totalDeposits, totalWithdrawals,
-                            totalWithdrawalFees, totalAnnualFees, totalInterestEarned, totalInterestPosted, accountBalance, totalFeeCharge,
-                            totalPenaltyCharge, totalOverdraftInterestDerived, totalWithholdTax, interestNotPosted,
-                            lastInterestCalculationDate, availableBalance, interestPostedTillDate);
-                    summary.setPrevInterestPostedTillDate(interestPostedTillDate);
-
-                    final boolean withHoldTax = rs.getBoolean("withHoldTax");
-                    final Long taxGroupId = JdbcSupport.getLongDefaultToNullIfZero(rs, "taxGroupId");
-                    TaxGroupData taxGroupData = null;
-                    if (taxGroupId != null) {
-                        taxGroupData = TaxGroupData.lookup(taxGroupId, null);
-                    }
+            final String currencyCode = rs.getString("currencyCode");
+            final Integer currencyDigits = JdbcSupport.getInteger(rs, "currencyDigits");
+            final Integer inMultiplesOf = JdbcSupport.getInteger(rs, "inMultiplesOf");
+            final CurrencyData currency = new CurrencyData(currencyCode, currencyDigits, inMultiplesOf);
+
+            final BigDecimal totalDeposits = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "totalDeposits");
+            final BigDecimal totalWithdrawals = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "totalWithdrawals");
+            final BigDecimal totalWithdrawalFees = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "totalWithdrawalFees");
+            final BigDecimal totalAnnualFees = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "totalAnnualFees");
+
+            final BigDecimal totalInterestEarned = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "totalInterestEarned");
+            final BigDecimal totalInterestPosted = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "totalInterestPosted");
+            final BigDecimal accountBalance = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "accountBalance");
+            final BigDecimal totalFeeCharge = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "totalFeeCharge");
+            final BigDecimal totalPenaltyCharge = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "totalPenaltyCharge");
+            final BigDecimal totalOverdraftInterestDerived = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs,
+                    "totalOverdraftInterestDerived");
+            final BigDecimal totalWithholdTax = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "totalWithholdTax");
+            final LocalDate interestPostedTillDate = JdbcSupport.getLocalDate(rs, "interestPostedTillDate");
 
-                    final BigDecimal nominalAnnualInterestRate = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs,
-                            "nominalAnnualInterestRate");
+            final BigDecimal minBalanceForInterestCalculation = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs,
+                    "minBalanceForInterestCalculation");
+            final BigDecimal onHoldFunds = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "onHoldFunds");
 
-                    final EnumOptionData interestCompoundingPeriodType = SavingsEnumerations.compoundingInterestPeriodType(
-                            SavingsCompoundingInterestPeriodType.fromInt(JdbcSupport.getInteger(rs, "interestCompoundingPeriodType")));
+            final BigDecimal onHoldAmount = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "onHoldAmount");
 
-                    final EnumOptionData interestPostingPeriodType = SavingsEnumerations.interestPostingPeriodType(
-                            SavingsPostingInterestPeriodType.fromInt(JdbcSupport.getInteger(rs, "interestPostingPeriodType")));
+            BigDecimal availableBalance = accountBalance;
+            if (availableBalance != null && onHoldFunds != null) {
 
-                    final EnumOptionData interestCalculationType = SavingsEnumerations.interestCalculationType(
-                            SavingsInterestCalculationType.fromInt(JdbcSupport.getInteger(rs, "interestCalculationType")));
+                availableBalance = availableBalance.subtract(onHoldFunds);
+            }
 
-                    final EnumOptionData interestCalculationDaysInYearType = SavingsEnumerations
-                            .interestCalculationDaysInYearType(SavingsInterestCalculationDaysInYearType
-                                    .fromInt(JdbcSupport.getInteger(rs, "interestCalculationDaysInYearType")));
+            if (availableBalance != null && onHoldAmount != null) {
 
-                    final BigDecimal minRequiredOpeningBalance = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs,
-                            "minRequiredOpeningBalance");
+                availableBalance = availableBalance.subtract(onHoldAmount);
+            }
 
-                    final Integer lockinPeriodFrequency = JdbcSupport.getInteger(rs, "lockinPeriodFrequency");
-                    EnumOptionData lockinPeriodFrequencyType = null;
-                    final Integer lockinPeriodFrequencyTypeValue = JdbcSupport.getInteger(rs, "lockinPeriodFrequencyType");
-                    if (lockinPeriodFrequencyTypeValue != null) {
-                        final SavingsPeriodFrequencyType lockinPeriodType = SavingsPeriodFrequencyType
-                                .fromInt(lockinPeriodFrequencyTypeValue);
-                        lockinPeriodFrequencyType = SavingsEnumerations.lockinPeriodFrequencyType(lockinPeriodType);
-                    }
+            BigDecimal interestNotPosted = BigDecimal.ZERO;
+            LocalDate lastInterestCalculationDate = null;
+            if (totalInterestEarned != null) {
+                interestNotPosted = totalInterestEarned.subtract(totalInterestPosted).add(totalOverdraftInterestDerived);
+                lastInterestCalculationDate = JdbcSupport.getLocalDate(rs, "lastInterestCalculationDate");
+            }
 
-                    final boolean withdrawalFeeForTransfers = rs.getBoolean("withdrawalFeeForTransfers");
-
-                    final boolean allowOverdraft = rs.getBoolean("allowOverdraft");
-                    final BigDecimal overdraftLimit = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "overdraftLimit");
-                    final BigDecimal nominalAnnualInterestRateOverdraft = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs,
-                            "nominalAnnualInterestRateOverdraft");
-                    final BigDecimal minOverdraftForInterestCalculation = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs,
-                            "minOverdraftForInterestCalculation");
-
-                    final BigDecimal minRequiredBalance = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "minRequiredBalance");
-                    final boolean enforceMinRequiredBalance = rs.getBoolean("enforceMinRequiredBalance");
-                    final BigDecimal maxAllowedLienLimit = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "maxAllowedLienLimit");
-                    final boolean lienAllowed = rs.getBoolean("lienAllowed");
-                    savingsAccountData = SavingsAccountData.instance(id, accountNo, depositType, externalId, null, null, null, null,
-                            productId, null, null, null, status, subStatus, null, timeline, currency, nominalAnnualInterestRate,
-                            interestCompoundingPeriodType, interestPostingPeriodType, interestCalculationType,
-                            interestCalculationDaysInYearType, minRequiredOpeningBalance, lockinPeriodFrequency, lockinPeriodFrequencyType,
-                            withdrawalFeeForTransfers, summary, allowOverdraft, overdraftLimit, minRequiredBalance,
-                            enforceMinRequiredBalance, maxAllowedLienLimit, lienAllowed, minBalanceForInterestCalculation, onHoldFunds,
-                            nominalAnnualInterestRateOverdraft, minOverdraftForInterestCalculation, withHoldTax, taxGroupData,
-                            lastActiveTransactionDate, isDormancyTrackingActive, daysToInactive, daysToDormancy, daysToEscheat,
-                            onHoldAmount);
-
-                    savingsAccountData.setClientData(clientData);
-                    savingsAccountData.setGroupGeneralData(groupGeneralData);
-                    savingsAccountData.setSavingsProduct(savingsProductData);
-                    savingsAccountData.setGlAccountIdForInterestOnSavings(glAccountIdForInterestOnSavings);
-                    savingsAccountData.setGlAccountIdForSavingsControl(glAccountIdForSavingsControl);
-                }
+            final SavingsAccountSummaryData summary = new SavingsAccountSummaryData(currency, totalDeposits, totalWithdrawals,
+                    totalWithdrawalFees, totalAnnualFees, totalInterestEarned, totalInterestPosted, accountBalance, totalFeeCharge,
+                    totalPenaltyCharge, totalOverdraftInterestDerived, totalWithholdTax, interestNotPosted,
+                    lastInterestCalculationDate, availableBalance, interestPostedTillDate);
+            summary.setPrevInterestPostedTillDate(interestPostedTillDate);
 
-                if (!transMap.containsValue(transactionId)) {
-
-                    final int transactionTypeInt = JdbcSupport.getInteger(rs, "transactionType");
-                    final SavingsAccountTransactionEnumData transactionType = SavingsEnumerations.transactionType(transactionTypeInt);
-
-                    final LocalDate date = JdbcSupport.getLocalDate(rs, "transactionDate");
-                    final LocalDate balanceEndDate = JdbcSupport.getLocalDate(rs, "balanceEndDate");
-                    final LocalDate transSubmittedOnDate = JdbcSupport.getLocalDate(rs, "transSubmittedOnDate");
-                    final BigDecimal amount = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "transactionAmount");
-                    final BigDecimal overdraftAmount = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "overdraftAmount");
-                    final BigDecimal outstandingChargeAmount = null;
-                    final BigDecimal runningBalance = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "runningBalance");
-                    final boolean reversed = rs.getBoolean("reversed");
-                    final Long officeId = rs.getLong("officeId");
-                    final BigDecimal cumulativeBalance = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "cumulativeBalance");
-
-                    final boolean postInterestAsOn = false;
-
-                    PaymentDetailData paymentDetailData = null;
-                    if (transactionType.isDepositOrWithdrawal()) {
-                        final Long paymentTypeId = JdbcSupport.getLong(rs, "paymentType");
-                        if (paymentTypeId != null) {
-                            final String typeName = rs.getString("paymentTypeName");
-                            final PaymentTypeData paymentTypeData = new PaymentTypeData(paymentTypeId, typeName, null, false, null, null,
-                                    false);
-                            paymentDetailData = new PaymentDetailData(id, paymentTypeData, null, null, null, null, null);
-                        }
-                    }
+            final boolean withHoldTax = rs.getBoolean("withHoldTax");
+            final Long taxGroupId = JdbcSupport.getLongDefaultToNullIfZero(rs, "taxGroupId");
+            TaxGroupData taxGroupData = null;
+            if (taxGroupId != null) {
+                taxGroupData = TaxGroupData.lookup(taxGroupId, null);
+            }
 
-                    savingsAccountTransactionData = SavingsAccountTransactionData.create(transactionId, transactionType, paymentDetailData,
-                            id, accountNo, date, currency, amount, outstandingChargeAmount, runningBalance, reversed, transSubmittedOnDate,
-                            postInterestAsOn, cumulativeBalance, balanceEndDate);
-                    savingsAccountTransactionData.setOverdraftAmount(overdraftAmount);
+            final BigDecimal nominalAnnualInterestRate = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs,
+                    "nominalAnnualInterestRate");
 
-                    transMap.put("id", transactionId);
-                    if (savingsAccountData.getOfficeId() == null) {
-                        savingsAccountData.setOfficeId(officeId);
-                    }
+            final EnumOptionData interestCompoundingPeriodType = SavingsEnumerations.compoundingInterestPeriodType(
+                    SavingsCompoundingInterestPeriodType.fromInt(JdbcSupport.getInteger(rs, "interestCompoundingPeriodType")));
 
-                    savingsAccountData.setSavingsAccountTransactionData(savingsAccountTransactionData);
-                }
+            final EnumOptionData interestPostingPeriodType = SavingsEnumerations.interestPostingPeriodType(
+                    SavingsPostingInterestPeriodType.fromInt(JdbcSupport.getInteger(rs, "interestPostingPeriodType")));
 
-                if (chargeId != null && !chargeDetails.containsValue(chargeId)) {
-                    final boolean isPenalty = rs.getBoolean("isPenaltyCharge");
-                    final BigDecimal chargeAmount = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "chargeAmount");
-                    final Integer chargesTimeType = rs.getInt("chargeTimeType");
-                    final EnumOptionData enumOptionDataForChargesTimeType = new EnumOptionData(chargesTimeType.longValue(), null, null);
-                    final SavingsAccountChargeData savingsAccountChargeData = new SavingsAccountChargeData(chargeId, chargeAmount,
-                            enumOptionDataForChargesTimeType, isPenalty);
-
-                    final Long chargesPaidById = rs.getLong("chargesPaidById");
-                    final BigDecimal chargesPaid = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "paidByAmount");
-                    final SavingsAccountChargesPaidByData savingsAccountChargesPaidByData = new SavingsAccountChargesPaidByData(
-                            chargesPaidById, chargesPaid);
-                    savingsAccountChargesPaidByData.setSavingsAccountChargeData(savingsAccountChargeData);
-                    if (savingsAccountChargesPaidByData != null) {
-                        savingsAccountTransactionData.setChargesPaidByData(savingsAccountChargesPaidByData);
-                    }
+            final EnumOptionData interestCalculationType = SavingsEnumerations.interestCalculationType(
+                    SavingsInterestCalculationType.fromInt(JdbcSupport.getInteger(rs, "interestCalculationType")));
+
+            final EnumOptionData interestCalculationDaysInYearType = SavingsEnumerations
+                    .interestCalculationDaysInYearType(SavingsInterestCalculationDaysInYearType
+                            .fromInt(JdbcSupport.getInteger(rs, "interestCalculationDaysInYearType")));
+
+            final BigDecimal minRequiredOpeningBalance = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs,
+                    "minRequiredOpeningBalance");
+
+            final Integer lockinPeriodFrequency = JdbcSupport.getInteger(rs, "lockinPeriodFrequency");
+            EnumOptionData lockinPeriodFrequencyType = null;
+            final Integer lockinPeriodFrequencyTypeValue = JdbcSupport.getInteger(rs, "lockinPeriodFrequencyType");
+            if (lockinPeriodFrequencyTypeValue != null) {
+                final SavingsPeriodFrequencyType lockinPeriodType = SavingsPeriodFrequencyType
+                        .fromInt(lockinPeriodFrequencyTypeValue);
+                lockinPeriodFrequencyType = SavingsEnumerations.lockinPeriodFrequencyType(lockinPeriodType);
+            }
+
+            final boolean withdrawalFeeForTransfers = rs.getBoolean("withdrawalFeeForTransfers");
+
+            final boolean allowOverdraft = rs.getBoolean("allowOverdraft");
+            final BigDecimal overdraftLimit = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "overdraftLimit");
+            final BigDecimal nominalAnnualInterestRateOverdraft = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs,
+                    "nominalAnnualInterestRateOverdraft");
+            final BigDecimal minOverdraftForInterestCalculation = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs,
+                    "minOverdraftForInterestCalculation");
+
+            final BigDecimal minRequiredBalance = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "minRequiredBalance");
+            final boolean enforceMinRequiredBalance = rs.getBoolean("enforceMinRequiredBalance");
+            final BigDecimal maxAllowedLienLimit = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "maxAllowedLienLimit");
+            final boolean lienAllowed = rs.getBoolean("lienAllowed");
+            final SavingsAccountData savingsAccountData = SavingsAccountData.instance(id, accountNo, depositType, externalId, null, null,
+                    null, null, productId, null, null, null, status, subStatus, null, timeline, currency, nominalAnnualInterestRate,
+                    interestCompoundingPeriodType, interestPostingPeriodType, interestCalculationType, interestCalculationDaysInYearType,
+                    minRequiredOpeningBalance, lockinPeriodFrequency, lockinPeriodFrequencyType, withdrawalFeeForTransfers, summary,
+                    allowOverdraft, overdraftLimit, minRequiredBalance, enforceMinRequiredBalance, maxAllowedLienLimit, lienAllowed,
+                    minBalanceForInterestCalculation, onHoldFunds, nominalAnnualInterestRateOverdraft, minOverdraftForInterestCalculation,
+                    withHoldTax, taxGroupData, lastActiveTransactionDate, isDormancyTrackingActive, daysToInactive, daysToDormancy,
+                    daysToEscheat, onHoldAmount);
+
+            savingsAccountData.setClientData(clientData);
+            savingsAccountData.setGroupGeneralData(groupGeneralData);
+            return savingsAccountData;
+        }
+    }
 
-                    chargeDetails.put("id", chargeId);
+    /**
+     * Adds the streamed transaction rows, together with their charges paid and tax details, to the accounts of the page.
+     * Rows of the same transaction are adjacent as the rows are ordered by account and transaction.
+     */
+    private static final class SavingsTransactionHandlerForInterestPosting implements RowCallbackHandler {
+
+        static final String SCHEMA;
+
+        static {
+            final StringBuilder sqlBuilder = new StringBuilder(400);
+            sqlBuilder.append("tr.savings_account_id as savingsAccountId, ");
+            sqlBuilder.append("tr.id as transactionId, tr.transaction_type_enum as transactionType, ");
+            sqlBuilder.append("tr.transaction_date as transactionDate, tr.amount as transactionAmount,");
+            sqlBuilder.append("tr.submitted_on_date as transSubmittedOnDate,tr.cumulative_balance_derived as cumulativeBalance,");
+            sqlBuilder.append("tr.running_balance_derived as runningBalance, tr.is_reversed as reversed,");
+            sqlBuilder.append("tr.balance_end_date_derived as balanceEndDate, tr.overdraft_amount_derived as overdraftAmount,");
+            sqlBuilder.append("tr.is_manual as manualTransaction,tr.office_id as officeId, ");
+            sqlBuilder.append("pd.payment_type_id as paymentType, pt.value as paymentTypeName, ");
+            sqlBuilder.append("msacpb.amount as paidByAmount, msacpb.id as chargesPaidById, ");
+            sqlBuilder.append(
+                    "msac.id as chargeId, msac.amount as chargeAmount, msac.charge_time_enum as chargeTimeType, msac.is_penalty as isPenaltyCharge, ");
+            sqlBuilder.append("txd.id as taxDetailsId, txd.amount as taxAmount, ");
+            sqlBuilder.append(
+                    "mtc.id as taxComponentId, mtc.debit_account_id as debitAccountId, mtc.credit_account_id as creditAccountId, mtc.percentage as taxPercentage ");
+            sqlBuilder.append("from m_savings_account_transaction tr ");
+            sqlBuilder.append("join m_savings_account sa on sa.id = tr.savings_account_id ");
+            sqlBuilder.append("left join m_payment_detail pd on pd.id = tr.payment_detail_id ");
+            sqlBuilder.append("left join m_payment_type pt on pt.id = pd.payment_type_id ");
+            sqlBuilder.append("left join m_savings_account_charge_paid_by msacpb on msacpb.savings_account_transaction_id = tr.id ");
+            sqlBuilder.append("left join m_savings_account_charge msac on msac.id = msacpb.savings_account_charge_id ");
+            sqlBuilder.append("left join m_savings_account_transaction_tax_details txd on txd.savings_transaction_id = tr.id ");
+            sqlBuilder.append("left join m_tax_component mtc on mtc.id = txd.tax_component_id ");
+            SCHEMA = sqlBuilder.toString();
+        }
+
+        private final Map<Long, SavingsAccountData> savingsAccountsById;
+        private final Set<Long> chargesPaidByIds = new HashSet<>();
+        private final Set<Long> taxDetailIds = new HashSet<>();
+        private Long transactionId;
+        private SavingsAccountTransactionData savingsAccountTransactionData;
+
+        SavingsTransactionHandlerForInterestPosting(final Map<Long, SavingsAccountData> savingsAccountsById) {
+            this.savingsAccountsById = savingsAccountsById;
+        }
+
+        @Override
+        public void processRow(final ResultSet rs) throws SQLException {
+            final Long transactionId = rs.getLong("transactionId");
+            if (!transactionId.equals(this.transactionId)) {
+                this.transactionId = transactionId;
+                this.chargesPaidByIds.clear();
+                this.taxDetailIds.clear();
+                final SavingsAccountData savingsAccountData = this.savingsAccountsById.get(rs.getLong("savingsAccountId"));
+                this.savingsAccountTransactionData = mapTransaction(rs, transactionId, savingsAccountData);
+                if (savingsAccountData.getOfficeId() == null) {
+                    savingsAccountData.setOfficeId(rs.getLong("officeId"));
                 }
+                savingsAccountData.setSavingsAccountTransactionData(this.savingsAccountTransactionData);
+            }
+
+            final Long chargesPaidById = JdbcSupport.getLongDefaultToNullIfZero(rs, "chargesPaidById");
+            if (chargesPaidById != null && this.chargesPaidByIds.add(chargesPaidById)) {
+                final Long chargeId = rs.getLong("chargeId");
+                final boolean isPenalty = rs.getBoolean("isPenaltyCharge");
+                final BigDecimal chargeAmount = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "chargeAmount");
+                final Integer chargesTimeType = rs.getInt("chargeTimeType");
+                final EnumOptionData enumOptionDataForChargesTimeType = new EnumOptionData(chargesTimeType.longValue(), null, null);
+                final SavingsAccountChargeData savingsAccountChargeData = new SavingsAccountChargeData(chargeId, chargeAmount,
+                        enumOptionDataForChargesTimeType, isPenalty);
+
+                final BigDecimal chargesPaid = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "paidByAmount");
+                final SavingsAccountChargesPaidByData savingsAccountChargesPaidByData = new SavingsAccountChargesPaidByData(
+                        chargesPaidById, chargesPaid);
+                savingsAccountChargesPaidByData.setSavingsAccountChargeData(savingsAccountChargeData);
+                this.savingsAccountTransactionData.setChargesPaidByData(savingsAccountChargesPaidByData);
+            }
 
-                if (taxDetailId != null && !taxDetails.containsValue(taxDetailId)) {
+            final Long taxDetailId = JdbcSupport.getLongDefaultToNullIfZero(rs, "taxDetailsId");
+            if (taxDetailId != null && this.taxDetailIds.add(taxDetailId)) {
+                final Long taxComponentId = JdbcSupport.getLongDefaultToNullIfZero(rs, "taxComponentId");
+                if (taxComponentId != null) {
                     final BigDecimal amount = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "taxAmount");
                     final BigDecimal percentage = JdbcSupport.getBigDecimalDefaultToNullIfZero(rs, "taxPercentage");
-                    final Long debitId = rs.getLong("debitAccountId");
-                    final Long creditId = rs.getLong("creditAccountId");
-                    final GLAccountData debitAccount = GLAccountData.createFrom(debitId);
-                    final GLAccountData creditAccount = GLAccountData.createFrom(creditId);
-
-                    if (taxComponentId != null) {
-                        final TaxComponentData taxComponent = TaxComponentData.createTaxComponent(taxComponentId, percentage, debitAccount,
-                                creditAccount);
-                        savingsAccountTransactionData.setTaxDetails(new TaxDetailsData(taxComponent, amount));
-                    }
-
-                    taxDetails.put("id", taxDetailId);
+                    final GLAccountData debitAccount = GLAccountData.createFrom(rs.getLong("debitAccountId"));
+                    final GLAccountData creditAccount = GLAccountData.createFrom(rs.getLong("creditAccountId"));
+                    final TaxComponentData taxComponent = TaxComponentData.createTaxComponent(taxComponentId, percentage, debitAccount,
+                            creditAccount);
+                    this.savingsAccountTransactionData.setTaxDetails(new TaxDetailsData(taxComponent, amount));
                 }
-
             }
-            if (savingsAccountData != null) {
-                savingsAccountDataList.add(savingsAccountData);
+        }
+
+        private static SavingsAccountTransactionData mapTransaction(final ResultSet rs, final Long transactionId,
+                final SavingsAccountData savingsAccountData) throws SQLException {
+            final int transactionTypeInt = JdbcSupport.getInteger(rs, "transactionType");
+            final SavingsAccountTransactionEnumData transactionType = SavingsEnumerations.transactionType(transactionTypeInt);
+
+            final LocalDate date = JdbcSupport.getLocalDate(rs, "transactionDate");
+            final LocalDate balanceEndDate = JdbcSupport.getLocalDate(rs, "balanceEndDate");
+            final LocalDate transSubmittedOnDate = JdbcSupport.getLocalDate(rs, "transSubmittedOnDate");
+            final BigDecimal amount = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "transactionAmount");
+            final BigDecimal overdraftAmount = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "overdraftAmount");
+            final BigDecimal outstandingChargeAmount = null;
+            final BigDecimal runningBalance = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "runningBalance");
+            final boolean reversed = rs.getBoolean("reversed");
+            final BigDecimal cumulativeBalance = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "cumulativeBalance");
+
+            final boolean postInterestAsOn = false;
+
+            PaymentDetailData paymentDetailData = null;
+            if (transactionType.isDepositOrWithdrawal()) {
+                final Long paymentTypeId = JdbcSupport.getLong(rs, "paymentType");
+                if (paymentTypeId != null) {
+                    final String typeName = rs.getString("paymentTypeName");
+                    final PaymentTypeData paymentTypeData = new PaymentTypeData(paymentTypeId, typeName, null, false, null, null, false);
+                    paymentDetailData = new PaymentDetailData(savingsAccountData.getId(), paymentTypeData, null, null, null, null, null);
+                }
             }
-            return savingsAccountDataList;
 
+            final SavingsAccountTransactionData savingsAccountTransactionData = SavingsAccountTransactionData.create(transactionId,
+                    transactionType, paymentDetailData, savingsAccountData.getId(), savingsAccountData.getAccountNo(), date,
+                    savingsAccountData.getCurrency(), amount, outstandingChargeAmount, runningBalance, reversed, transSubmittedOnDate,
+                    postInterestAsOn, cumulativeBalance, balanceEndDate);
+            savingsAccountTransactionData.setOverdraftAmount(overdraftAmount);
+            return savingsAccountTransactionData;
         }
     }
 
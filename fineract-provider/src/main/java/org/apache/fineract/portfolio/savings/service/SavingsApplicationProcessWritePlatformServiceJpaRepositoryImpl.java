@@ -19,6 +19,8 @@
 package org.apache.fineract.portfolio.savings.service;
 
 import static org.apache.fineract.portfolio.savings.SavingsApiConstants.SAVINGS_ACCOUNT_RESOURCE_NAME;
+import org.apache.fineract.portfolio.search.service.SearchIndexEntityType;
+import org.apache.fineract.portfolio.search.service.SearchIndexWriter;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -113,6 +115,7 @@ public class SavingsApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
     private final GSIMRepositoy gsimRepository;
     private final GroupRepositoryWrapper groupRepositoryWrapper;
     private final GroupSavingsIndividualMonitoringWritePlatformService gsimWritePlatformService;
+    private final SearchIndexWriter searchIndexWriter;
 
     @Transactional
     @Override
@@ -225,6 +228,7 @@ public class SavingsApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
             }
             // end of gsim
             final Long savingsId = account.getId();
+            this.searchIndexWriter.index(SearchIndexEntityType.SAVING, savingsId);
             if (command.parameterExists(SavingsApiConstants.datatables)) {
                 this.entityDatatableChecksWritePlatformService.saveDatatables(StatusEnum.CREATE.getValue(), EntityTables.SAVINGS.getName(),
                         savingsId, account.productId(), command.arrayOfParameterNamed(SavingsApiConstants.datatables));
@@ -352,6 +356,7 @@ public class SavingsApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
                 }
 
                 this.savingAccountRepository.saveAndFlush(account);
+                this.searchIndexWriter.index(SearchIndexEntityType.SAVING, savingsId);
             }
 
             return new CommandProcessingResultBuilder() //
@@ -397,6 +402,7 @@ public class SavingsApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
         this.noteRepository.deleteAllInBatch(relatedNotes);
 
         this.savingAccountRepository.delete(account);
+        this.searchIndexWriter.index(SearchIndexEntityType.SAVING, savingsId);
 
         return new CommandProcessingResultBuilder() //
                 .withEntityId(savingsId) //
@@ -670,6 +676,7 @@ public class SavingsApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
         this.savingAccountRepository.saveAndFlush(account);
 
         generateAccountNumber(account);
+        this.searchIndexWriter.index(SearchIndexEntityType.SAVING, account.getId());
         // post journal entries for activation charges
         this.savingsAccountDomainService.postJournalEntries(account, existingTransactionIds, existingReversedTransactionIds, false);
 
@@ -0,0 +1,49 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.jobs.rebuildsearchindex;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.portfolio.search.service.SearchIndexService;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+/**
+ * Rebuilds the search index entries of all the entities one batch per transaction, which also repairs the entries
+ * missed by writes that bypassed the write paths, e.g. data migrations.
+ */
+@RequiredArgsConstructor
+public class RebuildSearchIndexTasklet implements Tasklet {
+
+    private static final String STARTED = "searchIndexRebuildStarted";
+
+    private final SearchIndexService searchIndexService;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        final ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        if (!executionContext.containsKey(STARTED)) {
+            searchIndexService.startRebuild();
+            executionContext.put(STARTED, Boolean.TRUE);
+        }
+        return searchIndexService.rebuildNextBatch() ? RepeatStatus.CONTINUABLE : RepeatStatus.FINISHED;
+    }
+}
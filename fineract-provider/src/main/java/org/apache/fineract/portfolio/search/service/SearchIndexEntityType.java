@@ -0,0 +1,62 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * The entities covered by the search index, with the columns searched by {@link SearchReadPlatformService}.
+ */
+@Getter
+public enum SearchIndexEntityType {
+
+    CLIENT(1, "m_client", "account_no", "display_name", "external_id", "mobile_no"), //
+    LOAN(2, "m_loan", "account_no", "external_id"), //
+    SAVING(3, "m_savings_account", "account_no", "external_id"), //
+    SHARE(4, "m_share_account", "account_no", "external_id"), //
+    CLIENT_IDENTIFIER(5, "m_client_identifier", "document_key"), //
+    GROUP(6, "m_group", "account_no", "display_name", "external_id");
+
+    private final int value;
+    private final String tableName;
+    private final List<String> columns;
+
+    SearchIndexEntityType(final int value, final String tableName, final String... columns) {
+        this.value = value;
+        this.tableName = tableName;
+        this.columns = List.of(columns);
+    }
+
+    public static SearchIndexEntityType fromInt(final int value) {
+        for (SearchIndexEntityType type : values()) {
+            if (type.value == value) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown search index entity type: " + value);
+    }
+
+    /**
+     * The select of the id and the searched columns of the entities, to be completed with a where clause.
+     */
+    public String getSelectSql() {
+        return "select id, " + String.join(", ", columns) + " from " + tableName + " ";
+    }
+}
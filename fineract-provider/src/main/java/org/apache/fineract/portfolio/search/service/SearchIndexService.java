@@ -0,0 +1,42 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import java.util.Set;
+
+public interface SearchIndexService {
+
+    /**
+     * @return the entity types whose index entries were built for all the existing entities at least once, only these
+     *         can be searched through the index
+     */
+    Set<SearchIndexEntityType> retrieveBuiltEntityTypes();
+
+    /**
+     * Starts a rebuild of the index entries of the entity types which are not being rebuilt already.
+     */
+    void startRebuild();
+
+    /**
+     * Rebuilds the index entries of the next batch of entities.
+     *
+     * @return false when the rebuild is complete
+     */
+    boolean rebuildNextBatch();
+}
@@ -0,0 +1,91 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Tracks the rebuild of the search index per entity type in <code>m_search_index_build</code>. The
+ * <code>last_entity_id</code> of an entity type is set while it is being rebuilt, so an interrupted rebuild continues
+ * where it stopped, and <code>built</code> is set once the first rebuild completes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexServiceImpl implements SearchIndexService {
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchIndexWriter searchIndexWriter;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final FineractProperties fineractProperties;
+
+    @Override
+    public Set<SearchIndexEntityType> retrieveBuiltEntityTypes() {
+        final List<Integer> values = jdbcTemplate.queryForList("select entity_type_enum from m_search_index_build where built = ?",
+                Integer.class, Boolean.TRUE);
+        final Set<SearchIndexEntityType> entityTypes = EnumSet.noneOf(SearchIndexEntityType.class);
+        values.forEach(value -> entityTypes.add(SearchIndexEntityType.fromInt(value)));
+        return entityTypes;
+    }
+
+    @Override
+    public void startRebuild() {
+        jdbcTemplate.update("update m_search_index_build set last_entity_id = 0 where last_entity_id is null");
+    }
+
+    @Override
+    public boolean rebuildNextBatch() {
+        final List<RebuildState> states = jdbcTemplate.query("select entity_type_enum, last_entity_id from m_search_index_build "
+                + "where last_entity_id is not null order by entity_type_enum " + sqlGenerator.limit(1),
+                (rs, rowNum) -> new RebuildState(SearchIndexEntityType.fromInt(rs.getInt("entity_type_enum")),
+                        rs.getLong("last_entity_id")));
+        if (states.isEmpty()) {
+            return false;
+        }
+        final RebuildState state = states.get(0);
+        final Long lastEntityId = searchIndexWriter.reindexAfter(state.entityType(), state.lastEntityId(), getBatchSize());
+        if (lastEntityId == null) {
+            jdbcTemplate.update("update m_search_index_build set last_entity_id = null, built = ? where entity_type_enum = ?", Boolean.TRUE,
+                    state.entityType().getValue());
+            log.info("Rebuilt the search index entries of the {} entities", state.entityType());
+        } else {
+            jdbcTemplate.update("update m_search_index_build set last_entity_id = ? where entity_type_enum = ?", lastEntityId,
+                    state.entityType().getValue());
+        }
+        return true;
+    }
+
+    private int getBatchSize() {
+        final int batchSize = fineractProperties.getJob() == null ? 0 : fineractProperties.getJob().getSearchIndexRebuildBatchSize();
+        return batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+    }
+
+    private record RebuildState(SearchIndexEntityType entityType, long lastEntityId) {
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Splits the searched values and the search terms into hashed trigrams. The values are lower cased and stripped of
+ * accents first, so a term matching a value with a case and accent insensitive <code>LIKE</code> shares all its trigrams
+ * with the value. The trigrams only narrow down the candidates, the <code>LIKE</code> is still applied to them, so hash
+ * collisions are harmless.
+ */
+public final class SearchIndexTrigrams {
+
+    public static final int TRIGRAM_LENGTH = 3;
+
+    /**
+     * Upper bound of the trigrams a term is looked up with, the rarest ones already narrow the candidates down to a few
+     * rows and every further trigram only makes the index group more rows.
+     */
+    public static final int MAX_QUERY_TRIGRAMS = 3;
+
+    private static final char PADDING_DIGIT = '0';
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private SearchIndexTrigrams() {}
+
+    /**
+     * @return whether the term is long enough to be looked up with trigrams and has no <code>LIKE</code> wildcards
+     */
+    public static boolean isSearchable(final String term) {
+        return term != null && StringUtils.containsNone(term, '%', '_', '\\') && !queryHashes(term).isEmpty();
+    }
+
+    public static Set<Integer> hashes(final String term) {
+        final Set<Integer> hashes = new TreeSet<>();
+        addHashes(term, hashes);
+        return hashes;
+    }
+
+    /**
+     * Picks the trigrams a term is looked up with. Trigrams made only of padding zeros are shared by nearly every
+     * zero-padded account number, so they are dropped, and of the remaining ones the trigrams with the fewest zeros
+     * are preferred, the ones towards the end of the term first as that is where account numbers differ. The
+     * <code>LIKE</code> still filters the candidates, so leaving trigrams out never loses a match.
+     *
+     * @return the hashes of at most {@link #MAX_QUERY_TRIGRAMS} trigrams of the term, empty if none of them is selective
+     */
+    public static Set<Integer> queryHashes(final String term) {
+        if (term == null) {
+            return Set.of();
+        }
+        final String normalized = normalize(term);
+        final List<String> trigrams = new ArrayList<>();
+        for (int i = normalized.length() - TRIGRAM_LENGTH; i >= 0; i--) {
+            final String trigram = normalized.substring(i, i + TRIGRAM_LENGTH);
+            if (StringUtils.containsOnly(trigram, PADDING_DIGIT) || trigrams.contains(trigram)) {
+                continue;
+            }
+            trigrams.add(trigram);
+        }
+        // stable sort, so equally padded trigrams keep their end of the term first order
+        trigrams.sort(Comparator.comparingInt(trigram -> StringUtils.countMatches(trigram, PADDING_DIGIT)));
+        final Set<Integer> hashes = new LinkedHashSet<>();
+        for (String trigram : trigrams.subList(0, Math.min(MAX_QUERY_TRIGRAMS, trigrams.size()))) {
+            hashes.add(trigram.hashCode());
+        }
+        return hashes;
+    }
+
+    public static Set<Integer> hashes(final Collection<String> values) {
+        final Set<Integer> hashes = new TreeSet<>();
+        for (String value : values) {
+            addHashes(value, hashes);
+        }
+        return hashes;
+    }
+
+    private static void addHashes(final String value, final Set<Integer> hashes) {
+        if (value == null) {
+            return;
+        }
+        final String normalized = normalize(value);
+        for (int i = 0; i + TRIGRAM_LENGTH <= normalized.length(); i++) {
+            hashes.add(normalized.substring(i, i + TRIGRAM_LENGTH).hashCode());
+        }
+    }
+
+    private static String normalize(final String value) {
+        return COMBINING_MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFKD)).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.service.TransactionBoundBuffer;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maintains <code>m_search_index</code>, the hashed trigrams of the searched columns of every client, loan, savings
+ * account, share account, client identifier and group.
+ * <p>
+ * The write paths only note which entities they changed. Right before the transaction commits the persistence context
+ * is flushed and the index entries of those entities are rebuilt from their stored columns with one query and one JDBC
+ * batch per entity type, so every change made within the transaction is picked up, whichever code made it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexWriter {
+
+    private static final String INSERT_SQL = "insert into m_search_index (entity_type_enum, trigram_hash, entity_id) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final TransactionBoundBuffer<Set<PendingEntity>> pendingEntities = new TransactionBoundBuffer<>(this,
+            TransactionBoundBuffer.SEARCH_INDEX_ORDER, LinkedHashSet::new, this::writePending);
+
+    private EntityManager entityManager;
+
+    /**
+     * Updates the index entries of the created, changed or deleted entity when the current transaction commits.
+     */
+    public void index(final SearchIndexEntityType type, final Long entityId) {
+        if (entityId == null) {
+            return;
+        }
+        pendingEntities.add(entities -> entities.add(new PendingEntity(type, entityId)));
+    }
+
+    /**
+     * Rebuilds the index entries of the given entities right away, the ones of deleted entities are removed.
+     */
+    public void reindex(final SearchIndexEntityType type, final Collection<Long> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        final MapSqlParameterSource params = new MapSqlParameterSource("type", type.getValue()).addValue("ids", entityIds);
+        namedParameterJdbcTemplate.update("delete from m_search_index where entity_type_enum = :type and entity_id in (:ids)", params);
+        write(type, namedParameterJdbcTemplate.query(type.getSelectSql() + "where id in (:ids)", params, indexedEntityMapper(type)));
+    }
+
+    /**
+     * Rebuilds the index entries of the next entities in the order of their ids.
+     *
+     * @return the id of the last entity reindexed, or null when there are no more entities after it
+     */
+    public Long reindexAfter(final SearchIndexEntityType type, final long afterEntityId, final int batchSize) {
+        final List<IndexedEntity> entities = jdbcTemplate.query(
+                type.getSelectSql() + "where id > ? order by id " + sqlGenerator.limit(batchSize), indexedEntityMapper(type),
+                afterEntityId);
+        if (entities.size() < batchSize) {
+            // also removes the entries of the entities deleted after the last one
+            jdbcTemplate.update("delete from m_search_index where entity_type_enum = ? and entity_id > ?", type.getValue(), afterEntityId);
+            write(type, entities);
+            return null;
+        }
+        final Long lastEntityId = entities.get(entities.size() - 1).entityId();
+        jdbcTemplate.update("delete from m_search_index where entity_type_enum = ? and entity_id > ? and entity_id <= ?", type.getValue(),
+                afterEntityId, lastEntityId);
+        write(type, entities);
+        return lastEntityId;
+    }
+
+    private void write(final SearchIndexEntityType type, final List<IndexedEntity> entities) {
+        final List<Object[]> batchArgs = new ArrayList<>();
+        for (IndexedEntity entity : entities) {
+            for (Integer trigramHash : entity.trigramHashes()) {
+                batchArgs.add(new Object[] { type.getValue(), trigramHash, entity.entityId() });
+            }
+        }
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+        // in the order of the primary key, so concurrent writers lock the index entries in the same order
+        batchArgs.sort(Comparator.<Object[], Integer>comparing(args -> (Integer) args[1]).thenComparing(args -> (Long) args[2]));
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+        log.debug("Written {} search index entries of {} {} entities", batchArgs.size(), entities.size(), type);
+    }
+
+    private RowMapper<IndexedEntity> indexedEntityMapper(final SearchIndexEntityType type) {
+        return (rs, rowNum) -> {
+            final List<String> values = new ArrayList<>(type.getColumns().size());
+            for (String column : type.getColumns()) {
+                values.add(rs.getString(column));
+            }
+            return new IndexedEntity(rs.getLong("id"), SearchIndexTrigrams.hashes(values));
+        };
+    }
+
+    private void writePending(final Set<PendingEntity> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        if (entityManager != null && entityManager.isJoinedToTransaction()) {
+            entityManager.flush();
+        }
+        final Map<SearchIndexEntityType, List<Long>> entityIds = new LinkedHashMap<>();
+        for (PendingEntity pendingEntity : pending) {
+            entityIds.computeIfAbsent(pendingEntity.type(), type -> new ArrayList<>()).add(pendingEntity.entityId());
+        }
+        pending.clear();
+        entityIds.forEach(this::reindex);
+    }
+
+    @PersistenceContext
+    public void setEntityManager(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    private record IndexedEntity(Long entityId, Set<Integer> trigramHashes) {
+    }
+
+    private record PendingEntity(SearchIndexEntityType type, Long entityId) {
+    }
+}
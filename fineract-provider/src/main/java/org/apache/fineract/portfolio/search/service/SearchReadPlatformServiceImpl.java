@@ -22,6 +22,7 @@ import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
@@ -56,6 +57,7 @@ public class SearchReadPlatformServiceImpl implements SearchReadPlatformService
     private final LoanProductReadPlatformService loanProductReadPlatformService;
     private final OfficeReadPlatformService officeReadPlatformService;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final SearchIndexService searchIndexService;
 
     @Override
     public Collection<SearchData> retriveMatchingData(final SearchConditions searchConditions) {
@@ -66,47 +68,66 @@ public class SearchReadPlatformServiceImpl implements SearchReadPlatformService
 
         final MapSqlParameterSource params = new MapSqlParameterSource();
         params.addValue("hierarchy", hierarchy + "%");
+        Set<SearchIndexEntityType> indexedTypes = Set.of();
         if (searchConditions.getExactMatch()) {
             params.addValue("search", searchConditions.getSearchQuery());
         } else {
             params.addValue("search", "%" + searchConditions.getSearchQuery() + "%");
+            if (SearchIndexTrigrams.isSearchable(searchConditions.getSearchQuery())) {
+                // the index only narrows down the candidates with the rarest trigrams of the term, the like conditions are
+                // still applied to them
+                final Set<Integer> trigrams = SearchIndexTrigrams.queryHashes(searchConditions.getSearchQuery());
+                params.addValue("trigrams", trigrams);
+                params.addValue("trigramCount", trigrams.size());
+                indexedTypes = searchIndexService.retrieveBuiltEntityTypes();
+            }
         }
-        return namedParameterJdbcTemplate.query(searchSchema(searchConditions), params, rm);
+        return namedParameterJdbcTemplate.query(searchSchema(searchConditions, indexedTypes), params, rm);
     }
 
-    public String searchSchema(final SearchConditions searchConditions) {
+    /**
+     * @param indexedTypes
+     *            the entity types to look up in the search index, the other ones are matched by scanning their table
+     */
+    public String searchSchema(final SearchConditions searchConditions, final Set<SearchIndexEntityType> indexedTypes) {
 
         final String union = " union ";
         final String clientMatchSql = "( (select 'CLIENT' as entityType, c.id as entityId, c.display_name as entityName, c.external_id as entityExternalId, c.account_no as entityAccountNo "
                 + " , c.office_id as parentId, o.name as parentName, c.mobile_no as entityMobileNo,c.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
-                + " from m_client c join m_office o on o.id = c.office_id where o.hierarchy like :hierarchy and (c.account_no like :search or c.display_name like :search or c.external_id like :search or c.mobile_no like :search)) "
+                + " from m_client c join m_office o on o.id = c.office_id where "
+                + indexCondition(SearchIndexEntityType.CLIENT, "c", indexedTypes) + "o.hierarchy like :hierarchy and (c.account_no like :search or c.display_name like :search or c.external_id like :search or c.mobile_no like :search)) "
                 + " order by c.id desc)";
 
         final String loanMatchSql = "( (select 'LOAN' as entityType, l.id as entityId, pl.name as entityName, l.external_id as entityExternalId, l.account_no as entityAccountNo "
                 + " , coalesce(c.id,g.id) as parentId, coalesce(c.display_name,g.display_name) as parentName, null as entityMobileNo, l.loan_status_id as entityStatusEnum, null as subEntityType, CASE WHEN g.id is null THEN 'client' ELSE 'group' END as parentType "
-                + " from m_loan l left join m_client c on l.client_id = c.id left join m_group g ON l.group_id = g.id left join m_office o on o.id = c.office_id left join m_product_loan pl on pl.id=l.product_id where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (l.account_no like :search or l.external_id like :search)) "
+                + " from m_loan l left join m_client c on l.client_id = c.id left join m_group g ON l.group_id = g.id left join m_office o on o.id = c.office_id left join m_product_loan pl on pl.id=l.product_id where "
+                + indexCondition(SearchIndexEntityType.LOAN, "l", indexedTypes) + "(o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (l.account_no like :search or l.external_id like :search)) "
                 + " order by l.id desc)";
 
         final String savingMatchSql = "( (select 'SAVING' as entityType, s.id as entityId, sp.name as entityName, s.external_id as entityExternalId, s.account_no as entityAccountNo "
                 + " , coalesce(c.id,g.id) as parentId, coalesce(c.display_name, g.display_name) as parentName, null as entityMobileNo, s.status_enum as entityStatusEnum, concat(s.deposit_type_enum, '') as subEntityType, CASE WHEN g.id is null THEN 'client' ELSE 'group' END as parentType "
                 + " from m_savings_account s left join m_client c on s.client_id = c.id left join m_group g ON s.group_id = g.id left join m_office o on o.id = c.office_id left join m_savings_product sp on sp.id=s.product_id "
-                + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (s.account_no like :search or s.external_id like :search)) "
+                + " where " + indexCondition(SearchIndexEntityType.SAVING, "s", indexedTypes)
+                + "(o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (s.account_no like :search or s.external_id like :search)) "
                 + " order by s.id desc)";
 
         final String shareMatchSql = "( (select 'SHARE' as entityType, s.id as entityId, sp.name as entityName, s.external_id as entityExternalId, s.account_no as entityAccountNo "
                 + " , c.id as parentId, c.display_name as parentName, null as entityMobileNo, s.status_enum as entityStatusEnum, null as subEntityType, 'client' as parentType "
                 + " from m_share_account s left join m_client c on s.client_id = c.id left join m_office o on o.id = c.office_id left join m_share_product sp on sp.id=s.product_id "
-                + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (s.account_no like :search or s.external_id like :search)) "
+                + " where " + indexCondition(SearchIndexEntityType.SHARE, "s", indexedTypes)
+                + "(o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (s.account_no like :search or s.external_id like :search)) "
                 + " order by s.id desc)";
 
         final String clientIdentifierMatchSql = "( (select 'CLIENTIDENTIFIER' as entityType, ci.id as entityId, ci.document_key as entityName, "
                 + " null as entityExternalId, null as entityAccountNo, c.id as parentId, c.display_name as parentName,null as entityMobileNo, c.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
                 + " from m_client_identifier ci join m_client c on ci.client_id=c.id join m_office o on o.id = c.office_id "
-                + " where o.hierarchy like :hierarchy and ci.document_key like :search ) " + " order by ci.id desc)";
+                + " where " + indexCondition(SearchIndexEntityType.CLIENT_IDENTIFIER, "ci", indexedTypes)
+                + "o.hierarchy like :hierarchy and ci.document_key like :search ) " + " order by ci.id desc)";
 
         final String groupMatchSql = "( (select CASE WHEN g.level_id=1 THEN 'CENTER' ELSE 'GROUP' END as entityType, g.id as entityId, g.display_name as entityName, g.external_id as entityExternalId, g.account_no as entityAccountNo, "
                 + " g.office_id as parentId, o.name as parentName, null as entityMobileNo, g.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
-                + " from m_group g join m_office o on o.id = g.office_id where o.hierarchy like :hierarchy and (g.account_no like :search or g.display_name like :search or g.external_id like :search )) "
+                + " from m_group g join m_office o on o.id = g.office_id where "
+                + indexCondition(SearchIndexEntityType.GROUP, "g", indexedTypes) + "o.hierarchy like :hierarchy and (g.account_no like :search or g.display_name like :search or g.external_id like :search )) "
                 + " order by g.id desc)";
 
         final StringBuilder sql = new StringBuilder();
@@ -143,6 +164,15 @@ public class SearchReadPlatformServiceImpl implements SearchReadPlatformService
         return sql.toString();
     }
 
+    private static String indexCondition(final SearchIndexEntityType type, final String alias,
+            final Set<SearchIndexEntityType> indexedTypes) {
+        if (!indexedTypes.contains(type)) {
+            return "";
+        }
+        return alias + ".id in (select entity_id from m_search_index where entity_type_enum = " + type.getValue()
+                + " and trigram_hash in (:trigrams) group by entity_id having count(*) = :trigramCount) and ";
+    }
+
     private static final class SearchMapper implements RowMapper<SearchData> {
 
         @Override
@@ -31,6 +31,7 @@ import org.apache.fineract.infrastructure.core.data.CommandProcessingResultBuild
 import org.apache.fineract.infrastructure.core.exception.ErrorHandler;
 import org.apache.fineract.infrastructure.core.exception.PlatformDataIntegrityException;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.infrastructure.security.service.VerifiedCredentialCache;
 import org.apache.fineract.useradministration.command.PermissionsCommand;
 import org.apache.fineract.useradministration.domain.Permission;
 import org.apache.fineract.useradministration.domain.PermissionRepository;
@@ -55,6 +56,7 @@ public class RoleWritePlatformServiceJpaRepositoryImpl implements RoleWritePlatf
     private final PermissionRepository permissionRepository;
     private final RoleDataValidator roleCommandFromApiJsonDeserializer;
     private final PermissionsCommandFromApiJsonDeserializer permissionsFromApiJsonDeserializer;
+    private final VerifiedCredentialCache verifiedCredentialCache;
 
     @Transactional
     @Override
@@ -112,6 +114,7 @@ public class RoleWritePlatformServiceJpaRepositoryImpl implements RoleWritePlatf
             final Map<String, Object> changes = role.update(command);
             if (!changes.isEmpty()) {
                 this.roleRepository.saveAndFlush(role);
+                this.verifiedCredentialCache.invalidate();
             }
 
             return new CommandProcessingResultBuilder() //
@@ -161,6 +164,7 @@ public class RoleWritePlatformServiceJpaRepositoryImpl implements RoleWritePlatf
         if (!changedPermissions.isEmpty()) {
             changes.put("permissions", changedPermissions);
             this.roleRepository.saveAndFlush(role);
+            this.verifiedCredentialCache.invalidate();
         }
 
         return new CommandProcessingResultBuilder() //
@@ -237,6 +241,7 @@ public class RoleWritePlatformServiceJpaRepositoryImpl implements RoleWritePlatf
              */
             role.disableRole();
             this.roleRepository.saveAndFlush(role);
+            this.verifiedCredentialCache.invalidate();
             return new CommandProcessingResultBuilder().withEntityId(roleId).build();
 
         } catch (final JpaSystemException | DataIntegrityViolationException e) {
@@ -260,6 +265,7 @@ public class RoleWritePlatformServiceJpaRepositoryImpl implements RoleWritePlatf
 
             role.enableRole();
             this.roleRepository.saveAndFlush(role);
+            this.verifiedCredentialCache.invalidate();
             return new CommandProcessingResultBuilder().withEntityId(roleId).build();
 
         } catch (final JpaSystemException | DataIntegrityViolationException e) {
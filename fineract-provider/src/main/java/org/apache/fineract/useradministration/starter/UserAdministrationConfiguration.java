@@ -21,6 +21,7 @@ package org.apache.fineract.useradministration.starter;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.security.service.PlatformPasswordEncoder;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.infrastructure.security.service.VerifiedCredentialCache;
 import org.apache.fineract.organisation.office.domain.OfficeRepositoryWrapper;
 import org.apache.fineract.organisation.office.service.OfficeReadPlatformService;
 import org.apache.fineract.organisation.staff.domain.StaffRepositoryWrapper;
@@ -75,10 +76,10 @@ public class UserAdministrationConfiguration {
             PlatformPasswordEncoder platformPasswordEncoder, AppUserRepository appUserRepository,
             OfficeRepositoryWrapper officeRepositoryWrapper, RoleRepository roleRepository, UserDataValidator fromApiJsonDeserializer,
             AppUserPreviousPasswordRepository appUserPreviewPasswordRepository, StaffRepositoryWrapper staffRepositoryWrapper,
-            ClientRepositoryWrapper clientRepositoryWrapper) {
+            ClientRepositoryWrapper clientRepositoryWrapper, VerifiedCredentialCache verifiedCredentialCache) {
         return new AppUserWritePlatformServiceJpaRepositoryImpl(context, userDomainService, platformPasswordEncoder, appUserRepository,
                 officeRepositoryWrapper, roleRepository, fromApiJsonDeserializer, appUserPreviewPasswordRepository, staffRepositoryWrapper,
-                clientRepositoryWrapper);
+                clientRepositoryWrapper, verifiedCredentialCache);
     }
 
     @Bean
@@ -105,8 +106,10 @@ public class UserAdministrationConfiguration {
     @Bean
     @ConditionalOnMissingBean(PermissionWritePlatformService.class)
     public PermissionWritePlatformService permissionWritePlatformService(PlatformSecurityContext context,
-            PermissionRepository permissionRepository, PermissionsCommandFromApiJsonDeserializer fromApiJsonDeserializer) {
-        return new PermissionWritePlatformServiceJpaRepositoryImpl(context, permissionRepository, fromApiJsonDeserializer);
+            PermissionRepository permissionRepository, PermissionsCommandFromApiJsonDeserializer fromApiJsonDeserializer,
+            VerifiedCredentialCache verifiedCredentialCache) {
+        return new PermissionWritePlatformServiceJpaRepositoryImpl(context, permissionRepository, fromApiJsonDeserializer,
+                verifiedCredentialCache);
     }
 
     @Bean
@@ -119,8 +122,8 @@ public class UserAdministrationConfiguration {
     @ConditionalOnMissingBean(RoleWritePlatformService.class)
     public RoleWritePlatformService roleWritePlatformService(PlatformSecurityContext context, RoleRepository roleRepository,
             PermissionRepository permissionRepository, RoleDataValidator roleCommandFromApiJsonDeserializer,
-            PermissionsCommandFromApiJsonDeserializer permissionsFromApiJsonDeserializer) {
+            PermissionsCommandFromApiJsonDeserializer permissionsFromApiJsonDeserializer, VerifiedCredentialCache verifiedCredentialCache) {
         return new RoleWritePlatformServiceJpaRepositoryImpl(context, roleRepository, permissionRepository,
-                roleCommandFromApiJsonDeserializer, permissionsFromApiJsonDeserializer);
+                roleCommandFromApiJsonDeserializer, permissionsFromApiJsonDeserializer, verifiedCredentialCache);
     }
 }
@@ -0,0 +1,217 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.fineract.accounting.closure.domain.GLClosureRepository;
+import org.apache.fineract.accounting.common.AccountingConstants.AccrualAccountsForLoan;
+import org.apache.fineract.accounting.glaccount.domain.GLAccount;
+import org.apache.fineract.accounting.glaccount.domain.GLAccountRepository;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntryRepository;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.business.domain.journalentry.LoanJournalEntryCreatedBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.apache.fineract.organisation.office.domain.OfficeRepository;
+import org.apache.fineract.portfolio.PortfolioProductType;
+import org.apache.fineract.portfolio.account.service.AccountTransfersReadPlatformService;
+import org.apache.fineract.portfolio.client.domain.ClientTransactionRepository;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionRepository;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Books journal entries the way the Loan COB does on the settlement day of an owner transfer: an earlier business step
+ * posts an accrual, then the owner transfer step changes the owner of the loan within the same transaction.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AccountingProcessorHelperOwnerTransferTest {
+
+    private static final Long LOAN_ID = 9L;
+    private static final Long LOAN_PRODUCT_ID = 1L;
+
+    @Mock
+    private JournalEntryRepository glJournalEntryRepository;
+    @Mock
+    private AccountingReferenceDataCache accountingReferenceDataCache;
+    @Mock
+    private GLClosureRepository closureRepository;
+    @Mock
+    private GLAccountRepository glAccountRepository;
+    @Mock
+    private OfficeRepository officeRepository;
+    @Mock
+    private LoanTransactionRepository loanTransactionRepository;
+    @Mock
+    private ClientTransactionRepository clientTransactionRepository;
+    @Mock
+    private SavingsAccountTransactionRepository savingsAccountTransactionRepository;
+    @Mock
+    private AccountTransfersReadPlatformService accountTransfersReadPlatformService;
+    @Mock
+    private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private GLDailyBalanceWriter glDailyBalanceWriter;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private AuditorAware<Long> auditorAware;
+    @Mock
+    private Office office;
+    @Mock
+    private GLAccount glAccount;
+
+    // the owner of the loan as the investor module sees it, changed by the owner transfer step
+    private final AtomicReference<String> owner = new AtomicReference<>();
+    // the owner the loan had when the created event of each journal entry was raised
+    private final List<String> ownersAtEvent = new ArrayList<>();
+    private boolean openTransfer;
+    private BulkJournalEntryWriter bulkJournalEntryWriter;
+    private AccountingProcessorHelper helper;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 1, 1))));
+        when(auditorAware.getCurrentAuditor()).thenReturn(Optional.of(1L));
+        when(office.getId()).thenReturn(1L);
+        when(glAccount.getId()).thenReturn(2L);
+        when(accountingReferenceDataCache.getProductGLAccountId(PortfolioProductType.LOAN, LOAN_PRODUCT_ID,
+                AccrualAccountsForLoan.INTEREST_RECEIVABLE.getValue())).thenReturn(2L);
+        when(glAccountRepository.getReferenceById(2L)).thenReturn(glAccount);
+        when(glJournalEntryRepository.saveAndFlush(any(JournalEntry.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(sqlGenerator.fetchPKs(any(GeneratedKeyHolder.class))).thenReturn(List.of(11L));
+        doAnswer(invocation -> ownersAtEvent.add(owner.get())).when(businessEventNotifierService)
+                .notifyPostBusinessEvent(any(LoanJournalEntryCreatedBusinessEvent.class));
+
+        bulkJournalEntryWriter = new BulkJournalEntryWriter(jdbcTemplate, sqlGenerator, auditorAware, businessEventNotifierService,
+                List.of(loanId -> openTransfer));
+        helper = new AccountingProcessorHelper(glJournalEntryRepository, accountingReferenceDataCache, closureRepository,
+                glAccountRepository, officeRepository, loanTransactionRepository, clientTransactionRepository,
+                savingsAccountTransactionRepository, accountTransfersReadPlatformService, businessEventNotifierService,
+                bulkJournalEntryWriter, glDailyBalanceWriter);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.unbindResourceIfPossible(bulkJournalEntryWriter);
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testAccrualOnSaleDayIsNotBookedToTheNewOwner() {
+        openTransfer = true;
+        startTransaction();
+
+        bookAccrual();
+        owner.set("new-owner");
+        commit();
+
+        Assertions.assertEquals(Collections.singletonList(null), ownersAtEvent);
+        verify(glJournalEntryRepository).saveAndFlush(any(JournalEntry.class));
+        verify(jdbcTemplate, never()).batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(GeneratedKeyHolder.class));
+    }
+
+    @Test
+    public void testAccrualOnBuybackDayKeepsThePreviousOwner() {
+        openTransfer = true;
+        owner.set("previous-owner");
+        startTransaction();
+
+        bookAccrual();
+        owner.set(null);
+        commit();
+
+        Assertions.assertEquals(List.of("previous-owner"), ownersAtEvent);
+        verify(glJournalEntryRepository).saveAndFlush(any(JournalEntry.class));
+    }
+
+    @Test
+    public void testAccrualWithoutOwnerTransferIsWrittenAtCommit() {
+        startTransaction();
+
+        bookAccrual();
+        verify(businessEventNotifierService, never()).notifyPostBusinessEvent(any(LoanJournalEntryCreatedBusinessEvent.class));
+        commit();
+
+        Assertions.assertEquals(1, ownersAtEvent.size());
+        verify(glJournalEntryRepository, never()).saveAndFlush(any(JournalEntry.class));
+        verify(jdbcTemplate).batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(GeneratedKeyHolder.class));
+    }
+
+    private void bookAccrual() {
+        helper.createDebitJournalEntryOrReversalForLoan(office, "USD", AccrualAccountsForLoan.INTEREST_RECEIVABLE.getValue(),
+                LOAN_PRODUCT_ID, null, LOAN_ID, "5", LocalDate.of(2024, 1, 1), BigDecimal.ONE, false);
+    }
+
+    private void startTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
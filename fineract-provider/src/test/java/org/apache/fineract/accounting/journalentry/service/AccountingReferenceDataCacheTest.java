@@ -0,0 +1,213 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Consumer;
+import org.apache.fineract.accounting.financialactivityaccount.exception.FinancialActivityAccountNotFoundException;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidation;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationChannel;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.PortfolioProductType;
+import org.apache.fineract.portfolio.charge.exception.ChargeIsNotActiveException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class AccountingReferenceDataCacheTest {
+
+    private static final Long PRODUCT_ID = 3L;
+    private static final int SAVING = PortfolioProductType.SAVING.getValue();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private CacheInvalidationChannel invalidationChannel;
+
+    private AccountingReferenceDataCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        cache = new AccountingReferenceDataCache(jdbcTemplate, invalidationChannel);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testProductMappingsAreLoadedOnceAndServedFromTheCache() throws SQLException {
+        //given
+        givenProductMappings(mappingRow(1, null, null, 10L), mappingRow(1, 5L, null, 11L), mappingRow(4, null, 7L, 12L));
+
+        //when
+        Long coreGLAccountId = cache.getProductGLAccountId(PortfolioProductType.SAVING, PRODUCT_ID, 1);
+        Long paymentTypeGLAccountId = cache.getPaymentTypeGLAccountId(PortfolioProductType.SAVING, PRODUCT_ID, 1, 5L);
+        Long unmappedPaymentTypeGLAccountId = cache.getPaymentTypeGLAccountId(PortfolioProductType.SAVING, PRODUCT_ID, 1, 6L);
+        Long chargeGLAccountId = cache.getChargeGLAccountId(PortfolioProductType.SAVING, PRODUCT_ID, 4, 7L);
+        Long unmappedGLAccountId = cache.getProductGLAccountId(PortfolioProductType.SAVING, PRODUCT_ID, 4);
+
+        //then
+        Assertions.assertEquals(10L, coreGLAccountId);
+        Assertions.assertEquals(11L, paymentTypeGLAccountId);
+        Assertions.assertNull(unmappedPaymentTypeGLAccountId);
+        Assertions.assertEquals(12L, chargeGLAccountId);
+        Assertions.assertNull(unmappedGLAccountId);
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class), eq(PRODUCT_ID), eq(SAVING));
+    }
+
+    @Test
+    public void testInvalidateStartsNewGenerationAndNotifiesOtherNodes() throws SQLException {
+        //given
+        givenProductMappings(mappingRow(1, null, null, 10L));
+        cache.getProductGLAccountId(PortfolioProductType.SAVING, PRODUCT_ID, 1);
+        long version = cache.getVersion();
+
+        //when
+        cache.invalidate();
+        cache.getProductGLAccountId(PortfolioProductType.SAVING, PRODUCT_ID, 1);
+
+        //then
+        Assertions.assertNotEquals(version, cache.getVersion());
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowCallbackHandler.class), eq(PRODUCT_ID), eq(SAVING));
+        verify(invalidationChannel).publish(new CacheInvalidation("default", AccountingReferenceDataCache.CACHE_NAME, null));
+    }
+
+    @Test
+    public void testDataLoadedDuringTheChangingTransactionIsDroppedOnCompletion() throws SQLException {
+        //given
+        givenProductMappings(mappingRow(1, null, null, 10L));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate();
+            // loaded by the changing transaction, it may see its uncommitted changes
+            cache.getProductGLAccountId(PortfolioProductType.SAVING, PRODUCT_ID, 1);
+
+            //when
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        cache.getProductGLAccountId(PortfolioProductType.SAVING, PRODUCT_ID, 1);
+
+        //then
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowCallbackHandler.class), eq(PRODUCT_ID), eq(SAVING));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRemoteInvalidationDropsTheTenant() throws SQLException {
+        //given
+        ArgumentCaptor<Consumer<CacheInvalidation>> subscriber = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationChannel).subscribe(subscriber.capture());
+        givenProductMappings(mappingRow(1, null, null, 10L));
+        cache.getProductGLAccountId(PortfolioProductType.SAVING, PRODUCT_ID, 1);
+
+        //when
+        subscriber.getValue().accept(new CacheInvalidation("default", "otherCache", null));
+        cache.getProductGLAccountId(PortfolioProductType.SAVING, PRODUCT_ID, 1);
+        subscriber.getValue().accept(new CacheInvalidation("default", AccountingReferenceDataCache.CACHE_NAME, null));
+        cache.getProductGLAccountId(PortfolioProductType.SAVING, PRODUCT_ID, 1);
+
+        //then
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowCallbackHandler.class), eq(PRODUCT_ID), eq(SAVING));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testInactiveChargeIsRejectedFromTheCacheToo() throws SQLException {
+        //given
+        ResultSet charge = mock(ResultSet.class);
+        when(charge.getString("name")).thenReturn("Withdrawal fee");
+        when(charge.getBoolean("is_active")).thenReturn(false);
+        when(charge.getBoolean("is_deleted")).thenReturn(false);
+        when(charge.getObject("income_or_liability_account_id", Long.class)).thenReturn(20L);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(7L)))
+                .thenAnswer(invocation -> List.of(invocation.getArgument(1, RowMapper.class).mapRow(charge, 0)));
+
+        //when
+        Assertions.assertThrows(ChargeIsNotActiveException.class, () -> cache.getChargeIncomeAccountId(7L));
+        Assertions.assertThrows(ChargeIsNotActiveException.class, () -> cache.getChargeIncomeAccountId(7L));
+
+        //then
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class), eq(7L));
+    }
+
+    @Test
+    public void testMissingFinancialActivityAccountIsNotCached() {
+        //given
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(100))).thenReturn(List.of(), List.of(30L));
+
+        //when
+        Assertions.assertThrows(FinancialActivityAccountNotFoundException.class, () -> cache.getFinancialActivityGLAccountId(100));
+        Long glAccountId = cache.getFinancialActivityGLAccountId(100);
+        Long cachedGLAccountId = cache.getFinancialActivityGLAccountId(100);
+
+        //then
+        Assertions.assertEquals(30L, glAccountId);
+        Assertions.assertEquals(30L, cachedGLAccountId);
+        verify(jdbcTemplate, times(2)).queryForList(anyString(), eq(Long.class), eq(100));
+    }
+
+    private void givenProductMappings(ResultSet... rows) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (ResultSet row : rows) {
+                handler.processRow(row);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(PRODUCT_ID), eq(SAVING));
+    }
+
+    private ResultSet mappingRow(int financialAccountType, Long paymentTypeId, Long chargeId, Long glAccountId) throws SQLException {
+        ResultSet row = mock(ResultSet.class);
+        when(row.getInt("financial_account_type")).thenReturn(financialAccountType);
+        when(row.getObject("payment_type", Long.class)).thenReturn(paymentTypeId);
+        when(row.getObject("charge_id", Long.class)).thenReturn(chargeId);
+        when(row.getLong("gl_account_id")).thenReturn(glAccountId);
+        return row;
+    }
+}
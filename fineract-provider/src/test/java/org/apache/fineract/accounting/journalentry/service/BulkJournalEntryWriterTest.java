@@ -0,0 +1,183 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.fineract.accounting.glaccount.domain.GLAccount;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.business.domain.journalentry.LoanJournalEntryCreatedBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.apache.fineract.portfolio.PortfolioProductType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BulkJournalEntryWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private AuditorAware<Long> auditorAware;
+    @Mock
+    private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private Office office;
+    @Mock
+    private GLAccount glAccount;
+    @Mock
+    private ImmediateLoanJournalEntryPolicy immediateLoanJournalEntryPolicy;
+
+    private BulkJournalEntryWriter writer;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 1, 1))));
+        when(auditorAware.getCurrentAuditor()).thenReturn(Optional.of(1L));
+        when(office.getId()).thenReturn(1L);
+        when(glAccount.getId()).thenReturn(2L);
+        writer = new BulkJournalEntryWriter(jdbcTemplate, sqlGenerator, auditorAware, businessEventNotifierService,
+                List.of(immediateLoanJournalEntryPolicy));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.unbindResourceIfPossible(writer);
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testEntriesAreNotCollectedWithoutTransaction() {
+        Assertions.assertFalse(writer.add(loanEntry(JournalEntryType.DEBIT)));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void testEntriesAreWrittenInOneBatchBeforeCommit() {
+        startTransaction();
+        JournalEntry debit = loanEntry(JournalEntryType.DEBIT);
+        JournalEntry credit = loanEntry(JournalEntryType.CREDIT);
+        JournalEntry savingsEntry = JournalEntry.createNew(office, null, glAccount, "USD", "S3", false, LocalDate.of(2024, 1, 1),
+                JournalEntryType.CREDIT, BigDecimal.TEN, null, PortfolioProductType.SAVING.getValue(), 7L, null, null, 3L, null, null);
+        when(sqlGenerator.fetchPKs(any(GeneratedKeyHolder.class))).thenReturn(List.of(11L, 12L, 13L));
+
+        Assertions.assertTrue(writer.add(debit));
+        Assertions.assertTrue(writer.add(credit));
+        Assertions.assertTrue(writer.add(savingsEntry));
+        verify(sqlGenerator, never()).fetchPKs(any(GeneratedKeyHolder.class));
+
+        commit();
+
+        ArgumentCaptor<BatchPreparedStatementSetter> setter = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(any(PreparedStatementCreator.class), setter.capture(), any(GeneratedKeyHolder.class));
+        Assertions.assertEquals(3, setter.getValue().getBatchSize());
+        Assertions.assertEquals(11L, debit.getId());
+        Assertions.assertEquals(12L, credit.getId());
+        Assertions.assertEquals(13L, savingsEntry.getId());
+        Assertions.assertEquals(Optional.of(1L), debit.getCreatedBy());
+        ArgumentCaptor<LoanJournalEntryCreatedBusinessEvent> event = ArgumentCaptor.forClass(LoanJournalEntryCreatedBusinessEvent.class);
+        verify(businessEventNotifierService, times(2)).notifyPostBusinessEvent(event.capture());
+        Assertions.assertEquals(List.of(debit, credit),
+                event.getAllValues().stream().map(LoanJournalEntryCreatedBusinessEvent::get).toList());
+    }
+
+    @Test
+    public void testRolledBackEntriesAreNotWritten() {
+        startTransaction();
+        writer.add(loanEntry(JournalEntryType.DEBIT));
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(jdbcTemplate);
+        Assertions.assertFalse(TransactionSynchronizationManager.hasResource(writer));
+    }
+
+    @Test
+    public void testEntriesOfLoansWrittenImmediatelyAreNotCollected() {
+        startTransaction();
+        when(immediateLoanJournalEntryPolicy.isWrittenImmediately(9L)).thenReturn(true);
+
+        Assertions.assertFalse(writer.add(loanEntry(JournalEntryType.DEBIT)));
+        Assertions.assertFalse(writer.add(loanEntry(JournalEntryType.CREDIT)));
+
+        verify(immediateLoanJournalEntryPolicy, times(1)).isWrittenImmediately(9L);
+        commit();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private JournalEntry loanEntry(JournalEntryType type) {
+        return JournalEntry.createNew(office, null, glAccount, "USD", "L5", false, LocalDate.of(2024, 1, 1), type, BigDecimal.ONE, null,
+                PortfolioProductType.LOAN.getValue(), 9L, null, 5L, null, null, null);
+    }
+
+    private void startTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
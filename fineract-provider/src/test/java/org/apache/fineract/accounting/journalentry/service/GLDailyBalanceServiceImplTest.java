@@ -0,0 +1,131 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.fineract.accounting.journalentry.service.GLDailyBalanceWriter.DailyBalanceChange;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class GLDailyBalanceServiceImplTest {
+
+    private static final DailyBalanceChange CHANGE = new DailyBalanceChange(1L, 5L, "USD", LocalDate.of(2024, 1, 1), BigDecimal.TEN,
+            BigDecimal.ONE);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private GLDailyBalanceWriter dailyBalanceWriter;
+    @Mock
+    private FineractProperties fineractProperties;
+
+    private GLDailyBalanceServiceImpl service;
+
+    @BeforeEach
+    public void setUp() {
+        FineractProperties.FineractJobProperties jobProperties = new FineractProperties.FineractJobProperties();
+        jobProperties.setGlDailyBalanceBackfillBatchSize(100);
+        when(fineractProperties.getJob()).thenReturn(jobProperties);
+        service = new GLDailyBalanceServiceImpl(jdbcTemplate, dailyBalanceWriter, fineractProperties);
+    }
+
+    @Test
+    public void testBackfillAddsNextBatchAndMovesForward() throws Exception {
+        givenBackfillState(200L, 250L);
+        when(jdbcTemplate.query(contains("where id > ? and id <= ?"), any(RowMapper.class), eq(200L), eq(250L)))
+                .thenReturn(List.of(CHANGE));
+
+        Assertions.assertFalse(service.backfill());
+
+        verify(dailyBalanceWriter).write(List.of(CHANGE));
+        verify(jdbcTemplate).update("update acc_gl_daily_balance_backfill set last_journal_entry_id = ? where id = 1", 250L);
+    }
+
+    @Test
+    public void testBackfillReportsRemainingEntries() throws Exception {
+        givenBackfillState(0L, 250L);
+        when(jdbcTemplate.query(contains("where id > ? and id <= ?"), any(RowMapper.class), eq(0L), eq(100L)))
+                .thenReturn(List.of(CHANGE));
+
+        Assertions.assertTrue(service.backfill());
+
+        verify(jdbcTemplate).update("update acc_gl_daily_balance_backfill set last_journal_entry_id = ? where id = 1", 100L);
+    }
+
+    @Test
+    public void testBackfillIsDoneWhenNoEntriesAreLeft() throws Exception {
+        givenBackfillState(250L, 250L);
+
+        Assertions.assertFalse(service.backfill());
+
+        verifyNoInteractions(dailyBalanceWriter);
+        verify(jdbcTemplate, never()).update(startsWith("update acc_gl_daily_balance_backfill"), any(Long.class));
+    }
+
+    @Test
+    public void testVerifyRebuildsMismatchingBalancesFromTheLedger() throws Exception {
+        givenBackfillState(100L, 250L);
+        ResultSet mismatch = mock(ResultSet.class);
+        when(mismatch.getLong("office_id")).thenReturn(1L);
+        when(mismatch.getLong("account_id")).thenReturn(5L);
+        when(mismatch.getString("currency_code")).thenReturn("USD");
+        when(jdbcTemplate.query(contains("from acc_gl_daily_balance_view union all"), any(RowMapper.class)))
+                .thenAnswer(invocation -> List.of(invocation.<RowMapper<?>>getArgument(1).mapRow(mismatch, 0)));
+        when(jdbcTemplate.query(contains("(id <= ? or id > ?)"), any(RowMapper.class), eq(1L), eq(5L), eq("USD"), eq(100L), eq(250L)))
+                .thenReturn(List.of(CHANGE));
+
+        Assertions.assertEquals(1, service.verify());
+
+        verify(jdbcTemplate).update("delete from acc_gl_daily_balance where office_id = ? and account_id = ? and currency_code = ?", 1L,
+                5L, "USD");
+        verify(dailyBalanceWriter).write(List.of(CHANGE));
+    }
+
+    private void givenBackfillState(long lastJournalEntryId, long maxJournalEntryId) throws Exception {
+        ResultSet state = mock(ResultSet.class);
+        when(state.getLong("last_journal_entry_id")).thenReturn(lastJournalEntryId);
+        when(state.getLong("max_journal_entry_id")).thenReturn(maxJournalEntryId);
+        when(jdbcTemplate.queryForObject(contains("from acc_gl_daily_balance_backfill"), any(RowMapper.class)))
+                .thenAnswer(invocation -> invocation.<RowMapper<?>>getArgument(1).mapRow(state, 0));
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.accounting.glaccount.domain.GLAccount;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.apache.fineract.portfolio.PortfolioProductType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class GLDailyBalanceWriterTest {
+
+    private static final String UPSERT_SQL = "upsert";
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 1);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private Office office;
+    @Mock
+    private GLAccount glAccount;
+
+    private GLDailyBalanceWriter writer;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, DAY)));
+        when(office.getId()).thenReturn(1L);
+        when(glAccount.getId()).thenReturn(5L);
+        when(sqlGenerator.buildInsertOrIncrement(eq(GLDailyBalanceWriter.TABLE_NAME), anyList(), anyList())).thenReturn(UPSERT_SQL);
+        writer = new GLDailyBalanceWriter(jdbcTemplate, sqlGenerator);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.unbindResourceIfPossible(writer);
+    }
+
+    @Test
+    public void testChangesAreSummedPerDayAndWrittenBeforeCommit() {
+        startTransaction();
+        writer.add(entry(JournalEntryType.DEBIT, DAY.plusDays(1), "10"));
+        writer.add(entry(JournalEntryType.DEBIT, DAY, "10"));
+        writer.add(entry(JournalEntryType.DEBIT, DAY, "2.5"));
+        writer.add(entry(JournalEntryType.CREDIT, DAY, "4"));
+        writer.add(3L, 2L, "USD", DAY, JournalEntryType.CREDIT, BigDecimal.ONE);
+        verifyNoInteractions(jdbcTemplate);
+
+        commit();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> batchArgs = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(UPSERT_SQL), batchArgs.capture());
+        List<Object[]> rows = batchArgs.getValue();
+        Assertions.assertEquals(3, rows.size());
+        Assertions.assertArrayEquals(new Object[] { 1L, 5L, "USD", DAY, new BigDecimal("12.5"), new BigDecimal("4") }, rows.get(0));
+        Assertions.assertArrayEquals(new Object[] { 1L, 5L, "USD", DAY.plusDays(1), BigDecimal.TEN, BigDecimal.ZERO }, rows.get(1));
+        Assertions.assertArrayEquals(new Object[] { 3L, 2L, "USD", DAY, BigDecimal.ZERO, BigDecimal.ONE }, rows.get(2));
+        Assertions.assertFalse(TransactionSynchronizationManager.hasResource(writer));
+    }
+
+    @Test
+    public void testChangeIsWrittenRightAwayWithoutTransaction() {
+        writer.add(entry(JournalEntryType.CREDIT, DAY, "3"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> batchArgs = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(UPSERT_SQL), batchArgs.capture());
+        Assertions.assertArrayEquals(new Object[] { 1L, 5L, "USD", DAY, BigDecimal.ZERO, new BigDecimal("3") },
+                batchArgs.getValue().get(0));
+    }
+
+    @Test
+    public void testRolledBackChangesAreNotWritten() {
+        startTransaction();
+        writer.add(entry(JournalEntryType.DEBIT, DAY, "1"));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(jdbcTemplate);
+        Assertions.assertFalse(TransactionSynchronizationManager.hasResource(writer));
+    }
+
+    private JournalEntry entry(JournalEntryType type, LocalDate entryDate, String amount) {
+        return JournalEntry.createNew(office, null, glAccount, "USD", "L5", false, entryDate, type, new BigDecimal(amount), null,
+                PortfolioProductType.LOAN.getValue(), 9L, null, 5L, null, null, null);
+    }
+
+    private void startTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
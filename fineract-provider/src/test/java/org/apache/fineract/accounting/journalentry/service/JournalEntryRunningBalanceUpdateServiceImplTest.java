@@ -0,0 +1,187 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.accounting.glaccount.domain.GLAccountType;
+import org.apache.fineract.accounting.journalentry.data.JournalEntryDataValidator;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.organisation.office.domain.OfficeRepositoryWrapper;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@SuppressWarnings({ "unchecked", "rawtypes" })
+class JournalEntryRunningBalanceUpdateServiceImplTest {
+
+    private static final LocalDate FROM_DATE = LocalDate.of(2024, 1, 10);
+    private static final Long ACCOUNT_ID = 5L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private OfficeRepositoryWrapper officeRepositoryWrapper;
+    @Mock
+    private JournalEntryDataValidator dataValidator;
+    @Mock
+    private FromJsonHelper fromApiJsonHelper;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private PlatformSecurityContext platformSecurityContext;
+
+    private JournalEntryRunningBalanceUpdateServiceImpl service;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, FROM_DATE)));
+        AppUser user = mock(AppUser.class);
+        when(user.getId()).thenReturn(1L);
+        when(platformSecurityContext.authenticatedUser()).thenReturn(user);
+        when(sqlGenerator.limit(anyInt())).thenAnswer(invocation -> " LIMIT " + invocation.getArgument(0));
+        FineractProperties.FineractJobProperties jobProperties = new FineractProperties.FineractJobProperties();
+        jobProperties.setRunningBalanceUpdateThreadCount(2);
+        jobProperties.setRunningBalanceUpdateBatchSize(2);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setJob(jobProperties);
+        service = new JournalEntryRunningBalanceUpdateServiceImpl(jdbcTemplate, officeRepositoryWrapper, dataValidator, fromApiJsonHelper,
+                sqlGenerator, platformSecurityContext, fineractProperties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testRunningBalancesAreCarriedForwardPageByPage() {
+        //given
+        when(jdbcTemplate.queryForObject(startsWith("select MIN(je.entry_date)"), eq(LocalDate.class))).thenReturn(FROM_DATE);
+        when(jdbcTemplate.query(startsWith("select account_id, min(entry_date)"), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(rows(Map.of("account_id", ACCOUNT_ID, "entry_date", FROM_DATE)));
+        when(jdbcTemplate.queryForObject(startsWith("select classification_enum"), eq(Integer.class), eq(ACCOUNT_ID)))
+                .thenReturn(GLAccountType.ASSET.getValue());
+        when(jdbcTemplate.queryForList(startsWith("select organization_running_balance"), eq(BigDecimal.class), any(Object[].class)))
+                .thenReturn(List.of(new BigDecimal("100")));
+        when(jdbcTemplate.queryForList(startsWith("select office_running_balance"), eq(BigDecimal.class), any(Object[].class)))
+                .thenAnswer(invocation -> List.of(Long.valueOf(1L).equals(invocation.getArgument(3)) ? new BigDecimal("40")
+                        : BigDecimal.ZERO));
+        when(jdbcTemplate.query(startsWith("select id, office_id"), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(rows(entry(11L, 1L, JournalEntryType.DEBIT, "10"), entry(12L, 2L, JournalEntryType.DEBIT, "5")))
+                .thenAnswer(rows(entry(13L, 1L, JournalEntryType.CREDIT, "20")));
+
+        //when
+        service.updateRunningBalance();
+
+        //then
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("UPDATE acc_gl_journal_entry"), batches.capture());
+        List<Object[]> updates = new ArrayList<>();
+        batches.getAllValues().forEach(updates::addAll);
+        Assertions.assertEquals(3, updates.size());
+        assertUpdate(updates.get(0), "110", "50", 11L);
+        assertUpdate(updates.get(1), "115", "5", 12L);
+        assertUpdate(updates.get(2), "95", "30", 13L);
+        ArgumentCaptor<Object[]> pageArgs = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(2)).query(startsWith("select id, office_id"), any(RowMapper.class), pageArgs.capture());
+        Assertions.assertArrayEquals(new Object[] { ACCOUNT_ID, FROM_DATE, FROM_DATE, 0L }, pageArgs.getAllValues().get(0));
+        Assertions.assertArrayEquals(new Object[] { ACCOUNT_ID, FROM_DATE.plusDays(1), FROM_DATE.plusDays(1), 12L },
+                pageArgs.getAllValues().get(1));
+    }
+
+    private static void assertUpdate(Object[] update, String organizationRunningBalance, String officeRunningBalance, Long id) {
+        Assertions.assertEquals(Boolean.TRUE, update[0]);
+        Assertions.assertEquals(0, new BigDecimal(organizationRunningBalance).compareTo((BigDecimal) update[1]));
+        Assertions.assertEquals(0, new BigDecimal(officeRunningBalance).compareTo((BigDecimal) update[2]));
+        Assertions.assertEquals(id, update[5]);
+    }
+
+    private static Map<String, Object> entry(Long id, Long officeId, JournalEntryType type, String amount) {
+        return Map.of("id", id, "office_id", officeId, "type_enum", type.getValue(), "amount", new BigDecimal(amount), "entry_date",
+                id < 12L ? FROM_DATE : FROM_DATE.plusDays(1));
+    }
+
+    private static Answer<List<Object>> rows(Map<String, Object>... rows) {
+        return invocation -> {
+            RowMapper<?> rowMapper = invocation.getArgument(1);
+            List<Object> result = new ArrayList<>();
+            for (Map<String, Object> row : rows) {
+                result.add(rowMapper.mapRow(resultSet(row), result.size()));
+            }
+            return result;
+        };
+    }
+
+    private static ResultSet resultSet(Map<String, Object> row) throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        for (Map.Entry<String, Object> column : row.entrySet()) {
+            Object value = column.getValue();
+            if (value instanceof Long longValue) {
+                when(resultSet.getLong(column.getKey())).thenReturn(longValue);
+            } else if (value instanceof Integer intValue) {
+                when(resultSet.getInt(column.getKey())).thenReturn(intValue);
+            } else if (value instanceof BigDecimal decimal) {
+                when(resultSet.getBigDecimal(column.getKey())).thenReturn(decimal);
+            } else if (value instanceof LocalDate date) {
+                when(resultSet.getDate(column.getKey())).thenReturn(Date.valueOf(date));
+                when(resultSet.getObject(column.getKey(), LocalDate.class)).thenReturn(date);
+            }
+        }
+        return resultSet;
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.batch.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import jakarta.ws.rs.core.UriInfo;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.batch.command.CommandContext;
+import org.apache.fineract.batch.command.CommandStrategy;
+import org.apache.fineract.batch.command.CommandStrategyProvider;
+import org.apache.fineract.batch.domain.BatchRequest;
+import org.apache.fineract.batch.domain.BatchResponse;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.exception.ErrorHandler;
+import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class BatchApiServiceImplTest {
+
+    private final CommandStrategyProvider strategyProvider = mock(CommandStrategyProvider.class);
+    private final Map<Long, String> tenantByRequestId = new ConcurrentHashMap<>();
+    private final Map<Long, String> threadByRequestId = new ConcurrentHashMap<>();
+
+    private BatchApiServiceImpl service;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 1, 1))));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        service.destroy();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testIndependentRequestTreesRunConcurrently() {
+        createService(2);
+        final CyclicBarrier roots = new CyclicBarrier(2);
+        when(strategyProvider.getCommandStrategy(any(CommandContext.class))).thenReturn(strategy(request -> {
+            if (request.getReference() == null) {
+                // both roots have to be in flight at the same time to pass the barrier
+                roots.await(5, TimeUnit.SECONDS);
+            } else {
+                Assertions.assertTrue(tenantByRequestId.containsKey(request.getReference()));
+            }
+        }));
+
+        List<BatchResponse> responses = service.handleBatchRequestsInParallel(
+                List.of(request(1L, null), request(2L, null), request(3L, 1L), request(4L, 3L)), mock(UriInfo.class));
+
+        Assertions.assertEquals(List.of(1L, 2L, 3L, 4L), responses.stream().map(BatchResponse::getRequestId).toList());
+        responses.forEach(response -> Assertions.assertEquals(200, response.getStatusCode()));
+        Assertions.assertEquals(Map.of(1L, "default", 2L, "default", 3L, "default", 4L, "default"), tenantByRequestId);
+        Assertions.assertNotEquals(threadByRequestId.get(1L), threadByRequestId.get(2L));
+        Assertions.assertEquals(threadByRequestId.get(1L), threadByRequestId.get(4L));
+        Assertions.assertEquals("default", ThreadLocalContextUtil.getTenant().getTenantIdentifier());
+    }
+
+    @Test
+    public void testRequestsRunOnCallingThreadWithoutParallelThreads() {
+        createService(0);
+        when(strategyProvider.getCommandStrategy(any(CommandContext.class))).thenReturn(strategy(request -> {}));
+
+        List<BatchResponse> responses = service.handleBatchRequestsInParallel(List.of(request(2L, null), request(1L, null)),
+                mock(UriInfo.class));
+
+        Assertions.assertEquals(List.of(1L, 2L), responses.stream().map(BatchResponse::getRequestId).toList());
+        Assertions.assertEquals(Thread.currentThread().getName(), threadByRequestId.get(1L));
+        Assertions.assertEquals(Thread.currentThread().getName(), threadByRequestId.get(2L));
+    }
+
+    private void createService(int parallelThreadCount) {
+        FineractProperties fineractProperties = new FineractProperties();
+        FineractProperties.FineractApiProperties apiProperties = new FineractProperties.FineractApiProperties();
+        FineractProperties.FineractBatchApiProperties batchProperties = new FineractProperties.FineractBatchApiProperties();
+        batchProperties.setParallelThreadCount(parallelThreadCount);
+        apiProperties.setBatch(batchProperties);
+        fineractProperties.setApi(apiProperties);
+        service = new BatchApiServiceImpl(strategyProvider, new ResolutionHelper(new FromJsonHelper()),
+                mock(PlatformTransactionManager.class), mock(ErrorHandler.class), List.of(), List.of(), mock(EntityManager.class),
+                fineractProperties);
+        service.afterPropertiesSet();
+    }
+
+    private CommandStrategy strategy(RequestCheck check) {
+        return (request, uriInfo) -> {
+            try {
+                check.check(request);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            tenantByRequestId.put(request.getRequestId(), ThreadLocalContextUtil.getTenant().getTenantIdentifier());
+            threadByRequestId.put(request.getRequestId(), Thread.currentThread().getName());
+            return new BatchResponse().setRequestId(request.getRequestId()).setStatusCode(200)
+                    .setBody("{\"resourceId\":" + request.getRequestId() + "}");
+        };
+    }
+
+    private BatchRequest request(Long requestId, Long reference) {
+        return new BatchRequest().setRequestId(requestId).setReference(reference).setMethod("POST").setRelativeUrl("savingsaccounts");
+    }
+
+    @FunctionalInterface
+    private interface RequestCheck {
+
+        void check(BatchRequest request) throws Exception;
+    }
+}
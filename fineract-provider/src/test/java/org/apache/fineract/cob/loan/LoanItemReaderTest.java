@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.cob.loan;
 
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -25,6 +26,7 @@ import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
@@ -49,6 +51,8 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.item.ExecutionContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 class LoanItemReaderTest {
@@ -77,6 +81,9 @@ class LoanItemReaderTest {
     @AfterEach
     public void tearDown() {
         ThreadLocalContextUtil.reset();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clear();
+        }
     }
 
     @Test
@@ -169,4 +176,81 @@ class LoanItemReaderTest {
 
         Mockito.verifyNoMoreInteractions(loanRepository);
     }
+
+    @Test
+    public void testLoanItemReaderPrefetchLoadsLoansInBatches() throws Exception {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "test", "test", "UTC", null));
+        LoanItemReader loanItemReader = createLoanItemReaderForLoans(List.of(1L, 2L, 3L, 4L, 5L));
+        loanItemReader.setPrefetchSize(2);
+        List<List<Long>> prefetchedLoanIds = new ArrayList<>();
+        when(loanRepository.findAllWithCollectionsByLoanIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> loanIds = invocation.getArgument(0);
+            prefetchedLoanIds.add(List.copyOf(loanIds));
+            return loanIds.stream().map(this::mockLoan).toList();
+        });
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when + then
+        loanItemReader.beforeStep(stepExecution);
+        for (long i = 1; i <= 5; i++) {
+            Assertions.assertEquals(i, loanItemReader.read().getId());
+        }
+        Assertions.assertNull(loanItemReader.read());
+
+        Assertions.assertEquals(List.of(List.of(1L, 2L), List.of(3L, 4L), List.of(5L)), prefetchedLoanIds);
+        verify(loanRepository, times(0)).findById(anyLong());
+    }
+
+    @Test
+    public void testLoanItemReaderPrefetchHandsBackUnreadLoansAfterTransaction() throws Exception {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "test", "test", "UTC", null));
+        LoanItemReader loanItemReader = createLoanItemReaderForLoans(List.of(1L, 2L));
+        loanItemReader.setPrefetchSize(2);
+        when(loanRepository.findAllWithCollectionsByLoanIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> loanIds = invocation.getArgument(0);
+            return loanIds.stream().map(this::mockLoan).toList();
+        });
+        loanItemReader.beforeStep(stepExecution);
+
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        Assertions.assertEquals(1L, loanItemReader.read().getId());
+        completeTransaction();
+        TransactionSynchronizationManager.initSynchronization();
+        Loan secondLoan = loanItemReader.read();
+
+        // then
+        Assertions.assertEquals(2L, secondLoan.getId());
+        Assertions.assertNull(loanItemReader.read());
+        verify(loanRepository, times(1)).findAllWithCollectionsByLoanIds(List.of(1L, 2L));
+        verify(loanRepository, times(1)).findAllWithCollectionsByLoanIds(List.of(2L));
+    }
+
+    private LoanItemReader createLoanItemReaderForLoans(List<Long> loanIds) {
+        LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService);
+        when(stepExecution.getExecutionContext()).thenReturn(executionContext);
+        LoanCOBParameter loanCOBParameter = new LoanCOBParameter(loanIds.get(0), loanIds.get(loanIds.size() - 1));
+        when(executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER)).thenReturn(loanCOBParameter);
+        when(retrieveLoanIdService.retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(loanCOBParameter, false))
+                .thenReturn(new ArrayList<>(loanIds));
+        List<LoanAccountLock> accountLocks = loanIds.stream()
+                .map(l -> new LoanAccountLock(l, LockOwner.LOAN_COB_CHUNK_PROCESSING, LocalDate.of(2023, 7, 25))).toList();
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(loanIds, LockOwner.LOAN_COB_CHUNK_PROCESSING)).thenReturn(accountLocks);
+        return loanItemReader;
+    }
+
+    private Loan mockLoan(Long loanId) {
+        Loan mockedLoan = Mockito.mock(Loan.class);
+        when(mockedLoan.getId()).thenReturn(loanId);
+        return mockedLoan;
+    }
+
+    private void completeTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
 }
@@ -0,0 +1,116 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.commands.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.fineract.commands.domain.CommandSource;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CommandLeaseServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private FineractProperties fineractProperties;
+
+    private CommandLeaseService underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        FineractProperties.FineractCommandProperties commandProperties = new FineractProperties.FineractCommandProperties();
+        commandProperties.setLeaseTimeoutInSeconds(300);
+        when(fineractProperties.getCommand()).thenReturn(commandProperties);
+        underTest = new CommandLeaseService(jdbcTemplate, fineractProperties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testDuplicateOnSameNodeIsRejectedWithoutDatabase() {
+        CommandSource commandSource = createCommandSource("idk");
+
+        Assertions.assertTrue(underTest.acquire(commandSource));
+        Assertions.assertFalse(underTest.acquire(createCommandSource("idk")));
+
+        verify(jdbcTemplate, times(1)).update(startsWith("INSERT"), any(Object[].class));
+    }
+
+    @Test
+    public void testLeaseHeldByAnotherNodeIsRejectedUntilExpired() {
+        when(jdbcTemplate.update(startsWith("INSERT"), any(Object[].class))).thenThrow(new DuplicateKeyException("duplicate"));
+        when(jdbcTemplate.update(startsWith("UPDATE"), any(Object[].class))).thenReturn(0, 1);
+
+        Assertions.assertFalse(underTest.acquire(createCommandSource("idk")));
+        Assertions.assertTrue(underTest.acquire(createCommandSource("idk")));
+    }
+
+    @Test
+    public void testReleasedLeaseCanBeAcquiredAgain() {
+        CommandSource commandSource = createCommandSource("idk");
+        Assertions.assertTrue(underTest.acquire(commandSource));
+
+        underTest.release(commandSource);
+
+        verify(jdbcTemplate).update(startsWith("DELETE"), eq("CREATE"), eq("CLIENT"), eq("idk"));
+        Assertions.assertTrue(underTest.acquire(commandSource));
+    }
+
+    @Test
+    public void testLeaseNeverReleasedExpiresOnSameNode() {
+        fineractProperties.getCommand().setLeaseTimeoutInSeconds(0);
+
+        Assertions.assertTrue(underTest.acquire(createCommandSource("idk")));
+        Assertions.assertTrue(underTest.acquire(createCommandSource("idk")));
+
+        verify(jdbcTemplate, times(2)).update(startsWith("INSERT"), any(Object[].class));
+    }
+
+    private CommandSource createCommandSource(String idempotencyKey) {
+        CommandSource commandSource = new CommandSource();
+        commandSource.setActionName("CREATE");
+        commandSource.setEntityName("CLIENT");
+        commandSource.setIdempotencyKey(idempotencyKey);
+        return commandSource;
+    }
+}
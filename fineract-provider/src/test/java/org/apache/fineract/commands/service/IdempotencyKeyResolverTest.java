@@ -81,4 +81,17 @@ public class IdempotencyKeyResolverTest {
         String resolvedIdk = underTest.resolve(wrapper);
         Assertions.assertEquals(idk, resolvedIdk);
     }
+
+    @Test
+    public void testIPKIsProvidedByRequestOrWrapper() {
+        CommandWrapper wrapper = CommandWrapper.wrap("act", "ent", 1L, 1L);
+        Assertions.assertFalse(underTest.isProvided(wrapper));
+
+        fineractRequestContextHolder.setAttribute(SynchronousCommandProcessingService.IDEMPOTENCY_KEY_ATTRIBUTE, "bar");
+        Assertions.assertTrue(underTest.isProvided(wrapper));
+
+        CommandWrapper wrapperWithKey = new CommandWrapper(null, null, null, null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, "idk");
+        Assertions.assertTrue(underTest.isProvided(wrapperWithKey));
+    }
 }
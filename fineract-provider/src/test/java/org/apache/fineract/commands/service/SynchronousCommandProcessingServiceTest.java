@@ -19,22 +19,28 @@
 package org.apache.fineract.commands.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Map;
+import org.apache.fineract.batch.exception.ErrorInfo;
 import org.apache.fineract.commands.domain.CommandProcessingResultType;
 import org.apache.fineract.commands.domain.CommandSource;
 import org.apache.fineract.commands.domain.CommandWrapper;
+import org.apache.fineract.commands.exception.RollbackTransactionNotApprovedException;
 import org.apache.fineract.commands.handler.NewCommandSourceHandler;
 import org.apache.fineract.commands.provider.CommandHandlerProvider;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.domain.FineractRequestContextHolder;
+import org.apache.fineract.infrastructure.core.exception.IdempotentCommandProcessUnderProcessingException;
 import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
 import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
@@ -69,6 +75,10 @@ public class SynchronousCommandProcessingServiceTest {
     private IdempotencyKeyResolver idempotencyKeyResolver;
     @Mock
     private CommandSourceService commandSourceService;
+    @Mock
+    private CommandLeaseService commandLeaseService;
+    @Mock
+    private FineractProperties fineractProperties;
 
     @Spy
     private FineractRequestContextHolder fineractRequestContextHolder;
@@ -79,10 +89,13 @@ public class SynchronousCommandProcessingServiceTest {
     @Mock
     private HttpServletRequest request;
 
+    private final FineractProperties.FineractCommandProperties commandProperties = new FineractProperties.FineractCommandProperties();
+
     @BeforeEach
     public void setup() {
         MockitoAnnotations.openMocks(this);
         RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        when(fineractProperties.getCommand()).thenReturn(commandProperties);
     }
 
     @Test
@@ -174,6 +187,176 @@ public class SynchronousCommandProcessingServiceTest {
         verify(commandSourceService).generateErrorInfo(runtimeException);
     }
 
+    @Test
+    public void testExecuteCommandWithDeferredAuditWritesAuditRowOnceInBusinessTransaction() {
+        commandProperties.setDeferredAuditEnabled(true);
+        CommandWrapper commandWrapper = mockCommandWrapper();
+        JsonCommand jsonCommand = Mockito.mock(JsonCommand.class);
+        when(jsonCommand.commandId()).thenReturn(null);
+        NewCommandSourceHandler commandHandler = Mockito.mock(NewCommandSourceHandler.class);
+        when(commandHandlerProvider.getHandler(Mockito.any(), Mockito.any())).thenReturn(commandHandler);
+        String idk = "idk";
+        when(idempotencyKeyResolver.resolve(commandWrapper)).thenReturn(idk);
+        when(idempotencyKeyResolver.isProvided(commandWrapper)).thenReturn(true);
+        AppUser appUser = Mockito.mock(AppUser.class);
+        when(context.authenticatedUser(Mockito.any(CommandWrapper.class))).thenReturn(appUser);
+        CommandSource commandSource = Mockito.mock(CommandSource.class);
+        when(commandSource.getId()).thenReturn(1L);
+        when(commandSource.getIdempotencyKey()).thenReturn(idk);
+        when(commandSourceService.getInitialCommandSource(commandWrapper, jsonCommand, appUser, idk)).thenReturn(commandSource);
+        when(commandLeaseService.acquire(commandSource)).thenReturn(true);
+        CommandProcessingResult commandProcessingResult = Mockito.mock(CommandProcessingResult.class);
+        when(commandSourceService.processCommandAndSaveResult(Mockito.eq(commandHandler), Mockito.eq(jsonCommand),
+                Mockito.eq(commandSource), Mockito.eq(appUser), Mockito.eq(false), Mockito.eq(true), Mockito.any())).thenReturn(commandProcessingResult);
+
+        CommandProcessingResult actualCommandProcessingResult = underTest.executeCommand(commandWrapper, jsonCommand, false);
+
+        assertEquals(commandProcessingResult, actualCommandProcessingResult);
+        verify(commandSourceService).findCommandSource(commandWrapper, idk);
+        verify(commandSourceService, never()).saveInitialNewTransaction(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        verify(commandSourceService, never()).saveResultSameTransaction(Mockito.any());
+        verify(fineractRequestContextHolder).setAttribute(SynchronousCommandProcessingService.COMMAND_SOURCE_ID, 1L);
+    }
+
+    @Test
+    public void testExecuteCommandWithDeferredAuditRejectsCommandUnderProcessing() {
+        commandProperties.setDeferredAuditEnabled(true);
+        CommandWrapper commandWrapper = mockCommandWrapper();
+        JsonCommand jsonCommand = Mockito.mock(JsonCommand.class);
+        when(jsonCommand.commandId()).thenReturn(null);
+        String idk = "idk";
+        when(idempotencyKeyResolver.resolve(commandWrapper)).thenReturn(idk);
+        when(idempotencyKeyResolver.isProvided(commandWrapper)).thenReturn(true);
+        AppUser appUser = Mockito.mock(AppUser.class);
+        when(context.authenticatedUser(Mockito.any(CommandWrapper.class))).thenReturn(appUser);
+        CommandSource commandSource = Mockito.mock(CommandSource.class);
+        when(commandSource.getIdempotencyKey()).thenReturn(idk);
+        when(commandSourceService.getInitialCommandSource(commandWrapper, jsonCommand, appUser, idk)).thenReturn(commandSource);
+        when(commandLeaseService.acquire(commandSource)).thenReturn(false);
+
+        assertThrows(IdempotentCommandProcessUnderProcessingException.class, () -> {
+            underTest.executeCommand(commandWrapper, jsonCommand, false);
+        });
+
+        verify(commandSourceService, never()).processCommandAndSaveResult(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
+                Mockito.anyBoolean(), Mockito.anyBoolean(), Mockito.any());
+        verify(commandLeaseService, never()).release(commandSource);
+    }
+
+    @Test
+    public void testExecuteCommandWithDeferredAuditWritesErrorAndReleasesLease() {
+        commandProperties.setDeferredAuditEnabled(true);
+        CommandWrapper commandWrapper = mockCommandWrapper();
+        JsonCommand jsonCommand = Mockito.mock(JsonCommand.class);
+        when(jsonCommand.commandId()).thenReturn(null);
+        NewCommandSourceHandler commandHandler = Mockito.mock(NewCommandSourceHandler.class);
+        when(commandHandlerProvider.getHandler(Mockito.any(), Mockito.any())).thenReturn(commandHandler);
+        String idk = "idk";
+        when(idempotencyKeyResolver.resolve(commandWrapper)).thenReturn(idk);
+        when(idempotencyKeyResolver.isProvided(commandWrapper)).thenReturn(true);
+        AppUser appUser = Mockito.mock(AppUser.class);
+        when(context.authenticatedUser(Mockito.any(CommandWrapper.class))).thenReturn(appUser);
+        CommandSource commandSource = Mockito.mock(CommandSource.class);
+        when(commandSource.getId()).thenReturn(1L);
+        when(commandSource.getIdempotencyKey()).thenReturn(idk);
+        when(commandSourceService.getInitialCommandSource(commandWrapper, jsonCommand, appUser, idk)).thenReturn(commandSource);
+        when(commandLeaseService.acquire(commandSource)).thenReturn(true);
+        RuntimeException runtimeException = new RuntimeException("foo");
+        when(commandSourceService.processCommandAndSaveResult(Mockito.eq(commandHandler), Mockito.eq(jsonCommand),
+                Mockito.eq(commandSource), Mockito.eq(appUser), Mockito.eq(false), Mockito.eq(true), Mockito.any())).thenThrow(runtimeException);
+        when(commandSourceService.generateErrorInfo(runtimeException)).thenReturn(new ErrorInfo(500, 9999, "foo", null));
+        when(commandSourceService.saveResultAndReleaseLeaseNewTransaction(commandSource, true)).thenReturn(commandSource);
+
+        assertThrows(RuntimeException.class, () -> {
+            underTest.executeCommand(commandWrapper, jsonCommand, false);
+        });
+
+        verify(commandSource).setStatus(CommandProcessingResultType.ERROR.getValue());
+        verify(commandSourceService).saveResultAndReleaseLeaseNewTransaction(commandSource, true);
+        verify(commandSourceService, never()).saveResultNewTransaction(Mockito.any());
+    }
+
+    @Test
+    public void testExecuteCommandWithDeferredAuditReturnsIdOfCommandAwaitingApproval() {
+        commandProperties.setDeferredAuditEnabled(true);
+        CommandWrapper commandWrapper = mockCommandWrapper();
+        JsonCommand jsonCommand = Mockito.mock(JsonCommand.class);
+        when(jsonCommand.commandId()).thenReturn(null);
+        NewCommandSourceHandler commandHandler = Mockito.mock(NewCommandSourceHandler.class);
+        when(commandHandlerProvider.getHandler(Mockito.any(), Mockito.any())).thenReturn(commandHandler);
+        String idk = "idk";
+        when(idempotencyKeyResolver.resolve(commandWrapper)).thenReturn(idk);
+        when(idempotencyKeyResolver.isProvided(commandWrapper)).thenReturn(true);
+        AppUser appUser = Mockito.mock(AppUser.class);
+        when(context.authenticatedUser(Mockito.any(CommandWrapper.class))).thenReturn(appUser);
+        CommandSource commandSource = Mockito.mock(CommandSource.class);
+        when(commandSource.getIdempotencyKey()).thenReturn(idk);
+        when(commandSourceService.getInitialCommandSource(commandWrapper, jsonCommand, appUser, idk)).thenReturn(commandSource);
+        when(commandLeaseService.acquire(commandSource)).thenReturn(true);
+        // the handler asked for a rollback, the command has no audit row yet
+        RollbackTransactionNotApprovedException notApproved = new RollbackTransactionNotApprovedException(null, null);
+        when(commandSourceService.processCommandAndSaveResult(Mockito.eq(commandHandler), Mockito.eq(jsonCommand),
+                Mockito.eq(commandSource), Mockito.eq(appUser), Mockito.eq(false), Mockito.eq(true), Mockito.any()))
+                .thenThrow(notApproved);
+        when(commandSourceService.generateErrorInfo(Mockito.any())).thenReturn(new ErrorInfo(200, 4001, "{}", null));
+        CommandSource savedCommandSource = Mockito.mock(CommandSource.class);
+        when(savedCommandSource.getId()).thenReturn(7L);
+        when(savedCommandSource.getResourceId()).thenReturn(3L);
+        when(commandSourceService.saveResultAndReleaseLeaseNewTransaction(commandSource, true)).thenReturn(savedCommandSource);
+        when(commandSourceService.saveResultNewTransaction(savedCommandSource)).thenReturn(savedCommandSource);
+
+        RollbackTransactionNotApprovedException thrown = assertThrows(RollbackTransactionNotApprovedException.class, () -> {
+            underTest.executeCommand(commandWrapper, jsonCommand, false);
+        });
+
+        assertNull(notApproved.getResult().getCommandId());
+        assertEquals(7L, thrown.getResult().getCommandId());
+        assertEquals(3L, thrown.getResult().getResourceId());
+        verify(commandSource, never()).setStatus(CommandProcessingResultType.ERROR.getValue());
+        verify(commandSourceService).generateErrorInfo(thrown);
+        verify(savedCommandSource).setResult("{}");
+        verify(commandSourceService).saveResultNewTransaction(savedCommandSource);
+        verify(fineractRequestContextHolder).setAttribute(SynchronousCommandProcessingService.COMMAND_SOURCE_ID, 7L);
+    }
+
+    @Test
+    public void testExecuteCommandWithDeferredAuditTakesNoLeaseForGeneratedIdempotencyKey() {
+        commandProperties.setDeferredAuditEnabled(true);
+        CommandWrapper commandWrapper = mockCommandWrapper();
+        JsonCommand jsonCommand = Mockito.mock(JsonCommand.class);
+        when(jsonCommand.commandId()).thenReturn(null);
+        NewCommandSourceHandler commandHandler = Mockito.mock(NewCommandSourceHandler.class);
+        when(commandHandlerProvider.getHandler(Mockito.any(), Mockito.any())).thenReturn(commandHandler);
+        String idk = "generated";
+        when(idempotencyKeyResolver.resolve(commandWrapper)).thenReturn(idk);
+        when(idempotencyKeyResolver.isProvided(commandWrapper)).thenReturn(false);
+        AppUser appUser = Mockito.mock(AppUser.class);
+        when(context.authenticatedUser(Mockito.any(CommandWrapper.class))).thenReturn(appUser);
+        CommandSource commandSource = Mockito.mock(CommandSource.class);
+        when(commandSource.getId()).thenReturn(1L);
+        when(commandSource.getIdempotencyKey()).thenReturn(idk);
+        when(commandSourceService.getInitialCommandSource(commandWrapper, jsonCommand, appUser, idk)).thenReturn(commandSource);
+        CommandProcessingResult commandProcessingResult = Mockito.mock(CommandProcessingResult.class);
+        when(commandSourceService.processCommandAndSaveResult(Mockito.eq(commandHandler), Mockito.eq(jsonCommand),
+                Mockito.eq(commandSource), Mockito.eq(appUser), Mockito.eq(false), Mockito.eq(false), Mockito.any()))
+                .thenReturn(commandProcessingResult);
+
+        CommandProcessingResult actualCommandProcessingResult = underTest.executeCommand(commandWrapper, jsonCommand, false);
+
+        assertEquals(commandProcessingResult, actualCommandProcessingResult);
+        verify(commandLeaseService, never()).acquire(Mockito.any());
+        verify(commandSourceService, never()).findCommandSource(Mockito.any(), Mockito.any());
+    }
+
+        private CommandWrapper mockCommandWrapper() {
+        CommandWrapper commandWrapper = Mockito.mock(CommandWrapper.class);
+        when(commandWrapper.isDatatableResource()).thenReturn(false);
+        when(commandWrapper.isNoteResource()).thenReturn(false);
+        when(commandWrapper.isSurveyResource()).thenReturn(false);
+        when(commandWrapper.isLoanDisburseDetailResource()).thenReturn(false);
+        return commandWrapper;
+    }
+
     @Test
     public void publishHookEventHandlesInvalidJson() {
         String entityName = "entity";
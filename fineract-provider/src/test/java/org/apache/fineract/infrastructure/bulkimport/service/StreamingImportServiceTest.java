@@ -0,0 +1,304 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.fineract.commands.domain.CommandWrapper;
+import org.apache.fineract.commands.service.PortfolioCommandSourceWritePlatformService;
+import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
+import org.apache.fineract.infrastructure.bulkimport.data.Count;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportFormatType;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.savings.SavingsTransactionImportHandler;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.paymenttype.domain.PaymentTypeRepository;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StreamingImportServiceTest {
+
+    private static final String HEADER = "Office Name,Client Name*,Account No.*,Product Name,Opening Balance,Transaction Type*,Amount*,"
+            + "Date*,Type*,Account No,Check No,Routing Code,Receipt No,Bank No,Status";
+
+    @Mock
+    private PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService;
+    @Mock
+    private PaymentTypeRepository paymentTypeRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path tempDir;
+
+    private SavingsTransactionImportHandler handler;
+    private StreamingImportService underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 1, 31))));
+        when(paymentTypeRepository.findAll()).thenReturn(List.of());
+        FineractProperties.FineractBulkImportProperties bulkImportProperties = new FineractProperties.FineractBulkImportProperties();
+        bulkImportProperties.setThreadCount(2);
+        bulkImportProperties.setChunkSize(2);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setBulkImport(bulkImportProperties);
+        handler = new SavingsTransactionImportHandler(commandsSourceWritePlatformService, paymentTypeRepository);
+        underTest = new StreamingImportService(commandsSourceWritePlatformService, jdbcTemplate, fineractProperties);
+        underTest.afterPropertiesSet();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        underTest.destroy();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testImportsRowsOfAnAccountInFileOrder() throws IOException {
+        // given
+        final List<CommandWrapper> commands = Collections.synchronizedList(new ArrayList<>());
+        when(commandsSourceWritePlatformService.logCommandSource(any(CommandWrapper.class))).thenAnswer(invocation -> {
+            commands.add(invocation.getArgument(0));
+            return null;
+        });
+        final Path file = writeCsv(row(1L, "Deposit", "10", "", "r1"), row(2L, "Deposit", "20", "", "r2"),
+                row(1L, "Withdrawal", "11", "", "r3"), row(2L, "Deposit", "21", "", "r4"), row(1L, "Deposit", "12", "", "r5"),
+                row(3L, "Deposit", "30", "Imported", "r6"),
+                row(2L, "Deposit", "", "", "r7"), row(1L, "Deposit", "13", "", "r8"));
+
+        // when
+        final Count count = underTest.importRows(5L, handler, ImportFormatType.CSV, file.toFile(), "en", "dd MMMM yyyy");
+
+        // then
+        Assertions.assertEquals(6, count.getSuccessCount());
+        Assertions.assertEquals(0, count.getErrorCount());
+        Assertions.assertEquals(List.of("r1", "r3", "r5", "r8"), receiptNumbersOf(commands, 1L));
+        Assertions.assertEquals(List.of("r2", "r4"), receiptNumbersOf(commands, 2L));
+        Assertions.assertEquals(List.of(), receiptNumbersOf(commands, 3L));
+    }
+
+    @Test
+    public void testRecordsTheOutcomeOfEveryRow() throws IOException {
+        // given
+        final Path file = writeCsv(row(1L, "Deposit", "10", "", "r1"), row(1L, "Deposit", "11", "Cash", "", "r2"));
+
+        // when
+        final Count count = underTest.importRows(5L, handler, ImportFormatType.CSV, file.toFile(), "en", "dd MMMM yyyy");
+
+        // then
+        Assertions.assertEquals(1, count.getSuccessCount());
+        Assertions.assertEquals(1, count.getErrorCount());
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<Object[]>> rowResults = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(any(String.class), rowResults.capture());
+        final List<Object[]> results = rowResults.getAllValues().stream().flatMap(List::stream).collect(Collectors.toList());
+        Assertions.assertEquals(2, results.size());
+        Assertions.assertArrayEquals(new Object[] { 5L, 1, true, null }, results.get(0));
+        Assertions.assertEquals(2, results.get(1)[1]);
+        Assertions.assertEquals(false, results.get(1)[2]);
+        Assertions.assertNotNull(results.get(1)[3]);
+    }
+
+    @Test
+    public void testRecordsTheRowsLeftOutByAFailedChunkAsFailed() throws IOException {
+        // given
+        doThrow(new IllegalStateException("Connection lost")).doReturn(new int[0]).when(jdbcTemplate).batchUpdate(any(String.class),
+                anyList());
+        final Path file = writeCsv(row(1L, "Deposit", "10", "", "r1"), row(1L, "Deposit", "11", "", "r2"),
+                row(1L, "Deposit", "12", "", "r3"), row(1L, "Deposit", "13", "", "r4"));
+
+        // when
+        final Count count = underTest.importRows(5L, handler, ImportFormatType.CSV, file.toFile(), "en", "dd MMMM yyyy");
+
+        // then
+        Assertions.assertEquals(0, count.getSuccessCount());
+        Assertions.assertEquals(4, count.getErrorCount());
+        verify(commandsSourceWritePlatformService, times(2)).logCommandSource(any(CommandWrapper.class));
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<Object[]>> rowResults = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(3)).batchUpdate(any(String.class), rowResults.capture());
+        final List<Object[]> recorded = rowResults.getAllValues().stream().skip(1).flatMap(List::stream).collect(Collectors.toList());
+        Assertions.assertEquals(List.of(1, 2, 3, 4), recorded.stream().map(result -> result[1]).collect(Collectors.toList()));
+        Assertions.assertTrue(recorded.stream().allMatch(result -> Boolean.FALSE.equals(result[2])));
+        Assertions.assertTrue(((String) recorded.get(0)[3]).startsWith("The import failed before the outcome of the row was stored"));
+        Assertions.assertEquals("The row was not imported, the import failed: Connection lost", recorded.get(2)[3]);
+    }
+
+    @Test
+    public void testImportsRowsOfAnXlsxSheet() throws IOException {
+        // given
+        final List<CommandWrapper> commands = Collections.synchronizedList(new ArrayList<>());
+        when(commandsSourceWritePlatformService.logCommandSource(any(CommandWrapper.class))).thenAnswer(invocation -> {
+            commands.add(invocation.getArgument(0));
+            return null;
+        });
+        final Path file = tempDir.resolve("savings-transactions.xlsx");
+        try (Workbook workbook = new XSSFWorkbook()) {
+            workbook.createSheet(TemplatePopulateImportConstants.EXTRAS_SHEET_NAME).createRow(0).createCell(0).setCellValue("Cash");
+            final Sheet sheet = workbook.createSheet(TemplatePopulateImportConstants.SAVINGS_TRANSACTION_SHEET_NAME);
+            final String[] header = HEADER.split(",");
+            final Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < header.length; i++) {
+                headerRow.createCell(i).setCellValue(header[i]);
+            }
+            final CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("dd MMMM yyyy"));
+            xlsxRow(sheet, 1, 1L, 10.5, dateStyle, "r1");
+            // an empty row in between is skipped
+            xlsxRow(sheet, 3, 2L, 20, dateStyle, "r2");
+            try (OutputStream out = Files.newOutputStream(file)) {
+                workbook.write(out);
+            }
+        }
+
+        // when
+        final Count count = underTest.importRows(5L, handler, ImportFormatType.XLSX, file.toFile(), "en", "dd MMMM yyyy");
+
+        // then
+        Assertions.assertEquals(2, count.getSuccessCount());
+        Assertions.assertEquals(0, count.getErrorCount());
+        Assertions.assertEquals(List.of("r1"), receiptNumbersOf(commands, 1L));
+        Assertions.assertEquals(List.of("r2"), receiptNumbersOf(commands, 2L));
+        final String json = commands.stream().filter(command -> command.getSavingsId().equals(1L)).findFirst().orElseThrow().getJson();
+        Assertions.assertTrue(json.contains("10.5"), json);
+        Assertions.assertTrue(json.contains("15 January 2024"), json);
+    }
+
+    @Test
+    public void testWritesTheStatusOfEveryRowToTheResult() throws IOException, SQLException {
+        // given
+        final Path file = writeCsv(row(1L, "Deposit", "10", "", "r1"), row(1L, "Deposit", "11", "", "r2"),
+                row(1L, "Deposit", "", "", "r3"));
+        final ResultSet importedRow = mock(ResultSet.class);
+        when(importedRow.getBoolean("success")).thenReturn(true);
+        when(importedRow.getInt("row_index")).thenReturn(1);
+        final ResultSet failedRow = mock(ResultSet.class);
+        when(failedRow.getBoolean("success")).thenReturn(false);
+        when(failedRow.getInt("row_index")).thenReturn(2);
+        when(failedRow.getString("message")).thenReturn("Insufficient balance");
+        doAnswer(invocation -> {
+            final RowCallbackHandler rowCallbackHandler = invocation.getArgument(1);
+            rowCallbackHandler.processRow(importedRow);
+            rowCallbackHandler.processRow(failedRow);
+            return null;
+        }).when(jdbcTemplate).query(any(String.class), any(RowCallbackHandler.class), eq(5L));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        underTest.writeResult(5L, handler, ImportFormatType.CSV, file.toFile(), out);
+
+        // then
+        final List<String> lines = Arrays.asList(out.toString(StandardCharsets.UTF_8).split("\r\n"));
+        Assertions.assertEquals(4, lines.size());
+        Assertions.assertTrue(lines.get(0).endsWith(",Status"));
+        Assertions.assertTrue(lines.get(1).endsWith(",r1,,Imported"));
+        Assertions.assertTrue(lines.get(2).endsWith(",r2,,Insufficient balance"));
+        Assertions.assertTrue(lines.get(3).endsWith(",r3,,"));
+        verify(commandsSourceWritePlatformService, never()).logCommandSource(any());
+        verify(jdbcTemplate, never()).batchUpdate(any(String.class), anyList());
+    }
+
+    private static void xlsxRow(final Sheet sheet, final int rowIndex, final Long savingsId, final double amount, final CellStyle dateStyle,
+            final String receiptNumber) {
+        final Row row = sheet.createRow(rowIndex);
+        row.createCell(0).setCellValue("Head Office");
+        row.createCell(1).setCellValue("Client");
+        row.createCell(2).setCellValue(savingsId);
+        row.createCell(3).setCellValue("Savings");
+        row.createCell(5).setCellValue("Deposit");
+        row.createCell(6).setCellValue(amount);
+        final Cell date = row.createCell(7);
+        date.setCellValue(LocalDate.of(2024, 1, 15));
+        date.setCellStyle(dateStyle);
+        row.createCell(12).setCellValue(receiptNumber);
+    }
+
+    private Path writeCsv(final String... rows) throws IOException {
+        final Path file = tempDir.resolve("savings-transactions.csv");
+        Files.writeString(file, HEADER + "\r\n" + String.join("\r\n", rows) + "\r\n", StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static String row(final Long savingsId, final String transactionType, final String amount, final String status,
+            final String receiptNumber) {
+        return row(savingsId, transactionType, amount, "", status, receiptNumber);
+    }
+
+    private static String row(final Long savingsId, final String transactionType, final String amount, final String paymentType,
+            final String status, final String receiptNumber) {
+        return String.join(",", "Head Office", "Client", String.valueOf(savingsId), "Savings", "0", transactionType, amount, "2024-01-15",
+                paymentType, "", "", "", receiptNumber, "", status);
+    }
+
+    private static List<String> receiptNumbersOf(final List<CommandWrapper> commands, final Long savingsId) {
+        synchronized (commands) {
+            return commands.stream().filter(command -> savingsId.equals(command.getSavingsId()))
+                    .map(command -> command.getJson().replaceAll(".*\"receiptNumber\":\"([^\"]*)\".*", "$1")).collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidation;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseCacheInvalidationChannelTest {
+
+    private static final CacheInvalidation INVALIDATION = new CacheInvalidation("default", "code_values", "1");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<CacheInvalidation> received = new ArrayList<>();
+    private DatabaseCacheInvalidationChannel channel;
+
+    @BeforeEach
+    public void setUp() {
+        FineractProperties.FineractCacheInvalidationProperties invalidation = new FineractProperties.FineractCacheInvalidationProperties();
+        invalidation.setEnabled(true);
+        invalidation.setPollInterval(1000);
+        invalidation.setRetentionInMinutes(60);
+        FineractProperties.FineractCacheProperties cache = new FineractProperties.FineractCacheProperties();
+        cache.setInvalidation(invalidation);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setCache(cache);
+        channel = new DatabaseCacheInvalidationChannel(jdbcTemplate, fineractProperties);
+        channel.subscribe(received::add);
+    }
+
+    @Test
+    public void testPublishOutsideTransactionIsLoggedImmediately() {
+        //when
+        channel.publish(INVALIDATION);
+
+        //then
+        verify(jdbcTemplate).update(anyString(), anyString(), eq("default"), eq("code_values"), eq("1"), any());
+    }
+
+    @Test
+    public void testPublishInsideTransactionIsLoggedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            //when
+            channel.publish(INVALIDATION);
+
+            //then
+            verifyNoInteractions(jdbcTemplate);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(jdbcTemplate).update(anyString(), anyString(), eq("default"), eq("code_values"), eq("1"), any());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testPollDispatchesInvalidationsOfOtherNodesOnly() {
+        //given
+        String ownNodeId = publishAndCaptureNodeId();
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(10L);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(rows(row(11L, "other", INVALIDATION), row(12L, ownNodeId, INVALIDATION)));
+
+        //when
+        channel.poll();
+
+        //then
+        Assertions.assertEquals(List.of(INVALIDATION), received);
+    }
+
+    @Test
+    public void testSkippedIdsArePolledAgain() {
+        //given
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(10L);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(rows(row(12L, "other", INVALIDATION))).thenAnswer(rows(row(11L, "other", INVALIDATION)));
+        channel.poll();
+
+        //when
+        channel.poll();
+
+        //then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(2)).query(sql.capture(), any(RowMapper.class), params.capture());
+        Assertions.assertTrue(sql.getAllValues().get(1).contains("id in (?)"));
+        Assertions.assertArrayEquals(new Object[] { 12L, 11L }, params.getAllValues().get(1));
+        Assertions.assertEquals(2, received.size());
+    }
+
+    private String publishAndCaptureNodeId() {
+        channel.publish(INVALIDATION);
+        ArgumentCaptor<Object> nodeId = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).update(anyString(), nodeId.capture(), any(), any(), any(), any());
+        return (String) nodeId.getValue();
+    }
+
+    private static Object[] row(long id, String nodeId, CacheInvalidation invalidation) {
+        return new Object[] { id, nodeId, invalidation };
+    }
+
+    private static Answer<List<Object>> rows(Object[]... rows) {
+        return invocation -> {
+            RowMapper<?> rowMapper = invocation.getArgument(1);
+            List<Object> result = new ArrayList<>();
+            for (Object[] row : rows) {
+                result.add(rowMapper.mapRow(resultSet(row), result.size()));
+            }
+            return result;
+        };
+    }
+
+    private static ResultSet resultSet(Object[] row) throws SQLException {
+        CacheInvalidation invalidation = (CacheInvalidation) row[2];
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong("id")).thenReturn((Long) row[0]);
+        when(resultSet.getString("node_id")).thenReturn((String) row[1]);
+        when(resultSet.getString("tenant_identifier")).thenReturn(invalidation.tenantIdentifier());
+        when(resultSet.getString("cache_name")).thenReturn(invalidation.cacheName());
+        when(resultSet.getString("cache_key")).thenReturn(invalidation.key());
+        return resultSet;
+    }
+}
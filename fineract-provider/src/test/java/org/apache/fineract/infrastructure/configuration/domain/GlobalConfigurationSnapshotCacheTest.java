@@ -0,0 +1,188 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.configuration.domain;
+
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidation;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationChannel;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.tenant.TenantDetailsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class GlobalConfigurationSnapshotCacheTest {
+
+    @Mock
+    private GlobalConfigurationRepository repository;
+    @Mock
+    private TenantDetailsService tenantDetailsService;
+    @Mock
+    private ObjectProvider<PlatformTransactionManager> transactionManagerProvider;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private CacheInvalidationChannel invalidationChannel;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private GlobalConfigurationSnapshotCache snapshotCache;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        lenient().when(transactionManagerProvider.getObject()).thenReturn(transactionManager);
+        snapshotCache = new GlobalConfigurationSnapshotCache(repository, tenantDetailsService, transactionManagerProvider,
+                invalidationChannel, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testPropertiesAreLoadedOnceAndServedFromTheSnapshot() {
+        //given
+        when(repository.findAll()).thenReturn(List.of(property("maker-checker", true), property("enable-address", false)));
+
+        //when
+        boolean makerChecker = snapshotCache.get("maker-checker").isEnabled();
+        boolean address = snapshotCache.get("enable-address").isEnabled();
+
+        //then
+        Assertions.assertTrue(makerChecker);
+        Assertions.assertFalse(address);
+        verify(repository, times(1)).findAll();
+        Assertions.assertEquals(2.0, lookups("hit"));
+        Assertions.assertEquals(1L, meterRegistry.get(GlobalConfigurationSnapshotCache.RELOADS_METRIC).timer().count());
+    }
+
+    @Test
+    public void testUnknownPropertyIsCountedAsMiss() {
+        //given
+        when(repository.findAll()).thenReturn(List.of(property("maker-checker", true)));
+
+        //when
+        Assertions.assertNull(snapshotCache.get("unknown"));
+
+        //then
+        Assertions.assertEquals(1.0, lookups("miss"));
+        Assertions.assertEquals(0.0, lookups("hit"));
+    }
+
+    @Test
+    public void testReloadOutsideTransactionSwapsTheSnapshot() {
+        //given
+        when(repository.findAll()).thenReturn(List.of(property("maker-checker", false)),
+                List.of(property("maker-checker", true)));
+        Assertions.assertFalse(snapshotCache.get("maker-checker").isEnabled());
+
+        //when
+        snapshotCache.reload();
+
+        //then
+        Assertions.assertTrue(snapshotCache.get("maker-checker").isEnabled());
+        verify(repository, times(2)).findAll();
+        verify(invalidationChannel).publish(new CacheInvalidation("default", GlobalConfigurationSnapshotCache.SNAPSHOT_NAME, null));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testInvalidationFromOtherNodeDropsTheSnapshotOfTheTenant() {
+        //given
+        ArgumentCaptor<Consumer<CacheInvalidation>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationChannel).subscribe(listener.capture());
+        when(repository.findAll()).thenReturn(List.of(property("maker-checker", false)),
+                List.of(property("maker-checker", true)));
+        Assertions.assertFalse(snapshotCache.get("maker-checker").isEnabled());
+
+        //when
+        listener.getValue().accept(new CacheInvalidation("other", GlobalConfigurationSnapshotCache.SNAPSHOT_NAME, null));
+        boolean afterOtherTenant = snapshotCache.get("maker-checker").isEnabled();
+        listener.getValue().accept(new CacheInvalidation("default", GlobalConfigurationSnapshotCache.SNAPSHOT_NAME, null));
+
+        //then
+        Assertions.assertFalse(afterOtherTenant);
+        Assertions.assertTrue(snapshotCache.get("maker-checker").isEnabled());
+        verify(repository, times(2)).findAll();
+    }
+
+    @Test
+    public void testReloadInsideTransactionWaitsForTheCommit() {
+        //given
+        when(repository.findAll()).thenReturn(List.of(property("maker-checker", false)),
+                List.of(property("maker-checker", true)));
+        Assertions.assertFalse(snapshotCache.get("maker-checker").isEnabled());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            //when
+            snapshotCache.reload();
+
+            //then
+            Assertions.assertFalse(snapshotCache.get("maker-checker").isEnabled());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            Assertions.assertTrue(snapshotCache.get("maker-checker").isEnabled());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testSnapshotsArePreloadedForAllTenants() {
+        //given
+        when(tenantDetailsService.findAllTenants())
+                .thenReturn(List.of(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null)));
+        when(repository.findAll()).thenReturn(List.of(property("maker-checker", true)));
+
+        //when
+        snapshotCache.onApplicationEvent(null);
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+
+        //then
+        Assertions.assertTrue(snapshotCache.get("maker-checker").isEnabled());
+        verify(repository, times(1)).findAll();
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get(GlobalConfigurationSnapshotCache.LOOKUPS_METRIC).tag("result", result).counter().count();
+    }
+
+    private static GlobalConfigurationProperty property(String name, boolean enabled) {
+        return GlobalConfigurationProperty.newSurveyConfiguration(name).setEnabled(enabled);
+    }
+}
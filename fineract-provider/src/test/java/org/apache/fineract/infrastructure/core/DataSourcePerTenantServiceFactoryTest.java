@@ -20,11 +20,13 @@ package org.apache.fineract.infrastructure.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.zaxxer.hikari.HikariConfig;
@@ -40,6 +42,7 @@ import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenantConn
 import org.apache.fineract.infrastructure.core.service.database.DataSourcePerTenantServiceFactory;
 import org.apache.fineract.infrastructure.core.service.database.DatabasePasswordEncryptor;
 import org.apache.fineract.infrastructure.core.service.database.HikariDataSourceFactory;
+import org.apache.fineract.infrastructure.core.service.database.ReadReplicaRoutingDataSource;
 import org.apache.fineract.infrastructure.security.utils.EncryptionUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,6 +54,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.security.crypto.bcrypt.BCrypt;
 
 @ExtendWith(MockitoExtension.class)
@@ -154,7 +158,11 @@ public class DataSourcePerTenantServiceFactoryTest {
         given(tenantHikariConfig.getDataSourceProperties()).willReturn(mock(Properties.class));
         given(tenantHikariConfig.isAutoCommit()).willReturn(MASTER_DB_AUTO_COMMIT_ENABLED);
 
-        given(hikariDataSourceFactory.create(any())).willReturn(mock(HikariDataSource.class));
+        HikariDataSource hikariDataSource = mock(HikariDataSource.class);
+        given(hikariDataSource.getConnection()).willReturn(connection);
+        given(connection.getAutoCommit()).willReturn(MASTER_DB_AUTO_COMMIT_ENABLED);
+        given(connection.getTransactionIsolation()).willReturn(Connection.TRANSACTION_READ_COMMITTED);
+        given(hikariDataSourceFactory.create(any())).willReturn(hikariDataSource);
 
         FineractProperties.FineractConfigProperties configProperties = new FineractProperties.FineractConfigProperties();
         configProperties.setMinPoolSize(-1);
@@ -167,6 +175,10 @@ public class DataSourcePerTenantServiceFactoryTest {
         given(tenantPropertiesMock.getConfig()).willReturn(configProperties);
         given(fineractProperties.getTenant()).willReturn(tenantPropertiesMock);
 
+        FineractProperties.FineractDatabaseProperties databaseProperties = new FineractProperties.FineractDatabaseProperties();
+        databaseProperties.setReadReplica(new FineractProperties.FineractReadReplicaProperties());
+        given(fineractProperties.getDatabase()).willReturn(databaseProperties);
+
         given(databasePasswordEncryptor.isMasterPasswordHashValid(any())).willReturn(true);
         given(databasePasswordEncryptor.getMasterPasswordHash()).willReturn(hashedMasterPassword);
         given(databasePasswordEncryptor.decrypt(any())).will(
@@ -352,6 +364,51 @@ public class DataSourcePerTenantServiceFactoryTest {
         assertEquals(MASTER_DB_AUTO_COMMIT_ENABLED, hikariConfig.isAutoCommit());
     }
 
+    @Test
+    void testCreateNewDataSourceFor_ShouldRouteToReadReplica_WhenReadReplicaEnabled() {
+        // given
+        FineractProperties.FineractModeProperties modeProperties = createModeProps(MASTER_DB_AUTO_COMMIT_ENABLED,
+                MASTER_DB_AUTO_COMMIT_ENABLED, MASTER_DB_AUTO_COMMIT_ENABLED, MASTER_DB_AUTO_COMMIT_ENABLED);
+        given(fineractProperties.getMode()).willReturn(modeProperties);
+        fineractProperties.getDatabase().getReadReplica().setEnabled(true);
+
+        // when
+        DataSource dataSource = underTest.createNewDataSourceFor(defaultTenant.getConnection());
+
+        // then
+        assertInstanceOf(LazyConnectionDataSourceProxy.class, dataSource);
+        assertInstanceOf(ReadReplicaRoutingDataSource.class, ((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource());
+        verify(hikariDataSourceFactory, times(2)).create(hikariConfigCaptor.capture());
+        HikariConfig primaryConfig = hikariConfigCaptor.getAllValues().get(0);
+        assertFalse(primaryConfig.isReadOnly());
+        assertEquals(MASTER_DB_JDBC_URL, primaryConfig.getJdbcUrl());
+        assertEquals(MASTER_DB_SCHEMA_NAME + "_pool", primaryConfig.getPoolName());
+        HikariConfig replicaConfig = hikariConfigCaptor.getAllValues().get(1);
+        assertTrue(replicaConfig.isReadOnly());
+        assertEquals(READONLY_DB_JDBC_URL, replicaConfig.getJdbcUrl());
+        assertEquals(READONLY_DB_SCHEMA_NAME + "_read_replica_pool", replicaConfig.getPoolName());
+        assertEquals(READONLY_DB_USERNAME, replicaConfig.getUsername());
+        assertEquals(READONLY_DB_PASSWORD, replicaConfig.getPassword());
+    }
+
+    @Test
+    void testCreateNewDataSourceFor_ShouldNotRouteToReadReplica_WhenNoReadOnlyServerConfigured() {
+        // given
+        FineractProperties.FineractModeProperties modeProperties = createModeProps(MASTER_DB_AUTO_COMMIT_ENABLED,
+                MASTER_DB_AUTO_COMMIT_ENABLED, MASTER_DB_AUTO_COMMIT_ENABLED, MASTER_DB_AUTO_COMMIT_ENABLED);
+        given(fineractProperties.getMode()).willReturn(modeProperties);
+        fineractProperties.getDatabase().getReadReplica().setEnabled(true);
+        given(tenantConnection.getReadOnlySchemaServer()).willReturn(null);
+
+        // when
+        DataSource dataSource = underTest.createNewDataSourceFor(defaultTenant.getConnection());
+
+        // then
+        assertInstanceOf(HikariDataSource.class, dataSource);
+        verify(hikariDataSourceFactory).create(hikariConfigCaptor.capture());
+        assertEquals(MASTER_DB_SCHEMA_NAME + "_pool", hikariConfigCaptor.getValue().getPoolName());
+    }
+
     private FineractProperties.FineractModeProperties createModeProps(boolean readEnabled, boolean writeEnabled, boolean batchWorkerEnabled,
             boolean batchManagerEnabled) {
         FineractProperties.FineractModeProperties modeProperties = new FineractProperties.FineractModeProperties();
@@ -0,0 +1,141 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.cache;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidation;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationChannel;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.jcache.JCacheCacheManager;
+
+@ExtendWith(MockitoExtension.class)
+class MultiNodeCacheManagerTest {
+
+    private static final String CACHE_NAME = "multiNodeCacheManagerTest";
+
+    @Mock
+    private CacheInvalidationChannel invalidationChannel;
+
+    private javax.cache.CacheManager nativeCacheManager;
+    private JCacheCacheManager localCacheManager;
+    private MultiNodeCacheManager cacheManager;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        nativeCacheManager = Caching.getCachingProvider().getCacheManager();
+        nativeCacheManager.createCache(CACHE_NAME, new MutableConfiguration<>());
+        localCacheManager = new JCacheCacheManager(nativeCacheManager);
+        localCacheManager.afterPropertiesSet();
+        cacheManager = new MultiNodeCacheManager(localCacheManager, invalidationChannel);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        nativeCacheManager.destroyCache(CACHE_NAME);
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testEvictionIsPublishedToTheOtherNodes() {
+        //given
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        cache.put(1L, "value");
+
+        //when
+        cache.evict(1L);
+
+        //then
+        Assertions.assertNull(cache.get(1L));
+        verify(invalidationChannel).publish(new CacheInvalidation("default", CACHE_NAME, "1"));
+    }
+
+    @Test
+    public void testClearIsPublishedAsWholeCacheInvalidation() {
+        //given
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        cache.put(1L, "value");
+
+        //when
+        cache.clear();
+
+        //then
+        Assertions.assertNull(cache.get(1L));
+        verify(invalidationChannel).publish(new CacheInvalidation("default", CACHE_NAME, null));
+    }
+
+    @Test
+    public void testReadsAndWritesStayLocal() {
+        //given
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+
+        //when
+        cache.put(1L, "value");
+
+        //then
+        Assertions.assertEquals("value", cache.get(1L, String.class));
+        Assertions.assertNull(cacheManager.getCache("unknown"));
+        verifyNoInteractions(invalidationChannel);
+    }
+
+    @Test
+    public void testInvalidationFromOtherNodeEvictsMatchingKeyOnly() {
+        //given
+        Cache cache = localCacheManager.getCache(CACHE_NAME);
+        cache.put(1L, "first");
+        cache.put(2L, "second");
+
+        //when
+        cacheManager.invalidateLocally(new CacheInvalidation("default", CACHE_NAME, "1"));
+
+        //then
+        Assertions.assertNull(cache.get(1L));
+        Assertions.assertEquals("second", cache.get(2L, String.class));
+        verifyNoInteractions(invalidationChannel);
+    }
+
+    @Test
+    public void testWholeCacheInvalidationFromOtherNodeClearsTheCache() {
+        //given
+        Cache cache = localCacheManager.getCache(CACHE_NAME);
+        cache.put(1L, "first");
+        cache.put(2L, "second");
+
+        //when
+        cacheManager.invalidateLocally(new CacheInvalidation(null, CACHE_NAME, null));
+        cacheManager.invalidateLocally(new CacheInvalidation(null, "unknown", null));
+
+        //then
+        Assertions.assertNull(cache.get(1L));
+        Assertions.assertNull(cache.get(2L));
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TransactionBoundBufferTest {
+
+    private final Object firstOwner = new Object();
+    private final Object secondOwner = new Object();
+    private final List<String> written = new ArrayList<>();
+
+    private final TransactionBoundBuffer<List<String>> lastBuffer = new TransactionBoundBuffer<>(secondOwner, 200, ArrayList::new,
+            this::write);
+    private final TransactionBoundBuffer<List<String>> firstBuffer = new TransactionBoundBuffer<>(firstOwner, 100, ArrayList::new,
+            this::write);
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.unbindResourceIfPossible(firstOwner);
+        TransactionSynchronizationManager.unbindResourceIfPossible(secondOwner);
+    }
+
+    @Test
+    public void testItemsAreWrittenRightAwayWithoutTransaction() {
+        // when
+        firstBuffer.add(items -> items.add("first"));
+
+        // then
+        Assertions.assertFalse(firstBuffer.isActive());
+        Assertions.assertEquals(List.of("first"), written);
+        Assertions.assertFalse(TransactionSynchronizationManager.hasResource(firstOwner));
+    }
+
+    @Test
+    public void testBuffersAreWrittenInTheirOrderBeforeCommit() {
+        // given
+        startTransaction();
+        lastBuffer.add(items -> items.add("last"));
+        firstBuffer.add(items -> items.add("first"));
+        Assertions.assertTrue(written.isEmpty());
+
+        // when
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        Assertions.assertEquals(List.of("first", "last"), written);
+        Assertions.assertFalse(TransactionSynchronizationManager.hasResource(firstOwner));
+        Assertions.assertFalse(TransactionSynchronizationManager.hasResource(secondOwner));
+    }
+
+    @Test
+    public void testBufferIsSetAsideWhileTheTransactionIsSuspended() {
+        // given
+        startTransaction();
+        firstBuffer.add(items -> items.add("first"));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+        // when
+        synchronizations.forEach(TransactionSynchronization::suspend);
+        Assertions.assertNull(firstBuffer.getBoundBuffer());
+        synchronizations.forEach(TransactionSynchronization::resume);
+
+        // then
+        Assertions.assertEquals(List.of("first"), firstBuffer.getBoundBuffer());
+        firstBuffer.flush();
+        Assertions.assertEquals(List.of("first"), written);
+        Assertions.assertTrue(firstBuffer.getBoundBuffer().isEmpty());
+    }
+
+    private void write(List<String> items) {
+        written.addAll(items);
+        items.clear();
+    }
+
+    private void startTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.fineract.infrastructure.core.domain.ReadReplicaContextHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class PrimaryCacheLoadInterceptorTest {
+
+    @Mock
+    private ObjectProvider<PlatformTransactionManager> transactionManagerProvider;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private MethodInvocation invocation;
+
+    private PrimaryCacheLoadInterceptor underTest;
+
+    @BeforeEach
+    void setUp() {
+        given(transactionManagerProvider.getObject()).willReturn(transactionManager);
+        given(transactionManager.getTransaction(any())).willReturn(mock(TransactionStatus.class));
+        underTest = new PrimaryCacheLoadInterceptor(transactionManagerProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void testCachedMethodRunsOnPrimary() throws Throwable {
+        given(invocation.proceed()).willAnswer(call -> ReadReplicaContextHolder.isPrimaryRequired());
+
+        assertEquals(Boolean.TRUE, underTest.invoke(invocation));
+        assertFalse(ReadReplicaContextHolder.isPrimaryRequired());
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    void testCachedMethodCalledFromReadOnlyTransactionRunsInNewTransaction() throws Throwable {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(invocation.proceed()).willAnswer(call -> ReadReplicaContextHolder.isPrimaryRequired());
+
+        assertEquals(Boolean.TRUE, underTest.invoke(invocation));
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW, definition.getValue().getPropagationBehavior());
+        assertTrue(definition.getValue().isReadOnly());
+        assertFalse(ReadReplicaContextHolder.isPrimaryRequired());
+    }
+
+    @Test
+    void testCheckedExceptionOfCachedMethodIsRethrown() throws Throwable {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(invocation.proceed()).willThrow(new IOException("failed"));
+
+        assertThrows(IOException.class, () -> underTest.invoke(invocation));
+        assertFalse(ReadReplicaContextHolder.isPrimaryRequired());
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.ReadReplicaContextHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ReadReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primaryDataSource;
+    @Mock
+    private DataSource replicaDataSource;
+    @Mock
+    private ResultSet lagResultSet;
+
+    private ReadReplicaRoutingDataSource underTest;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        Statement statement = mock(Statement.class);
+        given(replicaDataSource.getConnection()).willReturn(connection);
+        given(connection.getMetaData()).willReturn(metaData);
+        given(metaData.getDatabaseProductName()).willReturn("PostgreSQL");
+        given(connection.createStatement()).willReturn(statement);
+        given(statement.executeQuery(anyString())).willReturn(lagResultSet);
+        given(lagResultSet.next()).willReturn(true);
+        given(lagResultSet.getBigDecimal(1)).willReturn(BigDecimal.ONE);
+
+        FineractProperties.FineractReadReplicaProperties properties = new FineractProperties.FineractReadReplicaProperties();
+        properties.setEnabled(true);
+        properties.setMaxLagInSeconds(5);
+        properties.setLagCheckIntervalInSeconds(60);
+        properties.setReadYourWritesInSeconds(60);
+        underTest = new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource, properties);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("mifos", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadReplicaContextHolder.resetReadOnlyRequest();
+        SecurityContextHolder.clearContext();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void testReadOnlyTransactionUsesReplica() {
+        startTransaction(true);
+        assertSame(replicaDataSource, underTest.determineTargetDataSource());
+    }
+
+    @Test
+    void testReadWriteTransactionUsesPrimary() {
+        startTransaction(false);
+        assertSame(primaryDataSource, underTest.determineTargetDataSource());
+    }
+
+    @Test
+    void testGetRequestWithoutTransactionUsesReplica() {
+        ReadReplicaContextHolder.setReadOnlyRequest(true);
+        assertSame(replicaDataSource, underTest.determineTargetDataSource());
+    }
+
+    @Test
+    void testWorkOutsideOfRequestUsesPrimary() {
+        assertSame(primaryDataSource, underTest.determineTargetDataSource());
+    }
+
+    @Test
+    void testReadsOfUserAfterWriteStickToPrimary() {
+        startTransaction(false);
+        underTest.determineTargetDataSource();
+
+        startTransaction(true);
+        assertSame(primaryDataSource, underTest.determineTargetDataSource());
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("other", null));
+        assertSame(replicaDataSource, underTest.determineTargetDataSource());
+    }
+
+    @Test
+    void testCacheLoadUsesPrimary() {
+        startTransaction(true);
+
+        assertSame(primaryDataSource, ReadReplicaContextHolder.runOnPrimary(() -> underTest.determineTargetDataSource()));
+        assertSame(replicaDataSource, underTest.determineTargetDataSource());
+    }
+
+    @Test
+    void testCacheLoadIsNotTakenForAWrite() {
+        startTransaction(true);
+        ReadReplicaContextHolder.runOnPrimary(() -> underTest.determineTargetDataSource());
+
+        assertSame(replicaDataSource, underTest.determineTargetDataSource());
+    }
+
+    @Test
+    void testLaggingReplicaIsNotUsed() throws SQLException {
+        given(lagResultSet.getBigDecimal(1)).willReturn(BigDecimal.TEN);
+        startTransaction(true);
+
+        assertSame(primaryDataSource, underTest.determineTargetDataSource());
+        assertSame(primaryDataSource, underTest.determineTargetDataSource());
+        verify(replicaDataSource, times(1)).getConnection();
+    }
+
+    @Test
+    void testUnreachableReplicaIsNotUsed() throws SQLException {
+        given(replicaDataSource.getConnection()).willThrow(new SQLException("down"));
+        startTransaction(true);
+
+        assertSame(primaryDataSource, underTest.determineTargetDataSource());
+        verify(primaryDataSource, never()).getConnection();
+    }
+
+    private void startTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
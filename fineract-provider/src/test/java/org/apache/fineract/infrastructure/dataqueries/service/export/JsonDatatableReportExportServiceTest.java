@@ -0,0 +1,117 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service.export;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.core.serialization.ExcludeNothingWithPrettyPrintingOffJsonSerializerGoogleGson;
+import org.apache.fineract.infrastructure.core.serialization.ExcludeNothingWithPrettyPrintingOnJsonSerializerGoogleGson;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseType;
+import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
+import org.apache.fineract.infrastructure.dataqueries.service.GenericResultsetConsumer;
+import org.apache.fineract.infrastructure.dataqueries.service.ReadReportingService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JsonDatatableReportExportServiceTest {
+
+    private static final String REPORT_NAME = "Client Listing";
+
+    private final List<ResultsetColumnHeaderData> columnHeaders = List.of(
+            ResultsetColumnHeaderData.basic("id", "BIGINT", DatabaseType.MYSQL),
+            ResultsetColumnHeaderData.basic("name", "VARCHAR", DatabaseType.MYSQL),
+            ResultsetColumnHeaderData.basic("opened", "DATE", DatabaseType.MYSQL));
+    private final List<List<Object>> rows = List.of(Arrays.asList(1L, "A \"quoted\" name", LocalDate.of(2024, 1, 2)),
+            Arrays.asList(2L, null, null));
+
+    @Mock
+    private ReadReportingService readReportingService;
+
+    private JsonDatatableReportExportService exportService;
+
+    @BeforeEach
+    public void setUp() {
+        doAnswer(invocation -> {
+            GenericResultsetConsumer consumer = invocation.getArgument(4);
+            consumer.columnHeaders(columnHeaders);
+            for (List<Object> row : rows) {
+                consumer.row(row);
+            }
+            consumer.end();
+            return null;
+        }).when(readReportingService).streamGenericResultset(eq(REPORT_NAME), eq("report"), any(), eq(false), any());
+        exportService = new JsonDatatableReportExportService(readReportingService);
+    }
+
+    @Test
+    public void testStreamedGenericResultSetMatchesSerializedResultSet() throws Exception {
+        Assertions.assertEquals(new ExcludeNothingWithPrettyPrintingOffJsonSerializerGoogleGson().serialize(genericResultsetData()),
+                export(new MultivaluedHashMap<>()));
+    }
+
+    @Test
+    public void testStreamedPrettyGenericResultSetMatchesSerializedResultSet() throws Exception {
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.putSingle("pretty", "true");
+
+        Assertions.assertEquals(new ExcludeNothingWithPrettyPrintingOnJsonSerializerGoogleGson().serialize(genericResultsetData()),
+                export(queryParams));
+    }
+
+    @Test
+    public void testStreamsRowsAsObjectsWhenGenericResultSetIsNotRequested() throws Exception {
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.putSingle("genericResultSet", "false");
+
+        Assertions.assertEquals("[\n{\"id\": 1,\n\"name\": \"A \\\"quoted\\\" name\",\n\"opened\": [2024,1,2]},\n"
+                + "{\"id\": 2,\n\"name\": null,\n\"opened\": null}\n]", export(queryParams));
+    }
+
+    private String export(MultivaluedMap<String, String> queryParams) throws Exception {
+        ResponseHolder response = exportService.export(REPORT_NAME, queryParams, Map.of(), false, "report");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingOutput) response.entity()).write(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private GenericResultsetData genericResultsetData() {
+        return new GenericResultsetData(columnHeaders, rows.stream().map(ResultsetRowData::create).toList());
+    }
+}
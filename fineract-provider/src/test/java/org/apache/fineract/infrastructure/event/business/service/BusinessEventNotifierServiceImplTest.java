@@ -23,6 +23,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -35,12 +36,12 @@ import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
-import org.apache.fineract.infrastructure.event.external.repository.ExternalEventConfigurationRepository;
-import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventConfiguration;
+import org.apache.fineract.infrastructure.event.external.service.ExternalEventConfigurationCache;
 import org.apache.fineract.infrastructure.event.external.service.ExternalEventService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -58,7 +59,7 @@ class BusinessEventNotifierServiceImplTest {
     private ExternalEventService externalEventService;
 
     @Mock
-    private ExternalEventConfigurationRepository externalEventConfigurationRepository;
+    private ExternalEventConfigurationCache externalEventConfigurationCache;
 
     @Mock
     private FineractProperties fineractProperties;
@@ -80,8 +81,7 @@ class BusinessEventNotifierServiceImplTest {
         TransactionExecution mockTransaction = mock(TransactionExecution.class);
         underTest.afterBegin(mockTransaction, null);
         // when
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         when(transactionHelper.hasTransaction()).thenReturn(true);
         underTest.notifyPostBusinessEvent(event);
         // then
@@ -89,7 +89,10 @@ class BusinessEventNotifierServiceImplTest {
         verifyNoInteractions(externalEventService);
         // simulate finish transaction
         underTest.beforeCommit(mockTransaction);
-        verify(externalEventService).postEvent(event);
+        InOrder inOrder = Mockito.inOrder(externalEventService);
+        inOrder.verify(externalEventService).startBatch();
+        inOrder.verify(externalEventService).postEvent(event);
+        inOrder.verify(externalEventService).writeBatch();
         underTest.afterCommit(mockTransaction, null);
         verifyNoInteractions(mockTransaction);
     }
@@ -112,8 +115,7 @@ class BusinessEventNotifierServiceImplTest {
         underTest.addPostBusinessEventListener(MockBusinessEvent.class, postListener);
         TransactionExecution mockTransaction = mock(TransactionExecution.class);
         // when
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         when(transactionHelper.hasTransaction()).thenReturn(true);
 
         // simulate outer transaction
@@ -148,8 +150,7 @@ class BusinessEventNotifierServiceImplTest {
         underTest.addPostBusinessEventListener(MockBusinessEvent.class, postListener);
         TransactionExecution mockTransaction = mock(TransactionExecution.class);
         // when
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         when(transactionHelper.hasTransaction()).thenReturn(true);
 
         // simulate outer transaction
@@ -183,8 +184,7 @@ class BusinessEventNotifierServiceImplTest {
         TransactionExecution mockTransaction = mock(TransactionExecution.class);
         underTest.afterBegin(mockTransaction, null);
         // when
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         when(transactionHelper.hasTransaction()).thenReturn(true);
         underTest.notifyPostBusinessEvent(event);
         // then
@@ -222,8 +222,7 @@ class BusinessEventNotifierServiceImplTest {
         underTest.addPostBusinessEventListener(MockBusinessEvent.class, postListener);
 
         when(transactionHelper.hasTransaction()).thenReturn(false);
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         // when
         underTest.notifyPostBusinessEvent(event);
         // then
@@ -235,8 +234,7 @@ class BusinessEventNotifierServiceImplTest {
     public void testNotifyPostBusinessEventShouldNotPostAnythingWhenNoEventWasRaisedExternalEventWhenRecordingEnabled() {
         // given
         configureExternalEventsProperties(true);
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         underTest.startExternalEventRecording();
         // when
         underTest.stopExternalEventRecording();
@@ -248,8 +246,7 @@ class BusinessEventNotifierServiceImplTest {
     public void testNotifyPostBusinessEventShouldNotifyPostListenersAndPostARegularExternalEventWhenRecordingEnabled() {
         // given
         configureExternalEventsProperties(true);
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         MockBusinessEvent event = new MockBusinessEvent();
         BusinessEventListener<MockBusinessEvent> postListener = mockListener();
         underTest.addPostBusinessEventListener(MockBusinessEvent.class, postListener);
@@ -266,8 +263,7 @@ class BusinessEventNotifierServiceImplTest {
     public void testNotifyPostBusinessEventShouldNotifyPostListenersAndPostAnBulkExternalEventWhenRecordingEnabled() {
         // given
         configureExternalEventsProperties(true);
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", true));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(true);
         MockBusinessEvent event = new MockBusinessEvent();
         MockBusinessEvent event2 = new MockBusinessEvent();
         BusinessEventListener<MockBusinessEvent> postListener = mockListener();
@@ -323,8 +319,7 @@ class BusinessEventNotifierServiceImplTest {
     public void testNotifyPostBusinessEventShouldNotifyPostListenersAndShouldNotPostAnExternalEventIfNotConfiguredForPosting() {
         // given
         configureExternalEventsProperties(true);
-        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
-                .thenReturn(new ExternalEventConfiguration("aType", false));
+        when(externalEventConfigurationCache.isEnabled(Mockito.any())).thenReturn(false);
         MockBusinessEvent event = new MockBusinessEvent();
         BusinessEventListener<MockBusinessEvent> postListener = mockListener();
         underTest.addPostBusinessEventListener(MockBusinessEvent.class, postListener);
@@ -335,6 +330,23 @@ class BusinessEventNotifierServiceImplTest {
         verifyNoInteractions(externalEventService);
     }
 
+    @Test
+    public void testNotifyPreBusinessEventShouldNotifyListenersOfSuperTypesAndListenersRegisteredLater() {
+        // given
+        configureExternalEventsProperties(false);
+        MockBusinessEvent event = new MockBusinessEvent();
+        BusinessEventListener<MockBusinessEvent> preListener = mockListener();
+        BusinessEventListener<AbstractMockBusinessEvent> superTypeListener = mock();
+        underTest.addPreBusinessEventListener(MockBusinessEvent.class, preListener);
+        underTest.notifyPreBusinessEvent(event);
+        // when
+        underTest.addPreBusinessEventListener(AbstractMockBusinessEvent.class, superTypeListener);
+        underTest.notifyPreBusinessEvent(event);
+        // then
+        verify(preListener, times(2)).onBusinessEvent(event);
+        verify(superTypeListener).onBusinessEvent(event);
+    }
+
     private void configureExternalEventsProperties(boolean isExternalEventsEnabled) {
         FineractProperties.FineractEventsProperties eventsProperties = new FineractProperties.FineractEventsProperties();
         FineractProperties.FineractExternalEventsProperties externalProperties = new FineractProperties.FineractExternalEventsProperties();
@@ -344,10 +356,12 @@ class BusinessEventNotifierServiceImplTest {
     }
 
     private BusinessEventListener<MockBusinessEvent> mockListener() {
-        return (BusinessEventListener<MockBusinessEvent>) mock(BusinessEventListener.class);
+        return mock();
     }
 
-    private static final class MockBusinessEvent implements BusinessEvent<Object> {
+    private abstract static class AbstractMockBusinessEvent implements BusinessEvent<Object> {}
+
+    private static final class MockBusinessEvent extends AbstractMockBusinessEvent {
 
         @Override
         public Object get() {
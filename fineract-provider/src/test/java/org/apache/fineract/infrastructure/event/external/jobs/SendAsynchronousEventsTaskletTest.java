@@ -44,7 +44,9 @@ import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.external.exception.AcknowledgementTimeoutException;
 import org.apache.fineract.infrastructure.event.external.producer.ExternalEventProducer;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventView;
+import org.apache.fineract.infrastructure.event.external.service.ExternalEventEnricher;
 import org.apache.fineract.infrastructure.event.external.service.message.MessageFactory;
 import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
 import org.junit.jupiter.api.AfterEach;
@@ -82,6 +84,8 @@ class SendAsynchronousEventsTaskletTest {
     private ByteBufferConverter byteBufferConverter;
     @Mock
     private ConfigurationDomainService configurationDomainService;
+    @Mock
+    private ExternalEventEnricher externalEventEnricher;
     private SendAsynchronousEventsTasklet underTest;
     private RepeatStatus resultStatus;
 
@@ -95,7 +99,7 @@ class SendAsynchronousEventsTaskletTest {
                 .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
         configureExternalEventsProducerReadBatchSizeProperty();
         underTest = new SendAsynchronousEventsTasklet(fineractProperties, repository, eventProducer, messageFactory, byteBufferConverter,
-                configurationDomainService);
+                configurationDomainService, externalEventEnricher);
     }
 
     @AfterEach
@@ -159,6 +163,44 @@ class SendAsynchronousEventsTaskletTest {
         assertEquals(RepeatStatus.FINISHED, resultStatus);
     }
 
+    @Test
+    public void givenRelayEnabledWhenTaskExecutionThenNoEventsAreSent() throws Exception {
+        // given
+        FineractProperties.FineractExternalEventsRelayProperties relayProperties = new FineractProperties.FineractExternalEventsRelayProperties();
+        relayProperties.setEnabled(true);
+        fineractProperties.getEvents().getExternal().setRelay(relayProperties);
+        // when
+        resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        verify(repository, times(0)).findByStatusOrderById(Mockito.any(), Mockito.any());
+        verify(eventProducer, times(0)).sendEvents(Mockito.any());
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+    }
+
+    @Test
+    public void givenDeferredEventWhenTaskExecutionThenLaterEventsAreHeldBack() throws Exception {
+        // given
+        ExternalEventView sendableEvent = createExternalEventView("aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey", 1L);
+        Mockito.when(sendableEvent.getStatus()).thenReturn(ExternalEventStatus.TO_BE_SENT);
+        ExternalEventView deferredEvent = createExternalEventView("aType", "aCategory", "", new byte[0], "aIdempotencyKey", 2L);
+        Mockito.when(deferredEvent.getStatus()).thenReturn(ExternalEventStatus.TO_BE_ENRICHED);
+        ExternalEventView laterEvent = createExternalEventView("aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey", 1L);
+        Mockito.when(laterEvent.getStatus()).thenReturn(ExternalEventStatus.TO_BE_SENT);
+        MessageV1 dummyMessage = new MessageV1(1, "aSource", "aType", "nocategory", "aCreateDate", "aBusinessDate", "aTenantId",
+                "anidempotencyKey", "aSchema", Mockito.mock(ByteBuffer.class));
+        when(externalEventEnricher.isEnabled()).thenReturn(true);
+        when(repository.findByStatusInOrderById(Mockito.any(), Mockito.any()))
+                .thenReturn(List.of(sendableEvent, deferredEvent, laterEvent));
+        when(messageFactory.createMessage(Mockito.any())).thenReturn(dummyMessage);
+        when(byteBufferConverter.convert(Mockito.any(ByteBuffer.class))).thenReturn(new byte[0]);
+        // when
+        resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        verify(externalEventEnricher).enrichDeferredEvents();
+        verify(repository).markEventsSent(Mockito.eq(List.of(sendableEvent.getId())), Mockito.any());
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+    }
+
     @Test
     public void givenOneEventWhenEventSentThenEventStatusUpdates() throws Exception {
         // given
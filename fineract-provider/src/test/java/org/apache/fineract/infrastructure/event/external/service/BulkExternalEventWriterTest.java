@@ -0,0 +1,147 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@SuppressWarnings("unchecked")
+class BulkExternalEventWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+
+    private BulkExternalEventWriter writer;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 1, 1))));
+        when(sqlGenerator.escape("schema")).thenReturn("`schema`");
+        writer = new BulkExternalEventWriter(jdbcTemplate, sqlGenerator);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.unbindResourceIfPossible(writer);
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testEventsAreNotCollectedWithoutTransaction() {
+        Assertions.assertFalse(writer.add(event("aType", 1L)));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void testEventsAreWrittenInOneBatchInOrderBeforeCommit() {
+        startTransaction();
+        Assertions.assertTrue(writer.add(event("firstType", 1L)));
+        Assertions.assertTrue(writer.add(event("secondType", 2L)));
+        verifyNoInteractions(jdbcTemplate);
+
+        commit();
+
+        ArgumentCaptor<List<Object[]>> batchArgs = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batchArgs.capture());
+        Assertions.assertEquals(List.of("firstType", "secondType"), batchArgs.getValue().stream().map(args -> args[0]).toList());
+        Assertions.assertEquals("TO_BE_SENT", batchArgs.getValue().get(0)[5]);
+        Assertions.assertEquals("key-1", batchArgs.getValue().get(0)[6]);
+        Assertions.assertEquals(2L, batchArgs.getValue().get(1)[8]);
+    }
+
+    @Test
+    public void testFlushEndsTheBatch() {
+        startTransaction();
+        writer.startBatch();
+        Assertions.assertTrue(writer.isBatchStarted());
+        writer.add(event("aType", 1L));
+
+        writer.flush();
+
+        Assertions.assertFalse(writer.isBatchStarted());
+        verify(jdbcTemplate).batchUpdate(eq(
+                "INSERT INTO m_external_event (type, category, `schema`, data, created_at, status, idempotency_key, business_date, "
+                        + "aggregate_root_id, message, event_class, entity_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"),
+                anyList());
+    }
+
+    @Test
+    public void testRolledBackEventsAreNotWritten() {
+        startTransaction();
+        writer.add(event("aType", 1L));
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(jdbcTemplate);
+        Assertions.assertFalse(TransactionSynchronizationManager.hasResource(writer));
+    }
+
+    private ExternalEvent event(String type, Long aggregateRootId) {
+        return new ExternalEvent(type, "aCategory", "aSchema", new byte[0], "key-" + aggregateRootId, aggregateRootId);
+    }
+
+    private void startTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
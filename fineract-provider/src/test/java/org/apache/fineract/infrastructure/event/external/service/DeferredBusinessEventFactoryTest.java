@@ -0,0 +1,86 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanApprovedBusinessEvent;
+import org.apache.fineract.infrastructure.event.external.exception.BusinessEventNotRecreatableException;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DeferredBusinessEventFactoryTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    private DeferredBusinessEventFactory factory;
+
+    @BeforeEach
+    public void setUp() {
+        factory = new DeferredBusinessEventFactory(new FineractProperties());
+        factory.setEntityManager(entityManager);
+    }
+
+    @Test
+    public void testRecreatesEventFromItsEntity() {
+        //given
+        Loan loan = mock(Loan.class);
+        when(entityManager.find(Loan.class, 1L)).thenReturn(loan);
+
+        //when
+        BusinessEvent<?> event = factory.recreate(LoanApprovedBusinessEvent.class.getName(), 1L);
+
+        //then
+        Assertions.assertInstanceOf(LoanApprovedBusinessEvent.class, event);
+        Assertions.assertSame(loan, event.get());
+    }
+
+    @Test
+    public void testEventOfDeletedEntityCannotBeRecreated() {
+        //given
+        when(entityManager.find(Loan.class, 1L)).thenReturn(null);
+
+        //when
+        BusinessEventNotRecreatableException exception = Assertions.assertThrows(BusinessEventNotRecreatableException.class,
+                () -> factory.recreate(LoanApprovedBusinessEvent.class.getName(), 1L));
+
+        //then
+        Assertions.assertTrue(exception.getMessage().contains("does not exist anymore"));
+    }
+
+    @Test
+    public void testEventOfUnknownClassCannotBeRecreated() {
+        //when
+        Assertions.assertThrows(BusinessEventNotRecreatableException.class, () -> factory.recreate("org.example.RemovedBusinessEvent", 1L));
+    }
+}
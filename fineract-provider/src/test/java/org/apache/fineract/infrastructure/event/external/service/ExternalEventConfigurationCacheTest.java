@@ -0,0 +1,117 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidation;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationChannel;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.external.exception.ExternalEventConfigurationNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ExternalEventConfigurationCacheTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private CacheInvalidationChannel invalidationChannel;
+
+    private ExternalEventConfigurationCache cache;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(row("LoanCreatedBusinessEvent", true));
+            handler.processRow(row("ClientCreatedBusinessEvent", false));
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+        cache = new ExternalEventConfigurationCache(jdbcTemplate, invalidationChannel);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testConfigurationIsLoadedOncePerTenant() {
+        Assertions.assertTrue(cache.isEnabled("LoanCreatedBusinessEvent"));
+        Assertions.assertFalse(cache.isEnabled("ClientCreatedBusinessEvent"));
+        Assertions.assertThrows(ExternalEventConfigurationNotFoundException.class, () -> cache.isEnabled("UnknownBusinessEvent"));
+
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    public void testInvalidationReloadsConfigurationAndIsPublished() {
+        cache.isEnabled("LoanCreatedBusinessEvent");
+
+        cache.invalidate();
+        cache.isEnabled("LoanCreatedBusinessEvent");
+
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowCallbackHandler.class));
+        verify(invalidationChannel).publish(new CacheInvalidation("default", ExternalEventConfigurationCache.CACHE_NAME, null));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRemoteInvalidationDropsConfigurationOfTheTenant() {
+        ArgumentCaptor<Consumer<CacheInvalidation>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationChannel).subscribe(listener.capture());
+        cache.isEnabled("LoanCreatedBusinessEvent");
+
+        listener.getValue().accept(new CacheInvalidation("other", ExternalEventConfigurationCache.CACHE_NAME, null));
+        cache.isEnabled("LoanCreatedBusinessEvent");
+        listener.getValue().accept(new CacheInvalidation("default", ExternalEventConfigurationCache.CACHE_NAME, null));
+        cache.isEnabled("LoanCreatedBusinessEvent");
+
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowCallbackHandler.class));
+    }
+
+    private static ResultSet row(String type, boolean enabled) throws Exception {
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(resultSet.getString("type")).thenReturn(type);
+        Mockito.when(resultSet.getBoolean("enabled")).thenReturn(enabled);
+        return resultSet;
+    }
+}
@@ -43,12 +43,15 @@ public class ExternalEventConfigurationWritePlatformServiceTest {
     private ExternalEventConfigurationRepository repository;
     @Mock
     private ExternalEventConfigurationCommandFromApiJsonDeserializer fromApiJsonDeserializer;
+    @Mock
+    private ExternalEventConfigurationCache externalEventConfigurationCache;
 
     private ExternalEventConfigurationWritePlatformServiceImpl underTest;
 
     @BeforeEach
     public void setUp() {
-        underTest = new ExternalEventConfigurationWritePlatformServiceImpl(repository, fromApiJsonDeserializer);
+        underTest = new ExternalEventConfigurationWritePlatformServiceImpl(repository, fromApiJsonDeserializer,
+                externalEventConfigurationCache);
     }
 
     @Test
@@ -66,6 +69,7 @@ public class ExternalEventConfigurationWritePlatformServiceTest {
         underTest.updateConfigurations(jsonCommand);
         // then
         verify(repository, times(1)).saveAll(Mockito.anyCollection());
+        verify(externalEventConfigurationCache).invalidate();
     }
 
 }
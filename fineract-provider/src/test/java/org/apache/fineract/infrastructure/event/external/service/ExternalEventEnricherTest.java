@@ -0,0 +1,161 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.external.exception.BusinessEventNotRecreatableException;
+import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ExternalEventEnricherTest {
+
+    @Mock
+    private ExternalEventRepository repository;
+    @Mock
+    private ExternalEventService externalEventService;
+    @Mock
+    private DeferredBusinessEventFactory deferredBusinessEventFactory;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExternalEventEnricher enricher;
+
+    @BeforeEach
+    public void setUp() {
+        when(configurationDomainService.retrieveExternalEventBatchSize()).thenReturn(10L);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        enricher = new ExternalEventEnricher(repository, externalEventService, deferredBusinessEventFactory, configurationDomainService,
+                transactionManager);
+    }
+
+    @Test
+    public void testEnrichesDeferredEventsInOrder() {
+        //given
+        ExternalEvent first = deferredEvent(1L, 11L);
+        ExternalEvent second = deferredEvent(2L, 12L);
+        BusinessEvent<?> firstEvent = mock(BusinessEvent.class);
+        BusinessEvent<?> secondEvent = mock(BusinessEvent.class);
+        when(repository.findIdsByStatus(eq(ExternalEventStatus.TO_BE_ENRICHED), any())).thenReturn(List.of(1L, 2L));
+        when(deferredBusinessEventFactory.recreate("anEventClass", 11L)).thenAnswer(invocation -> firstEvent);
+        when(deferredBusinessEventFactory.recreate("anEventClass", 12L)).thenAnswer(invocation -> secondEvent);
+
+        //when
+        int enriched = enricher.enrichDeferredEvents();
+
+        //then
+        Assertions.assertEquals(2, enriched);
+        InOrder inOrder = inOrder(externalEventService);
+        inOrder.verify(externalEventService).enrich(first, firstEvent);
+        inOrder.verify(externalEventService).enrich(second, secondEvent);
+    }
+
+    @Test
+    public void testStopsAtFirstEventWhichCannotBeEnriched() {
+        //given
+        deferredEvent(1L, 11L);
+        ExternalEvent second = deferredEvent(2L, 12L);
+        when(repository.findIdsByStatus(eq(ExternalEventStatus.TO_BE_ENRICHED), any())).thenReturn(List.of(1L, 2L));
+        doThrow(new IllegalStateException("gone")).when(deferredBusinessEventFactory).recreate("anEventClass", 11L);
+
+        //when
+        int enriched = enricher.enrichDeferredEvents();
+
+        //then
+        Assertions.assertEquals(0, enriched);
+        verify(repository, never()).findByIdForUpdate(2L);
+        verify(externalEventService, never()).enrich(eq(second), any());
+    }
+
+    @Test
+    public void testParksEventWhoseEntityWasDeletedAndEnrichesTheNextOne() {
+        //given
+        ExternalEvent first = deferredEvent(1L, 11L);
+        ExternalEvent second = deferredEvent(2L, 12L);
+        BusinessEvent<?> secondEvent = mock(BusinessEvent.class);
+        when(repository.findIdsByStatus(eq(ExternalEventStatus.TO_BE_ENRICHED), any())).thenReturn(List.of(1L, 2L));
+        doThrow(new BusinessEventNotRecreatableException("Entity 11 of business event anEventClass does not exist anymore"))
+                .when(deferredBusinessEventFactory).recreate("anEventClass", 11L);
+        when(deferredBusinessEventFactory.recreate("anEventClass", 12L)).thenAnswer(invocation -> secondEvent);
+
+        //when
+        int enriched = enricher.enrichDeferredEvents();
+
+        //then
+        Assertions.assertEquals(1, enriched);
+        verify(first).enrichmentFailed();
+        verify(externalEventService, never()).enrich(eq(first), any());
+        verify(externalEventService).enrich(second, secondEvent);
+        verify(second, never()).enrichmentFailed();
+    }
+
+    @Test
+    public void testSkipsEventsEnrichedMeanwhile() {
+        //given
+        ExternalEvent first = deferredEvent(1L, 11L);
+        when(first.getStatus()).thenReturn(ExternalEventStatus.TO_BE_SENT);
+        when(repository.findIdsByStatus(eq(ExternalEventStatus.TO_BE_ENRICHED), any())).thenReturn(List.of(1L));
+
+        //when
+        enricher.enrichDeferredEvents();
+
+        //then
+        verify(deferredBusinessEventFactory, never()).recreate(any(), any());
+        verify(externalEventService, never()).enrich(any(), any());
+    }
+
+    private ExternalEvent deferredEvent(Long id, Long entityId) {
+        ExternalEvent externalEvent = mock(ExternalEvent.class);
+        when(externalEvent.getId()).thenReturn(id);
+        when(externalEvent.getStatus()).thenReturn(ExternalEventStatus.TO_BE_ENRICHED);
+        when(externalEvent.getBusinessDate()).thenReturn(LocalDate.of(2024, 1, 15));
+        when(externalEvent.getEventClass()).thenReturn("anEventClass");
+        when(externalEvent.getEntityId()).thenReturn(entityId);
+        when(repository.findByIdForUpdate(id)).thenReturn(Optional.of(externalEvent));
+        return externalEvent;
+    }
+}
@@ -0,0 +1,276 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.avro.MessageV1;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.core.service.tenant.TenantDetailsService;
+import org.apache.fineract.infrastructure.event.external.producer.ExternalEventProducer;
+import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
+import org.apache.fineract.infrastructure.event.external.service.message.MessageFactory;
+import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ExternalEventRelayTest {
+
+    private static final FineractPlatformTenant TENANT = new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null);
+
+    @Mock
+    private TenantDetailsService tenantDetailsService;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ExternalEventRepository repository;
+    @Mock
+    private ExternalEventProducer eventProducer;
+    @Mock
+    private MessageFactory messageFactory;
+    @Mock
+    private ByteBufferConverter byteBufferConverter;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+    @Mock
+    private ExternalEventEnricher externalEventEnricher;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ExternalEventRelay relay;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        FineractProperties.FineractExternalEventsRelayProperties relayProperties = new FineractProperties.FineractExternalEventsRelayProperties();
+        relayProperties.setEnabled(true);
+        relayProperties.setWorkerCount(2);
+        FineractProperties.FineractExternalEventsProperties externalProperties = new FineractProperties.FineractExternalEventsProperties();
+        externalProperties.setPartitionSize(5000);
+        externalProperties.setRelay(relayProperties);
+        FineractProperties.FineractEventsProperties eventsProperties = new FineractProperties.FineractEventsProperties();
+        eventsProperties.setExternal(externalProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setEvents(eventsProperties);
+
+        when(sqlGenerator.escape("schema")).thenReturn("\"schema\"");
+        when(sqlGenerator.limit(10)).thenReturn("LIMIT 10");
+        when(configurationDomainService.retrieveExternalEventBatchSize()).thenReturn(10L);
+        when(messageFactory.createMessage(any())).thenReturn(new MessageV1(1, "aSource", "aType", "aCategory", "aCreateDate",
+                "aBusinessDate", "aTenantId", "anIdempotencyKey", "aSchema", mock(ByteBuffer.class)));
+        when(byteBufferConverter.convert(any(ByteBuffer.class))).thenReturn(new byte[0]);
+        relay = new ExternalEventRelay(fineractProperties, tenantDetailsService, jdbcTemplate, sqlGenerator, transactionManager,
+                repository, eventProducer, messageFactory, byteBufferConverter, configurationDomainService, externalEventEnricher,
+                meterRegistry);
+    }
+
+    @Test
+    public void testShardsLeasedByOtherWorkersAreSkipped() {
+        //given
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class))).thenReturn(List.of(0, 1));
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), any(Object[].class))).thenReturn(List.of());
+
+        //when
+        long sent = relay.relay(TENANT, 0);
+
+        //then
+        Assertions.assertEquals(0L, sent);
+        verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class), any(Object[].class));
+        verifyNoInteractions(eventProducer, repository);
+    }
+
+    @Test
+    public void testClaimedEventsAreSentPerAggregateAndMarkedSent() {
+        //given
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class))).thenReturn(List.of(0, 1, 2));
+        // only shard 1 is free, the other two are leased by other workers
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(1))).thenReturn(List.of(1));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenAnswer(rows(row(3L, 7L), row(4L, null),
+                row(5L, 7L)));
+
+        //when
+        long sent = relay.relay(TENANT, 1);
+
+        //then
+        Assertions.assertEquals(3L, sent);
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(anyString(), any(RowMapper.class), params.capture());
+        Assertions.assertArrayEquals(new Object[] { "TO_BE_SENT", 3, 1 }, params.getValue());
+
+        ArgumentCaptor<Map<Long, List<byte[]>>> partitions = ArgumentCaptor.forClass(Map.class);
+        verify(eventProducer).sendEvents(partitions.capture());
+        Assertions.assertEquals(List.of(7L, -1L), new ArrayList<>(partitions.getValue().keySet()));
+        Assertions.assertEquals(2, partitions.getValue().get(7L).size());
+        verify(repository).markEventsSent(eq(List.of(3L, 4L, 5L)), any());
+
+        Assertions.assertEquals(3.0, meterRegistry.get(ExternalEventRelay.SENT_METRIC).tag("tenant", "default").counter().count());
+    }
+
+    @Test
+    public void testLagIsTheAgeOfTheOldestPendingEvent() throws SQLException {
+        //given
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class))).thenReturn(List.of(0));
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), any(Object[].class))).thenReturn(List.of());
+        oldestPendingEventCreated(LocalDateTime.now().minusHours(2));
+
+        //when
+        relay.relay(TENANT, 0);
+
+        //then
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(anyString(), any(ResultSetExtractor.class), params.capture());
+        Assertions.assertArrayEquals(new Object[] { "TO_BE_ENRICHED", "TO_BE_SENT" }, params.getValue());
+        Assertions.assertTrue(lagInMinutes() >= 119);
+    }
+
+    @Test
+    public void testLagIsMeasuredWhenTheRoundFails() throws SQLException {
+        //given
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class))).thenThrow(new IllegalStateException("database down"));
+        oldestPendingEventCreated(LocalDateTime.now().minusHours(1));
+
+        //when
+        Assertions.assertThrows(IllegalStateException.class, () -> relay.relay(TENANT, 0));
+
+        //then
+        Assertions.assertTrue(lagInMinutes() >= 59);
+    }
+
+    @Test
+    public void testLagIsZeroWithoutPendingEvents() throws SQLException {
+        //given
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class))).thenReturn(List.of(0));
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), any(Object[].class))).thenReturn(List.of());
+        oldestPendingEventCreated(null);
+
+        //when
+        relay.relay(TENANT, 0);
+
+        //then
+        Assertions.assertEquals(0.0, lagInMinutes());
+    }
+
+    private void oldestPendingEventCreated(LocalDateTime createdAt) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(createdAt != null);
+        when(resultSet.getTimestamp("created_at")).thenReturn(createdAt == null ? null : Timestamp.valueOf(createdAt));
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), any(Object[].class))).thenAnswer(invocation -> {
+            ResultSetExtractor<?> extractor = invocation.getArgument(1);
+            return extractor.extractData(resultSet);
+        });
+    }
+
+    private double lagInMinutes() {
+        return meterRegistry.get(ExternalEventRelay.LAG_METRIC).tag("tenant", "default").timeGauge().value(TimeUnit.MINUTES);
+    }
+
+    @Test
+    public void testEventsAfterDeferredEventAreHeldBack() {
+        //given
+        when(externalEventEnricher.isEnabled()).thenReturn(true);
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class))).thenReturn(List.of(0));
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(0))).thenReturn(List.of(0));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenAnswer(rows(row(3L, 7L),
+                row(4L, 7L, ExternalEventStatus.TO_BE_ENRICHED), row(5L, 7L)));
+
+        //when
+        long sent = relay.relay(TENANT, 0);
+
+        //then
+        Assertions.assertEquals(1L, sent);
+        verify(externalEventEnricher).enrichDeferredEvents();
+        verify(repository).markEventsSent(eq(List.of(3L)), any());
+    }
+
+    private static Object[] row(long id, Long aggregateRootId) {
+        return row(id, aggregateRootId, ExternalEventStatus.TO_BE_SENT);
+    }
+
+    private static Object[] row(long id, Long aggregateRootId, ExternalEventStatus status) {
+        return new Object[] { id, aggregateRootId, status };
+    }
+
+    private static Answer<List<Object>> rows(Object[]... rows) {
+        return invocation -> {
+            RowMapper<?> rowMapper = invocation.getArgument(1);
+            List<Object> result = new ArrayList<>();
+            for (Object[] row : rows) {
+                result.add(rowMapper.mapRow(resultSet(row), result.size()));
+            }
+            return result;
+        };
+    }
+
+    private static ResultSet resultSet(Object[] row) throws SQLException {
+        Long aggregateRootId = (Long) row[1];
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong("id")).thenReturn((Long) row[0]);
+        when(resultSet.getString("type")).thenReturn("aType");
+        when(resultSet.getString("category")).thenReturn("aCategory");
+        when(resultSet.getString("event_schema")).thenReturn("aSchema");
+        when(resultSet.getBytes("data")).thenReturn(new byte[0]);
+        when(resultSet.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(LocalDateTime.now().minusHours(1)));
+        when(resultSet.getString("status")).thenReturn(((ExternalEventStatus) row[2]).name());
+        when(resultSet.getString("idempotency_key")).thenReturn("anIdempotencyKey");
+        when(resultSet.getDate("business_date")).thenReturn(Date.valueOf("2023-01-01"));
+        when(resultSet.findColumn("aggregate_root_id")).thenReturn(9);
+        when(resultSet.getLong(9)).thenReturn(aggregateRootId == null ? 0L : aggregateRootId);
+        when(resultSet.wasNull()).thenReturn(aggregateRootId == null);
+        return resultSet;
+    }
+}
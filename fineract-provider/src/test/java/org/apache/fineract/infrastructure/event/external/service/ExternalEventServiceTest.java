@@ -24,7 +24,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import jakarta.persistence.EntityManager;
 import java.io.IOException;
@@ -42,6 +45,7 @@ import org.apache.fineract.avro.loan.v1.LoanAccountDataV1;
 import org.apache.fineract.avro.loan.v1.LoanTransactionAdjustmentDataV1;
 import org.apache.fineract.avro.loan.v1.LoanTransactionDataV1;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.DataEnricherProcessor;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
@@ -49,8 +53,10 @@ import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEven
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
 import org.apache.fineract.infrastructure.event.external.service.idempotency.ExternalEventIdempotencyKeyGenerator;
 import org.apache.fineract.infrastructure.event.external.service.message.BulkMessageItemFactory;
+import org.apache.fineract.infrastructure.event.external.service.message.MessageFactory;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializer;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializerFactory;
 import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
@@ -91,6 +97,14 @@ class ExternalEventServiceTest {
     private LoanTransactionAdjustmentDataV1Enricher loanTransactionAdjustmentDataV1Enricher;
     @Mock
     private LoanTransactionDataV1Enricher loanTransactionDataV1Enricher;
+    @Mock
+    private MessageFactory messageFactory;
+    @Mock
+    private DeferredBusinessEventFactory deferredBusinessEventFactory;
+    @Mock
+    private BulkExternalEventWriter bulkExternalEventWriter;
+
+    private final FineractProperties fineractProperties = new FineractProperties();
 
     private ExternalEventService underTest;
 
@@ -103,7 +117,8 @@ class ExternalEventServiceTest {
         DataEnricherProcessor dataEnricherProcessor = new DataEnricherProcessor(
                 Optional.of(List.of(loanAccountDataV1Enricher, loanTransactionAdjustmentDataV1Enricher, loanTransactionDataV1Enricher)));
         underTest = new ExternalEventService(repository, idempotencyKeyGenerator, serializerFactory, byteBufferConverter,
-                bulkMessageItemFactory, dataEnricherProcessor);
+                bulkMessageItemFactory, dataEnricherProcessor, messageFactory, fineractProperties, deferredBusinessEventFactory,
+                bulkExternalEventWriter);
         underTest.setEntityManager(entityManager);
         FineractPlatformTenant tenant = new FineractPlatformTenant(1L, "default", "Default Tenant", "Europe/Budapest", null);
         ThreadLocalContextUtil.setTenant(tenant);
@@ -169,6 +184,94 @@ class ExternalEventServiceTest {
         assertThat(externalEvent.getData()).isEqualTo(data);
         assertThat(externalEvent.getType()).isEqualTo(eventType);
         assertThat(externalEvent.getSchema()).isEqualTo(eventSchema);
+        assertThat(externalEvent.getMessage()).isNull();
+    }
+
+    @Test
+    public void testPostEventShouldDeferSerializationOfDeferredEvent() {
+        // given
+        ArgumentCaptor<ExternalEvent> externalEventArgumentCaptor = ArgumentCaptor.forClass(ExternalEvent.class);
+        BusinessEvent event = mock(BusinessEvent.class);
+        given(event.getType()).willReturn("TestType");
+        given(event.getAggregateRootId()).willReturn(3L);
+        given(idempotencyKeyGenerator.generate(event)).willReturn("key");
+        given(deferredBusinessEventFactory.isDeferred(event)).willReturn(true);
+        given(deferredBusinessEventFactory.getEntityId(event)).willReturn(12L);
+        // when
+        underTest.postEvent(event);
+        // then
+        verify(repository).save(externalEventArgumentCaptor.capture());
+        verifyNoInteractions(serializerFactory, entityManager);
+        ExternalEvent externalEvent = externalEventArgumentCaptor.getValue();
+        assertThat(externalEvent.getStatus()).isEqualTo(ExternalEventStatus.TO_BE_ENRICHED);
+        assertThat(externalEvent.getType()).isEqualTo("TestType");
+        assertThat(externalEvent.getIdempotencyKey()).isEqualTo("key");
+        assertThat(externalEvent.getAggregateRootId()).isEqualTo(3L);
+        assertThat(externalEvent.getEventClass()).isEqualTo(event.getClass().getName());
+        assertThat(externalEvent.getEntityId()).isEqualTo(12L);
+    }
+
+    @Test
+    public void testPostEventShouldStorePreFramedMessageWhenEnabled() throws IOException {
+        // given
+        FineractProperties.FineractExternalEventsProperties externalProperties = new FineractProperties.FineractExternalEventsProperties();
+        externalProperties.setPreFramedMessagesEnabled(true);
+        FineractProperties.FineractEventsProperties eventsProperties = new FineractProperties.FineractEventsProperties();
+        eventsProperties.setExternal(externalProperties);
+        fineractProperties.setEvents(eventsProperties);
+        ArgumentCaptor<ExternalEvent> externalEventArgumentCaptor = ArgumentCaptor.forClass(ExternalEvent.class);
+        BusinessEvent event = mock(BusinessEvent.class);
+        BusinessEventSerializer eventSerializer = mock(BusinessEventSerializer.class);
+        byte[] message = new byte[] { 1, 2, 3 };
+
+        given(event.getType()).willReturn("TestType");
+        given(idempotencyKeyGenerator.generate(event)).willReturn("key");
+        given(serializerFactory.create(event)).willReturn(eventSerializer);
+        given(eventSerializer.getSupportedSchema()).will(invocation -> LoanAccountDataV1.class);
+        given(eventSerializer.toAvroDTO(event)).willReturn(new LoanAccountDataV1());
+        given(byteBufferConverter.convert(any(ByteBuffer.class))).willReturn(new byte[0]);
+        given(messageFactory.createPreFramedMessage(any(ExternalEvent.class))).willReturn(message);
+        // when
+        underTest.postEvent(event);
+        // then
+        verify(repository).save(externalEventArgumentCaptor.capture());
+        assertThat(externalEventArgumentCaptor.getValue().getMessage()).isEqualTo(message);
+    }
+
+    @Test
+    public void testPostEventsInBatchShouldFlushOnceAndWriteThemTogether() throws IOException {
+        // given
+        FineractProperties.FineractExternalEventsProperties externalProperties = new FineractProperties.FineractExternalEventsProperties();
+        externalProperties.setBatchWriteEnabled(true);
+        FineractProperties.FineractEventsProperties eventsProperties = new FineractProperties.FineractEventsProperties();
+        eventsProperties.setExternal(externalProperties);
+        fineractProperties.setEvents(eventsProperties);
+        ArgumentCaptor<ExternalEvent> externalEventArgumentCaptor = ArgumentCaptor.forClass(ExternalEvent.class);
+        BusinessEvent event = mock(BusinessEvent.class);
+        BusinessEvent otherEvent = mock(BusinessEvent.class);
+        BusinessEventSerializer eventSerializer = mock(BusinessEventSerializer.class);
+
+        given(event.getType()).willReturn("TestType");
+        given(otherEvent.getType()).willReturn("OtherType");
+        given(idempotencyKeyGenerator.generate(any())).willReturn("key");
+        given(serializerFactory.create(any())).willReturn(eventSerializer);
+        given(eventSerializer.getSupportedSchema()).will(invocation -> LoanAccountDataV1.class);
+        given(eventSerializer.toAvroDTO(any())).willReturn(new LoanAccountDataV1());
+        given(byteBufferConverter.convert(any(ByteBuffer.class))).willReturn(new byte[0]);
+        given(bulkExternalEventWriter.isActive()).willReturn(true);
+        given(bulkExternalEventWriter.add(any(ExternalEvent.class))).willReturn(true);
+        // when
+        underTest.startBatch();
+        given(bulkExternalEventWriter.isBatchStarted()).willReturn(true);
+        underTest.postEvent(event);
+        underTest.postEvent(otherEvent);
+        underTest.writeBatch();
+        // then
+        verify(entityManager).flush();
+        verify(repository, never()).save(any());
+        verify(bulkExternalEventWriter, times(2)).add(externalEventArgumentCaptor.capture());
+        verify(bulkExternalEventWriter).flush();
+        assertThat(externalEventArgumentCaptor.getAllValues()).extracting(ExternalEvent::getType).containsExactly("TestType", "OtherType");
     }
 
     @Test
@@ -18,11 +18,24 @@
  */
 package org.apache.fineract.infrastructure.event.external.service.message;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventView;
+import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 public class MessageFactoryTest {
 
@@ -72,4 +85,37 @@ public class MessageFactoryTest {
                 LocalDateTime.parse(localDateTime6.format(customDateTimeFormatter), DateTimeFormatter.ISO_LOCAL_DATE_TIME));
     }
 
+    /**
+     * Test whether the pre-framed message completed with the id of the stored event is the same as the message created
+     * from the stored event.
+     */
+    @Test
+    public void preFramedMessageTest() throws IOException {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2023, 5, 4))));
+        try {
+            ByteBufferConverter byteBufferConverter = new ByteBufferConverter();
+            MessageFactory messageFactory = new MessageFactory(byteBufferConverter);
+            ExternalEvent event = new ExternalEvent("aType", "aCategory", "aSchema", new byte[] { 1, 2, 3 }, "anIdempotencyKey", 5L);
+            event.setMessage(messageFactory.createPreFramedMessage(event));
+
+            for (long id : new long[] { 1L, 300L, 70000L }) {
+                ExternalEventView storedEvent = Mockito.mock(ExternalEventView.class);
+                Mockito.when(storedEvent.getId()).thenReturn(id);
+                Mockito.when(storedEvent.getType()).thenReturn(event.getType());
+                Mockito.when(storedEvent.getCategory()).thenReturn(event.getCategory());
+                Mockito.when(storedEvent.getSchema()).thenReturn(event.getSchema());
+                Mockito.when(storedEvent.getData()).thenReturn(event.getData());
+                Mockito.when(storedEvent.getCreatedAt()).thenReturn(event.getCreatedAt().truncatedTo(ChronoUnit.MICROS));
+                Mockito.when(storedEvent.getBusinessDate()).thenReturn(event.getBusinessDate());
+                Mockito.when(storedEvent.getIdempotencyKey()).thenReturn(event.getIdempotencyKey());
+                Mockito.when(storedEvent.getMessage()).thenReturn(event.getMessage());
+
+                assertArrayEquals(byteBufferConverter.convert(messageFactory.createMessage(storedEvent).toByteBuffer()),
+                        messageFactory.toFramedMessage(storedEvent));
+            }
+        } finally {
+            ThreadLocalContextUtil.reset();
+        }
+    }
 }
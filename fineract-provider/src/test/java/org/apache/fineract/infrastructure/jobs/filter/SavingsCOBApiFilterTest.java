@@ -0,0 +1,336 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.jobs.filter;
+
+import static org.apache.fineract.infrastructure.jobs.filter.SavingsCOBFilterHelper.SAVINGS_PATH_PATTERN;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sun.research.ws.wadl.HTTPMethods;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.domain.SavingsAccountLock;
+import org.apache.fineract.cob.domain.SavingsAccountLockRepository;
+import org.apache.fineract.cob.savings.SavingsLockingService;
+import org.apache.fineract.cob.savings.SavingsLockingServiceImpl;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.data.ApiGlobalErrorResponse;
+import org.apache.fineract.infrastructure.core.http.BodyCachingHttpServletRequestWrapper;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepositoryWrapper;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.apache.fineract.useradministration.exception.UnAuthenticatedUserException;
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SavingsCOBApiFilterTest {
+
+    private SavingsCOBApiFilter testObj;
+    @InjectMocks
+    private SavingsCOBFilterHelper helper;
+    @Mock
+    private SavingsLockingService savingsLockingService;
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private SavingsAccountRepositoryWrapper savingsAccountRepository;
+
+    @BeforeEach
+    public void setUp() {
+        testObj = new SavingsCOBApiFilter(helper);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void shouldSavingsDepositAndExternalMatch() {
+        String externalId = UUID.randomUUID().toString();
+        Assertions.assertTrue(SAVINGS_PATH_PATTERN.matcher("/v1/savingsaccounts/12").matches());
+        Assertions.assertTrue(SAVINGS_PATH_PATTERN.matcher("/v1/savingsaccounts/12/transactions?command=deposit").matches());
+        Assertions.assertTrue(SAVINGS_PATH_PATTERN.matcher("/v1/fixeddepositaccounts/12?command=close").matches());
+        Assertions.assertTrue(SAVINGS_PATH_PATTERN.matcher("/v1/recurringdepositaccounts/12/transactions").matches());
+        Assertions.assertTrue(SAVINGS_PATH_PATTERN.matcher("/v1/savingsaccounts/external-id/" + externalId).matches());
+        Assertions.assertFalse(SAVINGS_PATH_PATTERN.matcher("/v1/savingsaccounts").matches());
+        Assertions.assertFalse(SAVINGS_PATH_PATTERN.matcher("/v1/loans/12").matches());
+    }
+
+    @Test
+    void shouldProceedWhenUrlDoesNotMatch() throws ServletException, IOException {
+        // given
+        MockHttpServletRequest request = mock(MockHttpServletRequest.class);
+        MockHttpServletResponse response = mock(MockHttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        given(request.getPathInfo()).willReturn("/v1/loans/2/charges");
+        given(request.getMethod()).willReturn(HTTPMethods.POST.value());
+        given(request.getInputStream()).willReturn(new BodyCachingHttpServletRequestWrapper.CachedBodyServletInputStream(new byte[0]));
+
+        // when
+        testObj.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(filterChain, times(1)).doFilter(any(HttpServletRequest.class), eq(response));
+        verify(savingsLockingService, never()).isSavingsAccountLocked(anyLong());
+    }
+
+    @Test
+    void shouldProceedWhenReadingLockedSavingsAccount() throws ServletException, IOException {
+        // given
+        MockHttpServletRequest request = mock(MockHttpServletRequest.class);
+        MockHttpServletResponse response = mock(MockHttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        given(request.getPathInfo()).willReturn("/v1/savingsaccounts/2");
+        given(request.getMethod()).willReturn(HTTPMethods.GET.value());
+        given(request.getInputStream()).willReturn(new BodyCachingHttpServletRequestWrapper.CachedBodyServletInputStream(new byte[0]));
+        given(savingsLockingService.isSavingsAccountLocked(2L)).willReturn(true);
+
+        // when
+        testObj.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(filterChain, times(1)).doFilter(any(HttpServletRequest.class), eq(response));
+    }
+
+    @Test
+    void shouldProceedWhenSavingsAccountIsNotLocked() throws ServletException, IOException {
+        // given
+        MockHttpServletRequest request = mock(MockHttpServletRequest.class);
+        MockHttpServletResponse response = mock(MockHttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        AppUser appUser = mock(AppUser.class);
+        given(request.getPathInfo()).willReturn("/v1/savingsaccounts/2/transactions");
+        given(request.getMethod()).willReturn(HTTPMethods.POST.value());
+        given(request.getInputStream()).willReturn(new BodyCachingHttpServletRequestWrapper.CachedBodyServletInputStream(new byte[0]));
+        given(savingsLockingService.isSavingsAccountLocked(2L)).willReturn(false);
+        given(context.authenticatedUser()).willReturn(appUser);
+
+        // when
+        testObj.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(filterChain, times(1)).doFilter(any(HttpServletRequest.class), eq(response));
+        verify(savingsLockingService, times(1)).isSavingsAccountLocked(2L);
+    }
+
+    @Test
+    void shouldProceedWhenUserHasBypassPermission() throws ServletException, IOException {
+        // given
+        MockHttpServletRequest request = mock(MockHttpServletRequest.class);
+        MockHttpServletResponse response = mock(MockHttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        AppUser appUser = mock(AppUser.class);
+        given(request.getPathInfo()).willReturn("/v1/savingsaccounts/2/transactions");
+        given(request.getMethod()).willReturn(HTTPMethods.POST.value());
+        given(request.getInputStream()).willReturn(new BodyCachingHttpServletRequestWrapper.CachedBodyServletInputStream(new byte[0]));
+        given(savingsLockingService.isSavingsAccountLocked(2L)).willReturn(true);
+        given(context.authenticatedUser()).willReturn(appUser);
+        given(appUser.isBypassUser()).willReturn(true);
+
+        // when
+        testObj.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(filterChain, times(1)).doFilter(any(HttpServletRequest.class), eq(response));
+    }
+
+    @Test
+    void shouldRejectWhenSavingsAccountIsLocked() throws ServletException, IOException {
+        // given
+        MockHttpServletRequest request = mock(MockHttpServletRequest.class);
+        MockHttpServletResponse response = mock(MockHttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        PrintWriter writer = mock(PrintWriter.class);
+        AppUser appUser = mock(AppUser.class);
+        given(request.getPathInfo()).willReturn("/v1/savingsaccounts/2/transactions");
+        given(request.getMethod()).willReturn(HTTPMethods.POST.value());
+        given(request.getInputStream()).willReturn(new BodyCachingHttpServletRequestWrapper.CachedBodyServletInputStream(new byte[0]));
+        given(savingsLockingService.isSavingsAccountLocked(2L)).willReturn(true);
+        given(response.getWriter()).willReturn(writer);
+        given(context.authenticatedUser()).willReturn(appUser);
+
+        // when
+        testObj.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(response, times(1)).setStatus(HttpStatus.SC_CONFLICT);
+        verify(filterChain, never()).doFilter(any(HttpServletRequest.class), eq(response));
+    }
+
+    @Test
+    void shouldRejectWhenExternalIdSavingsAccountIsLocked() throws ServletException, IOException {
+        // given
+        MockHttpServletRequest request = mock(MockHttpServletRequest.class);
+        MockHttpServletResponse response = mock(MockHttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        PrintWriter writer = mock(PrintWriter.class);
+        AppUser appUser = mock(AppUser.class);
+        given(request.getPathInfo()).willReturn("/v1/savingsaccounts/external-id/" + UUID.randomUUID() + "/transactions");
+        given(request.getMethod()).willReturn(HTTPMethods.POST.value());
+        given(request.getInputStream()).willReturn(new BodyCachingHttpServletRequestWrapper.CachedBodyServletInputStream(new byte[0]));
+        given(savingsAccountRepository.findIdByExternalId(any())).willReturn(2L);
+        given(savingsLockingService.isSavingsAccountLocked(2L)).willReturn(true);
+        given(response.getWriter()).willReturn(writer);
+        given(context.authenticatedUser()).willReturn(appUser);
+
+        // when
+        testObj.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(response, times(1)).setStatus(HttpStatus.SC_CONFLICT);
+    }
+
+    @Test
+    void shouldRejectWhenBatchRequestTouchesLockedSavingsAccount() throws ServletException, IOException {
+        // given
+        MockHttpServletRequest request = mock(MockHttpServletRequest.class);
+        MockHttpServletResponse response = mock(MockHttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        PrintWriter writer = mock(PrintWriter.class);
+        AppUser appUser = mock(AppUser.class);
+        String body = """
+                [{"requestId":1,"relativeUrl":"savingsaccounts/1/transactions?command=deposit","method":"POST"},
+                 {"requestId":2,"relativeUrl":"savingsaccounts/2/transactions?command=withdrawal","method":"POST"}]
+                """;
+        given(request.getPathInfo()).willReturn("/v1/batches");
+        given(request.getMethod()).willReturn(HTTPMethods.POST.value());
+        given(request.getInputStream()).willReturn(
+                new BodyCachingHttpServletRequestWrapper.CachedBodyServletInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        given(savingsLockingService.isSavingsAccountLocked(1L)).willReturn(false);
+        given(savingsLockingService.isSavingsAccountLocked(2L)).willReturn(true);
+        given(response.getWriter()).willReturn(writer);
+        given(context.authenticatedUser()).willReturn(appUser);
+
+        // when
+        testObj.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(response, times(1)).setStatus(HttpStatus.SC_CONFLICT);
+        verify(filterChain, never()).doFilter(any(HttpServletRequest.class), eq(response));
+    }
+
+    @Test
+    void shouldPassNonBatchRequestOnWithoutReadingTheBody() throws ServletException, IOException {
+        // given
+        MockHttpServletRequest request = mock(MockHttpServletRequest.class);
+        MockHttpServletResponse response = mock(MockHttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        AppUser appUser = mock(AppUser.class);
+        given(request.getPathInfo()).willReturn("/v1/savingsaccounts/2/transactions");
+        given(request.getMethod()).willReturn(HTTPMethods.POST.value());
+        given(savingsLockingService.isSavingsAccountLocked(2L)).willReturn(false);
+        given(context.authenticatedUser()).willReturn(appUser);
+
+        // when
+        testObj.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(filterChain, times(1)).doFilter(request, response);
+        verify(request, never()).getInputStream();
+    }
+
+    @Test
+    void shouldRejectUnauthenticatedUserAsUnauthenticated() throws ServletException, IOException {
+        // given
+        MockHttpServletRequest request = mock(MockHttpServletRequest.class);
+        MockHttpServletResponse response = mock(MockHttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        PrintWriter writer = mock(PrintWriter.class);
+        given(request.getPathInfo()).willReturn("/v1/savingsaccounts/2/transactions");
+        given(request.getMethod()).willReturn(HTTPMethods.POST.value());
+        given(response.getWriter()).willReturn(writer);
+        given(context.authenticatedUser()).willThrow(new UnAuthenticatedUserException());
+
+        // when
+        testObj.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(response, times(1)).setStatus(HttpStatus.SC_UNAUTHORIZED);
+        verify(writer).write(ApiGlobalErrorResponse.unAuthenticated().toJson());
+        verify(filterChain, never()).doFilter(any(HttpServletRequest.class), eq(response));
+    }
+
+    @Test
+    void shouldProceedWhenLockOfFailedItemIsLeftBehind() throws ServletException, IOException {
+        // given
+        LocalDate cobDate = LocalDate.of(2024, 1, 1);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, cobDate.plusDays(1),
+                BusinessDateType.COB_DATE, cobDate)));
+        SavingsAccountLockRepository savingsAccountLockRepository = mock(SavingsAccountLockRepository.class);
+        SavingsCOBApiFilter filter = new SavingsCOBApiFilter(new SavingsCOBFilterHelper(
+                new SavingsLockingServiceImpl(mock(JdbcTemplate.class), savingsAccountLockRepository), context, savingsAccountRepository));
+        SavingsAccountLock lock = new SavingsAccountLock(2L, LockOwner.SAVINGS_COB_CHUNK_PROCESSING, cobDate);
+        given(savingsAccountLockRepository.findBySavingsAccountIdAndLockOwner(2L, LockOwner.SAVINGS_COB_CHUNK_PROCESSING))
+                .willReturn(Optional.of(lock));
+        MockHttpServletRequest request = mock(MockHttpServletRequest.class);
+        MockHttpServletResponse response = mock(MockHttpServletResponse.class);
+        PrintWriter writer = mock(PrintWriter.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        AppUser appUser = mock(AppUser.class);
+        given(request.getPathInfo()).willReturn("/v1/savingsaccounts/2/transactions");
+        given(request.getMethod()).willReturn(HTTPMethods.POST.value());
+        given(response.getWriter()).willReturn(writer);
+        given(context.authenticatedUser()).willReturn(appUser);
+
+        // while the COB run works on the account the write is rejected
+        filter.doFilterInternal(request, response, filterChain);
+        verify(response, times(1)).setStatus(HttpStatus.SC_CONFLICT);
+        verify(filterChain, never()).doFilter(request, response);
+
+        // the item failed, its lock is kept with the error
+        lock.setError("Savings account (id: 2) processing is failed", "stacktrace");
+        filter.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(filterChain, times(1)).doFilter(request, response);
+        verify(response, times(1)).setStatus(HttpStatus.SC_CONFLICT);
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidation;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationChannel;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class VerifiedCredentialCachingAuthenticationProviderTest {
+
+    @Mock
+    private FineractProperties fineractProperties;
+    @Mock
+    private CacheInvalidationChannel invalidationChannel;
+    @Mock
+    private UserDetailsService userDetailsService;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private final UserDetails user = User.withUsername("mifos").password("{bcrypt}hash").authorities("ALL_FUNCTIONS").build();
+    private final FineractProperties.FineractSecurityBasicAuth basicAuthProperties = new FineractProperties.FineractSecurityBasicAuth();
+
+    private VerifiedCredentialCache verifiedCredentialCache;
+    private VerifiedCredentialCachingAuthenticationProvider underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        FineractProperties.FineractSecurityProperties securityProperties = new FineractProperties.FineractSecurityProperties();
+        basicAuthProperties.setCredentialCacheTtlInSeconds(60);
+        securityProperties.setBasicauth(basicAuthProperties);
+        when(fineractProperties.getSecurity()).thenReturn(securityProperties);
+        when(userDetailsService.loadUserByUsername("mifos")).thenReturn(user);
+        when(passwordEncoder.matches(anyString(), anyString())).thenAnswer(invocation -> "password".equals(invocation.getArgument(0)));
+
+        verifiedCredentialCache = new VerifiedCredentialCache(fineractProperties, invalidationChannel);
+        underTest = new VerifiedCredentialCachingAuthenticationProvider(verifiedCredentialCache);
+        underTest.setUserDetailsService(userDetailsService);
+        underTest.setPasswordEncoder(passwordEncoder);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testVerifiedCredentialsAreNotVerifiedAgain() {
+        Authentication first = underTest.authenticate(new UsernamePasswordAuthenticationToken("mifos", "password"));
+        Authentication second = underTest.authenticate(new UsernamePasswordAuthenticationToken("mifos", "password"));
+
+        Assertions.assertTrue(second.isAuthenticated());
+        Assertions.assertSame(first.getPrincipal(), second.getPrincipal());
+        Assertions.assertEquals(List.copyOf(user.getAuthorities()), List.copyOf(second.getAuthorities()));
+        verify(userDetailsService, times(1)).loadUserByUsername("mifos");
+        verify(passwordEncoder, times(1)).matches(anyString(), anyString());
+    }
+
+    @Test
+    public void testWrongPasswordIsVerifiedAndRejected() {
+        underTest.authenticate(new UsernamePasswordAuthenticationToken("mifos", "password"));
+
+        Assertions.assertThrows(BadCredentialsException.class,
+                () -> underTest.authenticate(new UsernamePasswordAuthenticationToken("mifos", "wrong")));
+        verify(passwordEncoder, times(2)).matches(anyString(), anyString());
+    }
+
+    @Test
+    public void testCredentialsAreCachedPerTenant() {
+        underTest.authenticate(new UsernamePasswordAuthenticationToken("mifos", "password"));
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(2L, "other", "Other", "Asia/Kolkata", null));
+
+        underTest.authenticate(new UsernamePasswordAuthenticationToken("mifos", "password"));
+
+        verify(userDetailsService, times(2)).loadUserByUsername("mifos");
+    }
+
+    @Test
+    public void testInvalidationDropsVerifiedCredentialsOnAllNodes() {
+        underTest.authenticate(new UsernamePasswordAuthenticationToken("mifos", "password"));
+
+        verifiedCredentialCache.invalidate();
+        underTest.authenticate(new UsernamePasswordAuthenticationToken("mifos", "password"));
+
+        verify(userDetailsService, times(2)).loadUserByUsername("mifos");
+        verify(invalidationChannel).publish(new CacheInvalidation("default", VerifiedCredentialCache.CACHE_NAME, null));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<CacheInvalidation>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationChannel).subscribe(listener.capture());
+        listener.getValue().accept(new CacheInvalidation("default", VerifiedCredentialCache.CACHE_NAME, null));
+        underTest.authenticate(new UsernamePasswordAuthenticationToken("mifos", "password"));
+
+        verify(userDetailsService, times(3)).loadUserByUsername("mifos");
+    }
+
+    @Test
+    public void testDisabledCacheVerifiesEveryTime() {
+        basicAuthProperties.setCredentialCacheTtlInSeconds(0);
+
+        underTest.authenticate(new UsernamePasswordAuthenticationToken("mifos", "password"));
+        underTest.authenticate(new UsernamePasswordAuthenticationToken("mifos", "password"));
+
+        verify(passwordEncoder, times(2)).matches(anyString(), anyString());
+        verify(invalidationChannel, times(0)).publish(any());
+    }
+}
@@ -0,0 +1,280 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
+import org.apache.fineract.portfolio.account.PortfolioAccountType;
+import org.apache.fineract.portfolio.account.data.AccountTransferDTO;
+import org.apache.fineract.portfolio.account.data.PortfolioAccountData;
+import org.apache.fineract.portfolio.account.data.StandingInstructionData;
+import org.apache.fineract.portfolio.account.data.StandingInstructionDuesData;
+import org.apache.fineract.portfolio.account.domain.AccountTransferRecurrenceType;
+import org.apache.fineract.portfolio.account.domain.AccountTransferType;
+import org.apache.fineract.portfolio.account.domain.StandingInstructionPriority;
+import org.apache.fineract.portfolio.account.domain.StandingInstructionStatus;
+import org.apache.fineract.portfolio.account.domain.StandingInstructionType;
+import org.apache.fineract.portfolio.account.service.AccountTransferEnumerations;
+import org.apache.fineract.portfolio.account.service.AccountTransfersWritePlatformService;
+import org.apache.fineract.portfolio.account.service.StandingInstructionReadPlatformService;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
+import org.apache.fineract.portfolio.common.service.CommonEnumerations;
+import org.apache.fineract.portfolio.savings.exception.InsufficientAccountBalanceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ExecuteStandingInstructionsTaskletTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 1, 15);
+
+    @Mock
+    private StandingInstructionReadPlatformService standingInstructionReadPlatformService;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private AccountTransfersWritePlatformService accountTransfersWritePlatformService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<AccountTransferDTO> transfers = Collections.synchronizedList(new ArrayList<>());
+
+    private ExecuteStandingInstructionsTasklet underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE)));
+        when(sqlGenerator.escape("status")).thenReturn("`status`");
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(accountTransfersWritePlatformService.transferFunds(any(AccountTransferDTO.class))).thenAnswer(invocation -> {
+            transfers.add(invocation.getArgument(0));
+            return 1L;
+        });
+        FineractProperties.FineractJobProperties jobProperties = new FineractProperties.FineractJobProperties();
+        jobProperties.setStandingInstructionThreadCount(4);
+        FineractProperties.FineractQueryProperties queryProperties = new FineractProperties.FineractQueryProperties();
+        queryProperties.setInClauseParameterSizeLimit(2);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setJob(jobProperties);
+        fineractProperties.setQuery(queryProperties);
+        underTest = new ExecuteStandingInstructionsTasklet(standingInstructionReadPlatformService, jdbcTemplate, sqlGenerator,
+                accountTransfersWritePlatformService, new TransactionTemplate(transactionManager), fineractProperties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testExecutesTheInstructionsOfAnAccountInPriorityOrder() throws Exception {
+        // given
+        final List<StandingInstructionData> instructions = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            instructions.add(periodicSavingsTransfer(i, 100L + i % 3, 200L + i, BigDecimal.valueOf(i)));
+        }
+        when(standingInstructionReadPlatformService.retrieveAll(StandingInstructionStatus.ACTIVE.getValue())).thenReturn(instructions);
+
+        // when
+        underTest.execute(null, null);
+
+        // then
+        Assertions.assertEquals(20, transfers.size());
+        for (Long fromAccountId : List.of(100L, 101L, 102L)) {
+            final List<BigDecimal> expected = instructions.stream().filter(instruction -> isFromAccount(instruction, fromAccountId))
+                    .map(StandingInstructionData::amount).collect(Collectors.toList());
+            Assertions.assertEquals(expected, amountsFrom(fromAccountId));
+        }
+        verify(jdbcTemplate).update(anyString(), eq(BUSINESS_DATE), eq(7L));
+        final List<Object[]> history = captureHistory();
+        Assertions.assertEquals(20, history.size());
+        Assertions.assertTrue(history.stream().allMatch(row -> "success".equals(row[1]) && "".equals(row[4])));
+    }
+
+    @Test
+    public void testReadsTheLoanDuesWithSetBasedQueries() throws Exception {
+        // given
+        final List<StandingInstructionData> instructions = List.of(loanDuesTransfer(1L, 100L, 300L), loanDuesTransfer(2L, 101L, 301L),
+                loanDuesTransfer(3L, 102L, 302L));
+        when(standingInstructionReadPlatformService.retrieveAll(StandingInstructionStatus.ACTIVE.getValue())).thenReturn(instructions);
+        when(standingInstructionReadPlatformService.retrieveLoanDuesData(List.of(300L, 301L)))
+                .thenReturn(Map.of(300L, new StandingInstructionDuesData(BUSINESS_DATE.minusDays(1), BigDecimal.valueOf(50)), 301L,
+                        new StandingInstructionDuesData(null, BigDecimal.ZERO)));
+        when(standingInstructionReadPlatformService.retrieveLoanDuesData(List.of(302L)))
+                .thenReturn(Map.of(302L, new StandingInstructionDuesData(BUSINESS_DATE.minusDays(2), BigDecimal.valueOf(70))));
+
+        // when
+        underTest.execute(null, null);
+
+        // then
+        verify(standingInstructionReadPlatformService, never()).retriveLoanDuesData(any());
+        Assertions.assertEquals(List.of(BigDecimal.valueOf(50)), amountsFrom(100L));
+        Assertions.assertEquals(List.of(), amountsFrom(101L));
+        Assertions.assertEquals(List.of(BigDecimal.valueOf(70)), amountsFrom(102L));
+        Assertions.assertEquals(2, captureHistory().size());
+    }
+
+    @Test
+    public void testReadsTheDuesAgainForALoanPaidEarlierInTheRun() throws Exception {
+        // given
+        final List<StandingInstructionData> instructions = List.of(loanDuesTransfer(1L, 100L, 300L), loanDuesTransfer(2L, 101L, 300L));
+        when(standingInstructionReadPlatformService.retrieveAll(StandingInstructionStatus.ACTIVE.getValue())).thenReturn(instructions);
+        when(standingInstructionReadPlatformService.retrieveLoanDuesData(List.of(300L)))
+                .thenReturn(Map.of(300L, new StandingInstructionDuesData(BUSINESS_DATE.minusDays(1), BigDecimal.valueOf(50))));
+        when(standingInstructionReadPlatformService.retriveLoanDuesData(300L))
+                .thenReturn(new StandingInstructionDuesData(null, BigDecimal.ZERO));
+
+        // when
+        underTest.execute(null, null);
+
+        // then
+        Assertions.assertEquals(List.of(BigDecimal.valueOf(50)), amountsFrom(100L));
+        Assertions.assertEquals(List.of(), amountsFrom(101L));
+        verify(standingInstructionReadPlatformService).retriveLoanDuesData(300L);
+        verify(jdbcTemplate, never()).update(anyString(), eq(BUSINESS_DATE), eq(2L));
+        Assertions.assertEquals(1, captureHistory().size());
+    }
+
+    @Test
+    public void testPaysTheRemainingDuesOfALoanPaidEarlierInTheRun() throws Exception {
+        // given
+        final List<StandingInstructionData> instructions = List.of(loanDuesTransfer(1L, 100L, 300L), loanDuesTransfer(2L, 101L, 300L));
+        when(standingInstructionReadPlatformService.retrieveAll(StandingInstructionStatus.ACTIVE.getValue())).thenReturn(instructions);
+        when(standingInstructionReadPlatformService.retrieveLoanDuesData(List.of(300L)))
+                .thenReturn(Map.of(300L, new StandingInstructionDuesData(BUSINESS_DATE.minusDays(1), BigDecimal.valueOf(50))));
+        when(standingInstructionReadPlatformService.retriveLoanDuesData(300L))
+                .thenReturn(new StandingInstructionDuesData(BUSINESS_DATE.minusDays(1), BigDecimal.valueOf(20)));
+
+        // when
+        underTest.execute(null, null);
+
+        // then
+        Assertions.assertEquals(List.of(BigDecimal.valueOf(50)), amountsFrom(100L));
+        Assertions.assertEquals(List.of(BigDecimal.valueOf(20)), amountsFrom(101L));
+        Assertions.assertEquals(2, captureHistory().size());
+    }
+
+    @Test
+    public void testRecordsTheFailedTransfersAndFailsTheJob() {
+        // given
+        final List<StandingInstructionData> instructions = List.of(periodicSavingsTransfer(1L, 100L, 200L, BigDecimal.ONE),
+                periodicSavingsTransfer(2L, 101L, 201L, BigDecimal.TEN));
+        when(standingInstructionReadPlatformService.retrieveAll(StandingInstructionStatus.ACTIVE.getValue())).thenReturn(instructions);
+        when(accountTransfersWritePlatformService.transferFunds(any(AccountTransferDTO.class))).thenAnswer(invocation -> {
+            final AccountTransferDTO accountTransferDTO = invocation.getArgument(0);
+            if (accountTransferDTO.getFromAccountId() == 101L) {
+                throw new InsufficientAccountBalanceException("amount", BigDecimal.ZERO, null, BigDecimal.TEN);
+            }
+            return 1L;
+        });
+
+        // when
+        Assertions.assertThrows(JobExecutionException.class, () -> underTest.execute(null, null));
+
+        // then
+        verify(jdbcTemplate).update(anyString(), eq(BUSINESS_DATE), eq(1L));
+        verify(jdbcTemplate, never()).update(anyString(), eq(BUSINESS_DATE), eq(2L));
+        final Map<Object, Object[]> history = captureHistory().stream().collect(Collectors.toMap(row -> row[0], row -> row));
+        Assertions.assertEquals("success", history.get(1L)[1]);
+        Assertions.assertEquals("failed", history.get(2L)[1]);
+        Assertions.assertEquals(BigDecimal.TEN, history.get(2L)[2]);
+        Assertions.assertEquals("InsufficientAccountBalance Exception ", history.get(2L)[4]);
+    }
+
+    private List<Object[]> captureHistory() {
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<Object[]>> history = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), history.capture());
+        return new ArrayList<>(history.getValue());
+    }
+
+    private List<BigDecimal> amountsFrom(final Long fromAccountId) {
+        synchronized (transfers) {
+            return transfers.stream().filter(transfer -> fromAccountId.equals(transfer.getFromAccountId()))
+                    .map(AccountTransferDTO::getTransactionAmount).collect(Collectors.toList());
+        }
+    }
+
+    private static boolean isFromAccount(final StandingInstructionData instruction, final Long fromAccountId) {
+        return fromAccountId.equals(instruction.fromAccount().getId());
+    }
+
+    private static StandingInstructionData periodicSavingsTransfer(final Long id, final Long fromAccountId, final Long toAccountId,
+            final BigDecimal amount) {
+        return instruction(id, fromAccountId, PortfolioAccountType.SAVINGS, toAccountId, AccountTransferType.ACCOUNT_TRANSFER,
+                StandingInstructionType.FIXED, amount, AccountTransferRecurrenceType.PERIODIC);
+    }
+
+    private static StandingInstructionData loanDuesTransfer(final Long id, final Long fromAccountId, final Long toLoanId) {
+        return instruction(id, fromAccountId, PortfolioAccountType.LOAN, toLoanId, AccountTransferType.LOAN_REPAYMENT,
+                StandingInstructionType.DUES, null, AccountTransferRecurrenceType.AS_PER_DUES);
+    }
+
+    private static StandingInstructionData instruction(final Long id, final Long fromAccountId, final PortfolioAccountType toAccountType,
+            final Long toAccountId, final AccountTransferType transferType, final StandingInstructionType instructionType,
+            final BigDecimal amount, final AccountTransferRecurrenceType recurrenceType) {
+        return StandingInstructionData.instance(id, id, "Instruction " + id, null, null, null, null,
+                AccountTransferEnumerations.accountType(PortfolioAccountType.SAVINGS), PortfolioAccountData.lookup(fromAccountId, null),
+                AccountTransferEnumerations.accountType(toAccountType), PortfolioAccountData.lookup(toAccountId, null),
+                AccountTransferEnumerations.transferType(transferType),
+                AccountTransferEnumerations.standingInstructionPriority(StandingInstructionPriority.MEDIUM),
+                AccountTransferEnumerations.standingInstructionType(instructionType),
+                AccountTransferEnumerations.standingInstructionStatus(StandingInstructionStatus.ACTIVE), amount, BUSINESS_DATE, null,
+                AccountTransferEnumerations.recurrenceType(recurrenceType),
+                CommonEnumerations.termFrequencyType(PeriodFrequencyType.DAYS, ""), 1, null);
+    }
+}
@@ -0,0 +1,317 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryWritePlatformService;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.business.domain.savings.transaction.SavingsDepositBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.organisation.monetary.domain.ApplicationCurrencyRepositoryWrapper;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.apache.fineract.portfolio.account.service.AccountTransfersReadPlatformService;
+import org.apache.fineract.portfolio.accountdetails.domain.AccountType;
+import org.apache.fineract.portfolio.client.domain.Client;
+import org.apache.fineract.portfolio.savings.DepositAccountType;
+import org.apache.fineract.portfolio.savings.SavingsCompoundingInterestPeriodType;
+import org.apache.fineract.portfolio.savings.SavingsInterestCalculationDaysInYearType;
+import org.apache.fineract.portfolio.savings.SavingsInterestCalculationType;
+import org.apache.fineract.portfolio.savings.SavingsPostingInterestPeriodType;
+import org.apache.fineract.portfolio.savings.exception.SavingsAccountCreditsBlockedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@SuppressWarnings("unchecked")
+public class SavingsAccountDomainServiceJpaTest {
+
+    private static final MonetaryCurrency CURRENCY = new MonetaryCurrency("USD", 2, null);
+    private static final LocalDate ACTIVATION_DATE = LocalDate.of(2023, 1, 1);
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2023, 3, 15);
+    private static final Long SAVINGS_ID = 1L;
+
+    @Mock
+    private SavingsProduct product;
+    @Mock
+    private Client client;
+    @Mock
+    private Office office;
+    @Mock
+    private AccountTransfersReadPlatformService accountTransfersReadPlatformService;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private SavingsAccountRepositoryWrapper savingsAccountRepository;
+    @Mock
+    private SavingsAccountTransactionRepository savingsAccountTransactionRepository;
+    @Mock
+    private ApplicationCurrencyRepositoryWrapper applicationCurrencyRepositoryWrapper;
+    @Mock
+    private JournalEntryWritePlatformService journalEntryWritePlatformService;
+    @Mock
+    private DepositAccountOnHoldTransactionRepository depositAccountOnHoldTransactionRepository;
+    @Mock
+    private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private SavingsAccountPendingCreditRepository savingsAccountPendingCreditRepository;
+
+    private MockedStatic<MoneyHelper> moneyHelperStatic;
+    private SavingsAccountDomainServiceJpa service;
+
+    @BeforeEach
+    public void setUp() {
+        moneyHelperStatic = Mockito.mockStatic(MoneyHelper.class);
+        moneyHelperStatic.when(MoneyHelper::getRoundingMode).thenReturn(RoundingMode.HALF_EVEN);
+        moneyHelperStatic.when(MoneyHelper::getMathContext).thenReturn(new MathContext(12, RoundingMode.HALF_EVEN));
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        setBusinessDate(ACTIVATION_DATE);
+
+        when(product.currency()).thenReturn(CURRENCY);
+        when(product.isHighVolume()).thenReturn(true);
+        when(product.getId()).thenReturn(2L);
+        when(product.isCashBasedAccountingEnabled()).thenReturn(true);
+        when(client.getOffice()).thenReturn(office);
+        when(client.officeId()).thenReturn(3L);
+        when(office.getId()).thenReturn(3L);
+        when(accountTransfersReadPlatformService.fetchPostInterestTransactionIds(any())).thenReturn(List.of());
+        when(configurationDomainService.retrieveFinancialYearBeginningMonth()).thenReturn(1);
+        when(configurationDomainService.retrieveRelaxingDaysConfigForPivotDate()).thenReturn(0L);
+        when(savingsAccountPendingCreditRepository.saveAndFlush(any(SavingsAccountPendingCredit.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        service = new SavingsAccountDomainServiceJpa(savingsAccountRepository, savingsAccountTransactionRepository,
+                applicationCurrencyRepositoryWrapper, journalEntryWritePlatformService, configurationDomainService, context,
+                depositAccountOnHoldTransactionRepository, businessEventNotifierService, savingsAccountPendingCreditRepository);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        moneyHelperStatic.close();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testPendingCreditsAreFoldedIntoTheAccount() {
+        // given
+        final SavingsAccount account = createAccount();
+        deposit(account, LocalDate.of(2023, 1, 5), 1000);
+        setBusinessDate(BUSINESS_DATE);
+        final List<SavingsAccountPendingCredit> pendingCredits = List.of(
+                SavingsAccountPendingCredit.stage(account, LocalDate.of(2023, 2, 1), BigDecimal.valueOf(500), null),
+                SavingsAccountPendingCredit.stage(account, LocalDate.of(2023, 2, 10), BigDecimal.valueOf(250), null));
+        when(savingsAccountPendingCreditRepository.findBySavingsAccountId(SAVINGS_ID)).thenReturn(pendingCredits);
+
+        // when
+        final List<SavingsAccountTransaction> deposits = service.handlePendingCredits(account, false);
+
+        // then
+        assertEquals(2, deposits.size());
+        assertTrue(deposits.stream().allMatch(SavingsAccountTransaction::isDeposit));
+        assertEquals(0, BigDecimal.valueOf(1750).compareTo(account.getSummary().getAccountBalance()));
+        verify(savingsAccountTransactionRepository).saveAll(deposits);
+        verify(savingsAccountRepository).saveAndFlush(account);
+        verify(savingsAccountPendingCreditRepository).deleteAllInBatch(pendingCredits);
+        verify(businessEventNotifierService, times(2)).notifyPostBusinessEvent(any(SavingsDepositBusinessEvent.class));
+
+        // the interest is the same as if the credits were deposited right away
+        final SavingsAccount synchronousAccount = createAccount();
+        deposit(synchronousAccount, LocalDate.of(2023, 1, 5), 1000);
+        deposit(synchronousAccount, LocalDate.of(2023, 2, 1), 500);
+        deposit(synchronousAccount, LocalDate.of(2023, 2, 10), 250);
+        synchronousAccount.calculateInterestUsing(MathContext.DECIMAL64, BUSINESS_DATE, false, false, 1, null, false, false);
+        assertTrue(account.getSummary().getTotalInterestEarned().signum() > 0);
+        assertEquals(synchronousAccount.getSummary().getTotalInterestEarned(), account.getSummary().getTotalInterestEarned());
+
+        // only the folded credits are posted to the ledger
+        final ArgumentCaptor<Map<String, Object>> accountingBridgeData = ArgumentCaptor.forClass(Map.class);
+        verify(journalEntryWritePlatformService).createJournalEntriesForSavings(accountingBridgeData.capture());
+        final List<Map<String, Object>> newTransactions = (List<Map<String, Object>>) accountingBridgeData.getValue()
+                .get("newSavingsTransactions");
+        assertEquals(List.of(500, 250),
+                newTransactions.stream().map(transaction -> ((BigDecimal) transaction.get("amount")).intValue()).toList());
+        assertEquals(SAVINGS_ID, accountingBridgeData.getValue().get("savingsId"));
+    }
+
+    @Test
+    public void testStagedCreditIsFoldedEvenIfItWouldNoLongerBeAccepted() {
+        // given
+        final SavingsAccount account = createAccount();
+        setBusinessDate(BUSINESS_DATE);
+        final SavingsAccountPendingCredit pendingCredit = service.handlePendingCredit(account, DateUtils.DEFAULT_DATE_FORMATTER,
+                LocalDate.of(2023, 2, 1), BigDecimal.valueOf(500), null, true);
+        when(savingsAccountPendingCreditRepository.findBySavingsAccountId(SAVINGS_ID)).thenReturn(List.of(pendingCredit));
+        // the pivot date moves past the staged credit, a new deposit on its date would be rejected now
+        account.getSummary().setInterestPostedTillDate(LocalDate.of(2023, 2, 28));
+        assertThrows(PlatformApiDataValidationException.class, () -> service.handlePendingCredit(account,
+                DateUtils.DEFAULT_DATE_FORMATTER, LocalDate.of(2023, 2, 1), BigDecimal.valueOf(100), null, true));
+
+        // when
+        final List<SavingsAccountTransaction> deposits = service.handlePendingCredits(account, true);
+
+        // then
+        assertEquals(1, deposits.size());
+        assertEquals(LocalDate.of(2023, 2, 1), deposits.get(0).getTransactionDate());
+        assertEquals(0, BigDecimal.valueOf(500).compareTo(deposits.get(0).getAmount()));
+        assertTrue(account.getSavingsAccountTransactionsWithPivotConfig().contains(deposits.get(0)));
+        verify(savingsAccountTransactionRepository).saveAll(deposits);
+        verify(savingsAccountPendingCreditRepository).deleteAllInBatch(List.of(pendingCredit));
+    }
+
+    @Test
+    public void testNothingIsFoldedWithoutPendingCredits() {
+        // given
+        final SavingsAccount account = createAccount();
+        when(savingsAccountPendingCreditRepository.findBySavingsAccountId(SAVINGS_ID)).thenReturn(List.of());
+
+        // when
+        final List<SavingsAccountTransaction> deposits = service.handlePendingCredits(account, false);
+
+        // then
+        assertTrue(deposits.isEmpty());
+        verify(savingsAccountTransactionRepository, never()).saveAll(anyList());
+        verifyNoInteractions(savingsAccountRepository, journalEntryWritePlatformService, businessEventNotifierService);
+    }
+
+    @Test
+    public void testPendingCreditsAreNotLookedUpForRegularAccounts() {
+        // given
+        when(product.isHighVolume()).thenReturn(false);
+
+        // when
+        final List<SavingsAccountTransaction> deposits = service.handlePendingCredits(createAccount(), false);
+
+        // then
+        assertTrue(deposits.isEmpty());
+        verifyNoInteractions(savingsAccountPendingCreditRepository);
+    }
+
+    @Test
+    public void testCreditIsStagedWithoutTouchingTheAccount() {
+        // given
+        final SavingsAccount account = createAccount();
+        setBusinessDate(BUSINESS_DATE);
+
+        // when
+        final SavingsAccountPendingCredit pendingCredit = service.handlePendingCredit(account, DateUtils.DEFAULT_DATE_FORMATTER,
+                BUSINESS_DATE, BigDecimal.valueOf(300), null, false);
+
+        // then
+        assertEquals(SAVINGS_ID, pendingCredit.getSavingsAccountId());
+        assertEquals(BUSINESS_DATE, pendingCredit.getTransactionDate());
+        assertEquals(BigDecimal.valueOf(300), pendingCredit.getAmount());
+        verify(savingsAccountPendingCreditRepository).saveAndFlush(pendingCredit);
+        assertTrue(account.getTransactions().isEmpty());
+        verifyNoInteractions(savingsAccountRepository, savingsAccountTransactionRepository, journalEntryWritePlatformService,
+                businessEventNotifierService);
+    }
+
+    @Test
+    public void testCreditIsNotStagedWhenCreditsAreBlocked() {
+        // given
+        final SavingsAccount account = createAccount();
+        ReflectionTestUtils.setField(account, "sub_status", SavingsAccountSubStatusEnum.BLOCK_CREDIT.getValue());
+
+        // when
+        assertThrows(SavingsAccountCreditsBlockedException.class, () -> service.handlePendingCredit(account,
+                DateUtils.DEFAULT_DATE_FORMATTER, ACTIVATION_DATE, BigDecimal.valueOf(300), null, false));
+
+        // then
+        verify(savingsAccountPendingCreditRepository, never()).saveAndFlush(any(SavingsAccountPendingCredit.class));
+    }
+
+    @Test
+    public void testCreditIsNotStagedWithFutureDate() {
+        // given
+        final SavingsAccount account = createAccount();
+
+        // when
+        assertThrows(PlatformApiDataValidationException.class, () -> service.handlePendingCredit(account,
+                DateUtils.DEFAULT_DATE_FORMATTER, ACTIVATION_DATE.plusDays(1), BigDecimal.valueOf(300), null, false));
+
+        // then
+        verify(savingsAccountPendingCreditRepository, never()).saveAndFlush(any(SavingsAccountPendingCredit.class));
+    }
+
+    private SavingsAccount createAccount() {
+        final SavingsAccount account = SavingsAccount.createNewApplicationForSubmittal(client, null, product, null, "000000001",
+                ExternalId.empty(), AccountType.INDIVIDUAL, ACTIVATION_DATE, null, BigDecimal.valueOf(7.5),
+                SavingsCompoundingInterestPeriodType.DAILY, SavingsPostingInterestPeriodType.MONTHLY,
+                SavingsInterestCalculationType.DAILY_BALANCE, SavingsInterestCalculationDaysInYearType.DAYS_365, null, null, null, false,
+                null, false, null, false, null, null, false, null, null, false);
+        account.setHelpers(new SavingsAccountTransactionSummaryWrapper(),
+                new SavingsHelper(accountTransfersReadPlatformService, configurationDomainService));
+        account.approveAndActivateApplication(ACTIVATION_DATE, null);
+        account.setId(SAVINGS_ID);
+        ReflectionTestUtils.setField(account, "depositType", DepositAccountType.SAVINGS_DEPOSIT.getValue());
+        return account;
+    }
+
+    private void deposit(final SavingsAccount account, final LocalDate date, final long amount) {
+        final SavingsAccountTransaction deposit = SavingsAccountTransaction.deposit(account, office, null, date,
+                Money.of(CURRENCY, BigDecimal.valueOf(amount)), null);
+        deposit.setId((long) account.getTransactions().size() + 1);
+        account.addTransaction(deposit);
+    }
+
+    private void setBusinessDate(final LocalDate businessDate) {
+        final HashMap<BusinessDateType, LocalDate> businessDates = new HashMap<>();
+        businessDates.put(BusinessDateType.BUSINESS_DATE, businessDate);
+        ThreadLocalContextUtil.setBusinessDates(businessDates);
+    }
+}
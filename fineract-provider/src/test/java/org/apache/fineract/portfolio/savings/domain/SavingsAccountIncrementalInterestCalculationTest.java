@@ -0,0 +1,222 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.account.service.AccountTransfersReadPlatformService;
+import org.apache.fineract.portfolio.accountdetails.domain.AccountType;
+import org.apache.fineract.portfolio.savings.DepositAccountType;
+import org.apache.fineract.portfolio.savings.SavingsCompoundingInterestPeriodType;
+import org.apache.fineract.portfolio.savings.SavingsInterestCalculationDaysInYearType;
+import org.apache.fineract.portfolio.savings.SavingsInterestCalculationType;
+import org.apache.fineract.portfolio.savings.SavingsPostingInterestPeriodType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Runs the same transactions through the incremental and the full replay interest calculation and expects the same
+ * interest postings and summary from both.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class SavingsAccountIncrementalInterestCalculationTest {
+
+    private static final MathContext MC = MathContext.DECIMAL64;
+    private static final MonetaryCurrency CURRENCY = new MonetaryCurrency("USD", 2, null);
+    private static final LocalDate ACTIVATION_DATE = LocalDate.of(2023, 1, 1);
+
+    @Mock
+    private SavingsProduct product;
+    @Mock
+    private AccountTransfersReadPlatformService accountTransfersReadPlatformService;
+    @Mock
+    private ConfigurationDomainService incrementalConfiguration;
+    @Mock
+    private ConfigurationDomainService fullReplayConfiguration;
+    private MockedStatic<MoneyHelper> moneyHelperStatic;
+    private long nextTransactionId = 1L;
+
+    @BeforeEach
+    public void setUp() {
+        moneyHelperStatic = Mockito.mockStatic(MoneyHelper.class);
+        moneyHelperStatic.when(MoneyHelper::getRoundingMode).thenReturn(RoundingMode.HALF_EVEN);
+        moneyHelperStatic.when(MoneyHelper::getMathContext).thenReturn(new MathContext(12, RoundingMode.HALF_EVEN));
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        setBusinessDate(ACTIVATION_DATE);
+
+        when(product.currency()).thenReturn(CURRENCY);
+        when(accountTransfersReadPlatformService.fetchPostInterestTransactionIds(any())).thenReturn(List.of());
+        when(incrementalConfiguration.isSavingsIncrementalInterestCalculationEnabled()).thenReturn(true);
+        when(fullReplayConfiguration.isSavingsIncrementalInterestCalculationEnabled()).thenReturn(false);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        moneyHelperStatic.close();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testIncrementalCalculationMatchesFullReplay() {
+        final SavingsAccount incremental = createAccount(incrementalConfiguration);
+        final SavingsAccount fullReplay = createAccount(fullReplayConfiguration);
+
+        for (int month = 0; month < 12; month++) {
+            final LocalDate monthStart = ACTIVATION_DATE.plusMonths(month);
+            for (final SavingsAccount account : List.of(incremental, fullReplay)) {
+                deposit(account, monthStart.plusDays(4), BigDecimal.valueOf(1000 + month * 125L));
+                withdraw(account, monthStart.plusDays(17), BigDecimal.valueOf(200 + month * 10L));
+            }
+            postInterest(monthStart.plusMonths(1), incremental, fullReplay);
+
+            assertSameInterest(incremental, fullReplay);
+        }
+
+        assertEquals(LocalDate.of(2023, 11, 30), incremental.getInterestCheckpoint().getCheckpointDate());
+        assertFalse(fullReplay.getInterestCheckpoint().isPresent());
+
+        // only the posting periods after the checkpoint are calculated again
+        final LocalDate calculationDate = LocalDate.of(2024, 1, 15);
+        setBusinessDate(calculationDate);
+        assertEquals(2, incremental.calculateInterestUsing(MC, calculationDate, false, false, 1, null, false, false).size());
+        assertEquals(13, fullReplay.calculateInterestUsing(MC, calculationDate, false, false, 1, null, false, false).size());
+        assertEquals(fullReplay.getSummary().getTotalInterestEarned(), incremental.getSummary().getTotalInterestEarned());
+        assertEquals(LocalDate.of(2023, 12, 31), incremental.getInterestCheckpoint().getCheckpointDate());
+    }
+
+    @Test
+    public void testBackdatedTransactionRecalculatesClosedPostingPeriods() {
+        final SavingsAccount incremental = createAccount(incrementalConfiguration);
+        final SavingsAccount fullReplay = createAccount(fullReplayConfiguration);
+
+        for (int month = 0; month < 6; month++) {
+            final LocalDate monthStart = ACTIVATION_DATE.plusMonths(month);
+            for (final SavingsAccount account : List.of(incremental, fullReplay)) {
+                deposit(account, monthStart.plusDays(9), BigDecimal.valueOf(5000));
+            }
+            postInterest(monthStart.plusMonths(1), incremental, fullReplay);
+        }
+        assertEquals(LocalDate.of(2023, 5, 31), incremental.getInterestCheckpoint().getCheckpointDate());
+
+        for (final SavingsAccount account : List.of(incremental, fullReplay)) {
+            deposit(account, LocalDate.of(2023, 2, 14), BigDecimal.valueOf(20000));
+        }
+        assertFalse(incremental.getInterestCheckpoint().matches(CURRENCY, incremental.getTransactions()));
+        postInterest(ACTIVATION_DATE.plusMonths(6), incremental, fullReplay);
+
+        assertSameInterest(incremental, fullReplay);
+        // the backdated deposit was not saved yet when the interest was calculated
+        assertFalse(incremental.getInterestCheckpoint().isPresent());
+
+        postInterest(ACTIVATION_DATE.plusMonths(7), incremental, fullReplay);
+
+        assertSameInterest(incremental, fullReplay);
+        assertEquals(LocalDate.of(2023, 6, 30), incremental.getInterestCheckpoint().getCheckpointDate());
+        assertTrue(incremental.getInterestCheckpoint().matches(CURRENCY, incremental.getTransactions()));
+    }
+
+    private SavingsAccount createAccount(final ConfigurationDomainService configurationDomainService) {
+        final SavingsAccount account = SavingsAccount.createNewApplicationForSubmittal(null, null, product, null, "000000001",
+                ExternalId.empty(), AccountType.INDIVIDUAL, ACTIVATION_DATE, null, BigDecimal.valueOf(7.5),
+                SavingsCompoundingInterestPeriodType.DAILY, SavingsPostingInterestPeriodType.MONTHLY,
+                SavingsInterestCalculationType.DAILY_BALANCE, SavingsInterestCalculationDaysInYearType.DAYS_365, null, null, null, false,
+                null, false, null, false, null, null, false, null, null, false);
+        account.setHelpers(new SavingsAccountTransactionSummaryWrapper(),
+                new SavingsHelper(accountTransfersReadPlatformService, configurationDomainService));
+        account.approveAndActivateApplication(ACTIVATION_DATE, null);
+        ReflectionTestUtils.setField(account, "depositType", DepositAccountType.SAVINGS_DEPOSIT.getValue());
+        return account;
+    }
+
+    private void deposit(final SavingsAccount account, final LocalDate date, final BigDecimal amount) {
+        account.addTransaction(SavingsAccountTransaction.deposit(account, null, null, date, Money.of(CURRENCY, amount), null));
+    }
+
+    private void withdraw(final SavingsAccount account, final LocalDate date, final BigDecimal amount) {
+        account.addTransaction(SavingsAccountTransaction.withdrawal(account, null, null, date, Money.of(CURRENCY, amount), null));
+    }
+
+    private void postInterest(final LocalDate businessDate, final SavingsAccount... accounts) {
+        setBusinessDate(businessDate);
+        for (final SavingsAccount account : accounts) {
+            account.postInterest(MC, businessDate, false, false, 1, null, false, false);
+            persist(account);
+        }
+    }
+
+    /**
+     * Assigns ids to the new transactions the same way saving the account would.
+     */
+    private void persist(final SavingsAccount account) {
+        for (final SavingsAccountTransaction transaction : account.getTransactions()) {
+            if (transaction.getId() == null) {
+                transaction.setId(nextTransactionId++);
+            }
+        }
+    }
+
+    private void assertSameInterest(final SavingsAccount incremental, final SavingsAccount fullReplay) {
+        assertEquals(interestPostings(fullReplay), interestPostings(incremental));
+        assertEquals(fullReplay.getSummary().getTotalInterestEarned(), incremental.getSummary().getTotalInterestEarned());
+        assertEquals(fullReplay.getSummary().getTotalInterestPosted(), incremental.getSummary().getTotalInterestPosted());
+        assertEquals(fullReplay.getAccountBalance(), incremental.getAccountBalance());
+    }
+
+    private Map<LocalDate, BigDecimal> interestPostings(final SavingsAccount account) {
+        return account.getTransactions().stream().filter(SavingsAccountTransaction::isInterestPostingAndNotReversed)
+                .collect(Collectors.toMap(SavingsAccountTransaction::getTransactionDate, SavingsAccountTransaction::getAmount));
+    }
+
+    private void setBusinessDate(final LocalDate businessDate) {
+        final HashMap<BusinessDateType, LocalDate> businessDates = new HashMap<>();
+        businessDates.put(BusinessDateType.BUSINESS_DATE, businessDate);
+        businessDates.put(BusinessDateType.COB_DATE, businessDate.minusDays(1));
+        ThreadLocalContextUtil.setBusinessDates(businessDates);
+    }
+}
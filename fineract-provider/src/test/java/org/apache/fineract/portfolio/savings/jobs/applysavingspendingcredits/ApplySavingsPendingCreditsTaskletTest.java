@@ -0,0 +1,103 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.applysavingspendingcredits;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountPendingCreditRepository;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+@ExtendWith(MockitoExtension.class)
+class ApplySavingsPendingCreditsTaskletTest {
+
+    @Mock
+    private SavingsAccountPendingCreditRepository savingsAccountPendingCreditRepository;
+    @Mock
+    private SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+    @Mock
+    private StepContribution stepContribution;
+    @Mock
+    private ChunkContext chunkContext;
+    private ApplySavingsPendingCreditsTasklet underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        underTest = new ApplySavingsPendingCreditsTasklet(savingsAccountPendingCreditRepository, savingsAccountWritePlatformService);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testAppliesPendingCreditsOfEveryAccount() throws Exception {
+        // given
+        when(savingsAccountPendingCreditRepository.findSavingsAccountIdsWithPendingCredits()).thenReturn(List.of(1L, 2L));
+        // when
+        RepeatStatus resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        verify(savingsAccountWritePlatformService).applyPendingCredits(1L);
+        verify(savingsAccountWritePlatformService).applyPendingCredits(2L);
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+    }
+
+    @Test
+    public void testNoPendingCredits() throws Exception {
+        // given
+        when(savingsAccountPendingCreditRepository.findSavingsAccountIdsWithPendingCredits()).thenReturn(List.of());
+        // when
+        RepeatStatus resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        verifyNoInteractions(savingsAccountWritePlatformService);
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+    }
+
+    @Test
+    public void testFailingAccountDoesNotStopTheOthers() {
+        // given
+        when(savingsAccountPendingCreditRepository.findSavingsAccountIdsWithPendingCredits()).thenReturn(List.of(1L, 2L));
+        doThrow(new RuntimeException("Test Exception")).when(savingsAccountWritePlatformService).applyPendingCredits(1L);
+        // when
+        JobExecutionException exception = assertThrows(JobExecutionException.class,
+                () -> underTest.execute(stepContribution, chunkContext));
+        // then
+        verify(savingsAccountWritePlatformService).applyPendingCredits(2L);
+        assertEquals(1, exception.getCauses().size());
+    }
+}
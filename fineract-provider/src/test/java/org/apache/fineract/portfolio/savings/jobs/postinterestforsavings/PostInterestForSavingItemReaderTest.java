@@ -0,0 +1,115 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.savings.data.SavingsInterestPostingParameter;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.batch.item.ExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostInterestForSavingItemReaderTest {
+
+    @Mock
+    private SavingsAccountReadPlatformService savingsAccountReadPlatformService;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+    @Mock
+    private PropertyService propertyService;
+
+    private PostInterestForSavingItemReader reader;
+
+    @BeforeEach
+    public void setUp() {
+        when(propertyService.getChunkSize(PostInterestForSavingConstant.JOB_NAME)).thenReturn(2);
+        when(configurationDomainService.retrievePivotDateConfig()).thenReturn(false);
+        reader = new PostInterestForSavingItemReader(savingsAccountReadPlatformService, configurationDomainService, propertyService);
+    }
+
+    @Test
+    public void testReadsAccountsOfPartitionPageByPage() {
+        //given
+        when(savingsAccountReadPlatformService.retrieveSavingsIdsForInterestPosting(false, 9L, 20L, 2)).thenReturn(List.of(10L, 12L));
+        when(savingsAccountReadPlatformService.retrieveSavingsIdsForInterestPosting(false, 12L, 20L, 2)).thenReturn(List.of(15L));
+        when(savingsAccountReadPlatformService.retrieveSavingsIdsForInterestPosting(false, 15L, 20L, 2)).thenReturn(List.of());
+        ExecutionContext executionContext = createExecutionContext(10L, 20L);
+
+        //when
+        reader.open(executionContext);
+
+        //then
+        Assertions.assertEquals(10L, reader.read());
+        Assertions.assertEquals(12L, reader.read());
+        reader.update(executionContext);
+        Assertions.assertEquals(12L, executionContext.getLong(PostInterestForSavingItemReader.LAST_READ_SAVINGS_ID));
+        Assertions.assertEquals(15L, reader.read());
+        Assertions.assertNull(reader.read());
+    }
+
+    @Test
+    public void testRestartContinuesAfterLastCommittedAccount() {
+        //given
+        when(savingsAccountReadPlatformService.retrieveSavingsIdsForInterestPosting(false, 12L, 20L, 2)).thenReturn(List.of(15L));
+        when(savingsAccountReadPlatformService.retrieveSavingsIdsForInterestPosting(false, 15L, 20L, 2)).thenReturn(List.of());
+        ExecutionContext executionContext = createExecutionContext(10L, 20L);
+        executionContext.putLong(PostInterestForSavingItemReader.LAST_READ_SAVINGS_ID, 12L);
+
+        //when
+        reader.open(executionContext);
+
+        //then
+        Assertions.assertEquals(15L, reader.read());
+        Assertions.assertNull(reader.read());
+    }
+
+    @Test
+    public void testEmptyPartitionReadsNothing() {
+        //given
+        ExecutionContext executionContext = createExecutionContext(0L, 0L);
+        when(savingsAccountReadPlatformService.retrieveSavingsIdsForInterestPosting(false, -1L, 0L, 2)).thenReturn(List.of());
+
+        //when
+        reader.open(executionContext);
+
+        //then
+        Assertions.assertNull(reader.read());
+        verify(savingsAccountReadPlatformService).retrieveSavingsIdsForInterestPosting(false, -1L, 0L, 2);
+    }
+
+    private ExecutionContext createExecutionContext(Long minSavingsId, Long maxSavingsId) {
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.put(PostInterestForSavingConstant.SAVINGS_INTEREST_POSTING_PARAMETER,
+                new SavingsInterestPostingParameter(minSavingsId, maxSavingsId));
+        return executionContext;
+    }
+}
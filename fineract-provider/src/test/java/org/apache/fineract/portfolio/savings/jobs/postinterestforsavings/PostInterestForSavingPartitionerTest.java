@@ -0,0 +1,89 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.savings.data.SavingsInterestPostingParameter;
+import org.apache.fineract.portfolio.savings.data.SavingsInterestPostingPartition;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+class PostInterestForSavingPartitionerTest {
+
+    @Mock
+    private PropertyService propertyService;
+    @Mock
+    private SavingsAccountReadPlatformService savingsAccountReadPlatformService;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+
+    @Test
+    public void testPostInterestForSavingPartitioner() {
+        //given
+        when(propertyService.getPartitionSize(PostInterestForSavingConstant.JOB_NAME)).thenReturn(5);
+        when(configurationDomainService.retrievePivotDateConfig()).thenReturn(true);
+        when(savingsAccountReadPlatformService.retrieveInterestPostingPartitions(true, 5)).thenReturn(
+                List.of(new SavingsInterestPostingPartition(1L, 10L, 1L, 5L), new SavingsInterestPostingPartition(11L, 20L, 2L, 4L)));
+        PostInterestForSavingPartitioner partitioner = new PostInterestForSavingPartitioner(propertyService,
+                savingsAccountReadPlatformService, configurationDomainService);
+
+        //when
+        Map<String, ExecutionContext> partitions = partitioner.partition(1);
+
+        //then
+        Assertions.assertEquals(2, partitions.size());
+        validatePartitions(partitions, 1, 1, 10);
+        validatePartitions(partitions, 2, 11, 20);
+    }
+
+    @Test
+    public void testPostInterestForSavingPartitionerNoAccountsFound() {
+        //given
+        when(propertyService.getPartitionSize(PostInterestForSavingConstant.JOB_NAME)).thenReturn(5);
+        when(configurationDomainService.retrievePivotDateConfig()).thenReturn(false);
+        when(savingsAccountReadPlatformService.retrieveInterestPostingPartitions(false, 5)).thenReturn(List.of());
+        PostInterestForSavingPartitioner partitioner = new PostInterestForSavingPartitioner(propertyService,
+                savingsAccountReadPlatformService, configurationDomainService);
+
+        //when
+        Map<String, ExecutionContext> partitions = partitioner.partition(1);
+
+        //then
+        Assertions.assertEquals(1, partitions.size());
+        validatePartitions(partitions, 1, 0, 0);
+    }
+
+    private void validatePartitions(Map<String, ExecutionContext> partitions, int index, long min, long max) {
+        ExecutionContext executionContext = partitions.get(PostInterestForSavingPartitioner.PARTITION_PREFIX + index);
+        Assertions.assertEquals(new SavingsInterestPostingParameter(min, max),
+                executionContext.get(PostInterestForSavingConstant.SAVINGS_INTEREST_POSTING_PARAMETER));
+        Assertions.assertEquals("partition_" + index, executionContext.get("partition"));
+    }
+}
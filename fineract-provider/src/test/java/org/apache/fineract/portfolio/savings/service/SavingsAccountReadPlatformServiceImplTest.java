@@ -0,0 +1,316 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.PaginationHelper;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.dataqueries.service.EntityDatatableChecksReadService;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.infrastructure.security.utils.ColumnValidator;
+import org.apache.fineract.organisation.staff.service.StaffReadPlatformService;
+import org.apache.fineract.portfolio.charge.service.ChargeReadPlatformService;
+import org.apache.fineract.portfolio.client.service.ClientReadPlatformService;
+import org.apache.fineract.portfolio.group.service.GroupReadPlatformService;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionData;
+import org.apache.fineract.portfolio.savings.data.SavingsInterestPostingPartition;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountAssembler;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepositoryWrapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SavingsAccountReadPlatformServiceImplTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 3, 15);
+
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private ClientReadPlatformService clientReadPlatformService;
+    @Mock
+    private GroupReadPlatformService groupReadPlatformService;
+    @Mock
+    private SavingsProductReadPlatformService savingsProductReadPlatformService;
+    @Mock
+    private StaffReadPlatformService staffReadPlatformService;
+    @Mock
+    private SavingsDropdownReadPlatformService dropdownReadPlatformService;
+    @Mock
+    private ChargeReadPlatformService chargeReadPlatformService;
+    @Mock
+    private EntityDatatableChecksReadService entityDatatableChecksReadService;
+    @Mock
+    private ColumnValidator columnValidator;
+    @Mock
+    private SavingsAccountAssembler savingsAccountAssembler;
+    @Mock
+    private PaginationHelper paginationHelper;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private SavingsAccountRepositoryWrapper savingsAccountRepositoryWrapper;
+
+    private SavingsAccountReadPlatformServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE)));
+        underTest = new SavingsAccountReadPlatformServiceImpl(context, jdbcTemplate, clientReadPlatformService, groupReadPlatformService,
+                savingsProductReadPlatformService, staffReadPlatformService, dropdownReadPlatformService, chargeReadPlatformService,
+                entityDatatableChecksReadService, columnValidator, savingsAccountAssembler, paginationHelper, sqlGenerator,
+                savingsAccountRepositoryWrapper);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void shouldReadEveryAccountOnceAcrossPageBoundaries() {
+        // given
+        accountsToPost(3L, 4L, 5L, 6L, 7L);
+
+        // when
+        List<Long> firstPage = underTest.retrieveSavingsIdsForInterestPosting(false, 2L, 7L, 2);
+        List<Long> secondPage = underTest.retrieveSavingsIdsForInterestPosting(false, firstPage.get(firstPage.size() - 1), 7L, 2);
+        List<Long> lastPage = underTest.retrieveSavingsIdsForInterestPosting(false, secondPage.get(secondPage.size() - 1), 7L, 2);
+        List<Long> afterLastPage = underTest.retrieveSavingsIdsForInterestPosting(false, 7L, 7L, 2);
+
+        // then
+        Assertions.assertEquals(List.of(3L, 4L), firstPage);
+        Assertions.assertEquals(List.of(5L, 6L), secondPage);
+        Assertions.assertEquals(List.of(7L), lastPage);
+        Assertions.assertTrue(afterLastPage.isEmpty());
+    }
+
+    @Test
+    void shouldExcludeLowerKeyAndIncludeUpperKeyOfThePage() {
+        // given
+        ArgumentCaptor<String> sql = accountsToPost(5L, 6L);
+
+        // when
+        List<Long> lowerKeyEqualsAccount = underTest.retrieveSavingsIdsForInterestPosting(false, 5L, 6L, 10);
+        List<Long> upperKeyEqualsAccount = underTest.retrieveSavingsIdsForInterestPosting(false, 4L, 5L, 10);
+        List<Long> equalKeys = underTest.retrieveSavingsIdsForInterestPosting(false, 6L, 6L, 10);
+
+        // then
+        Assertions.assertEquals(List.of(6L), lowerKeyEqualsAccount);
+        Assertions.assertEquals(List.of(5L), upperKeyEqualsAccount);
+        Assertions.assertTrue(equalKeys.isEmpty());
+        Assertions.assertTrue(sql.getValue().contains("sa.id > ? and sa.id <= ?"));
+        Assertions.assertTrue(sql.getValue().endsWith("order by sa.id limit ?"));
+    }
+
+    @Test
+    void shouldReadNothingForTenantWithoutAccountsToPost() {
+        // given
+        accountsToPost();
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(new ArrayList<>());
+
+        // when
+        List<SavingsInterestPostingPartition> partitions = underTest.retrieveInterestPostingPartitions(false, 100);
+        List<Long> page = underTest.retrieveSavingsIdsForInterestPosting(false, 0L, Long.MAX_VALUE, 100);
+        List<SavingsAccountData> savingsAccounts = underTest.retrieveAllSavingsDataForInterestPosting(false, page);
+
+        // then
+        Assertions.assertTrue(partitions.isEmpty());
+        Assertions.assertTrue(page.isEmpty());
+        Assertions.assertTrue(savingsAccounts.isEmpty());
+        verify(jdbcTemplate).query(anyString(), any(RowMapper.class), any(Object[].class));
+        verifyNoInteractions(savingsAccountAssembler);
+    }
+
+    @Test
+    void shouldGroupStreamedTransactionsOntoTheirAccounts() {
+        // given
+        SavingsAccountData first = savingsAccount(10L);
+        SavingsAccountData second = savingsAccount(11L);
+        ArgumentCaptor<String> transactionSql = pageWithTransactions(List.of(first, second),
+                List.of(transaction(10L, 100L, 1, 101L), transaction(10L, 101L, 3, 101L), transaction(11L, 200L, 1, 102L)));
+
+        // when
+        List<SavingsAccountData> savingsAccounts = underTest.retrieveAllSavingsDataForInterestPosting(false, List.of(10L, 11L));
+
+        // then
+        Assertions.assertEquals(List.of(first, second), savingsAccounts);
+        Assertions.assertEquals(List.of(100L, 101L), transactionIds(first));
+        Assertions.assertEquals(List.of(200L), transactionIds(second));
+        Assertions.assertTrue(first.getSavingsAccountTransactionData().stream().allMatch(tr -> tr.getAccountId().equals(10L)));
+        Assertions.assertTrue(second.getSavingsAccountTransactionData().stream().allMatch(tr -> tr.getAccountId().equals(11L)));
+        Assertions.assertEquals(101L, first.getOfficeId());
+        Assertions.assertEquals(102L, second.getOfficeId());
+        Assertions.assertTrue(transactionSql.getValue().contains("order by tr.savings_account_id"));
+        verify(savingsAccountAssembler).assembleSavings(first);
+        verify(savingsAccountAssembler).assembleSavings(second);
+    }
+
+    @Test
+    void shouldMergeJoinedRowsOfTheSameTransaction() {
+        // given
+        SavingsAccountData savingsAccount = savingsAccount(10L);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (long chargesPaidById : new long[] { 1L, 2L }) {
+            for (long taxDetailsId : new long[] { 7L, 8L }) {
+                Map<String, Object> row = transaction(10L, 100L, 2, 101L);
+                row.put("chargesPaidById", chargesPaidById);
+                row.put("chargeId", 30L + chargesPaidById);
+                row.put("paidByAmount", BigDecimal.ONE);
+                row.put("taxDetailsId", taxDetailsId);
+                row.put("taxComponentId", 40L);
+                row.put("taxAmount", BigDecimal.TEN);
+                rows.add(row);
+            }
+        }
+        rows.add(transaction(10L, 101L, 1, 101L));
+        pageWithTransactions(List.of(savingsAccount), rows);
+
+        // when
+        underTest.retrieveAllSavingsDataForInterestPosting(false, List.of(10L));
+
+        // then
+        Assertions.assertEquals(List.of(100L, 101L), transactionIds(savingsAccount));
+        SavingsAccountTransactionData withdrawal = savingsAccount.getSavingsAccountTransactionData().get(0);
+        Assertions.assertEquals(2, withdrawal.getSavingsAccountChargesPaid().size());
+        Assertions.assertEquals(2, withdrawal.getTaxDetails().size());
+        SavingsAccountTransactionData deposit = savingsAccount.getSavingsAccountTransactionData().get(1);
+        Assertions.assertTrue(deposit.getSavingsAccountChargesPaid().isEmpty());
+        Assertions.assertTrue(deposit.getTaxDetails().isEmpty());
+    }
+
+    /**
+     * Answers the keyset page query from the given account ids, binding the parameters in the order of the placeholders:
+     * lower key (exclusive), upper key (inclusive), account status, yesterday and page size.
+     */
+    private ArgumentCaptor<String> accountsToPost(Long... savingsIds) {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(jdbcTemplate.queryForList(sql.capture(), eq(Long.class), any(Object[].class))).thenAnswer(invocation -> {
+            Object[] params = (Object[]) invocation.getRawArguments()[2];
+            Long minSavingsIdExclusive = (Long) params[0];
+            Long maxSavingsId = (Long) params[1];
+            Assertions.assertEquals(BUSINESS_DATE.minusDays(1), params[3]);
+            int pageSize = (Integer) params[4];
+            return List.of(savingsIds).stream().filter(id -> id > minSavingsIdExclusive && id <= maxSavingsId).sorted().limit(pageSize)
+                    .toList();
+        });
+        return sql;
+    }
+
+    private ArgumentCaptor<String> pageWithTransactions(List<SavingsAccountData> savingsAccounts, List<Map<String, Object>> rows) {
+        ArgumentCaptor<String> transactionSql = ArgumentCaptor.forClass(String.class);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(new ArrayList<>(savingsAccounts));
+        doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            if (sql.contains("from m_savings_account_transaction tr")) {
+                for (Map<String, Object> row : rows) {
+                    handler.processRow(resultSet(row));
+                }
+            }
+            return null;
+        }).when(jdbcTemplate).query(transactionSql.capture(), any(RowCallbackHandler.class), any(Object[].class));
+        return transactionSql;
+    }
+
+    private static SavingsAccountData savingsAccount(Long savingsId) {
+        return SavingsAccountData.lookupWithProductDetails(savingsId, "SA" + savingsId, null, 1L, null, null);
+    }
+
+    private static Map<String, Object> transaction(Long savingsId, Long transactionId, int transactionType, Long officeId) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("savingsAccountId", savingsId);
+        row.put("transactionId", transactionId);
+        row.put("transactionType", transactionType);
+        row.put("transactionDate", Date.valueOf(BUSINESS_DATE.minusDays(10)));
+        row.put("transactionAmount", BigDecimal.valueOf(100));
+        row.put("officeId", officeId);
+        return row;
+    }
+
+    private static List<Long> transactionIds(SavingsAccountData savingsAccount) {
+        return savingsAccount.getSavingsAccountTransactionData().stream().map(SavingsAccountTransactionData::getId).toList();
+    }
+
+    /**
+     * A single row result set: named and indexed getters read the given values, missing columns read as SQL null.
+     */
+    private static ResultSet resultSet(Map<String, Object> row) {
+        List<String> columns = new ArrayList<>(row.keySet());
+        AtomicReference<Object> lastValue = new AtomicReference<>();
+        return mock(ResultSet.class, invocation -> {
+            String method = invocation.getMethod().getName();
+            if ("wasNull".equals(method)) {
+                return lastValue.get() == null;
+            }
+            Object column = invocation.getArguments().length > 0 ? invocation.getArgument(0) : null;
+            if ("findColumn".equals(method)) {
+                if (!columns.contains(column)) {
+                    columns.add((String) column);
+                }
+                return columns.indexOf(column) + 1;
+            }
+            Object value = column instanceof Integer index ? row.get(columns.get(index - 1)) : row.get(column);
+            lastValue.set(value);
+            return switch (method) {
+                case "getLong" -> value == null ? 0L : ((Number) value).longValue();
+                case "getInt" -> value == null ? 0 : ((Number) value).intValue();
+                case "getBoolean" -> Boolean.TRUE.equals(value);
+                default -> value;
+            };
+        });
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Locale;
+import org.apache.fineract.infrastructure.core.api.JsonCommand;
+import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.portfolio.paymentdetail.service.PaymentDetailWritePlatformService;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionDataValidator;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountAssembler;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountPendingCredit;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepositoryWrapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SavingsAccountWritePlatformServiceJpaRepositoryImplTest {
+
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private SavingsAccountRepositoryWrapper savingAccountRepositoryWrapper;
+    @Mock
+    private SavingsAccountAssembler savingAccountAssembler;
+    @Mock
+    private SavingsAccountTransactionDataValidator savingsAccountTransactionDataValidator;
+    @Mock
+    private PaymentDetailWritePlatformService paymentDetailWritePlatformService;
+    @Mock
+    private SavingsAccountDomainService savingsAccountDomainService;
+
+    @InjectMocks
+    private SavingsAccountWritePlatformServiceJpaRepositoryImpl underTest;
+
+    @Test
+    public void testStagedDepositReturnsPendingCreditAsResource() {
+        final SavingsAccount account = mock(SavingsAccount.class);
+        when(account.getId()).thenReturn(1L);
+        when(account.isHighVolume()).thenReturn(true);
+        when(account.officeId()).thenReturn(2L);
+        when(account.clientId()).thenReturn(3L);
+        when(savingAccountRepositoryWrapper.findOneWithoutCollectionsWithNotFoundDetection(1L)).thenReturn(account);
+        final JsonCommand command = mock(JsonCommand.class);
+        when(command.extractLocale()).thenReturn(Locale.ENGLISH);
+        when(command.dateFormat()).thenReturn("dd MMMM yyyy");
+        when(command.localDateValueOfParameterNamed("transactionDate")).thenReturn(LocalDate.of(2024, 1, 1));
+        when(command.bigDecimalValueOfParameterNamed("transactionAmount")).thenReturn(BigDecimal.TEN);
+        final SavingsAccountPendingCredit pendingCredit = mock(SavingsAccountPendingCredit.class);
+        when(pendingCredit.getId()).thenReturn(42L);
+        when(savingsAccountDomainService.handlePendingCredit(eq(account), any(), eq(LocalDate.of(2024, 1, 1)), eq(BigDecimal.TEN), any(),
+                anyBoolean())).thenReturn(pendingCredit);
+
+        final CommandProcessingResult result = underTest.deposit(1L, command);
+
+        Assertions.assertEquals(42L, result.getResourceId());
+        Assertions.assertEquals(42L, result.getSubResourceId());
+        Assertions.assertEquals(1L, result.getSavingsId());
+        Assertions.assertEquals(2L, result.getOfficeId());
+        Assertions.assertEquals(3L, result.getClientId());
+    }
+}
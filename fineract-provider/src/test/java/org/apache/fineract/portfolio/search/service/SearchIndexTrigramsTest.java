@@ -0,0 +1,65 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SearchIndexTrigramsTest {
+
+    @Test
+    public void testTrigramsIgnoreCaseAndAccents() {
+        Assertions.assertEquals(SearchIndexTrigrams.hashes("jose"), SearchIndexTrigrams.hashes("JOSÉ"));
+        Assertions.assertEquals(2, SearchIndexTrigrams.hashes("jose").size());
+    }
+
+    @Test
+    public void testSearchTermTrigramsAreContainedInMatchingValues() {
+        Assertions.assertTrue(
+                SearchIndexTrigrams.hashes(List.of("María Pérez", "000123")).containsAll(SearchIndexTrigrams.hashes("ria pe")));
+    }
+
+    @Test
+    public void testShortAndWildcardTermsAreNotSearchable() {
+        Assertions.assertTrue(SearchIndexTrigrams.isSearchable("abc"));
+        Assertions.assertFalse(SearchIndexTrigrams.isSearchable("ab"));
+        Assertions.assertFalse(SearchIndexTrigrams.isSearchable("a%bc"));
+        Assertions.assertFalse(SearchIndexTrigrams.isSearchable("ab_c"));
+        Assertions.assertFalse(SearchIndexTrigrams.isSearchable("000000"));
+    }
+
+    @Test
+    public void testAccountNumberTermIsLookedUpWithoutPaddingTrigrams() {
+        final Set<Integer> queried = SearchIndexTrigrams.queryHashes("000000042");
+        Assertions.assertEquals(Set.of("042".hashCode(), "004".hashCode()), queried);
+        Assertions.assertTrue(SearchIndexTrigrams.hashes("000000042").containsAll(queried));
+        // accounts sharing only the padding with the term are no candidates
+        Assertions.assertFalse(SearchIndexTrigrams.hashes(List.of("000000017")).containsAll(queried));
+        Assertions.assertFalse(SearchIndexTrigrams.hashes(List.of("000001000")).containsAll(queried));
+    }
+
+    @Test
+    public void testLongTermIsLookedUpWithItsRarestTrigrams() {
+        Assertions.assertEquals(Set.of("345".hashCode(), "234".hashCode(), "123".hashCode()),
+                SearchIndexTrigrams.queryHashes("000012345"));
+        Assertions.assertEquals(SearchIndexTrigrams.MAX_QUERY_TRIGRAMS, SearchIndexTrigrams.queryHashes("maría pérez").size());
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SearchIndexWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+
+    private SearchIndexWriter writer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        final ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(5L);
+        when(rs.getString("account_no")).thenReturn("000000005");
+        when(rs.getString("display_name")).thenReturn("Ana");
+        when(namedParameterJdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> List.of(invocation.getArgument(2, RowMapper.class).mapRow(rs, 0)));
+        writer = new SearchIndexWriter(jdbcTemplate, namedParameterJdbcTemplate, sqlGenerator);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.unbindResourceIfPossible(writer);
+    }
+
+    @Test
+    public void testEntityIsIndexedRightAwayWithoutTransaction() {
+        writer.index(SearchIndexEntityType.CLIENT, 5L);
+
+        verifyIndexed();
+    }
+
+    @Test
+    public void testEntitiesAreIndexedOnceBeforeCommit() {
+        startTransaction();
+
+        writer.index(SearchIndexEntityType.CLIENT, 5L);
+        writer.index(SearchIndexEntityType.CLIENT, 5L);
+        verifyNoInteractions(namedParameterJdbcTemplate, jdbcTemplate);
+
+        commit();
+
+        verifyIndexed();
+    }
+
+    @Test
+    public void testRolledBackEntitiesAreNotIndexed() {
+        startTransaction();
+        writer.index(SearchIndexEntityType.CLIENT, 5L);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(namedParameterJdbcTemplate, jdbcTemplate);
+        Assertions.assertFalse(TransactionSynchronizationManager.hasResource(writer));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyIndexed() {
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(namedParameterJdbcTemplate).update(eq("delete from m_search_index where entity_type_enum = :type and entity_id in (:ids)"),
+                params.capture());
+        Assertions.assertEquals(SearchIndexEntityType.CLIENT.getValue(), params.getValue().getValue("type"));
+        Assertions.assertEquals(List.of(5L), params.getValue().getValue("ids"));
+
+        ArgumentCaptor<List<Object[]>> batchArgs = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batchArgs.capture());
+        // "000", "005", "ana"
+        Assertions.assertEquals(3, batchArgs.getValue().size());
+        Assertions.assertEquals(SearchIndexTrigrams.hashes(List.of("000000005", "Ana")),
+                batchArgs.getValue().stream().map(args -> (Integer) args[1]).collect(Collectors.toSet()));
+        batchArgs.getValue().forEach(args -> Assertions.assertEquals(5L, args[2]));
+    }
+
+    private void startTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
@@ -28,6 +28,7 @@ import static org.apache.fineract.portfolio.savings.SavingsApiConstants.descript
 import static org.apache.fineract.portfolio.savings.SavingsApiConstants.digitsAfterDecimalParamName;
 import static org.apache.fineract.portfolio.savings.SavingsApiConstants.feeAmountParamName;
 import static org.apache.fineract.portfolio.savings.SavingsApiConstants.feeOnMonthDayParamName;
+import static org.apache.fineract.portfolio.savings.SavingsApiConstants.highVolumeParamName;
 import static org.apache.fineract.portfolio.savings.SavingsApiConstants.inMultiplesOfParamName;
 import static org.apache.fineract.portfolio.savings.SavingsApiConstants.interestCalculationDaysInYearTypeParamName;
 import static org.apache.fineract.portfolio.savings.SavingsApiConstants.interestCalculationTypeParamName;
@@ -109,7 +110,7 @@ public class SavingsProductDataValidator {
             nominalAnnualInterestRateOverdraftParamName, minOverdraftForInterestCalculationParamName,
             SavingsApiConstants.minRequiredBalanceParamName, SavingsApiConstants.enforceMinRequiredBalanceParamName,
             SavingsApiConstants.maxAllowedLienLimitParamName, SavingsApiConstants.lienAllowedParamName,
-            minBalanceForInterestCalculationParamName, withHoldTaxParamName, taxGroupIdParamName));
+            minBalanceForInterestCalculationParamName, withHoldTaxParamName, taxGroupIdParamName, highVolumeParamName));
 
     public void validateForCreate(final String json) {
 
@@ -272,6 +273,7 @@ public class SavingsProductDataValidator {
         }
         validateTaxWithHoldingParams(baseDataValidator, element, true);
         validateLienParams(baseDataValidator, element);
+        validateHighVolumeParams(baseDataValidator, element);
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
@@ -441,6 +443,7 @@ public class SavingsProductDataValidator {
 
         validateTaxWithHoldingParams(baseDataValidator, element, false);
         validateLienParams(baseDataValidator, element);
+        validateHighVolumeParams(baseDataValidator, element);
         throwExceptionIfValidationWarningsExist(dataValidationErrors);
     }
 
@@ -500,6 +503,13 @@ public class SavingsProductDataValidator {
         }
     }
 
+    private void validateHighVolumeParams(final DataValidatorBuilder baseDataValidator, final JsonElement element) {
+        if (this.fromApiJsonHelper.parameterExists(highVolumeParamName, element)) {
+            final String highVolume = this.fromApiJsonHelper.extractStringNamed(highVolumeParamName, element);
+            baseDataValidator.reset().parameter(highVolumeParamName).value(highVolume).notBlank().validateForBooleanValue();
+        }
+    }
+
     private void validateTaxWithHoldingParams(final DataValidatorBuilder baseDataValidator, final JsonElement element,
             final boolean isCreate) {
         if (this.fromApiJsonHelper.parameterExists(withHoldTaxParamName, element)) {
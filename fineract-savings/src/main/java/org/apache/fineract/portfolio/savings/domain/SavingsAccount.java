@@ -107,6 +107,7 @@ import org.apache.fineract.portfolio.savings.SavingsInterestCalculationType;
 import org.apache.fineract.portfolio.savings.SavingsPeriodFrequencyType;
 import org.apache.fineract.portfolio.savings.SavingsPostingInterestPeriodType;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionDTO;
+import org.apache.fineract.portfolio.savings.domain.interest.CompoundInterestValues;
 import org.apache.fineract.portfolio.savings.domain.interest.PostingPeriod;
 import org.apache.fineract.portfolio.savings.domain.interest.SavingsAccountTransactionDetailsForPostingPeriod;
 import org.apache.fineract.portfolio.savings.exception.InsufficientAccountBalanceException;
@@ -302,9 +303,15 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
     @Column(name = "start_interest_calculation_date")
     protected LocalDate startInterestCalculationDate;
 
+    @Column(name = "last_closed_business_date")
+    protected LocalDate lastClosedBusinessDate;
+
     @Embedded
     protected SavingsAccountSummary summary;
 
+    @Embedded
+    protected SavingsAccountInterestCheckpoint interestCheckpoint = new SavingsAccountInterestCheckpoint();
+
     @OrderBy(value = "dateOf, createdDate, id")
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "savingsAccount", orphanRemoval = true, fetch = FetchType.LAZY)
     protected List<SavingsAccountTransaction> transactions = new ArrayList<>();
@@ -820,8 +827,18 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
         Money openingAccountBalance = backdatedTxnsAllowedTill ? Money.of(this.currency, this.summary.getRunningBalanceOnPivotDate())
                 : Money.zero(this.currency);
 
+        // resume from the last closed posting period when no transaction on or before it changed since
+        final boolean incrementalInterestCalculation = isIncrementalInterestCalculationEnabled(backdatedTxnsAllowedTill);
+        final SavingsAccountInterestCheckpoint checkpoint = incrementalInterestCalculation
+                ? findResumableInterestCheckpoint(upToInterestCalculationDate)
+                : null;
+
         // update existing transactions so derived balance fields are correct.
-        recalculateDailyBalances(openingAccountBalance, upToInterestCalculationDate, backdatedTxnsAllowedTill, postReversals);
+        if (checkpoint == null) {
+            recalculateDailyBalances(openingAccountBalance, upToInterestCalculationDate, backdatedTxnsAllowedTill, postReversals);
+        } else {
+            recalculateDailyBalancesSince(checkpoint, upToInterestCalculationDate, postReversals);
+        }
 
         final List<PostingPeriod> allPostingPeriods = new ArrayList<>();
         if (hasInterestCalculation() || hasOverdraftInterestCalculation()) {
@@ -877,7 +894,30 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
             final Money minBalanceForInterestCalculation = Money.of(getCurrency(), minBalanceForInterestCalculation());
             final Money minOverdraftForInterestCalculation = Money.of(getCurrency(), this.minOverdraftForInterestCalculation);
 
+            final boolean resumeFromCheckpoint = checkpoint != null
+                    && postingPeriodIntervals.stream().anyMatch(interval -> interval.endDate().equals(checkpoint.getCheckpointDate()));
+            CompoundInterestValues compoundInterestValues = new CompoundInterestValues(BigDecimal.ZERO, BigDecimal.ZERO);
+            Money interestEarnedBeforeCheckpoint = Money.zero(this.currency);
+
+            // the transactions do not change between posting periods so they are sorted and filtered only once
+            List<SavingsAccountTransaction> orderedNonInterestPostingTransactions = null;
+            if (backdatedTxnsAllowedTill) {
+                orderedNonInterestPostingTransactions = retreiveOrderedNonInterestPostingSavingsTransactionsWithPivotConfig();
+            } else if (resumeFromCheckpoint) {
+                orderedNonInterestPostingTransactions = retreiveOrderedNonInterestPostingTransactionsSince(checkpoint.getCheckpointDate());
+                periodStartingBalance = checkpoint.getClosingBalance(this.currency);
+                compoundInterestValues = checkpoint.toCompoundInterestValues();
+                interestEarnedBeforeCheckpoint = checkpoint.getInterestEarned(this.currency);
+            } else {
+                orderedNonInterestPostingTransactions = retreiveOrderedNonInterestPostingTransactions();
+            }
+            final List<SavingsAccountTransactionDetailsForPostingPeriod> savingsAccountTransactionDetailsForPostingPeriod = toSavingsAccountTransactionDetailsForPostingPeriodList(
+                    orderedNonInterestPostingTransactions);
+
             for (final LocalDateInterval periodInterval : postingPeriodIntervals) {
+                if (resumeFromCheckpoint && !DateUtils.isAfter(periodInterval.endDate(), checkpoint.getCheckpointDate())) {
+                    continue;
+                }
 
                 boolean isUserPosting = false;
                 if (postedAsOnDates.contains(periodInterval.endDate().plusDays(1))) {
@@ -885,16 +925,6 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
                 }
 
                 PostingPeriod postingPeriod = null;
-                List<SavingsAccountTransaction> orderedNonInterestPostingTransactions = null;
-                if (backdatedTxnsAllowedTill) {
-                    orderedNonInterestPostingTransactions = retreiveOrderedNonInterestPostingSavingsTransactionsWithPivotConfig();
-                } else {
-                    orderedNonInterestPostingTransactions = retreiveOrderedNonInterestPostingTransactions();
-                }
-
-                List<SavingsAccountTransactionDetailsForPostingPeriod> savingsAccountTransactionDetailsForPostingPeriod = toSavingsAccountTransactionDetailsForPostingPeriodList(
-                        orderedNonInterestPostingTransactions);
-
                 postingPeriod = PostingPeriod.createFrom(periodInterval, periodStartingBalance,
                         savingsAccountTransactionDetailsForPostingPeriod, this.currency, compoundingPeriodType, interestCalculationType,
                         interestRateAsFraction, daysInYearType.getValue(), upToInterestCalculationDate, interestPostTransactions,
@@ -906,10 +936,33 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
                 allPostingPeriods.add(postingPeriod);
             }
 
-            this.savingsHelper.calculateInterestForAllPostingPeriods(this.currency, allPostingPeriods, getLockedInUntilDate(),
-                    isTransferInterestToOtherAccount());
+            if (incrementalInterestCalculation) {
+                // interest of the posting periods that are already posted is captured before carrying on
+                final List<PostingPeriod> closedPostingPeriods = retrieveClosedPostingPeriods(allPostingPeriods,
+                        upToInterestCalculationDate);
+                final List<PostingPeriod> openPostingPeriods = allPostingPeriods.subList(closedPostingPeriods.size(),
+                        allPostingPeriods.size());
+                this.savingsHelper.calculateInterestForPostingPeriods(this.currency, closedPostingPeriods, getLockedInUntilDate(),
+                        isTransferInterestToOtherAccount(), compoundInterestValues);
+                if (!closedPostingPeriods.isEmpty()) {
+                    final PostingPeriod lastClosedPostingPeriod = closedPostingPeriods.get(closedPostingPeriods.size() - 1);
+                    final Money interestEarnedTillCheckpoint = interestEarnedBeforeCheckpoint
+                            .plus(totalInterestOf(closedPostingPeriods));
+                    getInterestCheckpoint().update(lastClosedPostingPeriod.getPeriodInterval().endDate(), this.transactions,
+                            lastClosedPostingPeriod.closingBalance(), compoundInterestValues, interestEarnedTillCheckpoint);
+                }
+                this.savingsHelper.calculateInterestForPostingPeriods(this.currency, openPostingPeriods, getLockedInUntilDate(),
+                        isTransferInterestToOtherAccount(), compoundInterestValues);
+            } else {
+                this.savingsHelper.calculateInterestForAllPostingPeriods(this.currency, allPostingPeriods, getLockedInUntilDate(),
+                        isTransferInterestToOtherAccount());
+            }
+
+            this.summary.updateFromInterestPeriodSummaries(this.currency, interestEarnedBeforeCheckpoint, allPostingPeriods);
+        }
 
-            this.summary.updateFromInterestPeriodSummaries(this.currency, allPostingPeriods);
+        if (!incrementalInterestCalculation && getInterestCheckpoint().isPresent()) {
+            getInterestCheckpoint().reset();
         }
 
         if (backdatedTxnsAllowedTill) {
@@ -922,6 +975,58 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
         return allPostingPeriods;
     }
 
+    private boolean isIncrementalInterestCalculationEnabled(final boolean backdatedTxnsAllowedTill) {
+        return !backdatedTxnsAllowedTill && depositAccountType().isSavingsDeposit()
+                && (hasInterestCalculation() || hasOverdraftInterestCalculation())
+                && this.savingsHelper.isIncrementalInterestCalculationEnabled();
+    }
+
+    private SavingsAccountInterestCheckpoint findResumableInterestCheckpoint(final LocalDate upToInterestCalculationDate) {
+        final SavingsAccountInterestCheckpoint checkpoint = getInterestCheckpoint();
+        if (!checkpoint.isPresent() || !DateUtils.isBefore(checkpoint.getCheckpointDate(), upToInterestCalculationDate)
+                || !checkpoint.matches(this.currency, this.transactions)) {
+            return null;
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Posting periods which are entirely before the calculation date and for which interest is already posted. The
+     * interest of these periods only changes on backdated transactions.
+     */
+    private List<PostingPeriod> retrieveClosedPostingPeriods(final List<PostingPeriod> postingPeriods,
+            final LocalDate upToInterestCalculationDate) {
+        final LocalDate interestPostedTillDate = this.summary.getInterestPostedTillDate();
+        int closedPostingPeriods = 0;
+        if (interestPostedTillDate != null) {
+            for (final PostingPeriod postingPeriod : postingPeriods) {
+                if (DateUtils.isAfter(postingPeriod.dateOfPostingTransaction(), interestPostedTillDate)
+                        || !DateUtils.isBefore(postingPeriod.getPeriodInterval().endDate(), upToInterestCalculationDate)) {
+                    break;
+                }
+                closedPostingPeriods++;
+            }
+        }
+        return postingPeriods.subList(0, closedPostingPeriods);
+    }
+
+    private Money totalInterestOf(final List<PostingPeriod> postingPeriods) {
+        Money totalInterest = Money.zero(this.currency);
+        for (final PostingPeriod postingPeriod : postingPeriods) {
+            if (postingPeriod.interest() != null) {
+                totalInterest = totalInterest.plus(postingPeriod.interest());
+            }
+        }
+        return totalInterest;
+    }
+
+    protected SavingsAccountInterestCheckpoint getInterestCheckpoint() {
+        if (this.interestCheckpoint == null) {
+            this.interestCheckpoint = new SavingsAccountInterestCheckpoint();
+        }
+        return this.interestCheckpoint;
+    }
+
     private BigDecimal getEffectiveOverdraftInterestRateAsFraction(MathContext mc) {
         return this.nominalAnnualInterestRateOverdraft.divide(BigDecimal.valueOf(100L), mc);
     }
@@ -954,6 +1059,41 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
         return orderedNonInterestPostingTransactions;
     }
 
+    /**
+     * Ordered non interest posting transactions whose balance spans any day after the given date: the transactions
+     * after the date along with the last transaction on or before it.
+     */
+    protected List<SavingsAccountTransaction> retreiveOrderedNonInterestPostingTransactionsSince(final LocalDate date) {
+        final List<SavingsAccountTransaction> orderedNonInterestPostingTransactions = new ArrayList<>();
+        final SavingsAccountTransaction lastTransactionOnDate = findLastNonInterestPostingTransactionOnOrBefore(date);
+        if (lastTransactionOnDate != null) {
+            orderedNonInterestPostingTransactions.add(lastTransactionOnDate);
+        }
+        for (final SavingsAccountTransaction transaction : retrieveListOfTransactionsAfter(date)) {
+            if (isNonInterestPostingTransaction(transaction)) {
+                orderedNonInterestPostingTransactions.add(transaction);
+            }
+        }
+        return orderedNonInterestPostingTransactions;
+    }
+
+    private SavingsAccountTransaction findLastNonInterestPostingTransactionOnOrBefore(final LocalDate date) {
+        final SavingsAccountTransactionComparator transactionComparator = new SavingsAccountTransactionComparator();
+        SavingsAccountTransaction lastTransaction = null;
+        for (final SavingsAccountTransaction transaction : this.transactions) {
+            if (isNonInterestPostingTransaction(transaction) && !DateUtils.isAfter(transaction.getTransactionDate(), date)
+                    && (lastTransaction == null || transactionComparator.compare(transaction, lastTransaction) > 0)) {
+                lastTransaction = transaction;
+            }
+        }
+        return lastTransaction;
+    }
+
+    private boolean isNonInterestPostingTransaction(final SavingsAccountTransaction transaction) {
+        return !(transaction.isInterestPostingAndNotReversed() || transaction.isOverdraftInterestAndNotReversed())
+                && transaction.isNotReversed() && !transaction.isReversalTransaction();
+    }
+
     protected List<SavingsAccountTransaction> retreiveOrderedNonInterestPostingSavingsTransactionsWithPivotConfig() {
         final List<SavingsAccountTransaction> listOfTransactionsSorted = retrieveSortedTransactions();
 
@@ -986,11 +1126,21 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
         return listOfTransactionsSorted;
     }
 
+    protected List<SavingsAccountTransaction> retrieveListOfTransactionsAfter(final LocalDate date) {
+        final List<SavingsAccountTransaction> listOfTransactionsSorted = new ArrayList<>();
+        for (final SavingsAccountTransaction transaction : this.transactions) {
+            if (DateUtils.isAfter(transaction.getTransactionDate(), date)) {
+                listOfTransactionsSorted.add(transaction);
+            }
+        }
+
+        final SavingsAccountTransactionComparator transactionComparator = new SavingsAccountTransactionComparator();
+        Collections.sort(listOfTransactionsSorted, transactionComparator);
+        return listOfTransactionsSorted;
+    }
+
     protected void recalculateDailyBalances(final Money openingAccountBalance, final LocalDate interestPostingUpToDate,
             final boolean backdatedTxnsAllowedTill, boolean postReversals) {
-        Money runningBalance = openingAccountBalance;
-        boolean calculateInterest = hasInterestCalculation() || hasOverdraftInterestCalculation();
-
         List<SavingsAccountTransaction> accountTransactionsSorted = null;
 
         if (backdatedTxnsAllowedTill) {
@@ -999,6 +1149,47 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
             accountTransactionsSorted = retrieveListOfTransactions();
         }
 
+        final boolean isTransactionsModified = updateRunningBalances(accountTransactionsSorted, openingAccountBalance,
+                backdatedTxnsAllowedTill, postReversals);
+
+        if (isTransactionsModified) {
+            if (backdatedTxnsAllowedTill) {
+                accountTransactionsSorted = retrieveSortedTransactions();
+            } else {
+                accountTransactionsSorted = retrieveListOfTransactions();
+            }
+        }
+        resetAccountTransactionsEndOfDayBalances(accountTransactionsSorted, interestPostingUpToDate);
+    }
+
+    /**
+     * Recalculates the daily balances of the transactions after the checkpoint date only, the balances of the earlier
+     * transactions are not affected as long as the checkpoint matches the transactions of the account.
+     */
+    protected void recalculateDailyBalancesSince(final SavingsAccountInterestCheckpoint checkpoint,
+            final LocalDate interestPostingUpToDate, final boolean postReversals) {
+        final LocalDate checkpointDate = checkpoint.getCheckpointDate();
+        List<SavingsAccountTransaction> accountTransactionsSorted = retrieveListOfTransactionsAfter(checkpointDate);
+
+        final boolean isTransactionsModified = updateRunningBalances(accountTransactionsSorted, checkpoint.getRunningBalance(this.currency),
+                false, postReversals);
+        if (isTransactionsModified) {
+            accountTransactionsSorted = retrieveListOfTransactionsAfter(checkpointDate);
+        }
+
+        // the balance of the last transaction on or before the checkpoint date ends with the next transaction
+        final SavingsAccountTransaction lastTransactionOnCheckpoint = findLastNonInterestPostingTransactionOnOrBefore(checkpointDate);
+        if (lastTransactionOnCheckpoint != null) {
+            accountTransactionsSorted.add(0, lastTransactionOnCheckpoint);
+        }
+        resetAccountTransactionsEndOfDayBalances(accountTransactionsSorted, interestPostingUpToDate);
+    }
+
+    private boolean updateRunningBalances(final List<SavingsAccountTransaction> accountTransactionsSorted,
+            final Money openingAccountBalance, final boolean backdatedTxnsAllowedTill, final boolean postReversals) {
+        Money runningBalance = openingAccountBalance;
+        boolean calculateInterest = hasInterestCalculation() || hasOverdraftInterestCalculation();
+
         boolean isTransactionsModified = false;
         for (final SavingsAccountTransaction transaction : accountTransactionsSorted) {
             if (transaction.isReversed() || transaction.isReversalTransaction()) {
@@ -1065,15 +1256,7 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
 
             }
         }
-
-        if (isTransactionsModified) {
-            if (backdatedTxnsAllowedTill) {
-                accountTransactionsSorted = retrieveSortedTransactions();
-            } else {
-                accountTransactionsSorted = retrieveListOfTransactions();
-            }
-        }
-        resetAccountTransactionsEndOfDayBalances(accountTransactionsSorted, interestPostingUpToDate);
+        return isTransactionsModified;
     }
 
     protected void resetAccountTransactionsEndOfDayBalances(final List<SavingsAccountTransaction> accountTransactionsSorted,
@@ -1108,6 +1291,51 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
     public SavingsAccountTransaction deposit(final SavingsAccountTransactionDTO transactionDTO,
             final SavingsAccountTransactionType savingsAccountTransactionType, final boolean backdatedTxnsAllowedTill,
             final Long relaxingDaysConfigForPivotDate, final String refNo) {
+        validateDeposit(transactionDTO, backdatedTxnsAllowedTill, relaxingDaysConfigForPivotDate);
+        return addDeposit(transactionDTO, savingsAccountTransactionType, backdatedTxnsAllowedTill, refNo);
+    }
+
+    /**
+     * Adds a credit staged by {@link #validateDeposit} earlier. The credit was accepted when it was staged, so it is not
+     * validated again: a change of the account since then, like a credit block or a moved pivot date, must not stop it
+     * from being applied.
+     */
+    public SavingsAccountTransaction depositStagedCredit(final SavingsAccountTransactionDTO transactionDTO,
+            final boolean backdatedTxnsAllowedTill, final String refNo) {
+        return addDeposit(transactionDTO, SavingsAccountTransactionType.DEPOSIT, backdatedTxnsAllowedTill, refNo);
+    }
+
+    private SavingsAccountTransaction addDeposit(final SavingsAccountTransactionDTO transactionDTO,
+            final SavingsAccountTransactionType savingsAccountTransactionType, final boolean backdatedTxnsAllowedTill, final String refNo) {
+        final Money amount = Money.of(this.currency, transactionDTO.getTransactionAmount());
+
+        final SavingsAccountTransaction transaction = SavingsAccountTransaction.deposit(this, office(), transactionDTO.getPaymentDetail(),
+                transactionDTO.getTransactionDate(), amount, savingsAccountTransactionType, refNo);
+
+        if (backdatedTxnsAllowedTill) {
+            addTransactionToExisting(transaction);
+        } else {
+            addTransaction(transaction);
+        }
+
+        if (this.sub_status.equals(SavingsAccountSubStatusEnum.INACTIVE.getValue())
+                || this.sub_status.equals(SavingsAccountSubStatusEnum.DORMANT.getValue())) {
+            this.sub_status = SavingsAccountSubStatusEnum.NONE.getValue();
+        }
+
+        if (backdatedTxnsAllowedTill) {
+            this.summary.updateSummaryWithPivotConfig(this.currency, this.savingsAccountTransactionSummaryWrapper, transaction,
+                    this.savingsAccountTransactions);
+        }
+
+        return transaction;
+    }
+
+    /**
+     * Validates a deposit against the state of the account only, without looking at its transactions.
+     */
+    public void validateDeposit(final SavingsAccountTransactionDTO transactionDTO, final boolean backdatedTxnsAllowedTill,
+            final Long relaxingDaysConfigForPivotDate) {
         final String resourceTypeName = depositAccountType().resourceName();
         if (isNotActive()) {
             final String defaultUserMessage = "Transaction is not allowed. Account is not active.";
@@ -1149,29 +1377,6 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
                 resourceTypeName);
 
         validateActivityNotBeforeClientOrGroupTransferDate(SavingsEvent.SAVINGS_DEPOSIT, transactionDTO.getTransactionDate());
-
-        final Money amount = Money.of(this.currency, transactionDTO.getTransactionAmount());
-
-        final SavingsAccountTransaction transaction = SavingsAccountTransaction.deposit(this, office(), transactionDTO.getPaymentDetail(),
-                transactionDTO.getTransactionDate(), amount, savingsAccountTransactionType, refNo);
-
-        if (backdatedTxnsAllowedTill) {
-            addTransactionToExisting(transaction);
-        } else {
-            addTransaction(transaction);
-        }
-
-        if (this.sub_status.equals(SavingsAccountSubStatusEnum.INACTIVE.getValue())
-                || this.sub_status.equals(SavingsAccountSubStatusEnum.DORMANT.getValue())) {
-            this.sub_status = SavingsAccountSubStatusEnum.NONE.getValue();
-        }
-
-        if (backdatedTxnsAllowedTill) {
-            this.summary.updateSummaryWithPivotConfig(this.currency, this.savingsAccountTransactionSummaryWrapper, transaction,
-                    this.savingsAccountTransactions);
-        }
-
-        return transaction;
     }
 
     public void validatePivotDateTransaction(LocalDate transactionDate, final boolean backdatedTxnsAllowedTill,
@@ -3306,6 +3511,10 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
         return true;
     }
 
+    public boolean isHighVolume() {
+        return this.product != null && this.product.isHighVolume();
+    }
+
     public boolean allowWithdrawal() {
         return true;
     }
@@ -3693,6 +3902,14 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
         return this.sub_status;
     }
 
+    public LocalDate getLastClosedBusinessDate() {
+        return this.lastClosedBusinessDate;
+    }
+
+    public void setLastClosedBusinessDate(final LocalDate lastClosedBusinessDate) {
+        this.lastClosedBusinessDate = lastClosedBusinessDate;
+    }
+
     public void validateForAccountBlock() {
         final SavingsAccountSubStatusEnum currentSubStatus = SavingsAccountSubStatusEnum.fromInt(this.getSubStatus());
         if (SavingsAccountSubStatusEnum.BLOCK.hasStateOf(currentSubStatus)) {
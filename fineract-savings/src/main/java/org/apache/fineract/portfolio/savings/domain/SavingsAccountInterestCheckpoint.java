@@ -0,0 +1,181 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.portfolio.savings.domain.interest.CompoundInterestValues;
+
+/**
+ * {@link SavingsAccountInterestCheckpoint} captures the state of the interest calculation of a {@link SavingsAccount}
+ * at the end of the last closed (already posted) posting period.
+ *
+ * Interest of closed posting periods does not change as long as no transaction on or before the checkpoint date is
+ * added or reversed, so the incremental interest calculation resumes from this state instead of replaying the whole
+ * transaction history. The number of active transactions, the latest transaction id and the running balance on the
+ * checkpoint date are kept to detect backdated changes; a checkpoint that does not match the transactions of the account
+ * is ignored.
+ */
+@Embeddable
+public final class SavingsAccountInterestCheckpoint {
+
+    @Column(name = "interest_checkpoint_date")
+    private LocalDate checkpointDate;
+
+    @Column(name = "interest_checkpoint_transaction_count")
+    private Integer transactionCount;
+
+    @Column(name = "interest_checkpoint_last_transaction_id")
+    private Long lastTransactionId;
+
+    @Column(name = "interest_checkpoint_running_balance", scale = 6, precision = 19)
+    private BigDecimal runningBalance;
+
+    @Column(name = "interest_checkpoint_closing_balance", scale = 6, precision = 19)
+    private BigDecimal closingBalance;
+
+    @Column(name = "interest_checkpoint_compounded_interest", scale = 6, precision = 19)
+    private BigDecimal compoundedInterest;
+
+    @Column(name = "interest_checkpoint_uncompounded_interest", scale = 6, precision = 19)
+    private BigDecimal uncompoundedInterest;
+
+    @Column(name = "interest_checkpoint_interest_earned", scale = 6, precision = 19)
+    private BigDecimal interestEarned;
+
+    SavingsAccountInterestCheckpoint() {
+        //
+    }
+
+    public void update(final LocalDate checkpointDate, final List<SavingsAccountTransaction> transactions, final Money closingBalance,
+            final CompoundInterestValues compoundInterestValues, final Money interestEarned) {
+        final MonetaryCurrency currency = closingBalance.getCurrency();
+        Money runningBalance = Money.zero(currency);
+        int transactionCount = 0;
+        Long lastTransactionId = null;
+        for (final SavingsAccountTransaction transaction : transactions) {
+            if (isActiveOnOrBefore(transaction, checkpointDate)) {
+                if (transaction.getId() == null) {
+                    // not yet persisted transactions can not be told apart later on
+                    reset();
+                    return;
+                }
+                runningBalance = runningBalance.plus(signedAmount(transaction, currency));
+                transactionCount++;
+                lastTransactionId = max(lastTransactionId, transaction.getId());
+            }
+        }
+        this.checkpointDate = checkpointDate;
+        this.transactionCount = transactionCount;
+        this.lastTransactionId = lastTransactionId;
+        this.runningBalance = runningBalance.getAmount();
+        this.closingBalance = closingBalance.getAmount();
+        this.compoundedInterest = compoundInterestValues.getcompoundedInterest();
+        this.uncompoundedInterest = compoundInterestValues.getuncompoundedInterest();
+        this.interestEarned = interestEarned.getAmount();
+    }
+
+    public void reset() {
+        this.checkpointDate = null;
+        this.transactionCount = null;
+        this.lastTransactionId = null;
+        this.runningBalance = null;
+        this.closingBalance = null;
+        this.compoundedInterest = null;
+        this.uncompoundedInterest = null;
+        this.interestEarned = null;
+    }
+
+    public boolean isPresent() {
+        return this.checkpointDate != null;
+    }
+
+    /**
+     * Checks that no transaction on or before the checkpoint date was added or reversed since the checkpoint was taken.
+     */
+    public boolean matches(final MonetaryCurrency currency, final List<SavingsAccountTransaction> transactions) {
+        if (!isPresent()) {
+            return false;
+        }
+        Money runningBalance = Money.zero(currency);
+        int transactionCount = 0;
+        Long lastTransactionId = null;
+        for (final SavingsAccountTransaction transaction : transactions) {
+            if (isActiveOnOrBefore(transaction, this.checkpointDate)) {
+                if (transaction.getId() == null) {
+                    return false;
+                }
+                runningBalance = runningBalance.plus(signedAmount(transaction, currency));
+                transactionCount++;
+                lastTransactionId = max(lastTransactionId, transaction.getId());
+            }
+        }
+        return this.transactionCount != null && this.transactionCount == transactionCount
+                && Objects.equals(this.lastTransactionId, lastTransactionId) && runningBalance.isEqualTo(getRunningBalance(currency));
+    }
+
+    public LocalDate getCheckpointDate() {
+        return this.checkpointDate;
+    }
+
+    public Money getRunningBalance(final MonetaryCurrency currency) {
+        return Money.of(currency, this.runningBalance);
+    }
+
+    public Money getClosingBalance(final MonetaryCurrency currency) {
+        return Money.of(currency, this.closingBalance);
+    }
+
+    public Money getInterestEarned(final MonetaryCurrency currency) {
+        return Money.of(currency, this.interestEarned);
+    }
+
+    public CompoundInterestValues toCompoundInterestValues() {
+        return new CompoundInterestValues(zeroIfNull(this.compoundedInterest), zeroIfNull(this.uncompoundedInterest));
+    }
+
+    private static boolean isActiveOnOrBefore(final SavingsAccountTransaction transaction, final LocalDate date) {
+        return transaction.isNotReversed() && !transaction.isReversalTransaction()
+                && !DateUtils.isAfter(transaction.getTransactionDate(), date);
+    }
+
+    private static Money signedAmount(final SavingsAccountTransaction transaction, final MonetaryCurrency currency) {
+        if (transaction.isCredit() || transaction.isAmountRelease()) {
+            return transaction.getAmount(currency);
+        } else if (transaction.isDebit() || transaction.isAmountOnHold()) {
+            return transaction.getAmount(currency).negated();
+        }
+        return Money.zero(currency);
+    }
+
+    private static Long max(final Long current, final Long id) {
+        return current == null || id > current ? id : current;
+    }
+
+    private static BigDecimal zeroIfNull(final BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+}
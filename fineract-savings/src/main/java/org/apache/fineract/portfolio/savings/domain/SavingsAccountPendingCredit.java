@@ -0,0 +1,86 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.apache.fineract.infrastructure.core.domain.AbstractAuditableWithUTCDateTimeCustom;
+import org.apache.fineract.portfolio.paymentdetail.domain.PaymentDetail;
+
+/**
+ * A deposit into an account of a high volume {@link SavingsProduct} that is accepted without locking or loading the
+ * account. Pending credits are folded into the account, as regular deposit transactions, by the compactor job or right
+ * before the next debit of the account.
+ *
+ * The account is referenced by id only, so staging a credit never touches the row of the account.
+ */
+@Entity
+@Table(name = "m_savings_account_pending_credit")
+public class SavingsAccountPendingCredit extends AbstractAuditableWithUTCDateTimeCustom<Long> {
+
+    @Column(name = "savings_account_id", nullable = false)
+    private Long savingsAccountId;
+
+    @Column(name = "transaction_date", nullable = false)
+    private LocalDate transactionDate;
+
+    @Column(name = "amount", scale = 6, precision = 19, nullable = false)
+    private BigDecimal amount;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "payment_detail_id", nullable = true)
+    private PaymentDetail paymentDetail;
+
+    protected SavingsAccountPendingCredit() {}
+
+    private SavingsAccountPendingCredit(final Long savingsAccountId, final LocalDate transactionDate, final BigDecimal amount,
+            final PaymentDetail paymentDetail) {
+        this.savingsAccountId = savingsAccountId;
+        this.transactionDate = transactionDate;
+        this.amount = amount;
+        this.paymentDetail = paymentDetail;
+    }
+
+    public static SavingsAccountPendingCredit stage(final SavingsAccount account, final LocalDate transactionDate,
+            final BigDecimal amount, final PaymentDetail paymentDetail) {
+        return new SavingsAccountPendingCredit(account.getId(), transactionDate, amount, paymentDetail);
+    }
+
+    public Long getSavingsAccountId() {
+        return this.savingsAccountId;
+    }
+
+    public LocalDate getTransactionDate() {
+        return this.transactionDate;
+    }
+
+    public BigDecimal getAmount() {
+        return this.amount;
+    }
+
+    public PaymentDetail getPaymentDetail() {
+        return this.paymentDetail;
+    }
+}
@@ -18,6 +18,8 @@
  */
 package org.apache.fineract.portfolio.savings.domain;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDate;
 import java.util.List;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
@@ -48,13 +50,16 @@ public class SavingsAccountRepositoryWrapper {
     private final SavingsAccountRepository repository;
     private final SavingsAccountTransactionRepository savingsAccountTransactionRepository;
     private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
 
     @Autowired
     public SavingsAccountRepositoryWrapper(final SavingsAccountRepository repository,
-            final SavingsAccountTransactionRepository savingsAccountTransactionRepository, final JdbcTemplate jdbcTemplate) {
+            final SavingsAccountTransactionRepository savingsAccountTransactionRepository, final JdbcTemplate jdbcTemplate,
+            final EntityManager entityManager) {
         this.repository = repository;
         this.savingsAccountTransactionRepository = savingsAccountTransactionRepository;
         this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
     }
 
     @Transactional(readOnly = true)
@@ -65,6 +70,14 @@ public class SavingsAccountRepositoryWrapper {
         return account;
     }
 
+    /**
+     * Loads the account without its transactions and other collections, nor locking it.
+     */
+    @Transactional(readOnly = true)
+    public SavingsAccount findOneWithoutCollectionsWithNotFoundDetection(final Long savingsId) {
+        return this.repository.findById(savingsId).orElseThrow(() -> new SavingsAccountNotFoundException(savingsId));
+    }
+
     @Transactional
     public SavingsAccount findSavingsWithNotFoundDetection(final Long savingsId, final boolean backdatedTxnsAllowedTill) {
         SavingsAccount account = null;
@@ -80,6 +93,21 @@ public class SavingsAccountRepositoryWrapper {
         return account;
     }
 
+    /**
+     * Completes an account loaded by {@link #findOneWithoutCollectionsWithNotFoundDetection(Long)} the way
+     * {@link #findSavingsWithNotFoundDetection(Long, boolean)} would have loaded it, without reading it again. The lock
+     * is taken on the version read, so a concurrent change of the account fails here instead of being overwritten.
+     */
+    @Transactional
+    public SavingsAccount completeWithNotFoundDetection(final SavingsAccount account, final boolean backdatedTxnsAllowedTill) {
+        if (!backdatedTxnsAllowedTill) {
+            account.loadLazyCollections();
+        } else {
+            this.entityManager.lock(account, LockModeType.PESSIMISTIC_WRITE);
+        }
+        return account;
+    }
+
     @Transactional(readOnly = true)
     public SavingsAccount findOneWithNotFoundDetection(final Long savingsId, final DepositAccountType depositAccountType) {
         final SavingsAccount account = this.repository.findByIdAndDepositAccountType(savingsId, depositAccountType.getValue());
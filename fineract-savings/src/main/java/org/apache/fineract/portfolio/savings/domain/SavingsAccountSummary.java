@@ -252,8 +252,13 @@ public final class SavingsAccountSummary {
     }
 
     public void updateFromInterestPeriodSummaries(final MonetaryCurrency currency, final List<PostingPeriod> allPostingPeriods) {
-        Money totalEarned = Money.zero(currency);
-        for (final PostingPeriod period : allPostingPeriods) {
+        updateFromInterestPeriodSummaries(currency, Money.zero(currency), allPostingPeriods);
+    }
+
+    public void updateFromInterestPeriodSummaries(final MonetaryCurrency currency, final Money interestEarnedBeforePostingPeriods,
+            final List<PostingPeriod> postingPeriods) {
+        Money totalEarned = interestEarnedBeforePostingPeriods;
+        for (final PostingPeriod period : postingPeriods) {
             Money interestEarned = period.interest();
             interestEarned = interestEarned == null ? Money.zero(currency) : interestEarned;
             totalEarned = totalEarned.plus(interestEarned);
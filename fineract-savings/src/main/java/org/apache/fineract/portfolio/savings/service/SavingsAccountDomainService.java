@@ -26,6 +26,7 @@ import java.util.Set;
 import org.apache.fineract.portfolio.paymentdetail.domain.PaymentDetail;
 import org.apache.fineract.portfolio.savings.SavingsTransactionBooleanValues;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountPendingCredit;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransaction;
 
 public interface SavingsAccountDomainService {
@@ -38,6 +39,19 @@ public interface SavingsAccountDomainService {
             BigDecimal transactionAmount, PaymentDetail paymentDetail, boolean isAccountTransfer, boolean isRegularTransaction,
             boolean backdatedTxnsAllowedTill);
 
+    /**
+     * Accepts a deposit into an account of a high volume product without locking the account or loading its
+     * transactions; the credit is applied later on by {@link #handlePendingCredits(SavingsAccount, boolean)}.
+     */
+    SavingsAccountPendingCredit handlePendingCredit(SavingsAccount account, DateTimeFormatter fmt, LocalDate transactionDate,
+            BigDecimal transactionAmount, PaymentDetail paymentDetail, boolean backdatedTxnsAllowedTill);
+
+    /**
+     * Applies the pending credits of a high volume account as deposit transactions, with a single interest recalculation
+     * and journal entry posting for all of them.
+     */
+    List<SavingsAccountTransaction> handlePendingCredits(SavingsAccount account, boolean backdatedTxnsAllowedTill);
+
     void postJournalEntries(SavingsAccount savingsAccount, Set<Long> existingTransactionIds, Set<Long> existingReversedTransactionIds,
             boolean backdatedTxnsAllowedTill);
 
@@ -27,6 +27,7 @@ import org.apache.fineract.infrastructure.core.service.SearchParameters;
 import org.apache.fineract.portfolio.savings.DepositAccountType;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionData;
+import org.apache.fineract.portfolio.savings.data.SavingsInterestPostingPartition;
 
 public interface SavingsAccountReadPlatformService {
 
@@ -65,8 +66,12 @@ public interface SavingsAccountReadPlatformService {
 
     List<Long> getAccountsIdsByStatusPaged(Integer status, int pageSize, Long maxSavingsIdInList);
 
-    List<SavingsAccountData> retrieveAllSavingsDataForInterestPosting(boolean backdatedTxnsAllowedTill, int pageSize, Integer status,
-            Long maxSavingsId);
+    List<SavingsInterestPostingPartition> retrieveInterestPostingPartitions(boolean backdatedTxnsAllowedTill, int partitionSize);
+
+    List<Long> retrieveSavingsIdsForInterestPosting(boolean backdatedTxnsAllowedTill, Long minSavingsIdExclusive, Long maxSavingsId,
+            int pageSize);
+
+    List<SavingsAccountData> retrieveAllSavingsDataForInterestPosting(boolean backdatedTxnsAllowedTill, List<Long> savingsIds);
 
     List<SavingsAccountTransactionData> retrieveAllTransactionData(List<String> refNo);
 
@@ -76,6 +76,11 @@ public interface SavingsAccountWritePlatformService {
 
     void applyChargeDue(Long savingsAccountChargeId, Long accountId);
 
+    /**
+     * Applies the pending credits of a high volume account in a transaction of its own.
+     */
+    void applyPendingCredits(Long savingsId);
+
     void processPostActiveActions(SavingsAccount account, DateTimeFormatter fmt, Set<Long> existingTransactionIds,
             Set<Long> existingReversedTransactionIds);
 
@@ -35,6 +35,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
+import org.apache.fineract.accounting.journalentry.service.GLDailyBalanceWriter;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
@@ -57,6 +58,7 @@ public class SavingsSchedularInterestPoster {
     private final JdbcTemplate jdbcTemplate;
     private final SavingsAccountReadPlatformService savingsAccountReadPlatformService;
     private final PlatformSecurityContext platformSecurityContext;
+    private final GLDailyBalanceWriter glDailyBalanceWriter;
 
     private final List<SavingsAccountData> savingsAccountDataList = new ArrayList<>();
     private Collection<SavingsAccountData> savingAccounts;
@@ -133,6 +135,13 @@ public class SavingsSchedularInterestPoster {
                                     savingsAccountData.getId(), auditDatetime, auditDatetime, false, BigDecimal.ZERO, BigDecimal.ZERO, null,
                                     savingsAccountTransactionData.getTransactionDate(), null, userId, userId,
                                     DateUtils.getBusinessLocalDate() });
+                            glDailyBalanceWriter.add(savingsAccountData.getOfficeId(), savingsAccountData.getGlAccountIdForSavingsControl(),
+                                    currencyCode, savingsAccountTransactionData.getTransactionDate(), JournalEntryType.CREDIT,
+                                    savingsAccountTransactionData.getAmount());
+                            glDailyBalanceWriter.add(savingsAccountData.getOfficeId(),
+                                    savingsAccountData.getGlAccountIdForInterestOnSavings(), currencyCode,
+                                    savingsAccountTransactionData.getTransactionDate(), JournalEntryType.DEBIT,
+                                    savingsAccountTransactionData.getAmount());
                         }
                     }
                 }
@@ -119,8 +119,8 @@ public class GlobalConfigurationHelper {
         ArrayList<HashMap> expectedGlobalConfigurations = getAllDefaultGlobalConfigurations();
         ArrayList<HashMap> actualGlobalConfigurations = getAllGlobalConfigurations(requestSpec, responseSpec);
 
-        Assertions.assertEquals(55, expectedGlobalConfigurations.size());
-        Assertions.assertEquals(55, actualGlobalConfigurations.size());
+        Assertions.assertEquals(56, expectedGlobalConfigurations.size());
+        Assertions.assertEquals(56, actualGlobalConfigurations.size());
 
         for (int i = 0; i < expectedGlobalConfigurations.size(); i++) {
 
@@ -599,6 +599,14 @@ public class GlobalConfigurationHelper {
         enablePaymentHubIntegrationConfig.put("string_value", "enable payment hub integration");
         defaults.add(enablePaymentHubIntegrationConfig);
 
+        HashMap<String, Object> enableSavingsIncrementalInterestCalculation = new HashMap<>();
+        enableSavingsIncrementalInterestCalculation.put("id", 61);
+        enableSavingsIncrementalInterestCalculation.put("name", "enable-savings-incremental-interest-calculation");
+        enableSavingsIncrementalInterestCalculation.put("value", 0);
+        enableSavingsIncrementalInterestCalculation.put("enabled", false);
+        enableSavingsIncrementalInterestCalculation.put("trapDoor", false);
+        defaults.add(enableSavingsIncrementalInterestCalculation);
+
         return defaults;
     }
 